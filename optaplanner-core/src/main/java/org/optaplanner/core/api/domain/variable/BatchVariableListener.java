@@ -0,0 +1,64 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.domain.variable;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+
+/**
+ * A {@link VariableListener} that receives all variable changes of a trigger at once,
+ * instead of one {@link #afterVariableChanged(ScoreDirector, Object)} call per entity.
+ * For example, it can recalculate a chain once from its earliest changed entity,
+ * or update a whole pillar in one pass.
+ * <p>
+ * The entity added and entity removed events are still delivered per entity, in order:
+ * the variable changes that precede such an event are delivered in a batch before it,
+ * so a trigger can call {@link #afterVariablesChanged(ScoreDirector, Collection)} more than once.
+ * The events are always unique per entity instance, regardless of {@link #requiresUniqueEntityEvents()}.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <Entity_> @{@link PlanningEntity} on which the source variable is declared
+ */
+public interface BatchVariableListener<Solution_, Entity_> extends VariableListener<Solution_, Entity_> {
+
+    /**
+     * Delegates to {@link #afterVariablesChanged(ScoreDirector, Collection)}.
+     * Planner doesn't call this method for a {@link BatchVariableListener}.
+     *
+     * @param scoreDirector never null
+     * @param entity never null
+     */
+    @Override
+    default void afterVariableChanged(ScoreDirector<Solution_> scoreDirector, Entity_ entity) {
+        afterVariablesChanged(scoreDirector, Collections.singletonList(entity));
+    }
+
+    /**
+     * Called after all the {@link #beforeVariableChanged(ScoreDirector, Object)} calls of a trigger,
+     * once per run of variable changes between the entity added and entity removed events of that trigger.
+     *
+     * @param scoreDirector never null
+     * @param entities never null, never empty, without duplicates, in the order in which they were changed.
+     *        Only valid during this call: do not keep a reference to it.
+     */
+    void afterVariablesChanged(ScoreDirector<Solution_> scoreDirector, Collection<Entity_> entities);
+
+}
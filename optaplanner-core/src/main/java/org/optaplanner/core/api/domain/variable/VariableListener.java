@@ -50,6 +50,25 @@ public interface VariableListener<Solution_, Entity_> extends Closeable {
         return false;
     }
 
+    /**
+     * When set to {@code true}, {@link #afterVariableChanged(ScoreDirector, Object)} is skipped for an entity
+     * if every source variable that changed on that entity is a shadow variable
+     * that ended up with an {@link Object#equals(Object) equal} immutable value
+     * (such as a {@link String}, a boxed primitive or an enum).
+     * This stops the propagation through a chain of shadow variables early.
+     * A source value that isn't immutable (such as a collection) always counts as changed.
+     * <p>
+     * Only set it to {@code true} if the listener doesn't rely on every
+     * {@link #beforeVariableChanged(ScoreDirector, Object)} call being followed by an
+     * {@link #afterVariableChanged(ScoreDirector, Object)} call,
+     * for example because it undoes in the latter what it did in the former.
+     *
+     * @return true to skip {@link #afterVariableChanged(ScoreDirector, Object)} if its shadow sources are unchanged
+     */
+    default boolean skipsUnchangedShadowSources() {
+        return false;
+    }
+
     /**
      * @param scoreDirector never null
      * @param entity never null
@@ -63,12 +82,21 @@ public interface VariableListener<Solution_, Entity_> extends Closeable {
     void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Entity_ entity);
 
     /**
+     * If {@link #skipsUnchangedShadowSources()} is true,
+     * this call is not always followed by a {@link #afterVariableChanged(ScoreDirector, Object)} call.
+     *
      * @param scoreDirector never null
      * @param entity never null
      */
     void beforeVariableChanged(ScoreDirector<Solution_> scoreDirector, Entity_ entity);
 
     /**
+     * If {@link #skipsUnchangedShadowSources()} is true,
+     * this is not called if every source variable that changed on that entity is a shadow variable
+     * that ended up with an equal immutable value,
+     * even though {@link #beforeVariableChanged(ScoreDirector, Object)} was called.
+     * Otherwise, it's always called after {@link #beforeVariableChanged(ScoreDirector, Object)}.
+     *
      * @param scoreDirector never null
      * @param entity never null
      */
@@ -0,0 +1,409 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.calculator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.impl.score.constraint.DefaultConstraintMatchTotal;
+
+/**
+ * A {@link ConstraintMatchAwareIncrementalScoreCalculator} that does the delta bookkeeping itself.
+ * Instead of implementing the before/after methods, a subclass registers its constraints in its constructor
+ * as aggregates of {@link PlanningEntity planning entities} grouped by a key,
+ * with {@link #sumByKey}, {@link #countByKey} or {@link #pairConflictsByKey},
+ * and implements {@link #getEntities(Object)}.
+ * <p>
+ * Every constraint has a match weight per key, which is calculated from the key and the aggregate of that key only.
+ * The score of a constraint is its constraint weight multiplied by the sum of its match weights.
+ * Only the keys of at least one entity are weighed: a key that no entity has never matches,
+ * even if its match weigher would return a nonzero match weight for an empty aggregate.
+ * For example, {@code countByKey()} can't penalize a computer without processes.
+ * Use a negative constraint weight to penalize.
+ * <p>
+ * After a variable change, only the aggregate of the old key and the new key of that entity are updated.
+ * An entity with a null key (for example an uninitialized one) is ignored by that constraint.
+ * The key and amount mappers may depend on any variable of the entity, including shadow variables,
+ * but the match weight must not depend on anything else than the key and the aggregate.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <Score_> the {@link Score} type
+ */
+public abstract class AbstractAggregateIncrementalScoreCalculator<Solution_, Score_ extends Score<Score_>>
+        implements ConstraintMatchAwareIncrementalScoreCalculator<Solution_, Score_> {
+
+    private final List<KeyedAggregate<?, ?>> aggregateList = new ArrayList<>();
+    private final Map<Class<?>, List<KeyedAggregate<?, ?>>> entityClassToAggregatesMap = new HashMap<>();
+
+    private boolean constraintMatchEnabled = false;
+
+    /**
+     * Called by {@link #resetWorkingSolution(Object)} to insert every entity of the working solution.
+     *
+     * @param workingSolution never null
+     * @return never null, every entity that any registered constraint might match
+     */
+    protected abstract Collection<?> getEntities(Solution_ workingSolution);
+
+    // ************************************************************************
+    // Constraint registration
+    // ************************************************************************
+
+    /**
+     * Registers a constraint that sums an amount per key.
+     * For example, to penalize the CPU usage above the capacity of every computer:
+     * {@code sumByKey("requiredCpuPower", HardSoftScore.ofHard(-1), CloudProcess.class, CloudProcess::getComputer,
+     * CloudProcess::getRequiredCpuPower, (computer, cpuPower) -> Math.max(0L, cpuPower - computer.getCpuPower()))}.
+     *
+     * @param constraintName never null, unique
+     * @param constraintWeight never null
+     * @param entityClass never null, the constraint also matches the subclasses of this class
+     * @param keyMapper never null, returns null if the entity should be ignored
+     * @param amountMapper never null
+     * @param matchWeigher never null, calculates the match weight of a key from its sum,
+     *        only for the keys that at least one entity has
+     * @param <Entity_> the entity type
+     * @param <Key_> the key type
+     */
+    protected <Entity_, Key_> void sumByKey(String constraintName, Score_ constraintWeight, Class<Entity_> entityClass,
+            Function<Entity_, Key_> keyMapper, ToLongFunction<Entity_> amountMapper, KeyedMatchWeigher<Key_> matchWeigher) {
+        registerAggregate(new KeyedAggregate<>(constraintName, constraintWeight, entityClass, keyMapper, amountMapper,
+                matchWeigher));
+    }
+
+    /**
+     * Registers a constraint that counts the entities per key.
+     *
+     * @param constraintName never null, unique
+     * @param constraintWeight never null
+     * @param entityClass never null, the constraint also matches the subclasses of this class
+     * @param keyMapper never null, returns null if the entity should be ignored
+     * @param matchWeigher never null, calculates the match weight of a key from its count,
+     *        so never from a count of 0
+     * @param <Entity_> the entity type
+     * @param <Key_> the key type
+     */
+    protected <Entity_, Key_> void countByKey(String constraintName, Score_ constraintWeight, Class<Entity_> entityClass,
+            Function<Entity_, Key_> keyMapper, KeyedMatchWeigher<Key_> matchWeigher) {
+        sumByKey(constraintName, constraintWeight, entityClass, keyMapper, entity -> 1L, matchWeigher);
+    }
+
+    /**
+     * Registers a constraint that matches every pair of entities with the same key,
+     * so n entities with the same key have a match weight of {@code n * (n - 1) / 2}.
+     *
+     * @param constraintName never null, unique
+     * @param constraintWeight never null
+     * @param entityClass never null, the constraint also matches the subclasses of this class
+     * @param keyMapper never null, returns null if the entity should be ignored
+     * @param <Entity_> the entity type
+     * @param <Key_> the key type
+     */
+    protected <Entity_, Key_> void pairConflictsByKey(String constraintName, Score_ constraintWeight,
+            Class<Entity_> entityClass, Function<Entity_, Key_> keyMapper) {
+        countByKey(constraintName, constraintWeight, entityClass, keyMapper, (key, count) -> count * (count - 1L) / 2L);
+    }
+
+    private void registerAggregate(KeyedAggregate<?, ?> aggregate) {
+        for (KeyedAggregate<?, ?> other : aggregateList) {
+            if (other.constraintName.equals(aggregate.constraintName)) {
+                throw new IllegalStateException("The constraintName (" + aggregate.constraintName
+                        + ") is registered twice in the score calculator (" + getClass() + ").");
+            }
+        }
+        aggregateList.add(aggregate);
+        entityClassToAggregatesMap.clear();
+    }
+
+    /**
+     * @return never null, the package of every {@link ConstraintMatchTotal}, defaults to the package of this class
+     */
+    protected String getConstraintPackage() {
+        return getClass().getPackage().getName();
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void resetWorkingSolution(Solution_ workingSolution) {
+        resetWorkingSolution(workingSolution, false);
+    }
+
+    @Override
+    public void resetWorkingSolution(Solution_ workingSolution, boolean constraintMatchEnabled) {
+        if (aggregateList.isEmpty()) {
+            throw new IllegalStateException("The score calculator (" + getClass()
+                    + ") has no constraints registered.\n"
+                    + "Maybe call sumByKey(), countByKey() or pairConflictsByKey() in its constructor.");
+        }
+        this.constraintMatchEnabled = constraintMatchEnabled;
+        for (KeyedAggregate<?, ?> aggregate : aggregateList) {
+            aggregate.reset();
+        }
+        for (Object entity : getEntities(workingSolution)) {
+            update(entity);
+        }
+    }
+
+    @Override
+    public void beforeEntityAdded(Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(Object entity) {
+        update(entity);
+    }
+
+    @Override
+    public void beforeVariableChanged(Object entity, String variableName) {
+        // Do nothing: the aggregates remember what they inserted for every entity
+    }
+
+    @Override
+    public void afterVariableChanged(Object entity, String variableName) {
+        update(entity);
+    }
+
+    @Override
+    public void beforeEntityRemoved(Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityRemoved(Object entity) {
+        for (KeyedAggregate<?, ?> aggregate : getAggregates(entity)) {
+            aggregate.retract(entity);
+        }
+    }
+
+    private void update(Object entity) {
+        for (KeyedAggregate<?, ?> aggregate : getAggregates(entity)) {
+            aggregate.update(entity, constraintMatchEnabled);
+        }
+    }
+
+    private List<KeyedAggregate<?, ?>> getAggregates(Object entity) {
+        return entityClassToAggregatesMap.computeIfAbsent(entity.getClass(),
+                entityClass -> aggregateList.stream()
+                        .filter(aggregate -> aggregate.entityClass.isAssignableFrom(entityClass))
+                        .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Score_ calculateScore() {
+        Score_ score = aggregateList.get(0).constraintWeight.zero();
+        for (KeyedAggregate<?, ?> aggregate : aggregateList) {
+            if (aggregate.matchWeightTotal != 0L) {
+                score = score.add(aggregate.constraintWeight.multiply(aggregate.matchWeightTotal));
+            }
+        }
+        return score;
+    }
+
+    @Override
+    public Collection<ConstraintMatchTotal<Score_>> getConstraintMatchTotals() {
+        if (!constraintMatchEnabled) {
+            throw new IllegalStateException("When constraintMatchEnabled (" + constraintMatchEnabled
+                    + ") is disabled in resetWorkingSolution(), this method should not be called.");
+        }
+        String constraintPackage = getConstraintPackage();
+        List<ConstraintMatchTotal<Score_>> constraintMatchTotalList = new ArrayList<>(aggregateList.size());
+        for (KeyedAggregate<?, ?> aggregate : aggregateList) {
+            DefaultConstraintMatchTotal<Score_> constraintMatchTotal = new DefaultConstraintMatchTotal<>(
+                    constraintPackage, aggregate.constraintName, aggregate.constraintWeight);
+            aggregate.keyStateMap.forEach((key, keyState) -> {
+                if (keyState.matchWeight != 0L) {
+                    List<Object> justificationList = new ArrayList<>(keyState.entitySet.size() + 1);
+                    justificationList.add(key);
+                    justificationList.addAll(keyState.entitySet);
+                    constraintMatchTotal.addConstraintMatch(justificationList,
+                            aggregate.constraintWeight.multiply(keyState.matchWeight));
+                }
+            });
+            constraintMatchTotalList.add(constraintMatchTotal);
+        }
+        return constraintMatchTotalList;
+    }
+
+    @Override
+    public Map<Object, Indictment<Score_>> getIndictmentMap() {
+        return null; // Calculated from the constraint matches
+    }
+
+    // ************************************************************************
+    // Aggregates
+    // ************************************************************************
+
+    /**
+     * Calculates the match weight of a key from the aggregate of all entities with that key.
+     * It's only called for a key that at least one entity has:
+     * the match weight of a key without entities is always 0.
+     *
+     * @param <Key_> the key type
+     */
+    @FunctionalInterface
+    public interface KeyedMatchWeigher<Key_> {
+
+        /**
+         * @param key never null
+         * @param aggregate the sum or the count of all entities with that key
+         * @return the match weight, 0 if the key doesn't match
+         */
+        long weigh(Key_ key, long aggregate);
+
+    }
+
+    private final class KeyedAggregate<Entity_, Key_> {
+
+        private final String constraintName;
+        private final Score_ constraintWeight;
+        private final Class<Entity_> entityClass;
+        private final Function<Entity_, Key_> keyMapper;
+        private final ToLongFunction<Entity_> amountMapper;
+        private final KeyedMatchWeigher<Key_> matchWeigher;
+
+        private final Map<Key_, KeyState> keyStateMap = new LinkedHashMap<>();
+        private final Map<Object, Insertion<Key_>> insertionMap = new IdentityHashMap<>();
+        private long matchWeightTotal = 0L;
+
+        private KeyedAggregate(String constraintName, Score_ constraintWeight, Class<Entity_> entityClass,
+                Function<Entity_, Key_> keyMapper, ToLongFunction<Entity_> amountMapper,
+                KeyedMatchWeigher<Key_> matchWeigher) {
+            this.constraintName = Objects.requireNonNull(constraintName);
+            this.constraintWeight = Objects.requireNonNull(constraintWeight);
+            this.entityClass = Objects.requireNonNull(entityClass);
+            this.keyMapper = Objects.requireNonNull(keyMapper);
+            this.amountMapper = Objects.requireNonNull(amountMapper);
+            this.matchWeigher = Objects.requireNonNull(matchWeigher);
+        }
+
+        private void reset() {
+            keyStateMap.clear();
+            insertionMap.clear();
+            matchWeightTotal = 0L;
+        }
+
+        private void update(Object entity, boolean constraintMatchEnabled) {
+            Entity_ castEntity = entityClass.cast(entity);
+            Key_ key = keyMapper.apply(castEntity);
+            Insertion<Key_> insertion = insertionMap.get(entity);
+            if (key == null) {
+                if (insertion != null) {
+                    retract(entity);
+                }
+                return;
+            }
+            long amount = amountMapper.applyAsLong(castEntity);
+            if (insertion == null) {
+                insertionMap.put(entity, new Insertion<>(key, amount));
+            } else if (insertion.key.equals(key)) {
+                if (insertion.amount != amount) {
+                    KeyState keyState = keyStateMap.get(key);
+                    keyState.sum += amount - insertion.amount;
+                    insertion.amount = amount;
+                    reweigh(key, keyState);
+                }
+                return;
+            } else {
+                remove(entity, insertion);
+                insertion.key = key;
+                insertion.amount = amount;
+            }
+            KeyState keyState = keyStateMap.computeIfAbsent(key, k -> new KeyState(constraintMatchEnabled));
+            keyState.sum += amount;
+            keyState.count++;
+            if (keyState.entitySet != null) {
+                keyState.entitySet.add(entity);
+            }
+            reweigh(key, keyState);
+        }
+
+        private void retract(Object entity) {
+            Insertion<Key_> insertion = insertionMap.remove(entity);
+            if (insertion != null) {
+                remove(entity, insertion);
+            }
+        }
+
+        private void remove(Object entity, Insertion<Key_> insertion) {
+            KeyState keyState = keyStateMap.get(insertion.key);
+            keyState.sum -= insertion.amount;
+            keyState.count--;
+            if (keyState.entitySet != null) {
+                keyState.entitySet.remove(entity);
+            }
+            if (keyState.count == 0) {
+                matchWeightTotal -= keyState.matchWeight;
+                keyStateMap.remove(insertion.key);
+            } else {
+                reweigh(insertion.key, keyState);
+            }
+        }
+
+        private void reweigh(Key_ key, KeyState keyState) {
+            long matchWeight = matchWeigher.weigh(key, keyState.sum);
+            matchWeightTotal += matchWeight - keyState.matchWeight;
+            keyState.matchWeight = matchWeight;
+        }
+
+    }
+
+    private static final class KeyState {
+
+        private long sum = 0L;
+        private int count = 0;
+        private long matchWeight = 0L;
+        private final Set<Object> entitySet;
+
+        private KeyState(boolean constraintMatchEnabled) {
+            entitySet = constraintMatchEnabled ? new LinkedHashSet<>() : null;
+        }
+
+    }
+
+    private static final class Insertion<Key_> {
+
+        private Key_ key;
+        private long amount;
+
+        private Insertion(Key_ key, long amount) {
+            this.key = key;
+            this.amount = amount;
+        }
+
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.calculator;
+
+import java.util.Collection;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+
+/**
+ * An {@link EasyScoreCalculator} for a {@link Score} that is the sum of independent partition scores,
+ * for example one partition per {@link PlanningEntity planning entity} or one per vehicle.
+ * The score director caches the score of every partition.
+ * After a change, it only recalculates the partitions of the planning entities that changed,
+ * instead of the whole solution.
+ * <p>
+ * The score of a partition must not depend on anything outside that partition.
+ * If it does, use an {@link IncrementalScoreCalculator} or constraint streams instead.
+ * <p>
+ * An implementation must be stateless.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <Score_> the score type to go with the solution
+ */
+public interface PartitionedEasyScoreCalculator<Solution_, Score_ extends Score<Score_>>
+        extends EasyScoreCalculator<Solution_, Score_> {
+
+    /**
+     * Must return the sum of {@link #calculatePartitionScore(Object, Object)} of every partition.
+     * The partitioned score director doesn't call this method.
+     *
+     * @param solution never null
+     * @return never null
+     */
+    @Override
+    Score_ calculateScore(Solution_ solution);
+
+    /**
+     * Called when the score is calculated from scratch.
+     *
+     * @param solution never null
+     * @return never null, the key of every partition, without duplicates
+     */
+    Collection<?> getPartitionKeys(Solution_ solution);
+
+    /**
+     * Called before and after every variable change of a planning entity.
+     * The partitions of the planning entity before the change are recalculated too,
+     * so when a planning entity moves from one partition to another, both partitions are recalculated.
+     *
+     * @param solution never null
+     * @param entity never null, a {@link PlanningEntity planning entity}
+     * @return never null, the key of every partition whose score depends on that planning entity
+     */
+    Collection<?> getPartitionKeys(Solution_ solution, Object entity);
+
+    /**
+     * @param solution never null
+     * @param partitionKey never null, returned by one of the getPartitionKeys() methods
+     * @return never null, the score of only that partition
+     */
+    Score_ calculatePartitionScore(Solution_ solution, Object partitionKey);
+
+    /**
+     * If true, the score director recalculates many dirty partitions in parallel,
+     * on a dedicated pool of daemon threads.
+     *
+     * @return true if {@link #calculatePartitionScore(Object, Object)} can be called concurrently
+     *         for different partitions of the same solution
+     */
+    default boolean isParallelPartitionScoreCalculationEnabled() {
+        return false;
+    }
+
+}
@@ -22,6 +22,7 @@ import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.Period;
+import java.time.temporal.Temporal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -58,11 +59,18 @@ import org.optaplanner.core.api.function.ToLongTriFunction;
 import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.function.TriPredicate;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
+import org.optaplanner.core.api.score.stream.common.ConsecutiveInfo;
+import org.optaplanner.core.api.score.stream.common.ConsecutiveIntervalInfo;
+import org.optaplanner.core.api.score.stream.common.LoadBalance;
 import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
 import org.optaplanner.core.api.score.stream.tri.TriConstraintCollector;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bi.DefaultBiConstraintCollector;
+import org.optaplanner.core.impl.score.stream.collector.ConsecutiveSetTree;
+import org.optaplanner.core.impl.score.stream.collector.Interval;
+import org.optaplanner.core.impl.score.stream.collector.IntervalTree;
+import org.optaplanner.core.impl.score.stream.collector.LoadBalanceCalculator;
 import org.optaplanner.core.impl.score.stream.quad.DefaultQuadConstraintCollector;
 import org.optaplanner.core.impl.score.stream.tri.DefaultTriConstraintCollector;
 import org.optaplanner.core.impl.score.stream.uni.DefaultUniConstraintCollector;
@@ -2214,6 +2222,577 @@ public final class ConstraintCollectors {
                 ToSimpleMapResultContainer::getResult);
     }
 
+    // ************************************************************************
+    // consecutive collectors
+    // ************************************************************************
+
+    /**
+     * Creates a constraint collector that returns {@link ConsecutiveInfo} about the first fact.
+     * Facts are kept in a sorted tree, so that adding or removing a fact is O(log n)
+     * and only touches the sequences and breaks around it.
+     *
+     * For instance, {@code [Shift slot=1] [Shift slot=2] [Shift slot=4] [Shift slot=6]}
+     * returns the following information:
+     *
+     * <pre>
+     * {@code
+     * Consecutive Lengths: 2, 1, 1
+     * Break Lengths: 1, 2
+     * Consecutive Items: [[Shift slot=1] [Shift slot=2]], [[Shift slot=4]], [[Shift slot=6]]
+     * }
+     * </pre>
+     *
+     * @param indexMap never null, maps the fact to its position in the sequence
+     * @param <A> generic type of the tuple variable
+     * @return never null
+     */
+    public static <A> UniConstraintCollector<A, ?, ConsecutiveInfo<A, Integer>>
+            toConsecutiveSequences(ToIntFunction<A> indexMap) {
+        return new DefaultUniConstraintCollector<>(
+                () -> newConsecutiveSetTree(indexMap),
+                (acc, a) -> consecutiveAccumulator(acc, a),
+                tree -> tree);
+    }
+
+    private static <Result_> ConsecutiveSetTree<Result_, Integer, Integer>
+            newConsecutiveSetTree(ToIntFunction<Result_> indexMap) {
+        return new ConsecutiveSetTree<>(indexMap::applyAsInt, (Integer a, Integer b) -> b - a, Integer::sum, 1, 0);
+    }
+
+    private static <Result_> Runnable consecutiveAccumulator(ConsecutiveSetTree<Result_, Integer, Integer> tree,
+            Result_ result) {
+        tree.add(result);
+        return () -> tree.remove(result);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveSequences(ToIntFunction)}.
+     *
+     * @param resultMap never null, maps both facts to an item in the sequence
+     * @param indexMap never null, maps the item to its position in the sequence
+     * @param <A> generic type of the first tuple variable
+     * @param <B> generic type of the second tuple variable
+     * @param <Result_> generic type of the items in the sequence
+     * @return never null
+     */
+    public static <A, B, Result_> BiConstraintCollector<A, B, ?, ConsecutiveInfo<Result_, Integer>>
+            toConsecutiveSequences(BiFunction<A, B, Result_> resultMap, ToIntFunction<Result_> indexMap) {
+        return new DefaultBiConstraintCollector<>(
+                () -> newConsecutiveSetTree(indexMap),
+                (acc, a, b) -> consecutiveAccumulator(acc, resultMap.apply(a, b)),
+                tree -> tree);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveSequences(ToIntFunction)}.
+     *
+     * @param resultMap never null, maps the three facts to an item in the sequence
+     * @param indexMap never null, maps the item to its position in the sequence
+     * @param <A> generic type of the first tuple variable
+     * @param <B> generic type of the second tuple variable
+     * @param <C> generic type of the third tuple variable
+     * @param <Result_> generic type of the items in the sequence
+     * @return never null
+     */
+    public static <A, B, C, Result_> TriConstraintCollector<A, B, C, ?, ConsecutiveInfo<Result_, Integer>>
+            toConsecutiveSequences(TriFunction<A, B, C, Result_> resultMap, ToIntFunction<Result_> indexMap) {
+        return new DefaultTriConstraintCollector<>(
+                () -> newConsecutiveSetTree(indexMap),
+                (acc, a, b, c) -> consecutiveAccumulator(acc, resultMap.apply(a, b, c)),
+                tree -> tree);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveSequences(ToIntFunction)}.
+     *
+     * @param resultMap never null, maps the four facts to an item in the sequence
+     * @param indexMap never null, maps the item to its position in the sequence
+     * @param <A> generic type of the first tuple variable
+     * @param <B> generic type of the second tuple variable
+     * @param <C> generic type of the third tuple variable
+     * @param <D> generic type of the fourth tuple variable
+     * @param <Result_> generic type of the items in the sequence
+     * @return never null
+     */
+    public static <A, B, C, D, Result_> QuadConstraintCollector<A, B, C, D, ?, ConsecutiveInfo<Result_, Integer>>
+            toConsecutiveSequences(QuadFunction<A, B, C, D, Result_> resultMap, ToIntFunction<Result_> indexMap) {
+        return new DefaultQuadConstraintCollector<>(
+                () -> newConsecutiveSetTree(indexMap),
+                (acc, a, b, c, d) -> consecutiveAccumulator(acc, resultMap.apply(a, b, c, d)),
+                tree -> tree);
+    }
+
+    /**
+     * Creates a constraint collector that returns {@link ConsecutiveIntervalInfo} about the first fact.
+     * Interval end points are kept in a sorted tree, so that adding or removing a fact is O(log n)
+     * and only touches the clusters and breaks around it.
+     *
+     * For instance, {@code [Shift from=2, to=4] [Shift from=3, to=5] [Shift from=6, to=7] [Shift from=7, to=8]}
+     * returns the following information:
+     *
+     * <pre>
+     * {@code
+     * IntervalClusters: [[Shift from=2, to=4] [Shift from=3, to=5]], [[Shift from=6, to=7] [Shift from=7, to=8]]
+     * Breaks: [[Break from=5, to=6, length=1]]
+     * }
+     * </pre>
+     *
+     * @param startMap never null, maps the fact to its start
+     * @param endMap never null, maps the fact to its end
+     * @param differenceFunction never null, computes the difference between two points.
+     *        The second argument is always larger than the first (ex: {@link Duration#between} or (a,b) -> b - a).
+     * @param <A> generic type of the tuple variable
+     * @param <PointType_> generic type of the interval end points
+     * @param <DifferenceType_> generic type of the difference between points
+     * @return never null
+     */
+    public static <A, PointType_ extends Comparable<PointType_>, DifferenceType_ extends Comparable<DifferenceType_>>
+            UniConstraintCollector<A, ?, ConsecutiveIntervalInfo<A, PointType_, DifferenceType_>>
+            toConsecutiveIntervals(Function<A, PointType_> startMap, Function<A, PointType_> endMap,
+                    BiFunction<PointType_, PointType_, DifferenceType_> differenceFunction) {
+        return new DefaultUniConstraintCollector<>(
+                () -> new IntervalTree<>(startMap, endMap, differenceFunction),
+                (acc, a) -> intervalAccumulator(acc, a),
+                IntervalTree::getConsecutiveIntervalData);
+    }
+
+    private static <Interval_, Point_ extends Comparable<Point_>> Runnable
+            intervalAccumulator(IntervalTree<Interval_, Point_, ?> tree, Interval_ intervalValue) {
+        Interval<Interval_, Point_> interval = tree.getInterval(intervalValue);
+        tree.add(interval);
+        return () -> tree.remove(interval);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveIntervals(Function, Function, BiFunction)},
+     * for {@link Temporal} end points.
+     *
+     * @param startMap never null, maps the fact to its start
+     * @param endMap never null, maps the fact to its end
+     * @param <A> generic type of the tuple variable
+     * @param <PointType_> temporal type of the interval end points
+     * @return never null
+     */
+    public static <A, PointType_ extends Temporal & Comparable<PointType_>>
+            UniConstraintCollector<A, ?, ConsecutiveIntervalInfo<A, PointType_, Duration>>
+            toConsecutiveTemporalIntervals(Function<A, PointType_> startMap, Function<A, PointType_> endMap) {
+        return toConsecutiveIntervals(startMap, endMap, Duration::between);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveIntervals(Function, Function, BiFunction)}, for long end points.
+     *
+     * @param startMap never null, maps the fact to its start
+     * @param endMap never null, maps the fact to its end
+     * @param <A> generic type of the tuple variable
+     * @return never null
+     */
+    public static <A> UniConstraintCollector<A, ?, ConsecutiveIntervalInfo<A, Long, Long>>
+            toConsecutiveIntervals(ToLongFunction<A> startMap, ToLongFunction<A> endMap) {
+        return toConsecutiveIntervals(startMap::applyAsLong, endMap::applyAsLong, (a, b) -> b - a);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveIntervals(Function, Function, BiFunction)}.
+     *
+     * @param intervalMap never null, maps both facts to an item in the cluster
+     * @param startMap never null, maps the item to its start
+     * @param endMap never null, maps the item to its end
+     * @param differenceFunction never null, computes the difference between two points.
+     *        The second argument is always larger than the first (ex: {@link Duration#between} or (a,b) -> b - a).
+     * @param <A> generic type of the first tuple variable
+     * @param <B> generic type of the second tuple variable
+     * @param <IntervalType_> generic type of the items in the cluster
+     * @param <PointType_> generic type of the interval end points
+     * @param <DifferenceType_> generic type of the difference between points
+     * @return never null
+     */
+    public static <A, B, IntervalType_, PointType_ extends Comparable<PointType_>, DifferenceType_ extends Comparable<DifferenceType_>>
+            BiConstraintCollector<A, B, ?, ConsecutiveIntervalInfo<IntervalType_, PointType_, DifferenceType_>>
+            toConsecutiveIntervals(BiFunction<A, B, IntervalType_> intervalMap,
+                    Function<IntervalType_, PointType_> startMap, Function<IntervalType_, PointType_> endMap,
+                    BiFunction<PointType_, PointType_, DifferenceType_> differenceFunction) {
+        return new DefaultBiConstraintCollector<>(
+                () -> new IntervalTree<>(startMap, endMap, differenceFunction),
+                (acc, a, b) -> intervalAccumulator(acc, intervalMap.apply(a, b)),
+                IntervalTree::getConsecutiveIntervalData);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveTemporalIntervals(Function, Function)}.
+     *
+     * @param intervalMap never null, maps both facts to an item in the cluster
+     * @param startMap never null, maps the item to its start
+     * @param endMap never null, maps the item to its end
+     * @param <A> generic type of the first tuple variable
+     * @param <B> generic type of the second tuple variable
+     * @param <IntervalType_> generic type of the items in the cluster
+     * @param <PointType_> temporal type of the interval end points
+     * @return never null
+     */
+    public static <A, B, IntervalType_, PointType_ extends Temporal & Comparable<PointType_>>
+            BiConstraintCollector<A, B, ?, ConsecutiveIntervalInfo<IntervalType_, PointType_, Duration>>
+            toConsecutiveTemporalIntervals(BiFunction<A, B, IntervalType_> intervalMap,
+                    Function<IntervalType_, PointType_> startMap, Function<IntervalType_, PointType_> endMap) {
+        return toConsecutiveIntervals(intervalMap, startMap, endMap, Duration::between);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveIntervals(ToLongFunction, ToLongFunction)}.
+     *
+     * @param intervalMap never null, maps both facts to an item in the cluster
+     * @param startMap never null, maps the item to its start
+     * @param endMap never null, maps the item to its end
+     * @param <A> generic type of the first tuple variable
+     * @param <B> generic type of the second tuple variable
+     * @param <IntervalType_> generic type of the items in the cluster
+     * @return never null
+     */
+    public static <A, B, IntervalType_>
+            BiConstraintCollector<A, B, ?, ConsecutiveIntervalInfo<IntervalType_, Long, Long>>
+            toConsecutiveIntervals(BiFunction<A, B, IntervalType_> intervalMap,
+                    ToLongFunction<IntervalType_> startMap, ToLongFunction<IntervalType_> endMap) {
+        return toConsecutiveIntervals(intervalMap, startMap::applyAsLong, endMap::applyAsLong, (a, b) -> b - a);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveIntervals(Function, Function, BiFunction)}.
+     *
+     * @param intervalMap never null, maps the three facts to an item in the cluster
+     * @param startMap never null, maps the item to its start
+     * @param endMap never null, maps the item to its end
+     * @param differenceFunction never null, computes the difference between two points.
+     *        The second argument is always larger than the first (ex: {@link Duration#between} or (a,b) -> b - a).
+     * @param <A> generic type of the first tuple variable
+     * @param <B> generic type of the second tuple variable
+     * @param <C> generic type of the third tuple variable
+     * @param <IntervalType_> generic type of the items in the cluster
+     * @param <PointType_> generic type of the interval end points
+     * @param <DifferenceType_> generic type of the difference between points
+     * @return never null
+     */
+    public static <A, B, C, IntervalType_, PointType_ extends Comparable<PointType_>, DifferenceType_ extends Comparable<DifferenceType_>>
+            TriConstraintCollector<A, B, C, ?, ConsecutiveIntervalInfo<IntervalType_, PointType_, DifferenceType_>>
+            toConsecutiveIntervals(TriFunction<A, B, C, IntervalType_> intervalMap,
+                    Function<IntervalType_, PointType_> startMap, Function<IntervalType_, PointType_> endMap,
+                    BiFunction<PointType_, PointType_, DifferenceType_> differenceFunction) {
+        return new DefaultTriConstraintCollector<>(
+                () -> new IntervalTree<>(startMap, endMap, differenceFunction),
+                (acc, a, b, c) -> intervalAccumulator(acc, intervalMap.apply(a, b, c)),
+                IntervalTree::getConsecutiveIntervalData);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveTemporalIntervals(Function, Function)}.
+     *
+     * @param intervalMap never null, maps the three facts to an item in the cluster
+     * @param startMap never null, maps the item to its start
+     * @param endMap never null, maps the item to its end
+     * @param <A> generic type of the first tuple variable
+     * @param <B> generic type of the second tuple variable
+     * @param <C> generic type of the third tuple variable
+     * @param <IntervalType_> generic type of the items in the cluster
+     * @param <PointType_> temporal type of the interval end points
+     * @return never null
+     */
+    public static <A, B, C, IntervalType_, PointType_ extends Temporal & Comparable<PointType_>>
+            TriConstraintCollector<A, B, C, ?, ConsecutiveIntervalInfo<IntervalType_, PointType_, Duration>>
+            toConsecutiveTemporalIntervals(TriFunction<A, B, C, IntervalType_> intervalMap,
+                    Function<IntervalType_, PointType_> startMap, Function<IntervalType_, PointType_> endMap) {
+        return toConsecutiveIntervals(intervalMap, startMap, endMap, Duration::between);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveIntervals(ToLongFunction, ToLongFunction)}.
+     *
+     * @param intervalMap never null, maps the three facts to an item in the cluster
+     * @param startMap never null, maps the item to its start
+     * @param endMap never null, maps the item to its end
+     * @param <A> generic type of the first tuple variable
+     * @param <B> generic type of the second tuple variable
+     * @param <C> generic type of the third tuple variable
+     * @param <IntervalType_> generic type of the items in the cluster
+     * @return never null
+     */
+    public static <A, B, C, IntervalType_>
+            TriConstraintCollector<A, B, C, ?, ConsecutiveIntervalInfo<IntervalType_, Long, Long>>
+            toConsecutiveIntervals(TriFunction<A, B, C, IntervalType_> intervalMap,
+                    ToLongFunction<IntervalType_> startMap, ToLongFunction<IntervalType_> endMap) {
+        return toConsecutiveIntervals(intervalMap, startMap::applyAsLong, endMap::applyAsLong, (a, b) -> b - a);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveIntervals(Function, Function, BiFunction)}.
+     *
+     * @param intervalMap never null, maps the four facts to an item in the cluster
+     * @param startMap never null, maps the item to its start
+     * @param endMap never null, maps the item to its end
+     * @param differenceFunction never null, computes the difference between two points.
+     *        The second argument is always larger than the first (ex: {@link Duration#between} or (a,b) -> b - a).
+     * @param <A> generic type of the first tuple variable
+     * @param <B> generic type of the second tuple variable
+     * @param <C> generic type of the third tuple variable
+     * @param <D> generic type of the fourth tuple variable
+     * @param <IntervalType_> generic type of the items in the cluster
+     * @param <PointType_> generic type of the interval end points
+     * @param <DifferenceType_> generic type of the difference between points
+     * @return never null
+     */
+    public static <A, B, C, D, IntervalType_, PointType_ extends Comparable<PointType_>, DifferenceType_ extends Comparable<DifferenceType_>>
+            QuadConstraintCollector<A, B, C, D, ?, ConsecutiveIntervalInfo<IntervalType_, PointType_, DifferenceType_>>
+            toConsecutiveIntervals(QuadFunction<A, B, C, D, IntervalType_> intervalMap,
+                    Function<IntervalType_, PointType_> startMap, Function<IntervalType_, PointType_> endMap,
+                    BiFunction<PointType_, PointType_, DifferenceType_> differenceFunction) {
+        return new DefaultQuadConstraintCollector<>(
+                () -> new IntervalTree<>(startMap, endMap, differenceFunction),
+                (acc, a, b, c, d) -> intervalAccumulator(acc, intervalMap.apply(a, b, c, d)),
+                IntervalTree::getConsecutiveIntervalData);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveTemporalIntervals(Function, Function)}.
+     *
+     * @param intervalMap never null, maps the four facts to an item in the cluster
+     * @param startMap never null, maps the item to its start
+     * @param endMap never null, maps the item to its end
+     * @param <A> generic type of the first tuple variable
+     * @param <B> generic type of the second tuple variable
+     * @param <C> generic type of the third tuple variable
+     * @param <D> generic type of the fourth tuple variable
+     * @param <IntervalType_> generic type of the items in the cluster
+     * @param <PointType_> temporal type of the interval end points
+     * @return never null
+     */
+    public static <A, B, C, D, IntervalType_, PointType_ extends Temporal & Comparable<PointType_>>
+            QuadConstraintCollector<A, B, C, D, ?, ConsecutiveIntervalInfo<IntervalType_, PointType_, Duration>>
+            toConsecutiveTemporalIntervals(QuadFunction<A, B, C, D, IntervalType_> intervalMap,
+                    Function<IntervalType_, PointType_> startMap, Function<IntervalType_, PointType_> endMap) {
+        return toConsecutiveIntervals(intervalMap, startMap, endMap, Duration::between);
+    }
+
+    /**
+     * As defined by {@link #toConsecutiveIntervals(ToLongFunction, ToLongFunction)}.
+     *
+     * @param intervalMap never null, maps the four facts to an item in the cluster
+     * @param startMap never null, maps the item to its start
+     * @param endMap never null, maps the item to its end
+     * @param <A> generic type of the first tuple variable
+     * @param <B> generic type of the second tuple variable
+     * @param <C> generic type of the third tuple variable
+     * @param <D> generic type of the fourth tuple variable
+     * @param <IntervalType_> generic type of the items in the cluster
+     * @return never null
+     */
+    public static <A, B, C, D, IntervalType_>
+            QuadConstraintCollector<A, B, C, D, ?, ConsecutiveIntervalInfo<IntervalType_, Long, Long>>
+            toConsecutiveIntervals(QuadFunction<A, B, C, D, IntervalType_> intervalMap,
+                    ToLongFunction<IntervalType_> startMap, ToLongFunction<IntervalType_> endMap) {
+        return toConsecutiveIntervals(intervalMap, startMap::applyAsLong, endMap::applyAsLong, (a, b) -> b - a);
+    }
+
+    // ************************************************************************
+    // load balance collectors
+    // ************************************************************************
+
+    /**
+     * Creates a constraint collector that returns {@link LoadBalance} about how evenly the facts
+     * are spread over their balanced items, where every fact adds a load of 1 to its balanced item.
+     * For instance, {@code loadBalance(Shift::getEmployee)} tells how evenly the shifts are spread over the employees.
+     * <p>
+     * The count, sum and sum of squares of the loads are maintained incrementally,
+     * so adding or retracting a fact is O(1), no matter how many balanced items there are.
+     * Penalize by {@link LoadBalance#getUnfairness()} to spread the load as evenly as possible.
+     * Only balanced items that carry at least one fact take part,
+     * so piling all facts onto a single balanced item is considered fair.
+     * Use {@link #loadBalance(Function, int)} to include the balanced items that carry no fact.
+     *
+     * @param balancedItemFunction never null, maps the fact to the balanced item that carries it
+     * @param <A> generic type of the tuple variable
+     * @param <Balanced_> generic type of the balanced item
+     * @return never null
+     */
+    public static <A, Balanced_> UniConstraintCollector<A, ?, LoadBalance<Balanced_>>
+            loadBalance(Function<A, Balanced_> balancedItemFunction) {
+        return loadBalance(balancedItemFunction, a -> 1L);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function)}, where every fact adds a custom load to its balanced item.
+     *
+     * @param balancedItemFunction never null, maps the fact to the balanced item that carries it
+     * @param loadFunction never null, maps the fact to the load it adds to its balanced item
+     * @param <A> generic type of the tuple variable
+     * @param <Balanced_> generic type of the balanced item
+     * @return never null
+     */
+    public static <A, Balanced_> UniConstraintCollector<A, ?, LoadBalance<Balanced_>>
+            loadBalance(Function<A, Balanced_> balancedItemFunction, ToLongFunction<A> loadFunction) {
+        return new DefaultUniConstraintCollector<>(
+                LoadBalanceCalculator<Balanced_>::new,
+                (calculator, a) -> calculator.add(balancedItemFunction.apply(a), loadFunction.applyAsLong(a)),
+                calculator -> calculator);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function)},
+     * but every balanced item takes part, even if it carries no fact.
+     * For instance, {@code loadBalance(Shift::getEmployee, employeeCount)} considers 3 shifts
+     * on 1 out of 3 employees unfair, while {@link #loadBalance(Function)} considers it fair.
+     *
+     * @param balancedItemFunction never null, maps the fact to the balanced item that carries it
+     * @param balancedItemCount {@code >= 0}, the number of balanced items, including those that carry no fact
+     * @param <A> generic type of the tuple variable
+     * @param <Balanced_> generic type of the balanced item
+     * @return never null
+     */
+    public static <A, Balanced_> UniConstraintCollector<A, ?, LoadBalance<Balanced_>>
+            loadBalance(Function<A, Balanced_> balancedItemFunction, int balancedItemCount) {
+        return loadBalance(balancedItemFunction, a -> 1L, balancedItemCount);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function, int)}, where every fact adds a custom load to its balanced item.
+     *
+     * @param balancedItemFunction never null, maps the fact to the balanced item that carries it
+     * @param loadFunction never null, maps the fact to the load it adds to its balanced item
+     * @param balancedItemCount {@code >= 0}, the number of balanced items, including those that carry no fact
+     * @param <A> generic type of the tuple variable
+     * @param <Balanced_> generic type of the balanced item
+     * @return never null
+     */
+    public static <A, Balanced_> UniConstraintCollector<A, ?, LoadBalance<Balanced_>>
+            loadBalance(Function<A, Balanced_> balancedItemFunction, ToLongFunction<A> loadFunction,
+                    int balancedItemCount) {
+        return new DefaultUniConstraintCollector<>(
+                () -> new LoadBalanceCalculator<Balanced_>(balancedItemCount),
+                (calculator, a) -> calculator.add(balancedItemFunction.apply(a),
+                        loadFunction.applyAsLong(a)),
+                calculator -> calculator);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function)}.
+     */
+    public static <A, B, Balanced_> BiConstraintCollector<A, B, ?, LoadBalance<Balanced_>>
+            loadBalance(BiFunction<A, B, Balanced_> balancedItemFunction) {
+        return loadBalance(balancedItemFunction, (a, b) -> 1L);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function, ToLongFunction)}.
+     */
+    public static <A, B, Balanced_> BiConstraintCollector<A, B, ?, LoadBalance<Balanced_>>
+            loadBalance(BiFunction<A, B, Balanced_> balancedItemFunction, ToLongBiFunction<A, B> loadFunction) {
+        return new DefaultBiConstraintCollector<>(
+                LoadBalanceCalculator<Balanced_>::new,
+                (calculator, a, b) -> calculator.add(balancedItemFunction.apply(a, b),
+                        loadFunction.applyAsLong(a, b)),
+                calculator -> calculator);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function, int)}.
+     */
+    public static <A, B, Balanced_> BiConstraintCollector<A, B, ?, LoadBalance<Balanced_>>
+            loadBalance(BiFunction<A, B, Balanced_> balancedItemFunction, int balancedItemCount) {
+        return loadBalance(balancedItemFunction, (a, b) -> 1L, balancedItemCount);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function, ToLongFunction, int)}.
+     */
+    public static <A, B, Balanced_> BiConstraintCollector<A, B, ?, LoadBalance<Balanced_>>
+            loadBalance(BiFunction<A, B, Balanced_> balancedItemFunction, ToLongBiFunction<A, B> loadFunction,
+                    int balancedItemCount) {
+        return new DefaultBiConstraintCollector<>(
+                () -> new LoadBalanceCalculator<Balanced_>(balancedItemCount),
+                (calculator, a, b) -> calculator.add(balancedItemFunction.apply(a, b),
+                        loadFunction.applyAsLong(a, b)),
+                calculator -> calculator);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function)}.
+     */
+    public static <A, B, C, Balanced_> TriConstraintCollector<A, B, C, ?, LoadBalance<Balanced_>>
+            loadBalance(TriFunction<A, B, C, Balanced_> balancedItemFunction) {
+        return loadBalance(balancedItemFunction, (a, b, c) -> 1L);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function, ToLongFunction)}.
+     */
+    public static <A, B, C, Balanced_> TriConstraintCollector<A, B, C, ?, LoadBalance<Balanced_>>
+            loadBalance(TriFunction<A, B, C, Balanced_> balancedItemFunction, ToLongTriFunction<A, B, C> loadFunction) {
+        return new DefaultTriConstraintCollector<>(
+                LoadBalanceCalculator<Balanced_>::new,
+                (calculator, a, b, c) -> calculator.add(balancedItemFunction.apply(a, b, c),
+                        loadFunction.applyAsLong(a, b, c)),
+                calculator -> calculator);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function, int)}.
+     */
+    public static <A, B, C, Balanced_> TriConstraintCollector<A, B, C, ?, LoadBalance<Balanced_>>
+            loadBalance(TriFunction<A, B, C, Balanced_> balancedItemFunction, int balancedItemCount) {
+        return loadBalance(balancedItemFunction, (a, b, c) -> 1L, balancedItemCount);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function, ToLongFunction, int)}.
+     */
+    public static <A, B, C, Balanced_> TriConstraintCollector<A, B, C, ?, LoadBalance<Balanced_>>
+            loadBalance(TriFunction<A, B, C, Balanced_> balancedItemFunction, ToLongTriFunction<A, B, C> loadFunction,
+                    int balancedItemCount) {
+        return new DefaultTriConstraintCollector<>(
+                () -> new LoadBalanceCalculator<Balanced_>(balancedItemCount),
+                (calculator, a, b, c) -> calculator.add(balancedItemFunction.apply(a, b, c),
+                        loadFunction.applyAsLong(a, b, c)),
+                calculator -> calculator);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function)}.
+     */
+    public static <A, B, C, D, Balanced_> QuadConstraintCollector<A, B, C, D, ?, LoadBalance<Balanced_>>
+            loadBalance(QuadFunction<A, B, C, D, Balanced_> balancedItemFunction) {
+        return loadBalance(balancedItemFunction, (a, b, c, d) -> 1L);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function, ToLongFunction)}.
+     */
+    public static <A, B, C, D, Balanced_> QuadConstraintCollector<A, B, C, D, ?, LoadBalance<Balanced_>>
+            loadBalance(QuadFunction<A, B, C, D, Balanced_> balancedItemFunction, ToLongQuadFunction<A, B, C, D> loadFunction) {
+        return new DefaultQuadConstraintCollector<>(
+                LoadBalanceCalculator<Balanced_>::new,
+                (calculator, a, b, c, d) -> calculator.add(balancedItemFunction.apply(a, b, c, d),
+                        loadFunction.applyAsLong(a, b, c, d)),
+                calculator -> calculator);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function, int)}.
+     */
+    public static <A, B, C, D, Balanced_> QuadConstraintCollector<A, B, C, D, ?, LoadBalance<Balanced_>>
+            loadBalance(QuadFunction<A, B, C, D, Balanced_> balancedItemFunction, int balancedItemCount) {
+        return loadBalance(balancedItemFunction, (a, b, c, d) -> 1L, balancedItemCount);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function, ToLongFunction, int)}.
+     */
+    public static <A, B, C, D, Balanced_> QuadConstraintCollector<A, B, C, D, ?, LoadBalance<Balanced_>>
+            loadBalance(QuadFunction<A, B, C, D, Balanced_> balancedItemFunction, ToLongQuadFunction<A, B, C, D> loadFunction,
+                    int balancedItemCount) {
+        return new DefaultQuadConstraintCollector<>(
+                () -> new LoadBalanceCalculator<Balanced_>(balancedItemCount),
+                (calculator, a, b, c, d) -> calculator.add(balancedItemFunction.apply(a, b, c, d),
+                        loadFunction.applyAsLong(a, b, c, d)),
+                calculator -> calculator);
+    }
+
     // ************************************************************************
     // conditional collectors
     // ************************************************************************
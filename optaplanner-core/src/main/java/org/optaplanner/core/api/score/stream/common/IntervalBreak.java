@@ -14,7 +14,7 @@
  * limitations under the License.
  */
 
-package org.optaplanner.examples.common.experimental.api;
+package org.optaplanner.core.api.score.stream.common;
 
 /**
  * An IntervalBreak is a gap between two consecutive interval clusters. For instance,
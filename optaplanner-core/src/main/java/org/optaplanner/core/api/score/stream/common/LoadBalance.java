@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.stream.common;
+
+import java.util.Map;
+
+/**
+ * Contains info regarding how evenly a load is spread over a collection of balanced items,
+ * such as the number of shifts per employee.
+ * <p>
+ * All aggregates are maintained incrementally,
+ * so every getter except {@link #getLoads()} is O(1).
+ *
+ * @param <Balanced_> The type of the balanced item (examples: employee, machine)
+ */
+public interface LoadBalance<Balanced_> {
+
+    /**
+     * @return never null, the load of every balanced item that carries at least one fact,
+     *         so it excludes the balanced items that carry no fact
+     */
+    Map<Balanced_, Long> getLoads();
+
+    /**
+     * @return at least 0, the number of balanced items that carry at least one fact,
+     *         or the balanced item count given to the collector if that is higher,
+     *         because the balanced items that carry no fact have a load of 0
+     */
+    int getBalancedCount();
+
+    /**
+     * @return the sum of all loads
+     */
+    long getSum();
+
+    /**
+     * @return the sum of the squares of all loads
+     */
+    long getSumOfSquares();
+
+    /**
+     * The sum of the squared deviations from the mean load,
+     * equal to {@code (sumOfSquares - sum * sum / balancedCount)}.
+     * It is 0 if every balanced item carries the same load.
+     *
+     * @return at least 0, 0 if there are no balanced items
+     */
+    double getSquaredDeviation();
+
+    /**
+     * The {@link #getSquaredDeviation() squared deviation} multiplied by the {@link #getBalancedCount() balanced count},
+     * equal to {@code (balancedCount * sumOfSquares - sum * sum)}.
+     * Unlike the squared deviation, it is always an exact integer,
+     * which makes it a good fit for the match weight of an integer score.
+     *
+     * @return at least 0, 0 if there are no balanced items
+     */
+    long getUnfairness();
+
+}
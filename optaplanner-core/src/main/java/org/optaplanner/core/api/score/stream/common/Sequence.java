@@ -14,7 +14,7 @@
  * limitations under the License.
  */
 
-package org.optaplanner.examples.common.experimental.api;
+package org.optaplanner.core.api.score.stream.common;
 
 /**
  * A Sequence is a series of consecutive values. For instance,
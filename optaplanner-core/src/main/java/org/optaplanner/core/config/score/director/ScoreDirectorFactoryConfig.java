@@ -46,11 +46,14 @@ import org.optaplanner.core.impl.score.director.drools.KieRuntimeBuilderWrapper;
         "constraintProviderClass",
         "constraintProviderCustomProperties",
         "constraintStreamImplType",
+        "constraintStreamParallelBulkRefreshEnabled",
+        "constraintStreamTupleRecyclingEnabled",
         "incrementalScoreCalculatorClass",
         "incrementalScoreCalculatorCustomProperties",
         "scoreDrlList",
         "scoreDrlFileList",
         "droolsAlphaNetworkCompilationEnabled",
+        "droolsKieBaseSharingEnabled",
         "kieBaseConfigurationProperties",
         "initializingScoreTrend",
         "assertionScoreDirectorFactory"
@@ -67,6 +70,8 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
     @XmlJavaTypeAdapter(JaxbCustomPropertiesAdapter.class)
     protected Map<String, String> constraintProviderCustomProperties = null;
     protected ConstraintStreamImplType constraintStreamImplType;
+    protected Boolean constraintStreamParallelBulkRefreshEnabled = null;
+    protected Boolean constraintStreamTupleRecyclingEnabled = null;
 
     protected Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass = null;
 
@@ -81,6 +86,7 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
     protected Supplier<KieBase> gizmoKieBaseSupplier = null;
 
     protected Boolean droolsAlphaNetworkCompilationEnabled = null;
+    protected Boolean droolsKieBaseSharingEnabled = null;
     @XmlJavaTypeAdapter(JaxbCustomPropertiesAdapter.class)
     protected Map<String, String> kieBaseConfigurationProperties = null;
 
@@ -134,6 +140,42 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         this.constraintStreamImplType = constraintStreamImplType;
     }
 
+    /**
+     * Only used with {@link ConstraintStreamImplType#BAVET}.
+     * If enabled, the independent parts of the constraint network are refreshed in parallel
+     * when the working solution is set, on a thread pool dedicated to the score director factory.
+     * Every lambda of the {@link ConstraintProvider} (filters, joiners, mappers, collectors, match weighers)
+     * must then be thread-safe.
+     * Defaults to false.
+     *
+     * @return null if not configured
+     */
+    public Boolean getConstraintStreamParallelBulkRefreshEnabled() {
+        return constraintStreamParallelBulkRefreshEnabled;
+    }
+
+    public void setConstraintStreamParallelBulkRefreshEnabled(Boolean constraintStreamParallelBulkRefreshEnabled) {
+        this.constraintStreamParallelBulkRefreshEnabled = constraintStreamParallelBulkRefreshEnabled;
+    }
+
+    /**
+     * Only used with {@link ConstraintStreamImplType#BAVET}.
+     * If enabled, the constraint network reuses the tuples of matches that no longer exist,
+     * instead of allocating new ones.
+     * That lowers the allocation per move, but not necessarily the score calculation speed,
+     * so benchmark it on the actual use case.
+     * Defaults to false.
+     *
+     * @return null if not configured
+     */
+    public Boolean getConstraintStreamTupleRecyclingEnabled() {
+        return constraintStreamTupleRecyclingEnabled;
+    }
+
+    public void setConstraintStreamTupleRecyclingEnabled(Boolean constraintStreamTupleRecyclingEnabled) {
+        this.constraintStreamTupleRecyclingEnabled = constraintStreamTupleRecyclingEnabled;
+    }
+
     public Class<? extends IncrementalScoreCalculator> getIncrementalScoreCalculatorClass() {
         return incrementalScoreCalculatorClass;
     }
@@ -205,6 +247,25 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         this.droolsAlphaNetworkCompilationEnabled = droolsAlphaNetworkCompilationEnabled;
     }
 
+    /**
+     * Only used with a {@link #getConstraintProviderClass() constraintProviderClass}
+     * and {@link ConstraintStreamImplType#DROOLS}.
+     * If enabled, all {@link org.optaplanner.core.api.solver.SolverFactory} instances in the JVM
+     * with the same constraint provider class, custom properties, solution class and entity classes
+     * share one {@link KieBase}, instead of building it again for every solver.
+     * The constraint provider must then build the same constraints every time.
+     * Defaults to false.
+     *
+     * @return null if not configured
+     */
+    public Boolean getDroolsKieBaseSharingEnabled() {
+        return droolsKieBaseSharingEnabled;
+    }
+
+    public void setDroolsKieBaseSharingEnabled(Boolean droolsKieBaseSharingEnabled) {
+        this.droolsKieBaseSharingEnabled = droolsKieBaseSharingEnabled;
+    }
+
     public Map<String, String> getKieBaseConfigurationProperties() {
         return kieBaseConfigurationProperties;
     }
@@ -261,6 +322,18 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         return this;
     }
 
+    public ScoreDirectorFactoryConfig withConstraintStreamParallelBulkRefreshEnabled(
+            boolean constraintStreamParallelBulkRefreshEnabled) {
+        this.constraintStreamParallelBulkRefreshEnabled = constraintStreamParallelBulkRefreshEnabled;
+        return this;
+    }
+
+    public ScoreDirectorFactoryConfig withConstraintStreamTupleRecyclingEnabled(
+            boolean constraintStreamTupleRecyclingEnabled) {
+        this.constraintStreamTupleRecyclingEnabled = constraintStreamTupleRecyclingEnabled;
+        return this;
+    }
+
     public ScoreDirectorFactoryConfig
             withIncrementalScoreCalculatorClass(Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass) {
         this.incrementalScoreCalculatorClass = incrementalScoreCalculatorClass;
@@ -316,6 +389,11 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         return this;
     }
 
+    public ScoreDirectorFactoryConfig withDroolsKieBaseSharingEnabled(boolean droolsKieBaseSharingEnabled) {
+        this.droolsKieBaseSharingEnabled = droolsKieBaseSharingEnabled;
+        return this;
+    }
+
     public ScoreDirectorFactoryConfig withInitializingScoreTrend(String initializingScoreTrend) {
         this.initializingScoreTrend = initializingScoreTrend;
         return this;
@@ -339,6 +417,10 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                 constraintProviderCustomProperties, inheritedConfig.getConstraintProviderCustomProperties());
         constraintStreamImplType = ConfigUtils.inheritOverwritableProperty(
                 constraintStreamImplType, inheritedConfig.getConstraintStreamImplType());
+        constraintStreamParallelBulkRefreshEnabled = ConfigUtils.inheritOverwritableProperty(
+                constraintStreamParallelBulkRefreshEnabled, inheritedConfig.getConstraintStreamParallelBulkRefreshEnabled());
+        constraintStreamTupleRecyclingEnabled = ConfigUtils.inheritOverwritableProperty(
+                constraintStreamTupleRecyclingEnabled, inheritedConfig.getConstraintStreamTupleRecyclingEnabled());
         incrementalScoreCalculatorClass = ConfigUtils.inheritOverwritableProperty(
                 incrementalScoreCalculatorClass, inheritedConfig.getIncrementalScoreCalculatorClass());
         incrementalScoreCalculatorCustomProperties = ConfigUtils.inheritMergeableMapProperty(
@@ -351,6 +433,8 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                 inheritedConfig.getGizmoKieBaseSupplier());
         droolsAlphaNetworkCompilationEnabled = ConfigUtils.inheritOverwritableProperty(
                 droolsAlphaNetworkCompilationEnabled, inheritedConfig.getDroolsAlphaNetworkCompilationEnabled());
+        droolsKieBaseSharingEnabled = ConfigUtils.inheritOverwritableProperty(
+                droolsKieBaseSharingEnabled, inheritedConfig.getDroolsKieBaseSharingEnabled());
         kieBaseConfigurationProperties = ConfigUtils.inheritMergeableMapProperty(
                 kieBaseConfigurationProperties, inheritedConfig.getKieBaseConfigurationProperties());
         initializingScoreTrend = ConfigUtils.inheritOverwritableProperty(
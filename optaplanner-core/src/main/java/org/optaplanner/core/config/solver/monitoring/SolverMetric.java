@@ -28,6 +28,7 @@ import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.statistic.BestScoreStatistic;
 import org.optaplanner.core.impl.statistic.BestSolutionMutationCountStatistic;
+import org.optaplanner.core.impl.statistic.ConstraintStreamProfileStatistic;
 import org.optaplanner.core.impl.statistic.MemoryUseStatistic;
 import org.optaplanner.core.impl.statistic.PickedMoveBestScoreDiffStatistic;
 import org.optaplanner.core.impl.statistic.PickedMoveStepScoreDiffStatistic;
@@ -52,6 +53,8 @@ public enum SolverMetric {
     PICKED_MOVE_TYPE_BEST_SCORE_DIFF("optaplanner.solver.move.type.best.score.diff", new PickedMoveBestScoreDiffStatistic<>(),
             true),
     PICKED_MOVE_TYPE_STEP_SCORE_DIFF("optaplanner.solver.move.type.step.score.diff", new PickedMoveStepScoreDiffStatistic<>(),
+            false),
+    CONSTRAINT_STREAM_PROFILE("optaplanner.solver.constraint.stream.profile", new ConstraintStreamProfileStatistic<>(),
             false);
 
     String meterId;
@@ -25,10 +25,27 @@ import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Avoids the usage of Introspector to work on Android too.
@@ -44,6 +61,13 @@ public final class ReflectionHelper {
 
     private static final String PROPERTY_MUTATOR_PREFIX = "set";
 
+    private static final Set<Class<?>> IMMUTABLE_VALUE_CLASS_SET = Set.of(
+            Boolean.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, Character.class, String.class, UUID.class,
+            Instant.class, LocalDateTime.class, LocalTime.class, LocalDate.class, MonthDay.class, YearMonth.class,
+            Year.class, OffsetDateTime.class, OffsetTime.class, ZonedDateTime.class, ZoneOffset.class,
+            Duration.class, Period.class);
+
     /**
      * Returns the JavaBeans property name of the given member.
      *
@@ -243,6 +267,21 @@ public final class ReflectionHelper {
         }
     }
 
+    /**
+     * An immutable value can't be changed in place
+     * and two instances that are {@link Object#equals(Object) equal} can replace each other.
+     *
+     * @param value sometimes null
+     * @return true if the value is null, an enum or an instance of a well known immutable JDK class
+     */
+    public static boolean isImmutableValue(Object value) {
+        if (value == null) {
+            return true;
+        }
+        Class<?> valueClass = value.getClass();
+        return valueClass.isEnum() || IMMUTABLE_VALUE_CLASS_SET.contains(valueClass);
+    }
+
     /**
      * @param type never null
      * @return true if it is a {@link Map}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.anchor;
+
+import java.util.Objects;
+
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.Demand;
+import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+public class ChainIndexDemand<Solution_> implements Demand<Solution_, ChainIndexSupply> {
+
+    protected final VariableDescriptor<Solution_> sourceVariableDescriptor;
+
+    public ChainIndexDemand(VariableDescriptor<Solution_> sourceVariableDescriptor) {
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+    }
+
+    public VariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return sourceVariableDescriptor;
+    }
+
+    // ************************************************************************
+    // Creation method
+    // ************************************************************************
+
+    @Override
+    public ChainIndexSupply createExternalizedSupply(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        SupplyManager<Solution_> supplyManager = scoreDirector.getSupplyManager();
+        AnchorVariableSupply anchorVariableSupply = supplyManager
+                .demand(new AnchorVariableDemand<>(sourceVariableDescriptor));
+        return new ExternalizedChainIndexSupply<>(sourceVariableDescriptor, anchorVariableSupply);
+    }
+
+    // ************************************************************************
+    // Equals/hashCode method
+    // ************************************************************************
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ChainIndexDemand)) {
+            return false;
+        }
+        ChainIndexDemand<Solution_> other = (ChainIndexDemand<Solution_>) o;
+        if (!sourceVariableDescriptor.equals(other.sourceVariableDescriptor)) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ChainIndexDemand.class.getName(), sourceVariableDescriptor);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.anchor;
+
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Only supported for chained variables.
+ * <p>
+ * To get an instance, demand a {@link ChainIndexDemand} from {@link InnerScoreDirector#getSupplyManager()}.
+ */
+public interface ChainIndexSupply extends AnchorVariableSupply {
+
+    /**
+     * @param value never null, an entity or an anchor
+     * @return the number of entities between the anchor and that entity,
+     *         so 0 for the entity right after the anchor.
+     *         -1 for an anchor or an entity that isn't in a chain.
+     */
+    int getIndexInChain(Object value);
+
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.anchor;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.SourcedVariableListener;
+
+/**
+ * Keeps every chain in an implicit treap: a randomized balanced binary tree ordered by chain position,
+ * in which every node knows the size of its subtree.
+ * The index of an entity is the number of nodes before it in its tree, counted on the path to the root.
+ * <p>
+ * A {@link #beforeVariableChanged(ScoreDirector, Object)} splits the chain right before the entity,
+ * so its trailing entities stay together as a detached piece.
+ * An {@link #afterVariableChanged(ScoreDirector, Object)} appends the piece that starts with the entity
+ * to the piece that ends with its new previous entity.
+ * Each of those operations and each {@link #getIndexInChain(Object)} call takes expected logarithmic time
+ * in the chain length, whichever position changed.
+ */
+public class ExternalizedChainIndexSupply<Solution_> implements SourcedVariableListener<Solution_, Object>,
+        ChainIndexSupply {
+
+    protected final VariableDescriptor<Solution_> previousVariableDescriptor;
+    protected final AnchorVariableSupply anchorVariableSupply;
+
+    protected Map<Object, ChainNode> nodeMap = null;
+    /**
+     * The priorities only shape the trees, so a fixed seed keeps the solver reproducible without affecting any index.
+     */
+    protected Random priorityRandom = null;
+    private final ChainNode[] splitResult = new ChainNode[2];
+
+    public ExternalizedChainIndexSupply(VariableDescriptor<Solution_> previousVariableDescriptor,
+            AnchorVariableSupply anchorVariableSupply) {
+        this.previousVariableDescriptor = previousVariableDescriptor;
+        this.anchorVariableSupply = anchorVariableSupply;
+    }
+
+    @Override
+    public VariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return previousVariableDescriptor;
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+        EntityDescriptor<Solution_> entityDescriptor = previousVariableDescriptor.getEntityDescriptor();
+        List<Object> entityList = entityDescriptor.extractEntities(scoreDirector.getWorkingSolution());
+        nodeMap = new IdentityHashMap<>(entityList.size());
+        priorityRandom = new Random(0L);
+        for (Object entity : entityList) {
+            link(entity);
+        }
+    }
+
+    @Override
+    public void close() {
+        nodeMap = null;
+        priorityRandom = null;
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        link(entity);
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        ChainNode node = nodeMap.get(entity);
+        if (node != null) {
+            splitBefore(node);
+        }
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        link(entity);
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        ChainNode node = nodeMap.remove(entity);
+        if (node != null) {
+            splitBefore(node);
+            splitAfter(node);
+        }
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    /**
+     * Appends the piece that starts with the entity to the piece that ends with its previous entity.
+     * Every entity that changed has been split off by {@link #beforeVariableChanged(ScoreDirector, Object)},
+     * so the pieces can be linked in any order.
+     *
+     * @param entity never null
+     */
+    protected void link(Object entity) {
+        ChainNode node = getOrCreateNode(entity);
+        Object previous = previousVariableDescriptor.getValue(entity);
+        if (previous == null || previousVariableDescriptor.isValuePotentialAnchor(previous)) {
+            return;
+        }
+        if (rank(node) != 0) {
+            // Already linked, for example by an entity added event followed by a variable changed event
+            return;
+        }
+        ChainNode previousNode = getOrCreateNode(previous);
+        ChainNode previousRoot = root(previousNode);
+        ChainNode root = root(node);
+        if (previousRoot == root) {
+            throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                    + " because the entity (" + entity + ") for sourceVariable ("
+                    + previousVariableDescriptor.getVariableName() + ") cannot be linked after its previous ("
+                    + previous + "): that would close a cycle.");
+        }
+        if (rank(previousNode) != previousRoot.size - 1) {
+            throw new IllegalStateException("The supply (" + this + ") is corrupted,"
+                    + " because the entity (" + entity + ") for sourceVariable ("
+                    + previousVariableDescriptor.getVariableName() + ") cannot be linked after its previous ("
+                    + previous + "): another entity already follows it.");
+        }
+        merge(previousRoot, root).parent = null;
+    }
+
+    private ChainNode getOrCreateNode(Object entity) {
+        return nodeMap.computeIfAbsent(entity, e -> new ChainNode(e, priorityRandom.nextInt()));
+    }
+
+    @Override
+    public Object getAnchor(Object entity) {
+        return anchorVariableSupply.getAnchor(entity);
+    }
+
+    @Override
+    public int getIndexInChain(Object value) {
+        if (previousVariableDescriptor.isValuePotentialAnchor(value)) {
+            return -1;
+        }
+        ChainNode node = nodeMap.get(value);
+        if (node == null) {
+            return -1;
+        }
+        ChainNode first = root(node);
+        while (first.left != null) {
+            first = first.left;
+        }
+        Object firstPrevious = previousVariableDescriptor.getValue(first.entity);
+        if (firstPrevious == null || !previousVariableDescriptor.isValuePotentialAnchor(firstPrevious)) {
+            // Not connected to an anchor
+            return -1;
+        }
+        return rank(node);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + previousVariableDescriptor.getVariableName() + ")";
+    }
+
+    // ************************************************************************
+    // Treap methods
+    // ************************************************************************
+
+    private static int size(ChainNode node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static ChainNode root(ChainNode node) {
+        while (node.parent != null) {
+            node = node.parent;
+        }
+        return node;
+    }
+
+    /**
+     * @param node never null
+     * @return the number of nodes before that node in its tree
+     */
+    private static int rank(ChainNode node) {
+        int rank = size(node.left);
+        for (ChainNode child = node; child.parent != null; child = child.parent) {
+            if (child.parent.right == child) {
+                rank += size(child.parent.left) + 1;
+            }
+        }
+        return rank;
+    }
+
+    private static void update(ChainNode node) {
+        node.size = size(node.left) + 1 + size(node.right);
+        if (node.left != null) {
+            node.left.parent = node;
+        }
+        if (node.right != null) {
+            node.right.parent = node;
+        }
+    }
+
+    /**
+     * @param left sometimes null, the root of the nodes that come first
+     * @param right sometimes null, the root of the nodes that come last
+     * @return sometimes null, the root of all those nodes, its parent must be set by the caller
+     */
+    private static ChainNode merge(ChainNode left, ChainNode right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        } else {
+            right.left = merge(left, right.left);
+            update(right);
+            return right;
+        }
+    }
+
+    /**
+     * Puts the root of the first leftSize nodes in {@link #splitResult}[0] and the root of the others in [1].
+     * Their parents must be reset by the caller.
+     */
+    private void split(ChainNode node, int leftSize) {
+        if (node == null) {
+            splitResult[0] = null;
+            splitResult[1] = null;
+            return;
+        }
+        if (size(node.left) >= leftSize) {
+            split(node.left, leftSize);
+            node.left = splitResult[1];
+            update(node);
+            splitResult[1] = node;
+        } else {
+            split(node.right, leftSize - size(node.left) - 1);
+            node.right = splitResult[0];
+            update(node);
+            splitResult[0] = node;
+        }
+    }
+
+    private void splitAt(ChainNode node, int leftSize) {
+        ChainNode root = root(node);
+        if (leftSize == 0 || leftSize == root.size) {
+            return;
+        }
+        split(root, leftSize);
+        splitResult[0].parent = null;
+        splitResult[1].parent = null;
+        splitResult[0] = null;
+        splitResult[1] = null;
+    }
+
+    private void splitBefore(ChainNode node) {
+        splitAt(node, rank(node));
+    }
+
+    private void splitAfter(ChainNode node) {
+        splitAt(node, rank(node) + 1);
+    }
+
+    protected static final class ChainNode {
+
+        private final Object entity;
+        private final int priority;
+
+        private ChainNode parent = null;
+        private ChainNode left = null;
+        private ChainNode right = null;
+        private int size = 1;
+
+        private ChainNode(Object entity, int priority) {
+            this.entity = entity;
+            this.priority = priority;
+        }
+
+        @Override
+        public String toString() {
+            return entity.toString();
+        }
+
+    }
+
+}
@@ -18,20 +18,36 @@ package org.optaplanner.core.impl.domain.variable.listener.support;
 
 import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.List;
 
+import org.optaplanner.core.api.domain.variable.BatchVariableListener;
 import org.optaplanner.core.api.domain.variable.VariableListener;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 
 public class VariableListenerNotifiable implements Comparable<VariableListenerNotifiable> {
 
     protected final VariableListener variableListener;
     protected final int globalOrder;
+    protected final List<VariableDescriptor> sourceVariableDescriptorList;
 
     protected final Collection<VariableListenerNotification> notificationQueue;
 
     public VariableListenerNotifiable(VariableListener variableListener, int globalOrder) {
+        this(variableListener, globalOrder, null);
+    }
+
+    /**
+     * @param variableListener never null
+     * @param globalOrder the topological order of the shadow variable in the dependency graph
+     * @param sourceVariableDescriptorList null if every variable change must be notified,
+     *        otherwise the sources to compare to decide if a variable change notification can be skipped
+     */
+    public VariableListenerNotifiable(VariableListener variableListener, int globalOrder,
+            List<VariableDescriptor> sourceVariableDescriptorList) {
         this.variableListener = variableListener;
         this.globalOrder = globalOrder;
-        if (variableListener.requiresUniqueEntityEvents()) {
+        this.sourceVariableDescriptorList = sourceVariableDescriptorList;
+        if (variableListener.requiresUniqueEntityEvents() || variableListener instanceof BatchVariableListener) {
             notificationQueue = new SmallScalingOrderedSet<>();
         } else {
             notificationQueue = new ArrayDeque<>();
@@ -46,6 +62,20 @@ public class VariableListenerNotifiable implements Comparable<VariableListenerNo
         return globalOrder;
     }
 
+    /**
+     * @return true if a variable change notification is skipped when none of its sources changed value
+     */
+    public boolean isSkippingUnchangedSources() {
+        return sourceVariableDescriptorList != null;
+    }
+
+    /**
+     * @return null if {@link #isSkippingUnchangedSources()} is false
+     */
+    public List<VariableDescriptor> getSourceVariableDescriptorList() {
+        return sourceVariableDescriptorList;
+    }
+
     public Collection<VariableListenerNotification> getNotificationQueue() {
         return notificationQueue;
     }
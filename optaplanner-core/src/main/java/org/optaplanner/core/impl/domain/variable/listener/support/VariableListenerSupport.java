@@ -19,13 +19,18 @@ package org.optaplanner.core.impl.domain.variable.listener.support;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.variable.BatchVariableListener;
 import org.optaplanner.core.api.domain.variable.VariableListener;
 import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.common.ReflectionHelper;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
@@ -42,12 +47,23 @@ import org.optaplanner.core.impl.score.director.InnerScoreDirector;
  */
 public class VariableListenerSupport<Solution_> implements SupplyManager<Solution_> {
 
+    /**
+     * Snapshot value of a genuine variable or of a shadow variable value that isn't immutable,
+     * which always counts as changed.
+     */
+    protected static final Object UNCOMPARABLE_SOURCE_VALUE = new Object();
+
     protected final InnerScoreDirector<Solution_, ?> scoreDirector;
 
     protected final List<VariableListenerNotifiable> notifiableList;
     protected final Map<VariableDescriptor<Solution_>, List<VariableListenerNotifiable>> sourceVariableToNotifiableMap;
     protected final Map<EntityDescriptor<Solution_>, List<VariableListenerNotifiable>> sourceEntityToNotifiableMap;
     protected final Map<Demand<Solution_, ?>, Supply> supplyMap;
+    /**
+     * For every source of a {@link VariableListener#skipsUnchangedShadowSources() skipping} variable listener,
+     * the value of each changed entity before the first change since the last trigger.
+     */
+    protected final Map<VariableDescriptor<Solution_>, Map<Object, Object>> sourceValueSnapshotMap;
     protected int nextGlobalOrder = 0;
 
     protected boolean notificationQueuesAreEmpty;
@@ -58,6 +74,7 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
         sourceVariableToNotifiableMap = new LinkedHashMap<>();
         sourceEntityToNotifiableMap = new LinkedHashMap<>();
         supplyMap = new LinkedHashMap<>();
+        sourceValueSnapshotMap = new HashMap<>();
     }
 
     public void linkVariableListeners() {
@@ -82,7 +99,21 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
                     if (nextGlobalOrder <= globalOrder) {
                         nextGlobalOrder = globalOrder + 1;
                     }
-                    VariableListenerNotifiable notifiable = new VariableListenerNotifiable(variableListener, globalOrder);
+                    VariableListenerNotifiable notifiable;
+                    if (variableListener instanceof SourcedVariableListener
+                            || !variableListener.skipsUnchangedShadowSources()) {
+                        // Built-in variable listeners rely on every before and after event being paired,
+                        // so do custom ones that don't opt in to skipping.
+                        notifiable = new VariableListenerNotifiable(variableListener, globalOrder);
+                    } else {
+                        List<VariableDescriptor> sourceList =
+                                new ArrayList<>(shadowVariableDescriptor.getSourceVariableDescriptorList());
+                        for (VariableDescriptor<Solution_> source : shadowVariableDescriptor
+                                .getSourceVariableDescriptorList()) {
+                            sourceValueSnapshotMap.computeIfAbsent(source, k -> new IdentityHashMap<>());
+                        }
+                        notifiable = new VariableListenerNotifiable(variableListener, globalOrder, sourceList);
+                    }
                     for (VariableDescriptor<Solution_> source : shadowVariableDescriptor.getSourceVariableDescriptorList()) {
                         List<VariableListenerNotifiable> variableNotifiableList = sourceVariableToNotifiableMap.get(source);
                         variableNotifiableList.add(notifiable);
@@ -138,6 +169,7 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
             VariableListener<Solution_, ?> variableListener = notifiable.getVariableListener();
             variableListener.resetWorkingSolution(scoreDirector);
         }
+        clearSourceValueSnapshots();
     }
 
     public void clearWorkingSolution() {
@@ -165,6 +197,10 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
     }
 
     public void beforeVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        Map<Object, Object> sourceValueSnapshot = sourceValueSnapshotMap.get(variableDescriptor);
+        if (sourceValueSnapshot != null && !sourceValueSnapshot.containsKey(entity)) {
+            sourceValueSnapshot.put(entity, snapshotSourceValue(variableDescriptor, entity));
+        }
         List<VariableListenerNotifiable> notifiableList = sourceVariableToNotifiableMap.getOrDefault(variableDescriptor,
                 Collections.emptyList()); // Avoids null for chained swap move on an unchained var.
         for (VariableListenerNotifiable notifiable : notifiableList) {
@@ -178,6 +214,23 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
         notificationQueuesAreEmpty = false;
     }
 
+    /**
+     * Only shadow variables are compared: a genuine variable change is the reason to trigger.
+     * A value that isn't immutable (such as a collection) can change in place,
+     * so comparing it to itself later would hide that change.
+     *
+     * @param variableDescriptor never null
+     * @param entity never null
+     * @return the value to compare to after the change, {@link #UNCOMPARABLE_SOURCE_VALUE} if it can't be compared
+     */
+    private Object snapshotSourceValue(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        if (!(variableDescriptor instanceof ShadowVariableDescriptor)) {
+            return UNCOMPARABLE_SOURCE_VALUE;
+        }
+        Object value = variableDescriptor.getValue(entity);
+        return ReflectionHelper.isImmutableValue(value) ? value : UNCOMPARABLE_SOURCE_VALUE;
+    }
+
     public void afterVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
         // beforeVariableChanged() has already added it to the notificationQueue
     }
@@ -200,20 +253,42 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
     }
 
     public void triggerVariableListenersInNotificationQueues() {
+        triggerVariableListenersInNotificationQueues(true);
+    }
+
+    /**
+     * @param skipUnchangedSources false to notify every variable listener,
+     *        even if the shadow variables it depends on ended up unchanged
+     */
+    protected void triggerVariableListenersInNotificationQueues(boolean skipUnchangedSources) {
         for (VariableListenerNotifiable notifiable : notifiableList) {
             Collection<VariableListenerNotification> notificationQueue = notifiable.getNotificationQueue();
             int notifiedCount = 0;
             VariableListener<Solution_, Object> variableListener = notifiable.getVariableListener();
+            boolean batch = variableListener instanceof BatchVariableListener;
+            List<Object> changedEntityList = null;
             for (VariableListenerNotification notification : notificationQueue) {
                 Object entity = notification.getEntity();
                 switch (notification.getType()) {
                     case ENTITY_ADDED:
+                        flushChangedEntities(variableListener, changedEntityList);
                         variableListener.afterEntityAdded(scoreDirector, entity);
                         break;
                     case VARIABLE_CHANGED:
-                        variableListener.afterVariableChanged(scoreDirector, entity);
+                        if (!skipUnchangedSources || !notifiable.isSkippingUnchangedSources()
+                                || isAnySourceChanged(notifiable, entity)) {
+                            if (batch) {
+                                if (changedEntityList == null) {
+                                    changedEntityList = new ArrayList<>(notificationQueue.size());
+                                }
+                                changedEntityList.add(entity);
+                            } else {
+                                variableListener.afterVariableChanged(scoreDirector, entity);
+                            }
+                        }
                         break;
                     case ENTITY_REMOVED:
+                        flushChangedEntities(variableListener, changedEntityList);
                         variableListener.afterEntityRemoved(scoreDirector, entity);
                         break;
                     default:
@@ -222,6 +297,7 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
                 }
                 notifiedCount++;
             }
+            flushChangedEntities(variableListener, changedEntityList);
             if (notifiedCount != notificationQueue.size()) {
                 throw new IllegalStateException("The variableListener (" + variableListener.getClass()
                         + ") has been notified with notifiedCount (" + notifiedCount
@@ -231,9 +307,57 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
             }
             notificationQueue.clear();
         }
+        clearSourceValueSnapshots();
         notificationQueuesAreEmpty = true;
     }
 
+    /**
+     * Delivers the variable changes collected for a {@link BatchVariableListener} so far,
+     * so they never arrive after a later entity added or entity removed event.
+     *
+     * @param variableListener never null
+     * @param changedEntityList null if the variableListener isn't a {@link BatchVariableListener}
+     */
+    private void flushChangedEntities(VariableListener<Solution_, Object> variableListener,
+            List<Object> changedEntityList) {
+        if (changedEntityList == null || changedEntityList.isEmpty()) {
+            return;
+        }
+        ((BatchVariableListener<Solution_, Object>) variableListener)
+                .afterVariablesChanged(scoreDirector, changedEntityList);
+        changedEntityList.clear();
+    }
+
+    /**
+     * Stops the propagation through the shadow variable dependency graph
+     * if a variable listener left a shadow variable unchanged.
+     *
+     * @param notifiable never null, {@link VariableListenerNotifiable#isSkippingUnchangedSources()} is true
+     * @param entity never null
+     * @return true if at least one source of that entity changed since the last trigger
+     */
+    private boolean isAnySourceChanged(VariableListenerNotifiable notifiable, Object entity) {
+        boolean snapshotFound = false;
+        for (VariableDescriptor source : notifiable.getSourceVariableDescriptorList()) {
+            Map<Object, Object> sourceValueSnapshot = sourceValueSnapshotMap.get(source);
+            if (sourceValueSnapshot.containsKey(entity)) {
+                Object oldValue = sourceValueSnapshot.get(entity);
+                if (oldValue == UNCOMPARABLE_SOURCE_VALUE || !Objects.equals(oldValue, source.getValue(entity))) {
+                    return true;
+                }
+                snapshotFound = true;
+            }
+        }
+        // Without any snapshot, it's unknown what changed
+        return !snapshotFound;
+    }
+
+    private void clearSourceValueSnapshots() {
+        for (Map<Object, Object> sourceValueSnapshot : sourceValueSnapshotMap.values()) {
+            sourceValueSnapshot.clear();
+        }
+    }
+
     public void triggerAllVariableListeners() {
         SolutionDescriptor<Solution_> solutionDescriptor = scoreDirector.getSolutionDescriptor();
         List<Object> entityList = scoreDirector.getWorkingEntityList();
@@ -246,7 +370,8 @@ public class VariableListenerSupport<Solution_> implements SupplyManager<Solutio
                 afterVariableChanged(variableDescriptor, entity);
             }
         }
-        triggerVariableListenersInNotificationQueues();
+        // Recalculate every shadow variable, so a stale one is corrected (or detected as corrupted)
+        triggerVariableListenersInNotificationQueues(false);
     }
 
     public void assertNotificationQueuesAreEmpty() {
@@ -26,6 +26,7 @@ import org.optaplanner.core.api.domain.valuerange.ValueRange;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.domain.valuerange.descriptor.ValueRangeDescriptor;
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableSupply;
+import org.optaplanner.core.impl.domain.variable.anchor.ChainIndexSupply;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
 import org.optaplanner.core.impl.heuristic.move.AbstractMove;
@@ -58,6 +59,25 @@ public class TailChainSwapMove<Solution_> extends AbstractMove<Solution_> {
     public TailChainSwapMove(GenuineVariableDescriptor<Solution_> variableDescriptor,
             SingletonInverseVariableSupply inverseVariableSupply, AnchorVariableSupply anchorVariableSupply,
             Object leftEntity, Object rightValue) {
+        this(variableDescriptor, inverseVariableSupply, anchorVariableSupply, null, leftEntity, rightValue);
+    }
+
+    /**
+     * Faster than {@link #TailChainSwapMove(GenuineVariableDescriptor, SingletonInverseVariableSupply,
+     * AnchorVariableSupply, Object, Object)} on long chains,
+     * because it doesn't walk the chain to find out if the rightValue is before the leftEntity.
+     * The chainIndexSupply must be demanded explicitly: {@link TailChainSwapMoveSelector} doesn't use it,
+     * because it costs a logarithmic update on every chain change of every move, even the ones that are undone.
+     */
+    public TailChainSwapMove(GenuineVariableDescriptor<Solution_> variableDescriptor,
+            SingletonInverseVariableSupply inverseVariableSupply, ChainIndexSupply chainIndexSupply,
+            Object leftEntity, Object rightValue) {
+        this(variableDescriptor, inverseVariableSupply, chainIndexSupply, chainIndexSupply, leftEntity, rightValue);
+    }
+
+    private TailChainSwapMove(GenuineVariableDescriptor<Solution_> variableDescriptor,
+            SingletonInverseVariableSupply inverseVariableSupply, AnchorVariableSupply anchorVariableSupply,
+            ChainIndexSupply chainIndexSupply, Object leftEntity, Object rightValue) {
         this.variableDescriptor = variableDescriptor;
         this.leftEntity = leftEntity;
         leftValue = variableDescriptor.getValue(leftEntity);
@@ -76,7 +96,9 @@ public class TailChainSwapMove<Solution_> extends AbstractMove<Solution_> {
         } else {
             leftNextEntity = inverseVariableSupply.getInverseSingleton(leftEntity);
             rightNextEntity = rightEntity == null ? null : inverseVariableSupply.getInverseSingleton(rightEntity);
-            Object lastEntityInChainOrLeftEntity = findLastEntityInChainOrLeftEntity(inverseVariableSupply);
+            Object lastEntityInChainOrLeftEntity = chainIndexSupply != null
+                    && isRightValueBeforeLeftEntity(chainIndexSupply) ? leftEntity
+                            : findLastEntityInChainOrLeftEntity(inverseVariableSupply);
             reverseAnchorSide = lastEntityInChainOrLeftEntity != leftEntity;
             if (reverseAnchorSide) {
                 lastEntityInChain = lastEntityInChainOrLeftEntity;
@@ -147,6 +169,10 @@ public class TailChainSwapMove<Solution_> extends AbstractMove<Solution_> {
         this.entityAfterAnchor = entityAfterAnchor;
     }
 
+    private boolean isRightValueBeforeLeftEntity(ChainIndexSupply chainIndexSupply) {
+        return chainIndexSupply.getIndexInChain(rightValue) < chainIndexSupply.getIndexInChain(leftEntity);
+    }
+
     private Object findLastEntityInChainOrLeftEntity(SingletonInverseVariableSupply inverseVariableSupply) {
         Object entity = rightValue;
         while (entity != leftEntity) {
@@ -174,7 +174,7 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
             InnerScoreDirector<Solution_, ?> scoreDirector = stepScope.getScoreDirector();
             ScoreDefinition<?> scoreDefinition = solverScope.getScoreDefinition();
             if (scoreDirector.isConstraintMatchEnabled()) {
-                for (ConstraintMatchTotal<?> constraintMatchTotal : scoreDirector.getConstraintMatchTotalMap()
+                for (ConstraintMatchTotal<?> constraintMatchTotal : scoreDirector.getConstraintMatchTotalSummaryMap()
                         .values()) {
                     Tags tags = solverScope.getMonitoringTags().and(
                             "constraint.package", constraintMatchTotal.getConstraintPackage(),
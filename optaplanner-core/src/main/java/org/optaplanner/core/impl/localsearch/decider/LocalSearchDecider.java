@@ -16,6 +16,8 @@
 
 package org.optaplanner.core.impl.localsearch.decider;
 
+import java.util.function.Consumer;
+
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.heuristic.move.Move;
@@ -25,6 +27,7 @@ import org.optaplanner.core.impl.localsearch.decider.forager.LocalSearchForager;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.ScoreUtils;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.solver.termination.Termination;
@@ -105,6 +108,8 @@ public class LocalSearchDecider<Solution_> {
     public void decideNextStep(LocalSearchStepScope<Solution_> stepScope) {
         InnerScoreDirector<Solution_, ?> scoreDirector = stepScope.getScoreDirector();
         scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(true);
+        // A move score calculation can stop early if the acceptor will reject it anyway
+        Score acceptanceThreshold = assertMoveScoreFromScratch ? null : acceptor.getAcceptanceThreshold(stepScope);
         int moveIndex = 0;
         for (Move<Solution_> move : moveSelector) {
             LocalSearchMoveScope<Solution_> moveScope = new LocalSearchMoveScope<>(stepScope, moveIndex, move);
@@ -114,7 +119,7 @@ public class LocalSearchDecider<Solution_> {
                 logger.trace("{}        Move index ({}) not doable, ignoring move ({}).",
                         logIndentation, moveScope.getMoveIndex(), move);
             } else {
-                doMove(moveScope);
+                doMove(moveScope, acceptanceThreshold);
                 if (forager.isQuitEarly()) {
                     break;
                 }
@@ -124,18 +129,49 @@ public class LocalSearchDecider<Solution_> {
                 break;
             }
         }
-        scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(false);
+        if (acceptanceThreshold != null) {
+            // All moves are undone, so refresh what their bounded score calculations left behind
+            scoreDirector.flushBoundedScoreCalculations();
+        }
         pickMove(stepScope);
+        if (acceptanceThreshold != null && stepScope.getStep() != null) {
+            int hardLevelsSize = scoreDirector.getScoreDefinition().getFeasibleLevelsSize();
+            if (ScoreUtils.compareHardLevels(stepScope.getScore(), acceptanceThreshold, hardLevelsSize) < 0) {
+                // No move was accepted and the step score comes from a bounded score calculation
+                scoreDirector.doAndProcessMove(stepScope.getStep(), false, stepScope::setScore);
+            }
+        }
+        scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(false);
     }
 
     protected <Score_ extends Score<Score_>> void doMove(LocalSearchMoveScope<Solution_> moveScope) {
+        doMove(moveScope, null);
+    }
+
+    /**
+     * @param moveScope never null
+     * @param acceptanceThreshold null if the move score must be calculated fully,
+     *        otherwise its calculation can stop early if it's worse than this
+     * @param <Score_> the score type
+     */
+    protected <Score_ extends Score<Score_>> void doMove(LocalSearchMoveScope<Solution_> moveScope,
+            Score_ acceptanceThreshold) {
         InnerScoreDirector<Solution_, Score_> scoreDirector = moveScope.getScoreDirector();
-        scoreDirector.doAndProcessMove(moveScope.getMove(), assertMoveScoreFromScratch, score -> {
+        int hardLevelsSize = scoreDirector.getScoreDefinition().getFeasibleLevelsSize();
+        Consumer<Score_> moveProcessor = score -> {
             moveScope.setScore(score);
+            // The soft levels of a score worse than the threshold on the hard levels might not be calculated
+            moveScope.setScorePartial(acceptanceThreshold != null
+                    && ScoreUtils.compareHardLevels(score, acceptanceThreshold, hardLevelsSize) < 0);
             boolean accepted = acceptor.isAccepted(moveScope);
             moveScope.setAccepted(accepted);
             forager.addMove(moveScope);
-        });
+        };
+        if (acceptanceThreshold == null) {
+            scoreDirector.doAndProcessMove(moveScope.getMove(), assertMoveScoreFromScratch, moveProcessor);
+        } else {
+            scoreDirector.doAndProcessMove(moveScope.getMove(), acceptanceThreshold, moveProcessor);
+        }
         if (assertExpectedUndoMoveScore) {
             scoreDirector.assertExpectedUndoMoveScore(moveScope.getMove(),
                     (Score_) moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore());
@@ -16,10 +16,12 @@
 
 package org.optaplanner.core.impl.localsearch.decider.acceptor;
 
+import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.localsearch.decider.forager.LocalSearchForager;
 import org.optaplanner.core.impl.localsearch.event.LocalSearchPhaseLifecycleListener;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 
 /**
  * An Acceptor accepts or rejects a selected {@link Move}.
@@ -35,4 +37,15 @@ public interface Acceptor<Solution_> extends LocalSearchPhaseLifecycleListener<S
      */
     boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope);
 
+    /**
+     * Allows the score calculation of a move to stop early, as soon as it's known to be worse than this threshold.
+     *
+     * @param stepScope never null
+     * @return null if a move can be accepted regardless of its score,
+     *         otherwise {@link #isAccepted(LocalSearchMoveScope)} rejects every move with a score worse than this
+     */
+    default Score getAcceptanceThreshold(LocalSearchStepScope<Solution_> stepScope) {
+        return null;
+    }
+
 }
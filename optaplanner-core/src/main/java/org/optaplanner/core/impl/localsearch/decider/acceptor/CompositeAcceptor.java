@@ -19,6 +19,7 @@ package org.optaplanner.core.impl.localsearch.decider.acceptor;
 import java.util.Arrays;
 import java.util.List;
 
+import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
@@ -77,6 +78,19 @@ public class CompositeAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
         return true;
     }
 
+    @Override
+    public Score getAcceptanceThreshold(LocalSearchStepScope<Solution_> stepScope) {
+        // Every acceptor must accept, so the highest threshold applies
+        Score acceptanceThreshold = null;
+        for (Acceptor<Solution_> acceptor : acceptorList) {
+            Score threshold = acceptor.getAcceptanceThreshold(stepScope);
+            if (threshold != null && (acceptanceThreshold == null || threshold.compareTo(acceptanceThreshold) > 0)) {
+                acceptanceThreshold = threshold;
+            }
+        }
+        return acceptanceThreshold;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         for (Acceptor<Solution_> acceptor : acceptorList) {
@@ -91,6 +91,12 @@ public class GreatDelugeAcceptor<Solution_> extends AbstractAcceptor<Solution_>
         return false;
     }
 
+    @Override
+    public Score getAcceptanceThreshold(LocalSearchStepScope<Solution_> stepScope) {
+        Score lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        return lastStepScore.compareTo(currentWaterLevel) < 0 ? lastStepScore : currentWaterLevel;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
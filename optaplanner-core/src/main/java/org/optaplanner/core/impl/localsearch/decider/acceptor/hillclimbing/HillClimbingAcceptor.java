@@ -19,6 +19,7 @@ package org.optaplanner.core.impl.localsearch.decider.acceptor.hillclimbing;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 
 public class HillClimbingAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
 
@@ -33,4 +34,9 @@ public class HillClimbingAcceptor<Solution_> extends AbstractAcceptor<Solution_>
         return moveScore.compareTo(lastStepScore) >= 0;
     }
 
+    @Override
+    public Score getAcceptanceThreshold(LocalSearchStepScope<Solution_> stepScope) {
+        return stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+    }
+
 }
@@ -77,6 +77,18 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
         return false;
     }
 
+    @Override
+    public Score getAcceptanceThreshold(LocalSearchStepScope<Solution_> stepScope) {
+        Score lateScore = previousScores[lateScoreIndex];
+        if (hillClimbingEnabled) {
+            Score lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+            if (lastStepScore.compareTo(lateScore) < 0) {
+                return lastStepScore;
+            }
+        }
+        return lateScore;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
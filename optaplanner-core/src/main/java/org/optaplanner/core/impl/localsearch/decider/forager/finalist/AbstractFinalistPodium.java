@@ -19,10 +19,12 @@ package org.optaplanner.core.impl.localsearch.decider.forager.finalist;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.localsearch.event.LocalSearchPhaseLifecycleListenerAdapter;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.ScoreUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,12 +42,16 @@ public abstract class AbstractFinalistPodium<Solution_> extends LocalSearchPhase
 
     protected boolean finalistIsAccepted;
     protected List<LocalSearchMoveScope<Solution_>> finalistList;
+    protected Score partialScoreFinalistScore;
+    protected List<LocalSearchMoveScope<Solution_>> partialScoreFinalistList;
 
     @Override
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
         super.stepStarted(stepScope);
         finalistIsAccepted = false;
         finalistList = new ArrayList<>(1024);
+        partialScoreFinalistScore = null;
+        partialScoreFinalistList = null;
     }
 
     protected void clearAndAddFinalist(LocalSearchMoveScope<Solution_> moveScope) {
@@ -61,8 +67,37 @@ public abstract class AbstractFinalistPodium<Solution_> extends LocalSearchPhase
         finalistList.add(moveScope);
     }
 
+    /**
+     * A move with a {@link LocalSearchMoveScope#isScorePartial() partial score} is rejected
+     * and worse on the hard levels than every move without one, so it's only a finalist if no such move is.
+     * Its soft levels aren't reliable, so only its init score and hard levels are compared.
+     *
+     * @param moveScope never null, {@link LocalSearchMoveScope#isScorePartial()} is true
+     */
+    protected void addPartialScoreMove(LocalSearchMoveScope<Solution_> moveScope) {
+        Score moveScore = moveScope.getScore();
+        if (partialScoreFinalistScore == null) {
+            partialScoreFinalistScore = moveScore;
+            partialScoreFinalistList = new ArrayList<>();
+            partialScoreFinalistList.add(moveScope);
+            return;
+        }
+        int hardLevelsSize = moveScope.getScoreDirector().getScoreDefinition().getFeasibleLevelsSize();
+        int comparison = ScoreUtils.compareHardLevels(moveScore, partialScoreFinalistScore, hardLevelsSize);
+        if (comparison > 0) {
+            partialScoreFinalistScore = moveScore;
+            partialScoreFinalistList.clear();
+            partialScoreFinalistList.add(moveScope);
+        } else if (comparison == 0 && partialScoreFinalistList.size() < FINALIST_LIST_MAX_SIZE) {
+            partialScoreFinalistList.add(moveScope);
+        }
+    }
+
     @Override
     public List<LocalSearchMoveScope<Solution_>> getFinalistList() {
+        if (finalistList.isEmpty() && partialScoreFinalistList != null) {
+            return partialScoreFinalistList;
+        }
         return finalistList;
     }
 
@@ -71,6 +106,8 @@ public abstract class AbstractFinalistPodium<Solution_> extends LocalSearchPhase
         super.phaseEnded(phaseScope);
         finalistIsAccepted = false;
         finalistList = null;
+        partialScoreFinalistScore = null;
+        partialScoreFinalistList = null;
     }
 
 }
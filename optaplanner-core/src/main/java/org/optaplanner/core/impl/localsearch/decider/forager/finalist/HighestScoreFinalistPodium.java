@@ -38,6 +38,10 @@ public class HighestScoreFinalistPodium<Solution_> extends AbstractFinalistPodiu
 
     @Override
     public void addMove(LocalSearchMoveScope<Solution_> moveScope) {
+        if (moveScope.isScorePartial()) {
+            addPartialScoreMove(moveScope);
+            return;
+        }
         boolean accepted = moveScope.getAccepted();
         if (finalistIsAccepted && !accepted) {
             return;
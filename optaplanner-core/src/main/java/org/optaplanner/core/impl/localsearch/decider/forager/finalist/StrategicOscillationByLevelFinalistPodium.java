@@ -57,6 +57,10 @@ public class StrategicOscillationByLevelFinalistPodium<Solution_> extends Abstra
 
     @Override
     public void addMove(LocalSearchMoveScope<Solution_> moveScope) {
+        if (moveScope.isScorePartial()) {
+            addPartialScoreMove(moveScope);
+            return;
+        }
         boolean accepted = moveScope.getAccepted();
         if (finalistIsAccepted && !accepted) {
             return;
@@ -28,6 +28,7 @@ public class LocalSearchMoveScope<Solution_> extends AbstractMoveScope<Solution_
     private final LocalSearchStepScope<Solution_> stepScope;
 
     private Boolean accepted = null;
+    private boolean scorePartial = false;
 
     public LocalSearchMoveScope(LocalSearchStepScope<Solution_> stepScope, int moveIndex, Move<Solution_> move) {
         super(moveIndex, move);
@@ -47,6 +48,19 @@ public class LocalSearchMoveScope<Solution_> extends AbstractMoveScope<Solution_
         this.accepted = accepted;
     }
 
+    /**
+     * @return true if only the init score and the hard levels of {@link #getScore()} are reliable,
+     *         because it comes from a bounded score calculation that stopped early.
+     *         Such a move is always rejected.
+     */
+    public boolean isScorePartial() {
+        return scorePartial;
+    }
+
+    public void setScorePartial(boolean scorePartial) {
+        this.scorePartial = scorePartial;
+    }
+
     // ************************************************************************
     // Calculated methods
     // ************************************************************************
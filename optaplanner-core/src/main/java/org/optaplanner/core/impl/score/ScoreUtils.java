@@ -71,6 +71,32 @@ public class ScoreUtils {
         }
     }
 
+    /**
+     * Compares the init score and the hard levels only, ignoring the soft levels.
+     * If this returns a negative number, {@code score.compareTo(otherScore)} does too, regardless of the soft levels.
+     *
+     * @param score never null
+     * @param otherScore never null, of the same type as score
+     * @param hardLevelsSize {@code >= 0}, see {@link ScoreDefinition#getFeasibleLevelsSize()}
+     * @return negative if score is worse than otherScore on the init score or the hard levels,
+     *         0 if they're equal on those, positive otherwise
+     */
+    public static int compareHardLevels(Score score, Score otherScore, int hardLevelsSize) {
+        int initScoreComparison = Integer.compare(score.getInitScore(), otherScore.getInitScore());
+        if (initScoreComparison != 0) {
+            return initScoreComparison;
+        }
+        Number[] levelNumbers = score.toLevelNumbers();
+        Number[] otherLevelNumbers = otherScore.toLevelNumbers();
+        for (int i = 0; i < hardLevelsSize; i++) {
+            int levelComparison = ((Comparable) levelNumbers[i]).compareTo(otherLevelNumbers[i]);
+            if (levelComparison != 0) {
+                return levelComparison;
+            }
+        }
+        return 0;
+    }
+
     public static double[] extractLevelDoubles(Score score) {
         Number[] levelNumbers = score.toLevelNumbers();
         double[] levelDoubles = new double[levelNumbers.length];
@@ -17,7 +17,6 @@
 package org.optaplanner.core.impl.score.buildin.bendable;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -39,31 +38,29 @@ public final class BendableScoreHolderImpl extends AbstractScoreHolder<BendableS
     /** Slower than {@link #matchExecutorByNumberMap} */
     protected final Map<Rule, ScoreMatchExecutor<BendableScore>> matchExecutorByScoreMap = new LinkedHashMap<>();
 
-    private int[] hardScores;
-    private int[] softScores;
+    private final BendableScoreAccumulator accumulator;
 
     public BendableScoreHolderImpl(boolean constraintMatchEnabled, int hardLevelsSize, int softLevelsSize) {
         super(constraintMatchEnabled);
-        hardScores = new int[hardLevelsSize];
-        softScores = new int[softLevelsSize];
+        accumulator = new BendableScoreAccumulator(hardLevelsSize, softLevelsSize);
     }
 
     @Override
     public int getHardLevelsSize() {
-        return hardScores.length;
+        return accumulator.getHardLevelsSize();
     }
 
     public int getHardScore(int hardLevel) {
-        return hardScores[hardLevel];
+        return accumulator.getHardScore(hardLevel);
     }
 
     @Override
     public int getSoftLevelsSize() {
-        return softScores.length;
+        return accumulator.getSoftLevelsSize();
     }
 
     public int getSoftScore(int softLevel) {
-        return softScores[softLevel];
+        return accumulator.getSoftScore(softLevel);
     }
 
     // ************************************************************************
@@ -74,7 +71,7 @@ public final class BendableScoreHolderImpl extends AbstractScoreHolder<BendableS
     public void configureConstraintWeight(Rule rule, BendableScore constraintWeight) {
         super.configureConstraintWeight(rule, constraintWeight);
         IntMatchExecutor matchExecutor;
-        if (constraintWeight.equals(BendableScore.zero(hardScores.length, softScores.length))) {
+        if (constraintWeight.equals(BendableScore.zero(getHardLevelsSize(), getSoftLevelsSize()))) {
             matchExecutor = (RuleContext kcontext, int matchWeight) -> {
             };
         } else {
@@ -104,23 +101,16 @@ public final class BendableScoreHolderImpl extends AbstractScoreHolder<BendableS
                             kcontext, level, levelWeight * matchWeight);
                 }
             } else {
-                matchExecutor = (RuleContext kcontext, int matchWeight) -> {
-                    int[] hardWeights = new int[hardScores.length];
-                    int[] softWeights = new int[softScores.length];
-                    for (int i = 0; i < hardWeights.length; i++) {
-                        hardWeights[i] = constraintWeight.getHardScore(i) * matchWeight;
-                    }
-                    for (int i = 0; i < softWeights.length; i++) {
-                        softWeights[i] = constraintWeight.getSoftScore(i) * matchWeight;
-                    }
-                    addMultiConstraintMatch(kcontext, hardWeights, softWeights);
-                };
+                int[] hardWeights = constraintWeight.getHardScores();
+                int[] softWeights = constraintWeight.getSoftScores();
+                matchExecutor = (RuleContext kcontext, int matchWeight) -> addMultipliedConstraintMatch(
+                        kcontext, hardWeights, softWeights, matchWeight);
             }
         }
         matchExecutorByNumberMap.put(rule, matchExecutor);
         matchExecutorByScoreMap.put(rule, (RuleContext kcontext, BendableScore weightMultiplier) -> {
-            int[] hardWeights = new int[hardScores.length];
-            int[] softWeights = new int[softScores.length];
+            int[] hardWeights = new int[getHardLevelsSize()];
+            int[] softWeights = new int[getSoftLevelsSize()];
             for (int i = 0; i < hardWeights.length; i++) {
                 hardWeights[i] = constraintWeight.getHardScore(i) * weightMultiplier.getHardScore(i);
             }
@@ -147,8 +137,8 @@ public final class BendableScoreHolderImpl extends AbstractScoreHolder<BendableS
 
     @Override
     public void penalize(RuleContext kcontext, int[] hardWeightsMultiplier, int[] softWeightsMultiplier) {
-        int[] negatedHardWeightsMultiplier = new int[hardScores.length];
-        int[] negatedSoftWeightsMultiplier = new int[softScores.length];
+        int[] negatedHardWeightsMultiplier = new int[getHardLevelsSize()];
+        int[] negatedSoftWeightsMultiplier = new int[getSoftLevelsSize()];
         for (int i = 0; i < negatedHardWeightsMultiplier.length; i++) {
             negatedHardWeightsMultiplier[i] = -hardWeightsMultiplier[i];
         }
@@ -223,17 +213,17 @@ public final class BendableScoreHolderImpl extends AbstractScoreHolder<BendableS
 
     @Override
     public void addHardConstraintMatch(RuleContext kcontext, int hardLevel, int weight) {
-        if (hardLevel >= hardScores.length) {
+        if (hardLevel >= getHardLevelsSize()) {
             throw new IllegalArgumentException("The hardLevel (" + hardLevel
-                    + ") isn't lower than the hardScores length (" + hardScores.length
+                    + ") isn't lower than the hardScores length (" + getHardLevelsSize()
                     + ") defined by the @" + PlanningScore.class.getSimpleName() + " on the planning solution class.");
         }
-        hardScores[hardLevel] += weight;
+        accumulator.addHard(hardLevel, weight);
         registerConstraintMatch(kcontext,
-                () -> hardScores[hardLevel] -= weight,
+                () -> accumulator.addHard(hardLevel, -weight),
                 () -> {
-                    int[] newHardScores = new int[hardScores.length];
-                    int[] newSoftScores = new int[softScores.length];
+                    int[] newHardScores = new int[getHardLevelsSize()];
+                    int[] newSoftScores = new int[getSoftLevelsSize()];
                     newHardScores[hardLevel] = weight;
                     return BendableScore.of(newHardScores, newSoftScores);
                 });
@@ -241,17 +231,17 @@ public final class BendableScoreHolderImpl extends AbstractScoreHolder<BendableS
 
     @Override
     public void addSoftConstraintMatch(RuleContext kcontext, int softLevel, int weight) {
-        if (softLevel >= softScores.length) {
+        if (softLevel >= getSoftLevelsSize()) {
             throw new IllegalArgumentException("The softLevel (" + softLevel
-                    + ") isn't lower than the softScores length (" + softScores.length
+                    + ") isn't lower than the softScores length (" + getSoftLevelsSize()
                     + ") defined by the @" + PlanningScore.class.getSimpleName() + " on the planning solution class.");
         }
-        softScores[softLevel] += weight;
+        accumulator.addSoft(softLevel, weight);
         registerConstraintMatch(kcontext,
-                () -> softScores[softLevel] -= weight,
+                () -> accumulator.addSoft(softLevel, -weight),
                 () -> {
-                    int[] newHardScores = new int[hardScores.length];
-                    int[] newSoftScores = new int[softScores.length];
+                    int[] newHardScores = new int[getHardLevelsSize()];
+                    int[] newSoftScores = new int[getSoftLevelsSize()];
                     newSoftScores[softLevel] = weight;
                     return BendableScore.of(newHardScores, newSoftScores);
                 });
@@ -259,39 +249,44 @@ public final class BendableScoreHolderImpl extends AbstractScoreHolder<BendableS
 
     @Override
     public void addMultiConstraintMatch(RuleContext kcontext, int[] hardWeights, int[] softWeights) {
-        if (hardWeights.length != hardScores.length) {
+        if (hardWeights.length != getHardLevelsSize()) {
             throw new IllegalArgumentException("The hardWeights length (" + hardWeights.length
-                    + ") is different than the hardScores length (" + hardScores.length
+                    + ") is different than the hardScores length (" + getHardLevelsSize()
                     + ") defined by the @" + PlanningScore.class.getSimpleName() + " on the planning solution class.");
         }
-        for (int i = 0; i < hardScores.length; i++) {
-            hardScores[i] += hardWeights[i];
-        }
-        if (softWeights.length != softScores.length) {
+        if (softWeights.length != getSoftLevelsSize()) {
             throw new IllegalArgumentException("The softWeights length (" + softWeights.length
-                    + ") is different than the softScores length (" + softScores.length
+                    + ") is different than the softScores length (" + getSoftLevelsSize()
                     + ") defined by the @" + PlanningScore.class.getSimpleName() + " on the planning solution class.");
         }
-        for (int i = 0; i < softScores.length; i++) {
-            softScores[i] += softWeights[i];
-        }
+        accumulator.add(hardWeights, softWeights);
+        registerConstraintMatch(kcontext,
+                () -> accumulator.subtract(hardWeights, softWeights),
+                () -> BendableScore.of(hardWeights, softWeights));
+    }
+
+    private void addMultipliedConstraintMatch(RuleContext kcontext, int[] hardWeights, int[] softWeights,
+            int matchWeight) {
+        // Unlike addMultiConstraintMatch(), this doesn't create the multiplied level arrays unless they are needed
+        accumulator.addMultiplied(hardWeights, softWeights, matchWeight);
         registerConstraintMatch(kcontext,
+                () -> accumulator.addMultiplied(hardWeights, softWeights, -matchWeight),
                 () -> {
-                    for (int i = 0; i < hardScores.length; i++) {
-                        hardScores[i] -= hardWeights[i];
+                    int[] hardImpacts = new int[hardWeights.length];
+                    int[] softImpacts = new int[softWeights.length];
+                    for (int i = 0; i < hardImpacts.length; i++) {
+                        hardImpacts[i] = hardWeights[i] * matchWeight;
                     }
-                    for (int i = 0; i < softScores.length; i++) {
-                        softScores[i] -= softWeights[i];
+                    for (int i = 0; i < softImpacts.length; i++) {
+                        softImpacts[i] = softWeights[i] * matchWeight;
                     }
-                },
-                () -> BendableScore.of(hardWeights, softWeights));
+                    return BendableScore.of(hardImpacts, softImpacts);
+                });
     }
 
     @Override
     public BendableScore extractScore(int initScore) {
-        return BendableScore.ofUninitialized(initScore,
-                Arrays.copyOf(hardScores, hardScores.length),
-                Arrays.copyOf(softScores, softScores.length));
+        return accumulator.extractScore(initScore);
     }
 
 }
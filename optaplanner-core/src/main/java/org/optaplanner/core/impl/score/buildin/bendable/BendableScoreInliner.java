@@ -16,26 +16,21 @@
 
 package org.optaplanner.core.impl.score.buildin.bendable;
 
-import java.util.Arrays;
 import java.util.Map;
 
 import org.optaplanner.core.api.score.buildin.bendable.BendableScore;
 import org.optaplanner.core.api.score.stream.Constraint;
-import org.optaplanner.core.impl.score.inliner.JustificationsSupplier;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 
 public final class BendableScoreInliner extends ScoreInliner<BendableScore> {
 
-    private final int[] hardScores;
-    private final int[] softScores;
+    private final BendableScoreAccumulator accumulator;
 
     public BendableScoreInliner(Map<Constraint, BendableScore> constraintToWeightMap, boolean constraintMatchEnabled,
             int hardLevelsSize, int softLevelsSize) {
         super(constraintToWeightMap, constraintMatchEnabled);
-        hardScores = new int[hardLevelsSize];
-        softScores = new int[softLevelsSize];
+        accumulator = new BendableScoreAccumulator(hardLevelsSize, softLevelsSize);
     }
 
     @Override
@@ -55,77 +50,46 @@ public final class BendableScoreInliner extends ScoreInliner<BendableScore> {
             int levelWeight = constraintWeight.getHardOrSoftScore(singleLevel);
             if (singleLevel < constraintWeight.getHardLevelsSize()) {
                 int level = singleLevel;
-                return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                    int hardImpact = levelWeight * matchWeight;
-                    this.hardScores[level] += hardImpact;
-                    UndoScoreImpacter undoScoreImpact = () -> this.hardScores[level] -= hardImpact;
-                    if (!constraintMatchEnabled) {
-                        return undoScoreImpact;
-                    }
-                    Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                            BendableScore.ofHard(hardScores.length, softScores.length, level, hardImpact),
-                            justificationsSupplier.get());
-                    return () -> {
-                        undoScoreImpact.run();
-                        undoConstraintMatch.run();
-                    };
-                });
+                return buildIntImpacter(constraint, constraintWeight,
+                        matchWeight -> accumulator.addHard(level, levelWeight * matchWeight),
+                        matchWeight -> BendableScore.ofHard(constraintWeight.getHardLevelsSize(),
+                                constraintWeight.getSoftLevelsSize(), level,
+                                levelWeight * matchWeight));
             } else {
                 int level = singleLevel - constraintWeight.getHardLevelsSize();
-                return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                    int softImpact = levelWeight * matchWeight;
-                    this.softScores[level] += softImpact;
-                    UndoScoreImpacter undoScoreImpact = () -> this.softScores[level] -= softImpact;
-                    if (!constraintMatchEnabled) {
-                        return undoScoreImpact;
-                    }
-                    Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                            BendableScore.ofSoft(hardScores.length, softScores.length, level, softImpact),
-                            justificationsSupplier.get());
-                    return () -> {
-                        undoScoreImpact.run();
-                        undoConstraintMatch.run();
-                    };
-                });
+                return buildIntImpacter(constraint, constraintWeight,
+                        matchWeight -> accumulator.addSoft(level, levelWeight * matchWeight),
+                        matchWeight -> BendableScore.ofSoft(constraintWeight.getHardLevelsSize(),
+                                constraintWeight.getSoftLevelsSize(), level,
+                                levelWeight * matchWeight));
             }
         } else {
-            return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                int[] hardImpacts = new int[hardScores.length];
-                int[] softImpacts = new int[softScores.length];
-                for (int i = 0; i < hardImpacts.length; i++) {
-                    hardImpacts[i] = constraintWeight.getHardScore(i) * matchWeight;
-                    this.hardScores[i] += hardImpacts[i];
-                }
-                for (int i = 0; i < softImpacts.length; i++) {
-                    softImpacts[i] = constraintWeight.getSoftScore(i) * matchWeight;
-                    this.softScores[i] += softImpacts[i];
-                }
-                UndoScoreImpacter undoScoreImpact = () -> {
-                    for (int i = 0; i < hardImpacts.length; i++) {
-                        this.hardScores[i] -= hardImpacts[i];
-                    }
-                    for (int i = 0; i < softImpacts.length; i++) {
-                        this.softScores[i] -= softImpacts[i];
-                    }
-                };
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
-                Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        BendableScore.of(hardImpacts, softImpacts), justificationsSupplier.get());
-                return () -> {
-                    undoScoreImpact.run();
-                    undoConstraintMatch.run();
-                };
-            });
+            int[] hardWeights = constraintWeight.getHardScores();
+            int[] softWeights = constraintWeight.getSoftScores();
+            return buildIntImpacter(constraint, constraintWeight,
+                    matchWeight -> accumulator.addMultiplied(hardWeights, softWeights, matchWeight),
+                    matchWeight -> {
+                        int[] hardImpacts = new int[hardWeights.length];
+                        int[] softImpacts = new int[softWeights.length];
+                        for (int i = 0; i < hardImpacts.length; i++) {
+                            hardImpacts[i] = hardWeights[i] * matchWeight;
+                        }
+                        for (int i = 0; i < softImpacts.length; i++) {
+                            softImpacts[i] = softWeights[i] * matchWeight;
+                        }
+                        return BendableScore.of(hardImpacts, softImpacts);
+                    });
         }
     }
 
     @Override
     public BendableScore extractScore(int initScore) {
-        return BendableScore.ofUninitialized(initScore,
-                Arrays.copyOf(hardScores, hardScores.length),
-                Arrays.copyOf(softScores, softScores.length));
+        return accumulator.extractScore(initScore);
+    }
+
+    @Override
+    public int compareHardLevels(int initScore, BendableScore otherScore, int hardLevelsSize) {
+        return accumulator.compareHardLevelsTo(initScore, otherScore, hardLevelsSize);
     }
 
     @Override
@@ -22,9 +22,7 @@ import java.util.Map;
 
 import org.optaplanner.core.api.score.buildin.bendablebigdecimal.BendableBigDecimalScore;
 import org.optaplanner.core.api.score.stream.Constraint;
-import org.optaplanner.core.impl.score.inliner.JustificationsSupplier;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 
 public final class BendableBigDecimalScoreInliner extends ScoreInliner<BendableBigDecimalScore> {
@@ -58,74 +56,37 @@ public final class BendableBigDecimalScoreInliner extends ScoreInliner<BendableB
             BigDecimal levelWeight = constraintWeight.getHardOrSoftScore(singleLevel);
             if (singleLevel < constraintWeight.getHardLevelsSize()) {
                 int level = singleLevel;
-                return WeightedScoreImpacter.of(
-                        (BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                            BigDecimal hardImpact = levelWeight.multiply(matchWeight);
-                            this.hardScores[level] = this.hardScores[level].add(hardImpact);
-                            UndoScoreImpacter undoScoreImpact =
-                                    () -> this.hardScores[level] = this.hardScores[level].subtract(hardImpact);
-                            if (!constraintMatchEnabled) {
-                                return undoScoreImpact;
-                            }
-                            Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                                    BendableBigDecimalScore.ofHard(hardScores.length, softScores.length, level, hardImpact),
-                                    justificationsSupplier.get());
-                            return () -> {
-                                undoScoreImpact.run();
-                                undoConstraintMatch.run();
-                            };
-                        });
+                return buildBigDecimalImpacter(constraint, constraintWeight,
+                        matchWeight -> this.hardScores[level] = this.hardScores[level].add(levelWeight.multiply(matchWeight)),
+                        matchWeight -> BendableBigDecimalScore.ofHard(hardScores.length, softScores.length, level,
+                                levelWeight.multiply(matchWeight)));
             } else {
                 int level = singleLevel - constraintWeight.getHardLevelsSize();
-                return WeightedScoreImpacter.of(
-                        (BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                            BigDecimal softImpact = levelWeight.multiply(matchWeight);
-                            this.softScores[level] = this.softScores[level].add(softImpact);
-                            UndoScoreImpacter undoScoreImpact =
-                                    () -> this.softScores[level] = this.softScores[level].subtract(softImpact);
-                            if (!constraintMatchEnabled) {
-                                return undoScoreImpact;
-                            }
-                            Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                                    BendableBigDecimalScore.ofSoft(hardScores.length, softScores.length, level, softImpact),
-                                    justificationsSupplier.get());
-                            return () -> {
-                                undoScoreImpact.run();
-                                undoConstraintMatch.run();
-                            };
-                        });
+                return buildBigDecimalImpacter(constraint, constraintWeight,
+                        matchWeight -> this.softScores[level] = this.softScores[level].add(levelWeight.multiply(matchWeight)),
+                        matchWeight -> BendableBigDecimalScore.ofSoft(hardScores.length, softScores.length, level,
+                                levelWeight.multiply(matchWeight)));
             }
         } else {
-            return WeightedScoreImpacter.of(
-                    (BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) -> {
+            return buildBigDecimalImpacter(constraint, constraintWeight,
+                    matchWeight -> {
+                        for (int i = 0; i < hardScores.length; i++) {
+                            this.hardScores[i] = this.hardScores[i].add(constraintWeight.getHardScore(i).multiply(matchWeight));
+                        }
+                        for (int i = 0; i < softScores.length; i++) {
+                            this.softScores[i] = this.softScores[i].add(constraintWeight.getSoftScore(i).multiply(matchWeight));
+                        }
+                    },
+                    matchWeight -> {
                         BigDecimal[] hardImpacts = new BigDecimal[hardScores.length];
                         BigDecimal[] softImpacts = new BigDecimal[softScores.length];
                         for (int i = 0; i < hardImpacts.length; i++) {
                             hardImpacts[i] = constraintWeight.getHardScore(i).multiply(matchWeight);
-                            this.hardScores[i] = this.hardScores[i].add(hardImpacts[i]);
                         }
                         for (int i = 0; i < softImpacts.length; i++) {
                             softImpacts[i] = constraintWeight.getSoftScore(i).multiply(matchWeight);
-                            this.softScores[i] = this.softScores[i].add(softImpacts[i]);
-                        }
-                        UndoScoreImpacter undoScoreImpact = () -> {
-                            for (int i = 0; i < hardImpacts.length; i++) {
-                                this.hardScores[i] = this.hardScores[i].subtract(hardImpacts[i]);
-                            }
-                            for (int i = 0; i < softImpacts.length; i++) {
-                                this.softScores[i] = this.softScores[i].subtract(softImpacts[i]);
-                            }
-                        };
-                        if (!constraintMatchEnabled) {
-                            return undoScoreImpact;
                         }
-                        Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                                BendableBigDecimalScore.of(hardImpacts, softImpacts),
-                                justificationsSupplier.get());
-                        return () -> {
-                            undoScoreImpact.run();
-                            undoConstraintMatch.run();
-                        };
+                        return BendableBigDecimalScore.of(hardImpacts, softImpacts);
                     });
         }
     }
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.buildin.bendablelong;
+
+import java.util.Arrays;
+
+import org.optaplanner.core.api.score.buildin.bendablelong.BendableLongScore;
+
+/**
+ * Mutable primitive accumulator of a {@link BendableLongScore}, with a level count fixed at creation.
+ * Unlike {@link BendableLongScore#add(BendableLongScore)}, adding to it never creates new level arrays,
+ * so score inliners and score holders can impact it on every constraint match without allocating.
+ * <p>
+ * Also compares its hard levels to a {@link BendableLongScore} without creating one first.
+ */
+public final class BendableLongScoreAccumulator {
+
+    private final long[] hardScores;
+    private final long[] softScores;
+
+    public BendableLongScoreAccumulator(int hardLevelsSize, int softLevelsSize) {
+        hardScores = new long[hardLevelsSize];
+        softScores = new long[softLevelsSize];
+    }
+
+    public int getHardLevelsSize() {
+        return hardScores.length;
+    }
+
+    public long getHardScore(int hardLevel) {
+        return hardScores[hardLevel];
+    }
+
+    public int getSoftLevelsSize() {
+        return softScores.length;
+    }
+
+    public long getSoftScore(int softLevel) {
+        return softScores[softLevel];
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    public void addHard(int hardLevel, long delta) {
+        hardScores[hardLevel] += delta;
+    }
+
+    public void addSoft(int softLevel, long delta) {
+        softScores[softLevel] += delta;
+    }
+
+    /**
+     * Adds every level weight multiplied by the match weight, in a single pass without any intermediate score.
+     *
+     * @param hardWeights never null, length equal to {@link #getHardLevelsSize()}
+     * @param softWeights never null, length equal to {@link #getSoftLevelsSize()}
+     * @param matchWeight negate it to undo an earlier call
+     */
+    public void addMultiplied(long[] hardWeights, long[] softWeights, long matchWeight) {
+        for (int i = 0; i < hardScores.length; i++) {
+            hardScores[i] += hardWeights[i] * matchWeight;
+        }
+        for (int i = 0; i < softScores.length; i++) {
+            softScores[i] += softWeights[i] * matchWeight;
+        }
+    }
+
+    /**
+     * @param hardWeights never null, length equal to {@link #getHardLevelsSize()}
+     * @param softWeights never null, length equal to {@link #getSoftLevelsSize()}
+     */
+    public void add(long[] hardWeights, long[] softWeights) {
+        for (int i = 0; i < hardScores.length; i++) {
+            hardScores[i] += hardWeights[i];
+        }
+        for (int i = 0; i < softScores.length; i++) {
+            softScores[i] += softWeights[i];
+        }
+    }
+
+    /**
+     * @param hardWeights never null, length equal to {@link #getHardLevelsSize()}
+     * @param softWeights never null, length equal to {@link #getSoftLevelsSize()}
+     */
+    public void subtract(long[] hardWeights, long[] softWeights) {
+        for (int i = 0; i < hardScores.length; i++) {
+            hardScores[i] -= hardWeights[i];
+        }
+        for (int i = 0; i < softScores.length; i++) {
+            softScores[i] -= softWeights[i];
+        }
+    }
+
+    /**
+     * @param initScore {@code <= 0}
+     * @return never null, a copy that later changes to this accumulator do not affect
+     */
+    public BendableLongScore extractScore(int initScore) {
+        return BendableLongScore.ofUninitialized(initScore,
+                Arrays.copyOf(hardScores, hardScores.length),
+                Arrays.copyOf(softScores, softScores.length));
+    }
+
+    /**
+     * Fused equivalent of
+     * {@code ScoreUtils.compareHardLevels(extractScore(initScore), other, hardLevelsSize)}.
+     *
+     * @param initScore {@code <= 0}
+     * @param other never null, with the same level counts
+     * @param hardLevelsSize {@code 0 <= hardLevelsSize <=} {@link #getHardLevelsSize()}
+     * @return negative, zero or positive
+     */
+    public int compareHardLevelsTo(int initScore, BendableLongScore other, int hardLevelsSize) {
+        if (initScore != other.getInitScore()) {
+            return Integer.compare(initScore, other.getInitScore());
+        }
+        for (int i = 0; i < hardLevelsSize; i++) {
+            if (hardScores[i] != other.getHardScore(i)) {
+                return Long.compare(hardScores[i], other.getHardScore(i));
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return BendableLongScore.class.getSimpleName() + " accumulator";
+    }
+
+}
@@ -17,7 +17,6 @@
 package org.optaplanner.core.impl.score.buildin.bendablelong;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -40,31 +39,29 @@ public final class BendableLongScoreHolderImpl extends AbstractScoreHolder<Benda
     /** Slower than {@link #matchExecutorByNumberMap} */
     protected final Map<Rule, ScoreMatchExecutor<BendableLongScore>> matchExecutorByScoreMap = new LinkedHashMap<>();
 
-    private long[] hardScores;
-    private long[] softScores;
+    private final BendableLongScoreAccumulator accumulator;
 
     public BendableLongScoreHolderImpl(boolean constraintMatchEnabled, int hardLevelsSize, int softLevelsSize) {
         super(constraintMatchEnabled);
-        hardScores = new long[hardLevelsSize];
-        softScores = new long[softLevelsSize];
+        accumulator = new BendableLongScoreAccumulator(hardLevelsSize, softLevelsSize);
     }
 
     @Override
     public int getHardLevelsSize() {
-        return hardScores.length;
+        return accumulator.getHardLevelsSize();
     }
 
     public long getHardScore(int hardLevel) {
-        return hardScores[hardLevel];
+        return accumulator.getHardScore(hardLevel);
     }
 
     @Override
     public int getSoftLevelsSize() {
-        return softScores.length;
+        return accumulator.getSoftLevelsSize();
     }
 
     public long getSoftScore(int softLevel) {
-        return softScores[softLevel];
+        return accumulator.getSoftScore(softLevel);
     }
 
     // ************************************************************************
@@ -75,7 +72,7 @@ public final class BendableLongScoreHolderImpl extends AbstractScoreHolder<Benda
     public void configureConstraintWeight(Rule rule, BendableLongScore constraintWeight) {
         super.configureConstraintWeight(rule, constraintWeight);
         LongMatchExecutor matchExecutor;
-        if (constraintWeight.equals(BendableLongScore.zero(hardScores.length, softScores.length))) {
+        if (constraintWeight.equals(BendableLongScore.zero(getHardLevelsSize(), getSoftLevelsSize()))) {
             matchExecutor = (RuleContext kcontext, long matchWeight) -> {
             };
         } else {
@@ -107,23 +104,16 @@ public final class BendableLongScoreHolderImpl extends AbstractScoreHolder<Benda
                                     kcontext, level, levelWeight * matchWeight);
                 }
             } else {
-                matchExecutor = (RuleContext kcontext, long matchWeight) -> {
-                    long[] hardWeights = new long[hardScores.length];
-                    long[] softWeights = new long[softScores.length];
-                    for (int i = 0; i < hardWeights.length; i++) {
-                        hardWeights[i] = constraintWeight.getHardScore(i) * matchWeight;
-                    }
-                    for (int i = 0; i < softWeights.length; i++) {
-                        softWeights[i] = constraintWeight.getSoftScore(i) * matchWeight;
-                    }
-                    addMultiConstraintMatch(kcontext, hardWeights, softWeights);
-                };
+                long[] hardWeights = constraintWeight.getHardScores();
+                long[] softWeights = constraintWeight.getSoftScores();
+                matchExecutor = (RuleContext kcontext, long matchWeight) -> addMultipliedConstraintMatch(
+                        kcontext, hardWeights, softWeights, matchWeight);
             }
         }
         matchExecutorByNumberMap.put(rule, matchExecutor);
         matchExecutorByScoreMap.put(rule, (RuleContext kcontext, BendableLongScore weightMultiplier) -> {
-            long[] hardWeights = new long[hardScores.length];
-            long[] softWeights = new long[softScores.length];
+            long[] hardWeights = new long[getHardLevelsSize()];
+            long[] softWeights = new long[getSoftLevelsSize()];
             for (int i = 0; i < hardWeights.length; i++) {
                 hardWeights[i] = constraintWeight.getHardScore(i) * weightMultiplier.getHardScore(i);
             }
@@ -150,8 +140,8 @@ public final class BendableLongScoreHolderImpl extends AbstractScoreHolder<Benda
 
     @Override
     public void penalize(RuleContext kcontext, long[] hardWeightsMultiplier, long[] softWeightsMultiplier) {
-        long[] negatedHardWeightsMultiplier = new long[hardScores.length];
-        long[] negatedSoftWeightsMultiplier = new long[softScores.length];
+        long[] negatedHardWeightsMultiplier = new long[getHardLevelsSize()];
+        long[] negatedSoftWeightsMultiplier = new long[getSoftLevelsSize()];
         for (int i = 0; i < negatedHardWeightsMultiplier.length; i++) {
             negatedHardWeightsMultiplier[i] = -hardWeightsMultiplier[i];
         }
@@ -223,17 +213,17 @@ public final class BendableLongScoreHolderImpl extends AbstractScoreHolder<Benda
 
     @Override
     public void addHardConstraintMatch(RuleContext kcontext, int hardLevel, long weight) {
-        if (hardLevel >= hardScores.length) {
+        if (hardLevel >= getHardLevelsSize()) {
             throw new IllegalArgumentException("The hardLevel (" + hardLevel
-                    + ") isn't lower than the hardScores length (" + hardScores.length
+                    + ") isn't lower than the hardScores length (" + getHardLevelsSize()
                     + ") defined by the @" + PlanningScore.class.getSimpleName() + " on the planning solution class.");
         }
-        hardScores[hardLevel] += weight;
+        accumulator.addHard(hardLevel, weight);
         registerConstraintMatch(kcontext,
-                () -> hardScores[hardLevel] -= weight,
+                () -> accumulator.addHard(hardLevel, -weight),
                 () -> {
-                    long[] newHardScores = new long[hardScores.length];
-                    long[] newSoftScores = new long[softScores.length];
+                    long[] newHardScores = new long[getHardLevelsSize()];
+                    long[] newSoftScores = new long[getSoftLevelsSize()];
                     newHardScores[hardLevel] = weight;
                     return BendableLongScore.of(newHardScores, newSoftScores);
                 });
@@ -241,17 +231,17 @@ public final class BendableLongScoreHolderImpl extends AbstractScoreHolder<Benda
 
     @Override
     public void addSoftConstraintMatch(RuleContext kcontext, int softLevel, long weight) {
-        if (softLevel >= softScores.length) {
+        if (softLevel >= getSoftLevelsSize()) {
             throw new IllegalArgumentException("The softLevel (" + softLevel
-                    + ") isn't lower than the softScores length (" + softScores.length
+                    + ") isn't lower than the softScores length (" + getSoftLevelsSize()
                     + ") defined by the @" + PlanningScore.class.getSimpleName() + " on the planning solution class.");
         }
-        softScores[softLevel] += weight;
+        accumulator.addSoft(softLevel, weight);
         registerConstraintMatch(kcontext,
-                () -> softScores[softLevel] -= weight,
+                () -> accumulator.addSoft(softLevel, -weight),
                 () -> {
-                    long[] newHardScores = new long[hardScores.length];
-                    long[] newSoftScores = new long[softScores.length];
+                    long[] newHardScores = new long[getHardLevelsSize()];
+                    long[] newSoftScores = new long[getSoftLevelsSize()];
                     newSoftScores[softLevel] = weight;
                     return BendableLongScore.of(newHardScores, newSoftScores);
                 });
@@ -259,39 +249,44 @@ public final class BendableLongScoreHolderImpl extends AbstractScoreHolder<Benda
 
     @Override
     public void addMultiConstraintMatch(RuleContext kcontext, long[] hardWeights, long[] softWeights) {
-        if (hardWeights.length != hardScores.length) {
+        if (hardWeights.length != getHardLevelsSize()) {
             throw new IllegalArgumentException("The hardWeights length (" + hardWeights.length
-                    + ") is different than the hardScores length (" + hardScores.length
+                    + ") is different than the hardScores length (" + getHardLevelsSize()
                     + ") defined by the @" + PlanningScore.class.getSimpleName() + " on the planning solution class.");
         }
-        for (int i = 0; i < hardScores.length; i++) {
-            hardScores[i] += hardWeights[i];
-        }
-        if (softWeights.length != softScores.length) {
+        if (softWeights.length != getSoftLevelsSize()) {
             throw new IllegalArgumentException("The softWeights length (" + softWeights.length
-                    + ") is different than the softScores length (" + softScores.length
+                    + ") is different than the softScores length (" + getSoftLevelsSize()
                     + ") defined by the @" + PlanningScore.class.getSimpleName() + " on the planning solution class.");
         }
-        for (int i = 0; i < softScores.length; i++) {
-            softScores[i] += softWeights[i];
-        }
+        accumulator.add(hardWeights, softWeights);
+        registerConstraintMatch(kcontext,
+                () -> accumulator.subtract(hardWeights, softWeights),
+                () -> BendableLongScore.of(hardWeights, softWeights));
+    }
+
+    private void addMultipliedConstraintMatch(RuleContext kcontext, long[] hardWeights, long[] softWeights,
+            long matchWeight) {
+        // Unlike addMultiConstraintMatch(), this doesn't create the multiplied level arrays unless they are needed
+        accumulator.addMultiplied(hardWeights, softWeights, matchWeight);
         registerConstraintMatch(kcontext,
+                () -> accumulator.addMultiplied(hardWeights, softWeights, -matchWeight),
                 () -> {
-                    for (int i = 0; i < hardScores.length; i++) {
-                        hardScores[i] -= hardWeights[i];
+                    long[] hardImpacts = new long[hardWeights.length];
+                    long[] softImpacts = new long[softWeights.length];
+                    for (int i = 0; i < hardImpacts.length; i++) {
+                        hardImpacts[i] = hardWeights[i] * matchWeight;
                     }
-                    for (int i = 0; i < softScores.length; i++) {
-                        softScores[i] -= softWeights[i];
+                    for (int i = 0; i < softImpacts.length; i++) {
+                        softImpacts[i] = softWeights[i] * matchWeight;
                     }
-                },
-                () -> BendableLongScore.of(hardWeights, softWeights));
+                    return BendableLongScore.of(hardImpacts, softImpacts);
+                });
     }
 
     @Override
     public BendableLongScore extractScore(int initScore) {
-        return BendableLongScore.ofUninitialized(initScore,
-                Arrays.copyOf(hardScores, hardScores.length),
-                Arrays.copyOf(softScores, softScores.length));
+        return accumulator.extractScore(initScore);
     }
 
 }
@@ -16,26 +16,21 @@
 
 package org.optaplanner.core.impl.score.buildin.bendablelong;
 
-import java.util.Arrays;
 import java.util.Map;
 
 import org.optaplanner.core.api.score.buildin.bendablelong.BendableLongScore;
 import org.optaplanner.core.api.score.stream.Constraint;
-import org.optaplanner.core.impl.score.inliner.JustificationsSupplier;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 
 public final class BendableLongScoreInliner extends ScoreInliner<BendableLongScore> {
 
-    private final long[] hardScores;
-    private final long[] softScores;
+    private final BendableLongScoreAccumulator accumulator;
 
     public BendableLongScoreInliner(Map<Constraint, BendableLongScore> constraintToWeightMap,
             boolean constraintMatchEnabled, int hardLevelsSize, int softLevelsSize) {
         super(constraintToWeightMap, constraintMatchEnabled);
-        hardScores = new long[hardLevelsSize];
-        softScores = new long[softLevelsSize];
+        accumulator = new BendableLongScoreAccumulator(hardLevelsSize, softLevelsSize);
     }
 
     @Override
@@ -55,77 +50,46 @@ public final class BendableLongScoreInliner extends ScoreInliner<BendableLongSco
             long levelWeight = constraintWeight.getHardOrSoftScore(singleLevel);
             if (singleLevel < constraintWeight.getHardLevelsSize()) {
                 int level = singleLevel;
-                return WeightedScoreImpacter.of((long matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                    long hardImpact = levelWeight * matchWeight;
-                    this.hardScores[level] += hardImpact;
-                    UndoScoreImpacter undoScoreImpact = () -> this.hardScores[level] -= hardImpact;
-                    if (!constraintMatchEnabled) {
-                        return undoScoreImpact;
-                    }
-                    Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                            BendableLongScore.ofHard(hardScores.length, softScores.length, level, hardImpact),
-                            justificationsSupplier.get());
-                    return () -> {
-                        undoScoreImpact.run();
-                        undoConstraintMatch.run();
-                    };
-                });
+                return buildLongImpacter(constraint, constraintWeight,
+                        matchWeight -> accumulator.addHard(level, levelWeight * matchWeight),
+                        matchWeight -> BendableLongScore.ofHard(constraintWeight.getHardLevelsSize(),
+                                constraintWeight.getSoftLevelsSize(), level,
+                                levelWeight * matchWeight));
             } else {
                 int level = singleLevel - constraintWeight.getHardLevelsSize();
-                return WeightedScoreImpacter.of((long matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                    long softImpact = levelWeight * matchWeight;
-                    this.softScores[level] += softImpact;
-                    UndoScoreImpacter undoScoreImpact = () -> this.softScores[level] -= softImpact;
-                    if (!constraintMatchEnabled) {
-                        return undoScoreImpact;
-                    }
-                    Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                            BendableLongScore.ofSoft(hardScores.length, softScores.length, level, softImpact),
-                            justificationsSupplier.get());
-                    return () -> {
-                        undoScoreImpact.run();
-                        undoConstraintMatch.run();
-                    };
-                });
+                return buildLongImpacter(constraint, constraintWeight,
+                        matchWeight -> accumulator.addSoft(level, levelWeight * matchWeight),
+                        matchWeight -> BendableLongScore.ofSoft(constraintWeight.getHardLevelsSize(),
+                                constraintWeight.getSoftLevelsSize(), level,
+                                levelWeight * matchWeight));
             }
         } else {
-            return WeightedScoreImpacter.of((long matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                long[] hardImpacts = new long[hardScores.length];
-                long[] softImpacts = new long[softScores.length];
-                for (int i = 0; i < hardImpacts.length; i++) {
-                    hardImpacts[i] = constraintWeight.getHardScore(i) * matchWeight;
-                    this.hardScores[i] += hardImpacts[i];
-                }
-                for (int i = 0; i < softImpacts.length; i++) {
-                    softImpacts[i] = constraintWeight.getSoftScore(i) * matchWeight;
-                    this.softScores[i] += softImpacts[i];
-                }
-                UndoScoreImpacter undoScoreImpact = () -> {
-                    for (int i = 0; i < hardImpacts.length; i++) {
-                        this.hardScores[i] -= hardImpacts[i];
-                    }
-                    for (int i = 0; i < softImpacts.length; i++) {
-                        this.softScores[i] -= softImpacts[i];
-                    }
-                };
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
-                Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        BendableLongScore.of(hardImpacts, softImpacts), justificationsSupplier.get());
-                return () -> {
-                    undoScoreImpact.run();
-                    undoConstraintMatch.run();
-                };
-            });
+            long[] hardWeights = constraintWeight.getHardScores();
+            long[] softWeights = constraintWeight.getSoftScores();
+            return buildLongImpacter(constraint, constraintWeight,
+                    matchWeight -> accumulator.addMultiplied(hardWeights, softWeights, matchWeight),
+                    matchWeight -> {
+                        long[] hardImpacts = new long[hardWeights.length];
+                        long[] softImpacts = new long[softWeights.length];
+                        for (int i = 0; i < hardImpacts.length; i++) {
+                            hardImpacts[i] = hardWeights[i] * matchWeight;
+                        }
+                        for (int i = 0; i < softImpacts.length; i++) {
+                            softImpacts[i] = softWeights[i] * matchWeight;
+                        }
+                        return BendableLongScore.of(hardImpacts, softImpacts);
+                    });
         }
     }
 
     @Override
     public BendableLongScore extractScore(int initScore) {
-        return BendableLongScore.ofUninitialized(initScore,
-                Arrays.copyOf(hardScores, hardScores.length),
-                Arrays.copyOf(softScores, softScores.length));
+        return accumulator.extractScore(initScore);
+    }
+
+    @Override
+    public int compareHardLevels(int initScore, BendableLongScore otherScore, int hardLevelsSize) {
+        return accumulator.compareHardLevelsTo(initScore, otherScore, hardLevelsSize);
     }
 
     @Override
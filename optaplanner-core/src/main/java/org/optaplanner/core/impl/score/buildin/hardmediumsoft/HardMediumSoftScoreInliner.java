@@ -20,9 +20,7 @@ import java.util.Map;
 
 import org.optaplanner.core.api.score.buildin.hardmediumsoft.HardMediumSoftScore;
 import org.optaplanner.core.api.score.stream.Constraint;
-import org.optaplanner.core.impl.score.inliner.JustificationsSupplier;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 
 public final class HardMediumSoftScoreInliner extends ScoreInliner<HardMediumSoftScore> {
@@ -43,74 +41,26 @@ public final class HardMediumSoftScoreInliner extends ScoreInliner<HardMediumSof
         int mediumConstraintWeight = constraintWeight.getMediumScore();
         int softConstraintWeight = constraintWeight.getSoftScore();
         if (mediumConstraintWeight == 0 && softConstraintWeight == 0) {
-            return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                int hardImpact = hardConstraintWeight * matchWeight;
-                this.hardScore += hardImpact;
-                UndoScoreImpacter undoScoreImpact = () -> this.hardScore -= hardImpact;
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
-                Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardMediumSoftScore.ofHard(hardImpact), justificationsSupplier.get());
-                return () -> {
-                    undoScoreImpact.run();
-                    undoConstraintMatch.run();
-                };
-            });
+            return buildIntImpacter(constraint, constraintWeight,
+                    matchWeight -> this.hardScore += hardConstraintWeight * matchWeight,
+                    matchWeight -> HardMediumSoftScore.ofHard(hardConstraintWeight * matchWeight));
         } else if (hardConstraintWeight == 0 && softConstraintWeight == 0) {
-            return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                int mediumImpact = mediumConstraintWeight * matchWeight;
-                this.mediumScore += mediumImpact;
-                UndoScoreImpacter undoScoreImpact = () -> this.mediumScore -= mediumImpact;
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
-                Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardMediumSoftScore.ofMedium(mediumImpact), justificationsSupplier.get());
-                return () -> {
-                    undoScoreImpact.run();
-                    undoConstraintMatch.run();
-                };
-            });
+            return buildIntImpacter(constraint, constraintWeight,
+                    matchWeight -> this.mediumScore += mediumConstraintWeight * matchWeight,
+                    matchWeight -> HardMediumSoftScore.ofMedium(mediumConstraintWeight * matchWeight));
         } else if (hardConstraintWeight == 0 && mediumConstraintWeight == 0) {
-            return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                int softImpact = softConstraintWeight * matchWeight;
-                this.softScore += softImpact;
-                UndoScoreImpacter undoScoreImpact = () -> this.softScore -= softImpact;
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
-                Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardMediumSoftScore.ofSoft(softImpact), justificationsSupplier.get());
-                return () -> {
-                    undoScoreImpact.run();
-                    undoConstraintMatch.run();
-                };
-            });
+            return buildIntImpacter(constraint, constraintWeight,
+                    matchWeight -> this.softScore += softConstraintWeight * matchWeight,
+                    matchWeight -> HardMediumSoftScore.ofSoft(softConstraintWeight * matchWeight));
         } else {
-            return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                int hardImpact = hardConstraintWeight * matchWeight;
-                int mediumImpact = mediumConstraintWeight * matchWeight;
-                int softImpact = softConstraintWeight * matchWeight;
-                this.hardScore += hardImpact;
-                this.mediumScore += mediumImpact;
-                this.softScore += softImpact;
-                UndoScoreImpacter undoScoreImpact = () -> {
-                    this.hardScore -= hardImpact;
-                    this.mediumScore -= mediumImpact;
-                    this.softScore -= softImpact;
-                };
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
-                Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardMediumSoftScore.of(hardImpact, mediumImpact, softImpact),
-                        justificationsSupplier.get());
-                return () -> {
-                    undoScoreImpact.run();
-                    undoConstraintMatch.run();
-                };
-            });
+            return buildIntImpacter(constraint, constraintWeight,
+                    matchWeight -> {
+                        this.hardScore += hardConstraintWeight * matchWeight;
+                        this.mediumScore += mediumConstraintWeight * matchWeight;
+                        this.softScore += softConstraintWeight * matchWeight;
+                    },
+                    matchWeight -> HardMediumSoftScore.of(hardConstraintWeight * matchWeight,
+                            mediumConstraintWeight * matchWeight, softConstraintWeight * matchWeight));
         }
     }
 
@@ -21,9 +21,7 @@ import java.util.Map;
 
 import org.optaplanner.core.api.score.buildin.hardmediumsoftbigdecimal.HardMediumSoftBigDecimalScore;
 import org.optaplanner.core.api.score.stream.Constraint;
-import org.optaplanner.core.impl.score.inliner.JustificationsSupplier;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 
 public final class HardMediumSoftBigDecimalScoreInliner extends ScoreInliner<HardMediumSoftBigDecimalScore> {
@@ -44,77 +42,26 @@ public final class HardMediumSoftBigDecimalScoreInliner extends ScoreInliner<Har
         BigDecimal mediumConstraintWeight = constraintWeight.getMediumScore();
         BigDecimal softConstraintWeight = constraintWeight.getSoftScore();
         if (mediumConstraintWeight.equals(BigDecimal.ZERO) && softConstraintWeight.equals(BigDecimal.ZERO)) {
-            return WeightedScoreImpacter.of((BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                BigDecimal hardImpact = hardConstraintWeight.multiply(matchWeight);
-                this.hardScore = this.hardScore.add(hardImpact);
-                UndoScoreImpacter undoScoreImpact = () -> this.hardScore = this.hardScore.subtract(hardImpact);
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
-                Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardMediumSoftBigDecimalScore.ofHard(hardImpact),
-                        justificationsSupplier.get());
-                return () -> {
-                    undoScoreImpact.run();
-                    undoConstraintMatch.run();
-                };
-            });
+            return buildBigDecimalImpacter(constraint, constraintWeight,
+                    matchWeight -> this.hardScore = this.hardScore.add(hardConstraintWeight.multiply(matchWeight)),
+                    matchWeight -> HardMediumSoftBigDecimalScore.ofHard(hardConstraintWeight.multiply(matchWeight)));
         } else if (hardConstraintWeight.equals(BigDecimal.ZERO) && softConstraintWeight.equals(BigDecimal.ZERO)) {
-            return WeightedScoreImpacter.of((BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                BigDecimal mediumImpact = mediumConstraintWeight.multiply(matchWeight);
-                this.mediumScore = this.mediumScore.add(mediumImpact);
-                UndoScoreImpacter undoScoreImpact = () -> this.mediumScore = this.mediumScore.subtract(mediumImpact);
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
-                Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardMediumSoftBigDecimalScore.ofMedium(mediumImpact),
-                        justificationsSupplier.get());
-                return () -> {
-                    undoScoreImpact.run();
-                    undoConstraintMatch.run();
-                };
-            });
+            return buildBigDecimalImpacter(constraint, constraintWeight,
+                    matchWeight -> this.mediumScore = this.mediumScore.add(mediumConstraintWeight.multiply(matchWeight)),
+                    matchWeight -> HardMediumSoftBigDecimalScore.ofMedium(mediumConstraintWeight.multiply(matchWeight)));
         } else if (hardConstraintWeight.equals(BigDecimal.ZERO) && mediumConstraintWeight.equals(BigDecimal.ZERO)) {
-            return WeightedScoreImpacter.of((BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                BigDecimal softImpact = softConstraintWeight.multiply(matchWeight);
-                this.softScore = this.softScore.add(softImpact);
-                UndoScoreImpacter undoScoreImpact = () -> this.softScore = this.softScore.subtract(softImpact);
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
-                Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardMediumSoftBigDecimalScore.ofSoft(softImpact),
-                        justificationsSupplier.get());
-                return () -> {
-                    undoScoreImpact.run();
-                    undoConstraintMatch.run();
-                };
-            });
+            return buildBigDecimalImpacter(constraint, constraintWeight,
+                    matchWeight -> this.softScore = this.softScore.add(softConstraintWeight.multiply(matchWeight)),
+                    matchWeight -> HardMediumSoftBigDecimalScore.ofSoft(softConstraintWeight.multiply(matchWeight)));
         } else {
-            return WeightedScoreImpacter.of((BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                BigDecimal hardImpact = hardConstraintWeight.multiply(matchWeight);
-                BigDecimal mediumImpact = mediumConstraintWeight.multiply(matchWeight);
-                BigDecimal softImpact = softConstraintWeight.multiply(matchWeight);
-                this.hardScore = this.hardScore.add(hardImpact);
-                this.mediumScore = this.mediumScore.add(mediumImpact);
-                this.softScore = this.softScore.add(softImpact);
-                UndoScoreImpacter undoScoreImpact = () -> {
-                    this.hardScore = this.hardScore.subtract(hardImpact);
-                    this.mediumScore = this.mediumScore.subtract(mediumImpact);
-                    this.softScore = this.softScore.subtract(softImpact);
-                };
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
-                Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardMediumSoftBigDecimalScore.of(hardImpact, mediumImpact, softImpact),
-                        justificationsSupplier.get());
-                return () -> {
-                    undoScoreImpact.run();
-                    undoConstraintMatch.run();
-                };
-            });
+            return buildBigDecimalImpacter(constraint, constraintWeight,
+                    matchWeight -> {
+                        this.hardScore = this.hardScore.add(hardConstraintWeight.multiply(matchWeight));
+                        this.mediumScore = this.mediumScore.add(mediumConstraintWeight.multiply(matchWeight));
+                        this.softScore = this.softScore.add(softConstraintWeight.multiply(matchWeight));
+                    },
+                    matchWeight -> HardMediumSoftBigDecimalScore.of(hardConstraintWeight.multiply(matchWeight),
+                            mediumConstraintWeight.multiply(matchWeight), softConstraintWeight.multiply(matchWeight)));
         }
     }
 
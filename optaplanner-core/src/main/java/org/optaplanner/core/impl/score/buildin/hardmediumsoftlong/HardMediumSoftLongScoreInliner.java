@@ -20,9 +20,7 @@ import java.util.Map;
 
 import org.optaplanner.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
 import org.optaplanner.core.api.score.stream.Constraint;
-import org.optaplanner.core.impl.score.inliner.JustificationsSupplier;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 
 public final class HardMediumSoftLongScoreInliner extends ScoreInliner<HardMediumSoftLongScore> {
@@ -43,74 +41,26 @@ public final class HardMediumSoftLongScoreInliner extends ScoreInliner<HardMediu
         long mediumConstraintWeight = constraintWeight.getMediumScore();
         long softConstraintWeight = constraintWeight.getSoftScore();
         if (mediumConstraintWeight == 0L && softConstraintWeight == 0L) {
-            return WeightedScoreImpacter.of((long matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                long hardImpact = hardConstraintWeight * matchWeight;
-                this.hardScore += hardImpact;
-                UndoScoreImpacter undoScoreImpact = () -> this.hardScore -= hardImpact;
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
-                Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardMediumSoftLongScore.ofHard(hardImpact), justificationsSupplier.get());
-                return () -> {
-                    undoScoreImpact.run();
-                    undoConstraintMatch.run();
-                };
-            });
+            return buildLongImpacter(constraint, constraintWeight,
+                    matchWeight -> this.hardScore += hardConstraintWeight * matchWeight,
+                    matchWeight -> HardMediumSoftLongScore.ofHard(hardConstraintWeight * matchWeight));
         } else if (hardConstraintWeight == 0L && softConstraintWeight == 0L) {
-            return WeightedScoreImpacter.of((long matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                long mediumImpact = mediumConstraintWeight * matchWeight;
-                this.mediumScore += mediumImpact;
-                UndoScoreImpacter undoScoreImpact = () -> this.mediumScore -= mediumImpact;
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
-                Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardMediumSoftLongScore.ofMedium(mediumImpact), justificationsSupplier.get());
-                return () -> {
-                    undoScoreImpact.run();
-                    undoConstraintMatch.run();
-                };
-            });
+            return buildLongImpacter(constraint, constraintWeight,
+                    matchWeight -> this.mediumScore += mediumConstraintWeight * matchWeight,
+                    matchWeight -> HardMediumSoftLongScore.ofMedium(mediumConstraintWeight * matchWeight));
         } else if (hardConstraintWeight == 0L && mediumConstraintWeight == 0L) {
-            return WeightedScoreImpacter.of((long matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                long softImpact = softConstraintWeight * matchWeight;
-                this.softScore += softImpact;
-                UndoScoreImpacter undoScoreImpact = () -> this.softScore -= softImpact;
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
-                Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardMediumSoftLongScore.ofSoft(softImpact), justificationsSupplier.get());
-                return () -> {
-                    undoScoreImpact.run();
-                    undoConstraintMatch.run();
-                };
-            });
+            return buildLongImpacter(constraint, constraintWeight,
+                    matchWeight -> this.softScore += softConstraintWeight * matchWeight,
+                    matchWeight -> HardMediumSoftLongScore.ofSoft(softConstraintWeight * matchWeight));
         } else {
-            return WeightedScoreImpacter.of((long matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                long hardImpact = hardConstraintWeight * matchWeight;
-                long mediumImpact = mediumConstraintWeight * matchWeight;
-                long softImpact = softConstraintWeight * matchWeight;
-                this.hardScore += hardImpact;
-                this.mediumScore += mediumImpact;
-                this.softScore += softImpact;
-                UndoScoreImpacter undoScoreImpact = () -> {
-                    this.hardScore -= hardImpact;
-                    this.mediumScore -= mediumImpact;
-                    this.softScore -= softImpact;
-                };
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
-                Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardMediumSoftLongScore.of(hardImpact, mediumImpact, softImpact),
-                        justificationsSupplier.get());
-                return () -> {
-                    undoScoreImpact.run();
-                    undoConstraintMatch.run();
-                };
-            });
+            return buildLongImpacter(constraint, constraintWeight,
+                    matchWeight -> {
+                        this.hardScore += hardConstraintWeight * matchWeight;
+                        this.mediumScore += mediumConstraintWeight * matchWeight;
+                        this.softScore += softConstraintWeight * matchWeight;
+                    },
+                    matchWeight -> HardMediumSoftLongScore.of(hardConstraintWeight * matchWeight,
+                            mediumConstraintWeight * matchWeight, softConstraintWeight * matchWeight));
         }
     }
 
@@ -20,9 +20,7 @@ import java.util.Map;
 
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 import org.optaplanner.core.api.score.stream.Constraint;
-import org.optaplanner.core.impl.score.inliner.JustificationsSupplier;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 
 public final class HardSoftScoreInliner extends ScoreInliner<HardSoftScore> {
@@ -40,55 +38,20 @@ public final class HardSoftScoreInliner extends ScoreInliner<HardSoftScore> {
         int hardConstraintWeight = constraintWeight.getHardScore();
         int softConstraintWeight = constraintWeight.getSoftScore();
         if (softConstraintWeight == 0) {
-            return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                int hardImpact = hardConstraintWeight * matchWeight;
-                this.hardScore += hardImpact;
-                UndoScoreImpacter undoScoreImpact = () -> this.hardScore -= hardImpact;
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
-                Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardSoftScore.ofHard(hardImpact), justificationsSupplier.get());
-                return () -> {
-                    undoScoreImpact.run();
-                    undoConstraintMatch.run();
-                };
-            });
+            return buildIntImpacter(constraint, constraintWeight,
+                    matchWeight -> this.hardScore += hardConstraintWeight * matchWeight,
+                    matchWeight -> HardSoftScore.ofHard(hardConstraintWeight * matchWeight));
         } else if (hardConstraintWeight == 0) {
-            return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                int softImpact = softConstraintWeight * matchWeight;
-                this.softScore += softImpact;
-                UndoScoreImpacter undoScoreImpact = () -> this.softScore -= softImpact;
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
-                Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardSoftScore.ofSoft(softImpact), justificationsSupplier.get());
-                return () -> {
-                    undoScoreImpact.run();
-                    undoConstraintMatch.run();
-                };
-            });
+            return buildIntImpacter(constraint, constraintWeight,
+                    matchWeight -> this.softScore += softConstraintWeight * matchWeight,
+                    matchWeight -> HardSoftScore.ofSoft(softConstraintWeight * matchWeight));
         } else {
-            return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                int hardImpact = hardConstraintWeight * matchWeight;
-                int softImpact = softConstraintWeight * matchWeight;
-                this.hardScore += hardImpact;
-                this.softScore += softImpact;
-                UndoScoreImpacter undoScoreImpact = () -> {
-                    this.hardScore -= hardImpact;
-                    this.softScore -= softImpact;
-                };
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
-                Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardSoftScore.of(hardImpact, softImpact), justificationsSupplier.get());
-                return () -> {
-                    undoScoreImpact.run();
-                    undoConstraintMatch.run();
-                };
-            });
+            return buildIntImpacter(constraint, constraintWeight,
+                    matchWeight -> {
+                        this.hardScore += hardConstraintWeight * matchWeight;
+                        this.softScore += softConstraintWeight * matchWeight;
+                    },
+                    matchWeight -> HardSoftScore.of(hardConstraintWeight * matchWeight, softConstraintWeight * matchWeight));
         }
     }
 
@@ -21,9 +21,7 @@ import java.util.Map;
 
 import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
 import org.optaplanner.core.api.score.stream.Constraint;
-import org.optaplanner.core.impl.score.inliner.JustificationsSupplier;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 
 public final class HardSoftBigDecimalScoreInliner extends ScoreInliner<HardSoftBigDecimalScore> {
@@ -42,56 +40,21 @@ public final class HardSoftBigDecimalScoreInliner extends ScoreInliner<HardSoftB
         BigDecimal hardConstraintWeight = constraintWeight.getHardScore();
         BigDecimal softConstraintWeight = constraintWeight.getSoftScore();
         if (softConstraintWeight.equals(BigDecimal.ZERO)) {
-            return WeightedScoreImpacter.of((BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                BigDecimal hardImpact = hardConstraintWeight.multiply(matchWeight);
-                this.hardScore = this.hardScore.add(hardImpact);
-                UndoScoreImpacter undoScoreImpact = () -> this.hardScore = this.hardScore.subtract(hardImpact);
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
-                Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardSoftBigDecimalScore.ofHard(hardImpact), justificationsSupplier.get());
-                return () -> {
-                    undoScoreImpact.run();
-                    undoConstraintMatch.run();
-                };
-            });
+            return buildBigDecimalImpacter(constraint, constraintWeight,
+                    matchWeight -> this.hardScore = this.hardScore.add(hardConstraintWeight.multiply(matchWeight)),
+                    matchWeight -> HardSoftBigDecimalScore.ofHard(hardConstraintWeight.multiply(matchWeight)));
         } else if (hardConstraintWeight.equals(BigDecimal.ZERO)) {
-            return WeightedScoreImpacter.of((BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                BigDecimal softImpact = softConstraintWeight.multiply(matchWeight);
-                this.softScore = this.softScore.add(softImpact);
-                UndoScoreImpacter undoScoreImpact = () -> this.softScore = this.softScore.subtract(softImpact);
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
-                Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardSoftBigDecimalScore.ofSoft(softImpact), justificationsSupplier.get());
-                return () -> {
-                    undoScoreImpact.run();
-                    undoConstraintMatch.run();
-                };
-            });
+            return buildBigDecimalImpacter(constraint, constraintWeight,
+                    matchWeight -> this.softScore = this.softScore.add(softConstraintWeight.multiply(matchWeight)),
+                    matchWeight -> HardSoftBigDecimalScore.ofSoft(softConstraintWeight.multiply(matchWeight)));
         } else {
-            return WeightedScoreImpacter.of((BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                BigDecimal hardImpact = hardConstraintWeight.multiply(matchWeight);
-                BigDecimal softImpact = softConstraintWeight.multiply(matchWeight);
-                this.hardScore = this.hardScore.add(hardImpact);
-                this.softScore = this.softScore.add(softImpact);
-                UndoScoreImpacter undoScoreImpact = () -> {
-                    this.hardScore = this.hardScore.subtract(hardImpact);
-                    this.softScore = this.softScore.subtract(softImpact);
-                };
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
-                Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardSoftBigDecimalScore.of(hardImpact, softImpact),
-                        justificationsSupplier.get());
-                return () -> {
-                    undoScoreImpact.run();
-                    undoConstraintMatch.run();
-                };
-            });
+            return buildBigDecimalImpacter(constraint, constraintWeight,
+                    matchWeight -> {
+                        this.hardScore = this.hardScore.add(hardConstraintWeight.multiply(matchWeight));
+                        this.softScore = this.softScore.add(softConstraintWeight.multiply(matchWeight));
+                    },
+                    matchWeight -> HardSoftBigDecimalScore.of(hardConstraintWeight.multiply(matchWeight),
+                            softConstraintWeight.multiply(matchWeight)));
         }
     }
 
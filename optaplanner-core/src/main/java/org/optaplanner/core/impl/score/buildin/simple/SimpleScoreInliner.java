@@ -20,9 +20,7 @@ import java.util.Map;
 
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.stream.Constraint;
-import org.optaplanner.core.impl.score.inliner.JustificationsSupplier;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 
 public final class SimpleScoreInliner extends ScoreInliner<SimpleScore> {
@@ -37,20 +35,9 @@ public final class SimpleScoreInliner extends ScoreInliner<SimpleScore> {
     public WeightedScoreImpacter buildWeightedScoreImpacter(Constraint constraint) {
         SimpleScore constraintWeight = getConstraintWeight(constraint);
         int simpleConstraintWeight = constraintWeight.getScore();
-        return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
-            int impact = simpleConstraintWeight * matchWeight;
-            this.score += impact;
-            UndoScoreImpacter undoScoreImpact = () -> this.score -= impact;
-            if (!constraintMatchEnabled) {
-                return undoScoreImpact;
-            }
-            Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight, SimpleScore.of(impact),
-                    justificationsSupplier.get());
-            return () -> {
-                undoScoreImpact.run();
-                undoConstraintMatch.run();
-            };
-        });
+        return buildIntImpacter(constraint, constraintWeight,
+                matchWeight -> this.score += simpleConstraintWeight * matchWeight,
+                matchWeight -> SimpleScore.of(simpleConstraintWeight * matchWeight));
     }
 
     @Override
@@ -21,9 +21,7 @@ import java.util.Map;
 
 import org.optaplanner.core.api.score.buildin.simplebigdecimal.SimpleBigDecimalScore;
 import org.optaplanner.core.api.score.stream.Constraint;
-import org.optaplanner.core.impl.score.inliner.JustificationsSupplier;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 
 public final class SimpleBigDecimalScoreInliner extends ScoreInliner<SimpleBigDecimalScore> {
@@ -39,20 +37,9 @@ public final class SimpleBigDecimalScoreInliner extends ScoreInliner<SimpleBigDe
     public WeightedScoreImpacter buildWeightedScoreImpacter(Constraint constraint) {
         SimpleBigDecimalScore constraintWeight = getConstraintWeight(constraint);
         BigDecimal simpleConstraintWeight = constraintWeight.getScore();
-        return WeightedScoreImpacter.of((BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) -> {
-            BigDecimal impact = simpleConstraintWeight.multiply(matchWeight);
-            this.score = this.score.add(impact);
-            UndoScoreImpacter undoScoreImpact = () -> this.score = this.score.subtract(impact);
-            if (!constraintMatchEnabled) {
-                return undoScoreImpact;
-            }
-            Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                    SimpleBigDecimalScore.of(impact), justificationsSupplier.get());
-            return () -> {
-                undoScoreImpact.run();
-                undoConstraintMatch.run();
-            };
-        });
+        return buildBigDecimalImpacter(constraint, constraintWeight,
+                matchWeight -> this.score = this.score.add(simpleConstraintWeight.multiply(matchWeight)),
+                matchWeight -> SimpleBigDecimalScore.of(simpleConstraintWeight.multiply(matchWeight)));
     }
 
     @Override
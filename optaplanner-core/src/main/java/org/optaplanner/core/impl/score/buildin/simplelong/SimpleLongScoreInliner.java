@@ -20,9 +20,7 @@ import java.util.Map;
 
 import org.optaplanner.core.api.score.buildin.simplelong.SimpleLongScore;
 import org.optaplanner.core.api.score.stream.Constraint;
-import org.optaplanner.core.impl.score.inliner.JustificationsSupplier;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 
 public final class SimpleLongScoreInliner extends ScoreInliner<SimpleLongScore> {
@@ -38,20 +36,9 @@ public final class SimpleLongScoreInliner extends ScoreInliner<SimpleLongScore>
     public WeightedScoreImpacter buildWeightedScoreImpacter(Constraint constraint) {
         SimpleLongScore constraintWeight = getConstraintWeight(constraint);
         long simpleConstraintWeight = constraintWeight.getScore();
-        return WeightedScoreImpacter.of((long matchWeight, JustificationsSupplier justificationsSupplier) -> {
-            long impact = simpleConstraintWeight * matchWeight;
-            this.score += impact;
-            UndoScoreImpacter undoScoreImpact = () -> this.score -= impact;
-            if (!constraintMatchEnabled) {
-                return undoScoreImpact;
-            }
-            Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight, SimpleLongScore.of(impact),
-                    justificationsSupplier.get());
-            return () -> {
-                undoScoreImpact.run();
-                undoConstraintMatch.run();
-            };
-        });
+        return buildLongImpacter(constraint, constraintWeight,
+                matchWeight -> this.score += simpleConstraintWeight * matchWeight,
+                matchWeight -> SimpleLongScore.of(simpleConstraintWeight * matchWeight));
     }
 
     @Override
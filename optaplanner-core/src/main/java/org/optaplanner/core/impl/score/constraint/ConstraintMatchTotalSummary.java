@@ -0,0 +1,116 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.constraint;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+
+/**
+ * A {@link ConstraintMatchTotal} that only knows its match count and score,
+ * but not the {@link ConstraintMatch}es themselves.
+ * It is cheap to create, because the justifications of those matches are never created.
+ *
+ * @param <Score_>
+ */
+public final class ConstraintMatchTotalSummary<Score_ extends Score<Score_>> implements ConstraintMatchTotal<Score_> {
+
+    private final String constraintPackage;
+    private final String constraintName;
+    private final String constraintId;
+    private final Score_ constraintWeight;
+    private final int constraintMatchCount;
+    private final Score_ score;
+
+    public ConstraintMatchTotalSummary(String constraintPackage, String constraintName, Score_ constraintWeight,
+            int constraintMatchCount, Score_ score) {
+        this.constraintPackage = requireNonNull(constraintPackage);
+        this.constraintName = requireNonNull(constraintName);
+        this.constraintId = ConstraintMatchTotal.composeConstraintId(constraintPackage, constraintName);
+        this.constraintWeight = constraintWeight;
+        this.constraintMatchCount = constraintMatchCount;
+        this.score = requireNonNull(score);
+    }
+
+    @Override
+    public String getConstraintPackage() {
+        return constraintPackage;
+    }
+
+    @Override
+    public String getConstraintName() {
+        return constraintName;
+    }
+
+    @Override
+    public Score_ getConstraintWeight() {
+        return constraintWeight;
+    }
+
+    /**
+     * @return never returns
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public Set<ConstraintMatch<Score_>> getConstraintMatchSet() {
+        throw new UnsupportedOperationException("The constraintMatchTotal (" + this
+                + ") is a summary without constraint matches.\n"
+                + "Maybe use getConstraintMatchTotalMap() instead of getConstraintMatchTotalSummaryMap().");
+    }
+
+    @Override
+    public int getConstraintMatchCount() {
+        return constraintMatchCount;
+    }
+
+    @Override
+    public Score_ getScore() {
+        return score;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @param other never null, of the same constraint
+     * @return never null
+     */
+    public ConstraintMatchTotalSummary<Score_> merge(ConstraintMatchTotal<Score_> other) {
+        return new ConstraintMatchTotalSummary<>(constraintPackage, constraintName, constraintWeight,
+                constraintMatchCount + other.getConstraintMatchCount(), score.add(other.getScore()));
+    }
+
+    // ************************************************************************
+    // Infrastructure methods
+    // ************************************************************************
+
+    @Override
+    public String getConstraintId() {
+        return constraintId;
+    }
+
+    @Override
+    public String toString() {
+        return getConstraintId() + "=" + score;
+    }
+
+}
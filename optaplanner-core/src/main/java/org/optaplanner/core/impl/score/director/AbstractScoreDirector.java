@@ -236,6 +236,14 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         undoMove.doMoveOnly(this);
     }
 
+    @Override
+    public void doAndProcessMove(Move<Solution_> move, Score_ threshold, Consumer<Score_> moveProcessor) {
+        Move<Solution_> undoMove = move.doMove(this);
+        Score_ score = calculateBoundedScore(threshold);
+        moveProcessor.accept(score);
+        undoMove.doMoveOnly(this);
+    }
+
     @Override
     public boolean isWorkingEntityListDirty(long expectedWorkingEntityListRevision) {
         return workingEntityListRevision != expectedWorkingEntityListRevision;
@@ -61,6 +61,32 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     Score_ calculateScore();
 
+    /**
+     * Like {@link #calculateScore()}, but it may stop early,
+     * as soon as the hard levels of the {@link Score} are worse than those of the threshold.
+     * Such a {@link Score} is correct on its init score and hard levels only,
+     * which suffices to know it's worse than the threshold.
+     * <p>
+     * Only a score director that can calculate the hard levels first overrides this.
+     *
+     * @param threshold never null
+     * @return never null, correct if it's not worse than the threshold
+     *         according to {@link org.optaplanner.core.impl.score.ScoreUtils#compareHardLevels}
+     */
+    default Score_ calculateBoundedScore(Score_ threshold) {
+        return calculateScore();
+    }
+
+    /**
+     * Does the work that {@link #calculateBoundedScore(Score)} postponed,
+     * so it doesn't pile up over many bounded score calculations.
+     * Call it once all the moves evaluated with {@link #calculateBoundedScore(Score)} have been undone,
+     * for example at the end of a step.
+     */
+    default void flushBoundedScoreCalculations() {
+        // Nothing is postponed by default
+    }
+
     /**
      * @return true if {@link #getConstraintMatchTotalMap()} and {@link #getIndictmentMap} can be called
      */
@@ -101,6 +127,20 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     Map<Object, Indictment<Score_>> getIndictmentMap();
 
+    /**
+     * As defined by {@link #getConstraintMatchTotalMap()},
+     * but only the {@link ConstraintMatchTotal#getScore() score}
+     * and {@link ConstraintMatchTotal#getConstraintMatchCount() match count} of each value are guaranteed to work.
+     * Implementations that keep those totals up to date during solving don't create any {@link ConstraintMatch}.
+     * Meant for monitoring, which calls it every step.
+     *
+     * @return never null, the key is the {@link ConstraintMatchTotal#getConstraintId() constraintId}
+     * @throws IllegalStateException if {@link #isConstraintMatchEnabled()} returns false
+     */
+    default Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalSummaryMap() {
+        return getConstraintMatchTotalMap();
+    }
+
     /**
      * @param constraintMatchEnabledPreference false if a {@link ScoreDirector} implementation
      *        should not do {@link ConstraintMatch} tracking even if it supports it.
@@ -126,6 +166,16 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     void doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch, Consumer<Score_> moveProcessor);
 
+    /**
+     * Like {@link #doAndProcessMove(Move, boolean, Consumer)},
+     * but it calculates the score with {@link #calculateBoundedScore(Score)}.
+     *
+     * @param move never null
+     * @param threshold never null, every score worse than it will be rejected by the moveProcessor
+     * @param moveProcessor never null, use this to store the score as well as call the acceptor and forager
+     */
+    void doAndProcessMove(Move<Solution_> move, Score_ threshold, Consumer<Score_> moveProcessor);
+
     /**
      * @param expectedWorkingEntityListRevision an
      * @return true if the entityList might have a different set of instances now
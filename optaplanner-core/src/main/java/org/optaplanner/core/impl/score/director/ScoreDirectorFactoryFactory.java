@@ -51,6 +51,8 @@ import org.optaplanner.core.impl.score.director.incremental.IncrementalScoreDire
 import org.optaplanner.core.impl.score.director.stream.AbstractConstraintStreamScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.stream.DroolsConstraintStreamScoreDirectorFactory;
+import org.optaplanner.core.impl.score.director.stream.KieBaseDescriptor;
+import org.optaplanner.core.impl.score.director.stream.KieBaseDescriptorCache;
 import org.optaplanner.core.impl.score.trend.InitializingScoreTrend;
 
 public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>> {
@@ -110,19 +112,32 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
         AbstractScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory;
         if (easyScoreDirectorFactory != null) {
             validateNoDroolsAlphaNetworkCompilation();
+            validateNoDroolsKieBaseSharing();
             validateNoGizmoKieBaseSupplier();
+            validateNoConstraintStreamParallelBulkRefresh();
+            validateNoConstraintStreamTupleRecycling();
             scoreDirectorFactory = easyScoreDirectorFactory;
         } else if (constraintStreamScoreDirectorFactory != null) {
             if (config.getConstraintStreamImplType() == ConstraintStreamImplType.BAVET) {
                 validateNoDroolsAlphaNetworkCompilation();
+                validateNoDroolsKieBaseSharing();
                 validateNoGizmoKieBaseSupplier();
+            } else {
+                validateNoConstraintStreamParallelBulkRefresh();
+                validateNoConstraintStreamTupleRecycling();
             }
             scoreDirectorFactory = constraintStreamScoreDirectorFactory;
         } else if (incrementalScoreDirectorFactory != null) {
             validateNoDroolsAlphaNetworkCompilation();
+            validateNoDroolsKieBaseSharing();
             validateNoGizmoKieBaseSupplier();
+            validateNoConstraintStreamParallelBulkRefresh();
+            validateNoConstraintStreamTupleRecycling();
             scoreDirectorFactory = incrementalScoreDirectorFactory;
         } else if (droolsScoreDirectorFactory != null) {
+            validateNoDroolsKieBaseSharing();
+            validateNoConstraintStreamParallelBulkRefresh();
+            validateNoConstraintStreamTupleRecycling();
             scoreDirectorFactory = droolsScoreDirectorFactory;
         } else {
             throw new IllegalArgumentException("The scoreDirectorFactory lacks a configuration for an "
@@ -202,6 +217,33 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
         }
     }
 
+    private void validateNoDroolsKieBaseSharing() {
+        if (config.getDroolsKieBaseSharingEnabled() != null) {
+            throw new IllegalStateException("If there is no constraintProviderClass (" + config.getConstraintProviderClass()
+                    + ") with " + ConstraintStreamImplType.DROOLS + " impl type ("
+                    + config.getConstraintStreamImplType() + "), there can be no droolsKieBaseSharingEnabled ("
+                    + config.getDroolsKieBaseSharingEnabled() + ") either.");
+        }
+    }
+
+    private void validateNoConstraintStreamParallelBulkRefresh() {
+        if (config.getConstraintStreamParallelBulkRefreshEnabled() != null) {
+            throw new IllegalStateException("If there is no constraintProviderClass (" + config.getConstraintProviderClass()
+                    + ") with " + ConstraintStreamImplType.BAVET + " impl type ("
+                    + config.getConstraintStreamImplType() + "), there can be no constraintStreamParallelBulkRefreshEnabled ("
+                    + config.getConstraintStreamParallelBulkRefreshEnabled() + ") either.");
+        }
+    }
+
+    private void validateNoConstraintStreamTupleRecycling() {
+        if (config.getConstraintStreamTupleRecyclingEnabled() != null) {
+            throw new IllegalStateException("If there is no constraintProviderClass (" + config.getConstraintProviderClass()
+                    + ") with " + ConstraintStreamImplType.BAVET + " impl type ("
+                    + config.getConstraintStreamImplType() + "), there can be no constraintStreamTupleRecyclingEnabled ("
+                    + config.getConstraintStreamTupleRecyclingEnabled() + ") either.");
+        }
+    }
+
     private void validateNoGizmoKieBaseSupplier() {
         if (config.getGizmoKieBaseSupplier() != null) {
             throw new IllegalStateException("If there is no scoreDrl (" + config.getScoreDrlList()
@@ -228,15 +270,30 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
                     Objects.requireNonNullElse(config.getConstraintStreamImplType(), ConstraintStreamImplType.DROOLS);
             switch (constraintStreamImplType_) {
                 case BAVET:
-                    return new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider);
+                    boolean parallelBulkRefreshEnabled =
+                            Objects.requireNonNullElse(config.getConstraintStreamParallelBulkRefreshEnabled(), false);
+                    boolean tupleRecyclingEnabled =
+                            Objects.requireNonNullElse(config.getConstraintStreamTupleRecyclingEnabled(), false);
+                    return new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider,
+                            parallelBulkRefreshEnabled, tupleRecyclingEnabled);
                 case DROOLS:
                     if (config.getGizmoKieBaseSupplier() != null) {
                         return new DroolsConstraintStreamScoreDirectorFactory<>(solutionDescriptor,
                                 config.getGizmoKieBaseSupplier(),
                                 config.isDroolsAlphaNetworkCompilationEnabled());
                     }
-                    return new DroolsConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider,
-                            config.isDroolsAlphaNetworkCompilationEnabled());
+                    boolean droolsAlphaNetworkCompilationEnabled = config.isDroolsAlphaNetworkCompilationEnabled();
+                    if (!Objects.requireNonNullElse(config.getDroolsKieBaseSharingEnabled(), false)) {
+                        return new DroolsConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider,
+                                droolsAlphaNetworkCompilationEnabled);
+                    }
+                    KieBaseDescriptor<Solution_> kieBaseDescriptor = KieBaseDescriptorCache.computeIfAbsent(
+                            solutionDescriptor, config.getConstraintProviderClass(),
+                            config.getConstraintProviderCustomProperties(), droolsAlphaNetworkCompilationEnabled,
+                            () -> DroolsConstraintStreamScoreDirectorFactory.buildKieBase(solutionDescriptor,
+                                    constraintProvider, droolsAlphaNetworkCompilationEnabled));
+                    return new DroolsConstraintStreamScoreDirectorFactory<>(solutionDescriptor, kieBaseDescriptor,
+                            droolsAlphaNetworkCompilationEnabled);
                 default:
                     throw new IllegalStateException(
                             "The constraintStreamImplType (" + constraintStreamImplType_ + ") is not implemented.");
@@ -47,6 +47,7 @@ public class DroolsScoreDirectorFactory<Solution_, Score_ extends Score<Score_>>
         extends AbstractScoreDirectorFactory<Solution_, Score_> {
 
     private final KieBase kieBase;
+    private final KieSessionPool kieSessionPool;
 
     protected Map<Rule, Function<Solution_, Score_>> ruleToConstraintWeightExtractorMap;
 
@@ -57,6 +58,7 @@ public class DroolsScoreDirectorFactory<Solution_, Score_ extends Score<Score_>>
     public DroolsScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor, KieBase kieBase) {
         super(solutionDescriptor);
         this.kieBase = kieBase;
+        this.kieSessionPool = new KieSessionPool(this, kieBase, null);
         assertGlobalScoreHolderExists(kieBase);
         createRuleToConstraintWeightExtractorMap(kieBase);
         solutionDescriptor.assertProblemFactsExist();
@@ -135,8 +137,15 @@ public class DroolsScoreDirectorFactory<Solution_, Score_ extends Score<Score_>>
         return new DroolsScoreDirector<>(this, lookUpEnabled, constraintMatchEnabledPreference);
     }
 
+    /**
+     * @return never null, recycled if possible; {@link KieSession#dispose()} returns it to the pool
+     */
     public KieSession newKieSession() {
-        return kieBase.newKieSession();
+        return kieSessionPool.borrowKieSession();
+    }
+
+    public KieSessionPool getKieSessionPool() {
+        return kieSessionPool;
     }
 
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.drools;
+
+import java.lang.ref.Cleaner;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.KieSessionsPool;
+
+/**
+ * Recycles the {@link KieSession}s of a single {@link KieBase},
+ * so that every score director, including those of move threads and of short consecutive solves,
+ * does not pay for a new session and its network memory.
+ * <p>
+ * A session is returned to the pool by {@link KieSession#dispose()}, which resets it.
+ * That reset clears the working memory, the globals and the event listeners,
+ * so the score director must set its globals and register its event listeners again on every borrow.
+ * <p>
+ * The pooled sessions are disposed for real by {@link #shutdown()},
+ * or else when the owner of this pool (usually the score director factory) is garbage collected.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class KieSessionPool {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final KieSessionsPool delegate;
+    private final KieSessionConfiguration kieSessionConfiguration;
+    private final Set<KieSession> recycledSessionSet = Collections.newSetFromMap(new WeakHashMap<>());
+    private final AtomicLong hitCount = new AtomicLong(0L);
+    private final AtomicLong missCount = new AtomicLong(0L);
+    private final Cleaner.Cleanable cleanable;
+
+    /**
+     * @param owner never null, the pool shuts down when it is garbage collected, so it must not be reachable
+     *        from the borrowed sessions
+     * @param kieBase never null
+     * @param kieSessionConfiguration null if the default configuration of the {@link KieBase} applies;
+     *        Drools pools sessions per configuration instance, so the same instance must be used for every session
+     */
+    public KieSessionPool(Object owner, KieBase kieBase, KieSessionConfiguration kieSessionConfiguration) {
+        this.delegate = kieBase.newKieSessionsPool(0);
+        this.kieSessionConfiguration = kieSessionConfiguration;
+        // The cleaning action must not reference the owner, or the owner would never become unreachable
+        this.cleanable = CLEANER.register(owner, delegate::shutdown);
+    }
+
+    /**
+     * @return never null, return it to the pool with {@link KieSession#dispose()}
+     */
+    public KieSession borrowKieSession() {
+        KieSession kieSession = kieSessionConfiguration == null ? delegate.newKieSession()
+                : delegate.newKieSession(kieSessionConfiguration);
+        boolean recycled;
+        synchronized (recycledSessionSet) {
+            recycled = !recycledSessionSet.add(kieSession);
+        }
+        if (recycled) {
+            hitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+        }
+        return kieSession;
+    }
+
+    /**
+     * Disposes every pooled session. Sessions that are still borrowed are disposed when they are returned.
+     * Calling it more than once has no effect.
+     */
+    public void shutdown() {
+        cleanable.clean();
+    }
+
+    /**
+     * @return at least 0, the number of borrowed sessions that were recycled
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return at least 0, the number of borrowed sessions that had to be created
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return 0.0 to 1.0, 0.0 if no session was borrowed yet
+     */
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0L ? 0.0 : (double) hits / total;
+    }
+
+}
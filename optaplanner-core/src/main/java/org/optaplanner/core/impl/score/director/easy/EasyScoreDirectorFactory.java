@@ -16,12 +16,20 @@
 
 package org.optaplanner.core.impl.score.director.easy;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.calculator.EasyScoreCalculator;
+import org.optaplanner.core.api.score.calculator.PartitionedEasyScoreCalculator;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.ScoreDirectorFactory;
+import org.optaplanner.core.impl.solver.thread.DefaultSolverThreadFactory;
 
 /**
  * Easy implementation of {@link ScoreDirectorFactory}.
@@ -35,11 +43,36 @@ public class EasyScoreDirectorFactory<Solution_, Score_ extends Score<Score_>>
         extends AbstractScoreDirectorFactory<Solution_, Score_> {
 
     private final EasyScoreCalculator<Solution_, Score_> easyScoreCalculator;
+    /**
+     * Null unless {@link PartitionedEasyScoreCalculator#isParallelPartitionScoreCalculationEnabled()} is true.
+     */
+    private final Executor partitionScoreExecutor;
 
     public EasyScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             EasyScoreCalculator<Solution_, Score_> easyScoreCalculator) {
         super(solutionDescriptor);
         this.easyScoreCalculator = easyScoreCalculator;
+        boolean parallelPartitionScoreCalculationEnabled = easyScoreCalculator instanceof PartitionedEasyScoreCalculator
+                && ((PartitionedEasyScoreCalculator<Solution_, Score_>) easyScoreCalculator)
+                        .isParallelPartitionScoreCalculationEnabled();
+        this.partitionScoreExecutor = parallelPartitionScoreCalculationEnabled ? buildPartitionScoreExecutor() : null;
+    }
+
+    /**
+     * The calling thread calculates a partition score too, so it needs one thread less than there are processors.
+     * The threads are daemons and time out when idle, so the executor does not need to be shut down.
+     */
+    private static Executor buildPartitionScoreExecutor() {
+        int threadCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        ThreadFactory solverThreadFactory = new DefaultSolverThreadFactory("PartitionScore");
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount, 1L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = solverThreadFactory.newThread(runnable);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     // ************************************************************************
@@ -49,6 +82,10 @@ public class EasyScoreDirectorFactory<Solution_, Score_ extends Score<Score_>>
     @Override
     public EasyScoreDirector<Solution_, Score_> buildScoreDirector(
             boolean lookUpEnabled, boolean constraintMatchEnabledPreference) {
+        if (easyScoreCalculator instanceof PartitionedEasyScoreCalculator) {
+            return new PartitionedEasyScoreDirector<>(this, lookUpEnabled, constraintMatchEnabledPreference,
+                    (PartitionedEasyScoreCalculator<Solution_, Score_>) easyScoreCalculator, partitionScoreExecutor);
+        }
         return new EasyScoreDirector<>(this, lookUpEnabled, constraintMatchEnabledPreference, easyScoreCalculator);
     }
 
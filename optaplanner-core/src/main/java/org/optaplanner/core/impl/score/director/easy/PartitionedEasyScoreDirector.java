@@ -0,0 +1,260 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.easy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.calculator.PartitionedEasyScoreCalculator;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+
+/**
+ * An {@link EasyScoreDirector} for a {@link PartitionedEasyScoreCalculator}.
+ * It caches the score of every partition and the sum of those scores.
+ * A variable change only marks the partitions of the changed entity as dirty,
+ * so a score calculation only recalculates the dirty partitions.
+ * Any other change, such as an entity or a problem fact change, recalculates every partition.
+ * <p>
+ * The sum is kept up to date by subtracting the old and adding the new partition score.
+ * So that a {@link Score} type that isn't exact can't drift away,
+ * it is summed again from the cached partition scores once as many partition scores changed as there are partitions.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <Score_> the score type to go with the solution
+ * @see ScoreDirector
+ */
+public class PartitionedEasyScoreDirector<Solution_, Score_ extends Score<Score_>>
+        extends EasyScoreDirector<Solution_, Score_> {
+
+    /**
+     * Below this number of dirty partitions, the thread hand-over overhead outweighs the parallel gain.
+     */
+    protected static final int PARALLEL_PARTITION_THRESHOLD = 8;
+
+    private final PartitionedEasyScoreCalculator<Solution_, Score_> partitionedEasyScoreCalculator;
+    /**
+     * Null if the dirty partitions are always recalculated sequentially.
+     */
+    private final Executor partitionScoreExecutor;
+
+    private final Map<Object, Score_> partitionScoreMap = new HashMap<>();
+    private final Set<Object> dirtyPartitionKeySet = new LinkedHashSet<>();
+    private Score_ partitionScoreTotal = null;
+    /**
+     * The number of partition scores that changed since {@link #partitionScoreTotal} was last summed from scratch.
+     */
+    private int partitionScoreChangeCount = 0;
+    private boolean recalculateAll = true;
+
+    /**
+     * @param scoreDirectorFactory never null
+     * @param lookUpEnabled true if lookups are enabled
+     * @param constraintMatchEnabledPreference true if constraint matching is preferred
+     * @param partitionedEasyScoreCalculator never null
+     * @param partitionScoreExecutor null to always recalculate the dirty partitions sequentially,
+     *        otherwise {@link PartitionedEasyScoreCalculator#calculatePartitionScore(Object, Object)}
+     *        must be thread-safe
+     */
+    public PartitionedEasyScoreDirector(EasyScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory,
+            boolean lookUpEnabled, boolean constraintMatchEnabledPreference,
+            PartitionedEasyScoreCalculator<Solution_, Score_> partitionedEasyScoreCalculator,
+            Executor partitionScoreExecutor) {
+        super(scoreDirectorFactory, lookUpEnabled, constraintMatchEnabledPreference, partitionedEasyScoreCalculator);
+        this.partitionedEasyScoreCalculator = partitionedEasyScoreCalculator;
+        this.partitionScoreExecutor = partitionScoreExecutor;
+    }
+
+    // ************************************************************************
+    // Complex methods
+    // ************************************************************************
+
+    @Override
+    public void setWorkingSolution(Solution_ workingSolution) {
+        super.setWorkingSolution(workingSolution);
+        recalculateAll = true;
+    }
+
+    @Override
+    public Score_ calculateScore() {
+        variableListenerSupport.assertNotificationQueuesAreEmpty();
+        if (recalculateAll) {
+            partitionScoreMap.clear();
+            dirtyPartitionKeySet.clear();
+            dirtyPartitionKeySet.addAll(partitionedEasyScoreCalculator.getPartitionKeys(workingSolution));
+            partitionScoreTotal = getScoreDefinition().getZeroScore();
+            partitionScoreChangeCount = 0;
+            recalculateAll = false;
+        }
+        if (!dirtyPartitionKeySet.isEmpty()) {
+            recalculateDirtyPartitions();
+        }
+        Score_ score = partitionScoreTotal;
+        if (workingInitScore != 0) {
+            score = score.withInitScore(workingInitScore);
+        }
+        setCalculatedScore(score);
+        return score;
+    }
+
+    private void recalculateDirtyPartitions() {
+        List<Object> dirtyPartitionKeyList = new ArrayList<>(dirtyPartitionKeySet);
+        dirtyPartitionKeySet.clear();
+        List<Score_> partitionScoreList;
+        if (partitionScoreExecutor != null && dirtyPartitionKeyList.size() >= PARALLEL_PARTITION_THRESHOLD) {
+            partitionScoreList = calculatePartitionScoresInParallel(dirtyPartitionKeyList);
+        } else {
+            partitionScoreList = new ArrayList<>(dirtyPartitionKeyList.size());
+            for (Object partitionKey : dirtyPartitionKeyList) {
+                partitionScoreList.add(calculatePartitionScore(partitionKey));
+            }
+        }
+        for (int i = 0; i < dirtyPartitionKeyList.size(); i++) {
+            Score_ partitionScore = partitionScoreList.get(i);
+            Score_ oldPartitionScore = partitionScoreMap.put(dirtyPartitionKeyList.get(i), partitionScore);
+            if (oldPartitionScore != null) {
+                partitionScoreTotal = partitionScoreTotal.subtract(oldPartitionScore);
+                partitionScoreChangeCount++;
+            }
+            partitionScoreTotal = partitionScoreTotal.add(partitionScore);
+        }
+        if (partitionScoreChangeCount >= partitionScoreMap.size()) {
+            // Amortized over the partition score changes, this is O(1) per change
+            Score_ resummedPartitionScoreTotal = getScoreDefinition().getZeroScore();
+            for (Score_ partitionScore : partitionScoreMap.values()) {
+                resummedPartitionScoreTotal = resummedPartitionScoreTotal.add(partitionScore);
+            }
+            partitionScoreTotal = resummedPartitionScoreTotal;
+            partitionScoreChangeCount = 0;
+        }
+    }
+
+    /**
+     * The calling thread calculates the last partition itself and then waits for the others.
+     */
+    private List<Score_> calculatePartitionScoresInParallel(List<Object> dirtyPartitionKeyList) {
+        int lastIndex = dirtyPartitionKeyList.size() - 1;
+        List<CompletableFuture<Score_>> futureList = new ArrayList<>(lastIndex);
+        for (int i = 0; i < lastIndex; i++) {
+            Object partitionKey = dirtyPartitionKeyList.get(i);
+            futureList.add(CompletableFuture.supplyAsync(() -> calculatePartitionScore(partitionKey),
+                    partitionScoreExecutor));
+        }
+        Score_ lastPartitionScore = calculatePartitionScore(dirtyPartitionKeyList.get(lastIndex));
+        List<Score_> partitionScoreList = new ArrayList<>(dirtyPartitionKeyList.size());
+        try {
+            for (CompletableFuture<Score_> future : futureList) {
+                partitionScoreList.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        partitionScoreList.add(lastPartitionScore);
+        return partitionScoreList;
+    }
+
+    private Score_ calculatePartitionScore(Object partitionKey) {
+        Score_ partitionScore = partitionedEasyScoreCalculator.calculatePartitionScore(workingSolution, partitionKey);
+        if (partitionScore == null) {
+            throw new IllegalStateException("The partitionedEasyScoreCalculator ("
+                    + partitionedEasyScoreCalculator.getClass() + ") must return a non-null score ("
+                    + partitionScore + ") in the method calculatePartitionScore() for the partitionKey ("
+                    + partitionKey + ").");
+        } else if (!partitionScore.isSolutionInitialized()) {
+            throw new IllegalStateException("The partitionScore (" + partitionScore + ") of the partitionKey ("
+                    + partitionKey + ")'s initScore (" + partitionScore.getInitScore() + ") should be 0.\n"
+                    + "Maybe the score calculator (" + partitionedEasyScoreCalculator.getClass()
+                    + ") is calculating the initScore too, although it's the score director's responsibility.");
+        }
+        return partitionScore;
+    }
+
+    private void markPartitionsDirty(Object entity) {
+        if (!recalculateAll) {
+            dirtyPartitionKeySet.addAll(partitionedEasyScoreCalculator.getPartitionKeys(workingSolution, entity));
+        }
+    }
+
+    @Override
+    public boolean requiresFlushing() {
+        return false; // The dirty partition keys are bounded by the number of partitions.
+    }
+
+    // ************************************************************************
+    // Entity/variable add/change/remove methods
+    // ************************************************************************
+
+    @Override
+    public void afterEntityAdded(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        recalculateAll = true;
+        super.afterEntityAdded(entityDescriptor, entity);
+    }
+
+    @Override
+    public void beforeVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        markPartitionsDirty(entity);
+        super.beforeVariableChanged(variableDescriptor, entity);
+    }
+
+    @Override
+    public void afterVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        markPartitionsDirty(entity);
+        super.afterVariableChanged(variableDescriptor, entity);
+    }
+
+    @Override
+    public void afterEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        recalculateAll = true;
+        super.afterEntityRemoved(entityDescriptor, entity);
+    }
+
+    // ************************************************************************
+    // Problem fact add/change/remove methods
+    // ************************************************************************
+
+    @Override
+    public void afterProblemFactAdded(Object problemFact) {
+        recalculateAll = true;
+        super.afterProblemFactAdded(problemFact);
+    }
+
+    @Override
+    public void afterProblemPropertyChanged(Object problemFactOrEntity) {
+        recalculateAll = true;
+        super.afterProblemPropertyChanged(problemFactOrEntity);
+    }
+
+    @Override
+    public void afterProblemFactRemoved(Object problemFact) {
+        recalculateAll = true;
+        super.afterProblemFactRemoved(problemFact);
+    }
+
+}
@@ -17,7 +17,10 @@
 package org.optaplanner.core.impl.score.director.stream;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import org.optaplanner.core.api.domain.entity.PlanningEntity;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
@@ -25,6 +28,7 @@ import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.common.ReflectionHelper;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirector;
@@ -42,6 +46,17 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         extends AbstractScoreDirector<Solution_, Score_, BavetConstraintStreamScoreDirectorFactory<Solution_, Score_>> {
 
     protected BavetConstraintSession<Solution_, Score_> session;
+    private boolean profilingEnabled = false;
+
+    private static final Object NULL_OLD_VALUE = new Object();
+
+    /**
+     * The old value of every (variable, entity) pair between its beforeVariableChanged() and afterVariableChanged() calls,
+     * to detect that afterVariableChanged() didn't change it.
+     * A move might call beforeVariableChanged() for several variables and entities before the afterVariableChanged() calls.
+     * The inner maps are kept, so a steady stream of changes doesn't allocate.
+     */
+    private final Map<VariableDescriptor<Solution_>, Map<Object, Object>> changingOldValueMap = new HashMap<>();
 
     public BavetConstraintStreamScoreDirector(
             BavetConstraintStreamScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory,
@@ -56,15 +71,14 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
     @Override
     public void setWorkingSolution(Solution_ workingSolution) {
         super.setWorkingSolution(workingSolution);
+        changingOldValueMap.values().forEach(Map::clear);
         resetConstraintStreamingSession();
     }
 
     private void resetConstraintStreamingSession() {
-        session = scoreDirectorFactory.newSession(constraintMatchEnabledPreference, workingSolution);
-        Collection<Object> workingFacts = getSolutionDescriptor().getAllFacts(workingSolution);
-        for (Object fact : workingFacts) {
-            session.insert(fact);
-        }
+        session = scoreDirectorFactory.newSession(constraintMatchEnabledPreference, profilingEnabled,
+                workingSolution);
+        session.insertAll(getSolutionDescriptor().getAllFacts(workingSolution));
     }
 
     @Override
@@ -75,6 +89,19 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         return score;
     }
 
+    @Override
+    public Score_ calculateBoundedScore(Score_ threshold) {
+        variableListenerSupport.assertNotificationQueuesAreEmpty();
+        Score_ score = session.calculateScore(workingInitScore, threshold);
+        setCalculatedScore(score);
+        return score;
+    }
+
+    @Override
+    public void flushBoundedScoreCalculations() {
+        session.refreshAll();
+    }
+
     @Override
     public boolean isConstraintMatchEnabled() {
         return constraintMatchEnabledPreference;
@@ -98,6 +125,16 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         return session.getIndictmentMap();
     }
 
+    @Override
+    public Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalSummaryMap() {
+        if (workingSolution == null) {
+            throw new IllegalStateException(
+                    "The method setWorkingSolution() must be called before the method"
+                            + " getConstraintMatchTotalSummaryMap().");
+        }
+        return session.getConstraintMatchTotalSummaryMap();
+    }
+
     @Override
     public boolean requiresFlushing() {
         return true; // Tuple refresh happens during score calculation.
@@ -128,14 +165,55 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         super.afterEntityAdded(entityDescriptor, entity);
     }
 
-    // public void beforeVariableChanged(VariableDescriptor variableDescriptor, Object entity) // Do nothing
+    @Override
+    public void beforeVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        Object oldValue = variableDescriptor.getValue(entity);
+        // If beforeVariableChanged() is called twice for the same pair, the first call holds the original value
+        changingOldValueMap.computeIfAbsent(variableDescriptor, k -> new IdentityHashMap<>())
+                .putIfAbsent(entity, oldValue == null ? NULL_OLD_VALUE : oldValue);
+        super.beforeVariableChanged(variableDescriptor, entity);
+    }
 
     @Override
     public void afterVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
-        session.update(entity);
+        if (isChanged(variableDescriptor, entity)) {
+            session.update(entity);
+        }
         super.afterVariableChanged(variableDescriptor, entity);
     }
 
+    /**
+     * Shadow variable listeners often recalculate a shadow variable to the value it already had.
+     * No node chain can read a different value then, so none of them needs to be refreshed.
+     * <p>
+     * Only an {@link ReflectionHelper#isImmutableValue(Object) immutable value} is compared with equals(),
+     * because a user defined equals() of a planning value might consider a different instance the same.
+     * Any other value is compared by identity.
+     */
+    private boolean isChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        Map<Object, Object> entityToOldValueMap = changingOldValueMap.get(variableDescriptor);
+        Object oldValue = entityToOldValueMap == null ? null : entityToOldValueMap.remove(entity);
+        if (oldValue == null) {
+            // No matching beforeVariableChanged() call
+            return true;
+        }
+        if (oldValue == NULL_OLD_VALUE) {
+            oldValue = null;
+        }
+        Object newValue = variableDescriptor.getValue(entity);
+        if (newValue instanceof Collection || newValue instanceof Map) {
+            // The same instance might have been changed in place, for example by an inverse relation shadow variable
+            return true;
+        }
+        if (oldValue == newValue) {
+            return false;
+        }
+        if (ReflectionHelper.isImmutableValue(oldValue) && ReflectionHelper.isImmutableValue(newValue)) {
+            return !Objects.equals(oldValue, newValue);
+        }
+        return true;
+    }
+
     // public void beforeEntityRemoved(EntityDescriptor entityDescriptor, Object entity) // Do nothing
 
     @Override
@@ -182,4 +260,18 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
     public BavetConstraintSession<Solution_, Score_> getSession() {
         return session;
     }
+
+    public boolean isProfilingEnabled() {
+        return profilingEnabled;
+    }
+
+    /**
+     * Like {@link #overwriteConstraintMatchEnabledPreference(boolean)},
+     * it only affects the sessions created by the next {@link #setWorkingSolution(Object)} calls.
+     *
+     * @param profilingEnabled true if the session needs to support {@link BavetConstraintSession#getConstraintProfileMap()}
+     */
+    public void setProfilingEnabled(boolean profilingEnabled) {
+        this.profilingEnabled = profilingEnabled;
+    }
 }
@@ -17,6 +17,11 @@
 package org.optaplanner.core.impl.score.director.stream;
 
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.Constraint;
@@ -26,20 +31,55 @@ import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSessionFactory;
+import org.optaplanner.core.impl.solver.thread.DefaultSolverThreadFactory;
 
 public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ extends Score<Score_>>
         extends AbstractConstraintStreamScoreDirectorFactory<Solution_, Score_> {
 
     private final BavetConstraintSessionFactory<Solution_, Score_> constraintSessionFactory;
     private final List<BavetConstraint<Solution_>> constraints;
+    /**
+     * Null if the parallel bulk refresh is disabled.
+     */
+    private final Executor bulkRefreshExecutor;
 
     public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             ConstraintProvider constraintProvider) {
+        this(solutionDescriptor, constraintProvider, false, false);
+    }
+
+    /**
+     * @param solutionDescriptor never null
+     * @param constraintProvider never null
+     * @param parallelBulkRefreshEnabled if true, all lambdas of the constraintProvider must be thread-safe,
+     *        see {@link BavetConstraintSession#setBulkRefreshExecutor(Executor)}
+     * @param tupleRecyclingEnabled see {@link BavetConstraintSession#isTupleRecyclingEnabled()}
+     */
+    public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintProvider constraintProvider, boolean parallelBulkRefreshEnabled, boolean tupleRecyclingEnabled) {
         super(solutionDescriptor);
         BavetConstraintFactory<Solution_> constraintFactory = new BavetConstraintFactory<>(solutionDescriptor);
         constraints = constraintFactory.buildConstraints(constraintProvider);
-        this.constraintSessionFactory =
-                new BavetConstraintSessionFactory<>(solutionDescriptor, constraintFactory.buildConstraints(constraintProvider));
+        this.constraintSessionFactory = new BavetConstraintSessionFactory<>(solutionDescriptor,
+                constraintFactory.buildConstraints(constraintProvider), tupleRecyclingEnabled);
+        this.bulkRefreshExecutor = parallelBulkRefreshEnabled ? buildBulkRefreshExecutor() : null;
+    }
+
+    /**
+     * The calling thread refreshes a subnetwork too, so it needs one thread less than there are processors.
+     * The threads are daemons and time out when idle, so the executor does not need to be shut down.
+     */
+    private static Executor buildBulkRefreshExecutor() {
+        int threadCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        ThreadFactory solverThreadFactory = new DefaultSolverThreadFactory("BulkRefresh");
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount, 1L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = solverThreadFactory.newThread(runnable);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     @Override
@@ -48,9 +88,12 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
         return new BavetConstraintStreamScoreDirector<>(this, lookUpEnabled, constraintMatchEnabledPreference);
     }
 
-    public BavetConstraintSession<Solution_, Score_> newSession(boolean constraintMatchEnabled,
+    public BavetConstraintSession<Solution_, Score_> newSession(boolean constraintMatchEnabled, boolean profilingEnabled,
             Solution_ workingSolution) {
-        return constraintSessionFactory.buildSession(constraintMatchEnabled, workingSolution);
+        BavetConstraintSession<Solution_, Score_> session =
+                constraintSessionFactory.buildSession(constraintMatchEnabled, profilingEnabled, workingSolution);
+        session.setBulkRefreshExecutor(bulkRefreshExecutor);
+        return session;
     }
 
     @Override
@@ -59,6 +59,10 @@ public final class DroolsConstraintStreamScoreDirector<Solution_, Score_ extends
         this.solutionDescriptor = scoreDirectorFactory.getSolutionDescriptor();
     }
 
+    public KieSession getKieSession() {
+        return session;
+    }
+
     // ************************************************************************
     // Complex methods
     // ************************************************************************
@@ -71,7 +75,7 @@ public final class DroolsConstraintStreamScoreDirector<Solution_, Score_ extends
 
     private void resetConstraintStreamingSession() {
         if (session != null) {
-            session.dispose();
+            session.dispose(); // Returns the session to the pool of the factory.
         }
         SessionDescriptor<Score_> sessionDescriptor =
                 scoreDirectorFactory.newConstraintStreamingSession(constraintMatchEnabledPreference, workingSolution);
@@ -118,6 +122,17 @@ public final class DroolsConstraintStreamScoreDirector<Solution_, Score_ extends
         return scoreInliner.getIndictmentMap();
     }
 
+    @Override
+    public Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalSummaryMap() {
+        if (workingSolution == null) {
+            throw new IllegalStateException(
+                    "The method setWorkingSolution() must be called before the method"
+                            + " getConstraintMatchTotalSummaryMap().");
+        }
+        session.fireAllRules(agendaFilter);
+        return scoreInliner.getConstraintMatchTotalSummaryMap();
+    }
+
     @Override
     public boolean requiresFlushing() {
         return true; // Drools propagation queue is only flushed during fireAllRules().
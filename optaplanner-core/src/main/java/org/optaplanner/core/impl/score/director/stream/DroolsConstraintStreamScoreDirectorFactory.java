@@ -39,7 +39,6 @@ import org.kie.api.KieBaseConfiguration;
 import org.kie.api.KieServices;
 import org.kie.api.conf.KieBaseMutabilityOption;
 import org.kie.api.definition.rule.Rule;
-import org.kie.api.runtime.Environment;
 import org.kie.api.runtime.KieSession;
 import org.kie.api.runtime.KieSessionConfiguration;
 import org.kie.api.runtime.conf.DirectFiringOption;
@@ -54,6 +53,7 @@ import org.optaplanner.core.api.score.stream.ConstraintProvider;
 import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.score.director.drools.KieSessionPool;
 import org.optaplanner.core.impl.score.director.drools.OptaPlannerRuleEventListener;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
 import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
@@ -66,6 +66,7 @@ public final class DroolsConstraintStreamScoreDirectorFactory<Solution_, Score_
 
     private final KieBaseDescriptor<Solution_> kieBaseDescriptor;
     private final boolean droolsAlphaNetworkCompilationEnabled;
+    private final KieSessionPool kieSessionPool;
 
     public DroolsConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             ConstraintProvider constraintProvider, boolean droolsAlphaNetworkCompilationEnabled) {
@@ -95,6 +96,7 @@ public final class DroolsConstraintStreamScoreDirectorFactory<Solution_, Score_
         super(solutionDescriptor);
         this.kieBaseDescriptor = Objects.requireNonNull(kieBaseDescriptor);
         this.droolsAlphaNetworkCompilationEnabled = droolsAlphaNetworkCompilationEnabled;
+        this.kieSessionPool = new KieSessionPool(this, kieBaseDescriptor.get(), buildKieSessionConfiguration());
     }
 
     @Override
@@ -141,8 +143,9 @@ public final class DroolsConstraintStreamScoreDirectorFactory<Solution_, Score_
                 .keySet()
                 .stream()
                 .collect(toMap(Function.identity(), constraint -> constraint.extractConstraintWeight(workingSolution)));
-        // Create the session itself.
-        KieSession kieSession = buildKieSessionFromKieBase(kieBaseDescriptor.get());
+        // Borrow the session itself; the pool clears its facts, globals and listeners when it is disposed,
+        // so they are set again below.
+        KieSession kieSession = kieSessionPool.borrowKieSession();
         ((RuleEventManager) kieSession).addEventListener(new OptaPlannerRuleEventListener()); // Enables undo in rules.
         // Build and set the impacters for each constraint; this locks in the constraint weights.
         ScoreDefinition<Score_> scoreDefinition = solutionDescriptor.getScoreDefinition();
@@ -165,11 +168,10 @@ public final class DroolsConstraintStreamScoreDirectorFactory<Solution_, Score_
         return new SessionDescriptor<>(kieSession, scoreInliner, agendaFilter);
     }
 
-    private static KieSession buildKieSessionFromKieBase(KieBase kieBase) {
+    private static KieSessionConfiguration buildKieSessionConfiguration() {
         KieSessionConfiguration config = KieServices.get().newKieSessionConfiguration();
         config.setOption(DirectFiringOption.YES); // For performance; not applicable to DRL due to insertLogical etc.
-        Environment environment = KieServices.get().newEnvironment();
-        return kieBase.newKieSession(config, environment);
+        return config;
     }
 
     @Override
@@ -179,6 +181,14 @@ public final class DroolsConstraintStreamScoreDirectorFactory<Solution_, Score_
                 .toArray(Constraint[]::new);
     }
 
+    public KieBaseDescriptor<Solution_> getKieBaseDescriptor() {
+        return kieBaseDescriptor;
+    }
+
+    public KieSessionPool getKieSessionPool() {
+        return kieSessionPool;
+    }
+
     public boolean isDroolsAlphaNetworkCompilationEnabled() {
         return droolsAlphaNetworkCompilationEnabled;
     }
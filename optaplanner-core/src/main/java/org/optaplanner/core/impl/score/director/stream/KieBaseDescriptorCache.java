@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.stream;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.optaplanner.core.api.domain.common.DomainAccessType;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+/**
+ * Shares the {@link KieBaseDescriptor} of a {@link ConstraintProvider} class between all score director factories
+ * in the JVM, so that creating another {@link org.optaplanner.core.api.solver.SolverFactory}
+ * for the same constraints does not build the same {@link org.kie.api.KieBase} again.
+ * It is only used if
+ * {@link org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig#getDroolsKieBaseSharingEnabled()}
+ * is true.
+ * <p>
+ * Constraint weights are not part of the key.
+ * A constant weight is part of the constraint provider class, and a configurable weight is only set per session.
+ * <p>
+ * The cached values are attached to the constraint provider class through a {@link ClassValue},
+ * so they don't keep the user's classes alive once their class loader is gone.
+ * <p>
+ * This class is thread-safe, because solver factories can be created concurrently.
+ */
+public final class KieBaseDescriptorCache {
+
+    private static final ClassValue<Map<Key, KieBaseDescriptor<?>>> CONSTRAINT_PROVIDER_CLASS_TO_DESCRIPTOR_MAP =
+            new ClassValue<>() {
+                @Override
+                protected Map<Key, KieBaseDescriptor<?>> computeValue(Class<?> constraintProviderClass) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    public static <Solution_> KieBaseDescriptor<Solution_> computeIfAbsent(
+            SolutionDescriptor<Solution_> solutionDescriptor, Class<? extends ConstraintProvider> constraintProviderClass,
+            Map<String, String> constraintProviderCustomProperties, boolean droolsAlphaNetworkCompilationEnabled,
+            Supplier<KieBaseDescriptor<Solution_>> kieBaseDescriptorSupplier) {
+        Key key = new Key(solutionDescriptor.getSolutionClass(), solutionDescriptor.getEntityClassSet(),
+                solutionDescriptor.getDomainAccessType(), constraintProviderCustomProperties,
+                droolsAlphaNetworkCompilationEnabled);
+        return (KieBaseDescriptor<Solution_>) CONSTRAINT_PROVIDER_CLASS_TO_DESCRIPTOR_MAP.get(constraintProviderClass)
+                .computeIfAbsent(key, k -> kieBaseDescriptorSupplier.get());
+    }
+
+    private KieBaseDescriptorCache() {
+    }
+
+    private static final class Key {
+
+        private final Class<?> solutionClass;
+        private final Set<Class<?>> entityClassSet;
+        private final DomainAccessType domainAccessType;
+        private final Map<String, String> constraintProviderCustomProperties;
+        private final boolean droolsAlphaNetworkCompilationEnabled;
+
+        public Key(Class<?> solutionClass, Set<Class<?>> entityClassSet, DomainAccessType domainAccessType,
+                Map<String, String> constraintProviderCustomProperties, boolean droolsAlphaNetworkCompilationEnabled) {
+            this.solutionClass = solutionClass;
+            this.entityClassSet = Set.copyOf(entityClassSet);
+            this.domainAccessType = domainAccessType;
+            this.constraintProviderCustomProperties = constraintProviderCustomProperties == null ? Collections.emptyMap()
+                    : Map.copyOf(constraintProviderCustomProperties);
+            this.droolsAlphaNetworkCompilationEnabled = droolsAlphaNetworkCompilationEnabled;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return droolsAlphaNetworkCompilationEnabled == key.droolsAlphaNetworkCompilationEnabled
+                    && solutionClass.equals(key.solutionClass)
+                    && entityClassSet.equals(key.entityClassSet)
+                    && domainAccessType == key.domainAccessType
+                    && constraintProviderCustomProperties.equals(key.constraintProviderCustomProperties);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(solutionClass, entityClassSet, domainAccessType, constraintProviderCustomProperties,
+                    droolsAlphaNetworkCompilationEnabled);
+        }
+
+    }
+
+}
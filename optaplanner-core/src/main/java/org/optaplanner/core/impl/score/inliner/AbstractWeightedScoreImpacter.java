@@ -0,0 +1,132 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.inliner;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.impl.score.constraint.DefaultConstraintMatchTotal;
+
+/**
+ * Tracks the matches of a single {@link Constraint} if constraint matching is enabled.
+ * <p>
+ * While solving, it only keeps a match weight total, a match count
+ * and an intrusive linked list of the live {@link ReusableUndoScoreImpacter}s.
+ * The justifications and {@link ConstraintMatch}es are only created when {@link ScoreInliner} is asked for them.
+ *
+ * @param <Score_>
+ */
+abstract class AbstractWeightedScoreImpacter<Score_ extends Score<Score_>> implements WeightedScoreImpacter {
+
+    protected final ScoreInliner<Score_> scoreInliner;
+    protected final Constraint constraint;
+    protected final Score_ constraintWeight;
+
+    private ReusableUndoScoreImpacter firstMatch = null;
+    private ReusableUndoScoreImpacter lastMatch = null;
+    private int matchCount = 0;
+
+    protected AbstractWeightedScoreImpacter(ScoreInliner<Score_> scoreInliner, Constraint constraint,
+            Score_ constraintWeight) {
+        this.scoreInliner = Objects.requireNonNull(scoreInliner);
+        this.constraint = Objects.requireNonNull(constraint);
+        this.constraintWeight = Objects.requireNonNull(constraintWeight);
+    }
+
+    public Constraint getConstraint() {
+        return constraint;
+    }
+
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    /**
+     * @return never null, the sum of the score of every live match
+     */
+    public abstract Score_ getScoreTotal();
+
+    protected abstract Score_ getMatchScore(ReusableUndoScoreImpacter match);
+
+    protected abstract void addToMatchWeightTotal(ReusableUndoScoreImpacter match);
+
+    protected abstract void subtractFromMatchWeightTotal(ReusableUndoScoreImpacter match);
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @param match never null, already impacted
+     * @param justificationsSupplier never null, not called
+     * @return never null, the match itself
+     */
+    protected final UndoScoreImpacter trackMatch(ReusableUndoScoreImpacter match,
+            JustificationsSupplier justificationsSupplier) {
+        if (!scoreInliner.constraintMatchEnabled) {
+            return match;
+        }
+        match.track(this, justificationsSupplier, lastMatch);
+        if (lastMatch == null) {
+            firstMatch = match;
+        } else {
+            lastMatch.nextMatch = match;
+        }
+        lastMatch = match;
+        matchCount++;
+        addToMatchWeightTotal(match);
+        scoreInliner.constraintMatchModCount++;
+        return match;
+    }
+
+    final void untrackMatch(ReusableUndoScoreImpacter match) {
+        ReusableUndoScoreImpacter previousMatch = match.previousMatch;
+        ReusableUndoScoreImpacter nextMatch = match.nextMatch;
+        if (previousMatch == null) {
+            firstMatch = nextMatch;
+        } else {
+            previousMatch.nextMatch = nextMatch;
+        }
+        if (nextMatch == null) {
+            lastMatch = previousMatch;
+        } else {
+            nextMatch.previousMatch = previousMatch;
+        }
+        matchCount--;
+        subtractFromMatchWeightTotal(match);
+        scoreInliner.constraintMatchModCount++;
+    }
+
+    /**
+     * Materializes the justifications of every live match, in the order the matches were impacted.
+     *
+     * @param constraintMatchTotal never null
+     * @param constraintMatchConsumer never null, called for every new {@link ConstraintMatch}
+     */
+    final void materializeConstraintMatches(DefaultConstraintMatchTotal<Score_> constraintMatchTotal,
+            Consumer<ConstraintMatch<Score_>> constraintMatchConsumer) {
+        for (ReusableUndoScoreImpacter match = firstMatch; match != null; match = match.nextMatch) {
+            ConstraintMatch<Score_> constraintMatch = constraintMatchTotal.addConstraintMatch(
+                    match.getJustificationsSupplier().get(), getMatchScore(match));
+            constraintMatchConsumer.accept(constraintMatch);
+        }
+    }
+
+}
@@ -18,28 +18,84 @@ package org.optaplanner.core.impl.score.inliner;
 
 import java.math.BigDecimal;
 import java.util.Objects;
+import java.util.function.Function;
 
-final class BigDecimalWeightedScoreImpacter implements WeightedScoreImpacter {
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.Constraint;
+
+final class BigDecimalWeightedScoreImpacter<Score_ extends Score<Score_>> extends AbstractWeightedScoreImpacter<Score_> {
 
     private final BigDecimalImpactFunction impactFunction;
+    private final Function<BigDecimal, Score_> matchScoreFunction;
+
+    private BigDecimal matchWeightTotal = BigDecimal.ZERO;
 
-    public BigDecimalWeightedScoreImpacter(BigDecimalImpactFunction impactFunction) {
+    public BigDecimalWeightedScoreImpacter(ScoreInliner<Score_> scoreInliner, Constraint constraint,
+            Score_ constraintWeight, BigDecimalImpactFunction impactFunction,
+            Function<BigDecimal, Score_> matchScoreFunction) {
+        super(scoreInliner, constraint, constraintWeight);
         this.impactFunction = Objects.requireNonNull(impactFunction);
+        this.matchScoreFunction = Objects.requireNonNull(matchScoreFunction);
     }
 
     @Override
     public UndoScoreImpacter impactScore(int matchWeight, JustificationsSupplier justificationsSupplier) {
-        return impactFunction.impact(BigDecimal.valueOf(matchWeight), justificationsSupplier);
+        return impactScore(BigDecimal.valueOf(matchWeight), justificationsSupplier);
     }
 
     @Override
     public UndoScoreImpacter impactScore(long matchWeight, JustificationsSupplier justificationsSupplier) {
-        return impactFunction.impact(BigDecimal.valueOf(matchWeight), justificationsSupplier);
+        return impactScore(BigDecimal.valueOf(matchWeight), justificationsSupplier);
     }
 
     @Override
     public UndoScoreImpacter impactScore(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) {
-        return impactFunction.impact(matchWeight, justificationsSupplier);
+        if (scoreInliner.constraintMatchEnabled) {
+            // A tracked match is a node of the linked list, so it needs an instance of its own
+            return impactScore(matchWeight, justificationsSupplier, new ReusableUndoScoreImpacter());
+        }
+        impactFunction.impact(matchWeight);
+        return () -> impactFunction.impact(matchWeight.negate());
+    }
+
+    @Override
+    public UndoScoreImpacter impactScore(int matchWeight, JustificationsSupplier justificationsSupplier,
+            ReusableUndoScoreImpacter reusableUndoScoreImpacter) {
+        return impactScore(BigDecimal.valueOf(matchWeight), justificationsSupplier, reusableUndoScoreImpacter);
+    }
+
+    @Override
+    public UndoScoreImpacter impactScore(long matchWeight, JustificationsSupplier justificationsSupplier,
+            ReusableUndoScoreImpacter reusableUndoScoreImpacter) {
+        return impactScore(BigDecimal.valueOf(matchWeight), justificationsSupplier, reusableUndoScoreImpacter);
+    }
+
+    @Override
+    public UndoScoreImpacter impactScore(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier,
+            ReusableUndoScoreImpacter reusableUndoScoreImpacter) {
+        impactFunction.impact(matchWeight);
+        reusableUndoScoreImpacter.reset(impactFunction, matchWeight);
+        return trackMatch(reusableUndoScoreImpacter, justificationsSupplier);
+    }
+
+    @Override
+    public Score_ getScoreTotal() {
+        return matchScoreFunction.apply(matchWeightTotal);
+    }
+
+    @Override
+    protected Score_ getMatchScore(ReusableUndoScoreImpacter match) {
+        return matchScoreFunction.apply(match.getBigDecimalMatchWeight());
+    }
+
+    @Override
+    protected void addToMatchWeightTotal(ReusableUndoScoreImpacter match) {
+        matchWeightTotal = matchWeightTotal.add(match.getBigDecimalMatchWeight());
+    }
+
+    @Override
+    protected void subtractFromMatchWeightTotal(ReusableUndoScoreImpacter match) {
+        matchWeightTotal = matchWeightTotal.subtract(match.getBigDecimalMatchWeight());
     }
 
 }
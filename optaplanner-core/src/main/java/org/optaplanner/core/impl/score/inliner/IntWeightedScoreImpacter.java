@@ -18,28 +18,73 @@ package org.optaplanner.core.impl.score.inliner;
 
 import java.math.BigDecimal;
 import java.util.Objects;
+import java.util.function.IntFunction;
 
-final class IntWeightedScoreImpacter implements WeightedScoreImpacter {
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.Constraint;
+
+final class IntWeightedScoreImpacter<Score_ extends Score<Score_>> extends AbstractWeightedScoreImpacter<Score_> {
 
     private final IntImpactFunction impactFunction;
+    private final IntFunction<Score_> matchScoreFunction;
+
+    private int matchWeightTotal = 0;
 
-    public IntWeightedScoreImpacter(IntImpactFunction impactFunction) {
+    public IntWeightedScoreImpacter(ScoreInliner<Score_> scoreInliner, Constraint constraint, Score_ constraintWeight,
+            IntImpactFunction impactFunction, IntFunction<Score_> matchScoreFunction) {
+        super(scoreInliner, constraint, constraintWeight);
         this.impactFunction = Objects.requireNonNull(impactFunction);
+        this.matchScoreFunction = Objects.requireNonNull(matchScoreFunction);
     }
 
     @Override
     public UndoScoreImpacter impactScore(int matchWeight, JustificationsSupplier justificationsSupplier) {
-        return impactFunction.impact(matchWeight, justificationsSupplier);
+        if (scoreInliner.constraintMatchEnabled) {
+            // A tracked match is a node of the linked list, so it needs an instance of its own
+            return impactScore(matchWeight, justificationsSupplier, new ReusableUndoScoreImpacter());
+        }
+        impactFunction.impact(matchWeight);
+        return () -> impactFunction.impact(-matchWeight);
+    }
+
+    @Override
+    public UndoScoreImpacter impactScore(int matchWeight, JustificationsSupplier justificationsSupplier,
+            ReusableUndoScoreImpacter reusableUndoScoreImpacter) {
+        impactFunction.impact(matchWeight);
+        reusableUndoScoreImpacter.reset(impactFunction, matchWeight);
+        return trackMatch(reusableUndoScoreImpacter, justificationsSupplier);
     }
 
     @Override
-    public UndoScoreImpacter impactScore(long matchWeight, JustificationsSupplier justificationsSupplier) {
+    public UndoScoreImpacter impactScore(long matchWeight, JustificationsSupplier justificationsSupplier,
+            ReusableUndoScoreImpacter reusableUndoScoreImpacter) {
         throw new UnsupportedOperationException("Impossible state: passing long into an int impacter.");
     }
 
     @Override
-    public UndoScoreImpacter impactScore(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) {
+    public UndoScoreImpacter impactScore(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier,
+            ReusableUndoScoreImpacter reusableUndoScoreImpacter) {
         throw new UnsupportedOperationException("Impossible state: passing BigDecimal into an int impacter.");
     }
 
+    @Override
+    public Score_ getScoreTotal() {
+        return matchScoreFunction.apply(matchWeightTotal);
+    }
+
+    @Override
+    protected Score_ getMatchScore(ReusableUndoScoreImpacter match) {
+        return matchScoreFunction.apply(match.getIntMatchWeight());
+    }
+
+    @Override
+    protected void addToMatchWeightTotal(ReusableUndoScoreImpacter match) {
+        matchWeightTotal += match.getIntMatchWeight();
+    }
+
+    @Override
+    protected void subtractFromMatchWeightTotal(ReusableUndoScoreImpacter match) {
+        matchWeightTotal -= match.getIntMatchWeight();
+    }
+
 }
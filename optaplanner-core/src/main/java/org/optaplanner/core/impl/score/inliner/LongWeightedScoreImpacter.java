@@ -18,28 +18,78 @@ package org.optaplanner.core.impl.score.inliner;
 
 import java.math.BigDecimal;
 import java.util.Objects;
+import java.util.function.LongFunction;
 
-final class LongWeightedScoreImpacter implements WeightedScoreImpacter {
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.Constraint;
+
+final class LongWeightedScoreImpacter<Score_ extends Score<Score_>> extends AbstractWeightedScoreImpacter<Score_> {
 
     private final LongImpactFunction impactFunction;
+    private final LongFunction<Score_> matchScoreFunction;
+
+    private long matchWeightTotal = 0L;
 
-    public LongWeightedScoreImpacter(LongImpactFunction impactFunction) {
+    public LongWeightedScoreImpacter(ScoreInliner<Score_> scoreInliner, Constraint constraint, Score_ constraintWeight,
+            LongImpactFunction impactFunction, LongFunction<Score_> matchScoreFunction) {
+        super(scoreInliner, constraint, constraintWeight);
         this.impactFunction = Objects.requireNonNull(impactFunction);
+        this.matchScoreFunction = Objects.requireNonNull(matchScoreFunction);
     }
 
     @Override
     public UndoScoreImpacter impactScore(int matchWeight, JustificationsSupplier justificationsSupplier) {
-        return impactFunction.impact(matchWeight, justificationsSupplier); // int can be cast to long
+        return impactScore((long) matchWeight, justificationsSupplier); // int can be cast to long
     }
 
     @Override
     public UndoScoreImpacter impactScore(long matchWeight, JustificationsSupplier justificationsSupplier) {
-        return impactFunction.impact(matchWeight, justificationsSupplier);
+        if (scoreInliner.constraintMatchEnabled) {
+            // A tracked match is a node of the linked list, so it needs an instance of its own
+            return impactScore(matchWeight, justificationsSupplier, new ReusableUndoScoreImpacter());
+        }
+        impactFunction.impact(matchWeight);
+        return () -> impactFunction.impact(-matchWeight);
+    }
+
+    @Override
+    public UndoScoreImpacter impactScore(int matchWeight, JustificationsSupplier justificationsSupplier,
+            ReusableUndoScoreImpacter reusableUndoScoreImpacter) {
+        return impactScore((long) matchWeight, justificationsSupplier, reusableUndoScoreImpacter); // int can be cast to long
     }
 
     @Override
-    public UndoScoreImpacter impactScore(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) {
+    public UndoScoreImpacter impactScore(long matchWeight, JustificationsSupplier justificationsSupplier,
+            ReusableUndoScoreImpacter reusableUndoScoreImpacter) {
+        impactFunction.impact(matchWeight);
+        reusableUndoScoreImpacter.reset(impactFunction, matchWeight);
+        return trackMatch(reusableUndoScoreImpacter, justificationsSupplier);
+    }
+
+    @Override
+    public UndoScoreImpacter impactScore(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier,
+            ReusableUndoScoreImpacter reusableUndoScoreImpacter) {
         throw new UnsupportedOperationException("Impossible state: passing BigDecimal into a long impacter.");
     }
 
+    @Override
+    public Score_ getScoreTotal() {
+        return matchScoreFunction.apply(matchWeightTotal);
+    }
+
+    @Override
+    protected Score_ getMatchScore(ReusableUndoScoreImpacter match) {
+        return matchScoreFunction.apply(match.getLongMatchWeight());
+    }
+
+    @Override
+    protected void addToMatchWeightTotal(ReusableUndoScoreImpacter match) {
+        matchWeightTotal += match.getLongMatchWeight();
+    }
+
+    @Override
+    protected void subtractFromMatchWeightTotal(ReusableUndoScoreImpacter match) {
+        matchWeightTotal -= match.getLongMatchWeight();
+    }
+
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.inliner;
+
+import java.math.BigDecimal;
+
+import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter.BigDecimalImpactFunction;
+import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter.IntImpactFunction;
+import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter.LongImpactFunction;
+
+/**
+ * An {@link UndoScoreImpacter} that belongs to a single match, such as a Bavet tuple,
+ * and is refilled on every score-only impact of that match.
+ * It keeps the match weight in a field, instead of capturing the impact in a new closure every time.
+ * <p>
+ * Running it impacts the negated match weight, see {@link WeightedScoreImpacter}.
+ * It must be run at most once per impact.
+ * <p>
+ * If constraint matching is enabled, it is also the node of the intrusive linked list
+ * in which its {@link AbstractWeightedScoreImpacter} tracks the live matches,
+ * so tracking a match doesn't allocate either.
+ */
+public final class ReusableUndoScoreImpacter implements UndoScoreImpacter {
+
+    private IntImpactFunction intImpactFunction = null;
+    private int intMatchWeight;
+    private LongImpactFunction longImpactFunction = null;
+    private long longMatchWeight;
+    private BigDecimalImpactFunction bigDecimalImpactFunction = null;
+    private BigDecimal bigDecimalMatchWeight = null;
+
+    private AbstractWeightedScoreImpacter<?> matchTracker = null;
+    private JustificationsSupplier justificationsSupplier = null;
+    ReusableUndoScoreImpacter previousMatch = null;
+    ReusableUndoScoreImpacter nextMatch = null;
+
+    void reset(IntImpactFunction impactFunction, int matchWeight) {
+        intImpactFunction = impactFunction;
+        intMatchWeight = matchWeight;
+    }
+
+    void reset(LongImpactFunction impactFunction, long matchWeight) {
+        longImpactFunction = impactFunction;
+        longMatchWeight = matchWeight;
+    }
+
+    void reset(BigDecimalImpactFunction impactFunction, BigDecimal matchWeight) {
+        bigDecimalImpactFunction = impactFunction;
+        bigDecimalMatchWeight = matchWeight;
+    }
+
+    void track(AbstractWeightedScoreImpacter<?> matchTracker, JustificationsSupplier justificationsSupplier,
+            ReusableUndoScoreImpacter previousMatch) {
+        if (this.matchTracker != null) {
+            throw new IllegalStateException("Impossible state: the undo (" + this
+                    + ") is impacted again before its previous impact was undone.");
+        }
+        this.matchTracker = matchTracker;
+        this.justificationsSupplier = justificationsSupplier;
+        this.previousMatch = previousMatch;
+        this.nextMatch = null;
+    }
+
+    int getIntMatchWeight() {
+        return intMatchWeight;
+    }
+
+    long getLongMatchWeight() {
+        return longMatchWeight;
+    }
+
+    BigDecimal getBigDecimalMatchWeight() {
+        return bigDecimalMatchWeight;
+    }
+
+    JustificationsSupplier getJustificationsSupplier() {
+        return justificationsSupplier;
+    }
+
+    @Override
+    public void run() {
+        // A match is always impacted by the same impacter, so only one of these is ever set.
+        if (intImpactFunction != null) {
+            intImpactFunction.impact(-intMatchWeight);
+        } else if (longImpactFunction != null) {
+            longImpactFunction.impact(-longMatchWeight);
+        } else if (bigDecimalImpactFunction != null) {
+            bigDecimalImpactFunction.impact(bigDecimalMatchWeight.negate());
+        } else {
+            throw new IllegalStateException("Impossible state: the undo (" + this + ") has never been impacted.");
+        }
+        if (matchTracker != null) {
+            matchTracker.untrackMatch(this);
+            matchTracker = null;
+            justificationsSupplier = null;
+            previousMatch = null;
+            nextMatch = null;
+        }
+    }
+
+}
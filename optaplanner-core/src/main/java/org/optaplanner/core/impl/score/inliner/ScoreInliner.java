@@ -16,17 +16,27 @@
 
 package org.optaplanner.core.impl.score.inliner;
 
+import java.math.BigDecimal;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.optaplanner.core.api.score.Score;
-import org.optaplanner.core.api.score.constraint.ConstraintMatch;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.impl.score.ScoreUtils;
+import org.optaplanner.core.impl.score.constraint.ConstraintMatchTotalSummary;
 import org.optaplanner.core.impl.score.constraint.DefaultConstraintMatchTotal;
 import org.optaplanner.core.impl.score.constraint.DefaultIndictment;
 
@@ -34,19 +44,37 @@ public abstract class ScoreInliner<Score_ extends Score<Score_>> {
 
     private final Map<String, Score_> constraintIdToWeightMap;
     protected final boolean constraintMatchEnabled;
-    private final Map<String, DefaultConstraintMatchTotal<Score_>> constraintMatchTotalMap;
-    private final Map<Object, DefaultIndictment<Score_>> indictmentMap;
+    private final List<AbstractWeightedScoreImpacter<Score_>> impacterList = new ArrayList<>();
+    /**
+     * Incremented every time a match is tracked or untracked.
+     */
+    int constraintMatchModCount = 0;
+    private final Map<String, ConstraintMatchTotal<Score_>> constraintMatchTotalMapView;
+    private final Map<Object, Indictment<Score_>> indictmentMapView;
 
     protected ScoreInliner(Map<Constraint, Score_> constraintToWeightMap, boolean constraintMatchEnabled) {
         this.constraintIdToWeightMap = Objects.requireNonNull(constraintToWeightMap).entrySet().stream()
                 .collect(Collectors.toMap(e -> e.getKey().getConstraintId(), Map.Entry::getValue));
         this.constraintMatchEnabled = constraintMatchEnabled;
-        this.constraintMatchTotalMap = constraintMatchEnabled ? new LinkedHashMap<>() : null;
-        this.indictmentMap = constraintMatchEnabled ? new LinkedHashMap<>() : null;
+        this.constraintMatchTotalMapView = new MaterializedMapView<>(this::snapshotConstraintMatchTotalMap);
+        this.indictmentMapView = new MaterializedMapView<>(this::snapshotIndictmentMap);
     }
 
     public abstract Score_ extractScore(int initScore);
 
+    /**
+     * Equivalent to {@code ScoreUtils.compareHardLevels(extractScore(initScore), otherScore, hardLevelsSize)}.
+     * Score types with many levels override it to compare without creating the score first.
+     *
+     * @param initScore {@code <= 0}
+     * @param otherScore never null
+     * @param hardLevelsSize {@code >= 0}
+     * @return negative, zero or positive
+     */
+    public int compareHardLevels(int initScore, Score_ otherScore, int hardLevelsSize) {
+        return ScoreUtils.compareHardLevels(extractScore(initScore), otherScore, hardLevelsSize);
+    }
+
     /**
      * Create a new instance of {@link WeightedScoreImpacter} for a particular constraint.
      * 
@@ -55,44 +83,206 @@ public abstract class ScoreInliner<Score_ extends Score<Score_>> {
      */
     public abstract WeightedScoreImpacter buildWeightedScoreImpacter(Constraint constraint);
 
-    protected final Runnable addConstraintMatch(Constraint constraint, Score_ constraintWeight, Score_ score,
-            List<Object> justificationList) {
-        String constraintPackage = constraint.getConstraintPackage();
-        String constraintName = constraint.getConstraintName();
-        DefaultConstraintMatchTotal<Score_> constraintMatchTotal = constraintMatchTotalMap.computeIfAbsent(
-                constraint.getConstraintId(),
-                key -> new DefaultConstraintMatchTotal<>(constraintPackage, constraintName, constraintWeight));
-        ConstraintMatch<Score_> constraintMatch = constraintMatchTotal.addConstraintMatch(justificationList, score);
-        DefaultIndictment<Score_>[] indictments = justificationList.stream()
-                .distinct() // One match might have the same justification twice
-                .map(justification -> {
-                    DefaultIndictment<Score_> indictment = indictmentMap.computeIfAbsent(justification,
-                            key -> new DefaultIndictment<>(justification, constraintMatch.getScore().zero()));
-                    indictment.addConstraintMatch(constraintMatch);
-                    return indictment;
-                }).toArray(DefaultIndictment[]::new);
-        return () -> {
-            constraintMatchTotal.removeConstraintMatch(constraintMatch);
-            if (constraintMatchTotal.getConstraintMatchSet().isEmpty()) {
-                constraintMatchTotalMap.remove(constraint.getConstraintId());
+    /**
+     * @param constraint never null
+     * @param constraintWeight never null
+     * @param impactFunction never null, adds the weighted match weight to the score of this inliner
+     * @param matchScoreFunction never null, the score of a single match, only called if constraint matching is enabled
+     * @return never null
+     */
+    protected final WeightedScoreImpacter buildIntImpacter(Constraint constraint, Score_ constraintWeight,
+            WeightedScoreImpacter.IntImpactFunction impactFunction, IntFunction<Score_> matchScoreFunction) {
+        return registerImpacter(
+                new IntWeightedScoreImpacter<>(this, constraint, constraintWeight, impactFunction, matchScoreFunction));
+    }
+
+    /**
+     * As defined by {@link #buildIntImpacter(Constraint, Score, WeightedScoreImpacter.IntImpactFunction, IntFunction)}.
+     */
+    protected final WeightedScoreImpacter buildLongImpacter(Constraint constraint, Score_ constraintWeight,
+            WeightedScoreImpacter.LongImpactFunction impactFunction, LongFunction<Score_> matchScoreFunction) {
+        return registerImpacter(
+                new LongWeightedScoreImpacter<>(this, constraint, constraintWeight, impactFunction, matchScoreFunction));
+    }
+
+    /**
+     * As defined by {@link #buildIntImpacter(Constraint, Score, WeightedScoreImpacter.IntImpactFunction, IntFunction)}.
+     */
+    protected final WeightedScoreImpacter buildBigDecimalImpacter(Constraint constraint, Score_ constraintWeight,
+            WeightedScoreImpacter.BigDecimalImpactFunction impactFunction,
+            Function<BigDecimal, Score_> matchScoreFunction) {
+        return registerImpacter(new BigDecimalWeightedScoreImpacter<>(this, constraint, constraintWeight,
+                impactFunction, matchScoreFunction));
+    }
+
+    private WeightedScoreImpacter registerImpacter(AbstractWeightedScoreImpacter<Score_> impacter) {
+        if (constraintMatchEnabled) {
+            impacterList.add(impacter);
+        }
+        return impacter;
+    }
+
+    /**
+     * The constraint matches are not kept up to date during solving.
+     * Instead, every read of this map materializes them again if any match changed since the previous read,
+     * which is proportional to the number of matches
+     * and calls every {@link JustificationsSupplier} of every live match.
+     * So read it only after a score calculation, and not for every move.
+     * Unlike the map itself, a {@link ConstraintMatchTotal} read from it is not updated by later score calculations.
+     *
+     * @return never null, an unmodifiable live view, which reflects later score calculations
+     * @throws IllegalStateException if constraint matching is disabled
+     * @see #snapshotConstraintMatchTotalMap()
+     */
+    public final Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalMap() {
+        assertConstraintMatchEnabled();
+        return constraintMatchTotalMapView;
+    }
+
+    /**
+     * As defined by {@link #getConstraintMatchTotalMap()}.
+     *
+     * @return never null, an unmodifiable live view, which reflects later score calculations
+     * @throws IllegalStateException if constraint matching is disabled
+     * @see #snapshotIndictmentMap()
+     */
+    public final Map<Object, Indictment<Score_>> getIndictmentMap() {
+        assertConstraintMatchEnabled();
+        return indictmentMapView;
+    }
+
+    /**
+     * Materializes the constraint matches of every constraint once,
+     * which is proportional to the number of matches.
+     * Unlike during solving, this calls every {@link JustificationsSupplier} of every live match.
+     *
+     * @return never null, a snapshot that is not updated by later score calculations
+     * @throws IllegalStateException if constraint matching is disabled
+     * @see #getConstraintMatchTotalMap()
+     */
+    public final Map<String, ConstraintMatchTotal<Score_>> snapshotConstraintMatchTotalMap() {
+        Map<String, ConstraintMatchTotal<Score_>> constraintMatchTotalMap = new LinkedHashMap<>();
+        materializeConstraintMatches(constraintMatchTotalMap, null);
+        return constraintMatchTotalMap;
+    }
+
+    /**
+     * As defined by {@link #snapshotConstraintMatchTotalMap()}.
+     *
+     * @return never null, a snapshot that is not updated by later score calculations
+     * @throws IllegalStateException if constraint matching is disabled
+     * @see #getIndictmentMap()
+     */
+    public final Map<Object, Indictment<Score_>> snapshotIndictmentMap() {
+        Map<Object, Indictment<Score_>> indictmentMap = new LinkedHashMap<>();
+        materializeConstraintMatches(new LinkedHashMap<>(), indictmentMap);
+        return indictmentMap;
+    }
+
+    private void materializeConstraintMatches(Map<String, ConstraintMatchTotal<Score_>> constraintMatchTotalMap,
+            Map<Object, Indictment<Score_>> indictmentMap) {
+        assertConstraintMatchEnabled();
+        for (AbstractWeightedScoreImpacter<Score_> impacter : impacterList) {
+            if (impacter.getMatchCount() == 0) {
+                continue;
             }
-            for (DefaultIndictment<Score_> indictment : indictments) {
-                indictment.removeConstraintMatch(constraintMatch);
-                if (indictment.getConstraintMatchSet().isEmpty()) {
-                    indictmentMap.remove(indictment.getJustification());
+            Constraint constraint = impacter.getConstraint();
+            DefaultConstraintMatchTotal<Score_> constraintMatchTotal =
+                    (DefaultConstraintMatchTotal<Score_>) constraintMatchTotalMap.computeIfAbsent(
+                            constraint.getConstraintId(),
+                            key -> new DefaultConstraintMatchTotal<>(constraint.getConstraintPackage(),
+                                    constraint.getConstraintName(), impacter.constraintWeight));
+            impacter.materializeConstraintMatches(constraintMatchTotal, constraintMatch -> {
+                if (indictmentMap == null) {
+                    return;
                 }
+                constraintMatch.getJustificationList().stream()
+                        .distinct() // One match might have the same justification twice
+                        .forEach(justification -> {
+                            DefaultIndictment<Score_> indictment =
+                                    (DefaultIndictment<Score_>) indictmentMap.computeIfAbsent(justification,
+                                            key -> new DefaultIndictment<>(justification,
+                                                    constraintMatch.getScore().zero()));
+                            indictment.addConstraintMatch(constraintMatch);
+                        });
+            });
+        }
+    }
+
+    /**
+     * Unlike {@link #snapshotConstraintMatchTotalMap()}, this doesn't materialize any constraint match,
+     * because every constraint keeps its match count and score total up to date during solving.
+     * Use it for monitoring.
+     *
+     * @return never null, a snapshot that is not updated by later score calculations,
+     *         its {@link ConstraintMatchTotal#getConstraintMatchSet()} is unsupported
+     * @throws IllegalStateException if constraint matching is disabled
+     */
+    public final Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalSummaryMap() {
+        assertConstraintMatchEnabled();
+        Map<String, ConstraintMatchTotal<Score_>> summaryMap = new LinkedHashMap<>();
+        for (AbstractWeightedScoreImpacter<Score_> impacter : impacterList) {
+            if (impacter.getMatchCount() == 0) {
+                continue;
             }
-        };
+            Constraint constraint = impacter.getConstraint();
+            summaryMap.merge(constraint.getConstraintId(),
+                    new ConstraintMatchTotalSummary<>(constraint.getConstraintPackage(),
+                            constraint.getConstraintName(), impacter.constraintWeight, impacter.getMatchCount(),
+                            impacter.getScoreTotal()),
+                    (a, b) -> ((ConstraintMatchTotalSummary<Score_>) a).merge(b));
+        }
+        return summaryMap;
     }
 
-    public final Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalMap() {
-        // Unchecked assignment necessary as CMT and DefaultCMT incompatible in the Map generics.
-        return (Map) constraintMatchTotalMap;
+    private void assertConstraintMatchEnabled() {
+        if (!constraintMatchEnabled) {
+            throw new IllegalStateException("When constraintMatchEnabled (" + constraintMatchEnabled
+                    + ") is disabled in the constructor, this method should not be called.");
+        }
     }
 
-    public final Map<Object, Indictment<Score_>> getIndictmentMap() {
-        // Unchecked assignment necessary as Indictment and DefaultIndictment incompatible in the Map generics.
-        return (Map) indictmentMap;
+    /**
+     * Materializes its map again on the first read after a match was tracked or untracked.
+     */
+    private final class MaterializedMapView<Key_, Value_> extends AbstractMap<Key_, Value_> {
+
+        private final Supplier<Map<Key_, Value_>> materializer;
+        private Map<Key_, Value_> materializedMap = null;
+        private int materializedModCount;
+
+        private MaterializedMapView(Supplier<Map<Key_, Value_>> materializer) {
+            this.materializer = materializer;
+        }
+
+        private Map<Key_, Value_> getMaterializedMap() {
+            if (materializedMap == null || materializedModCount != constraintMatchModCount) {
+                materializedMap = Collections.unmodifiableMap(materializer.get());
+                materializedModCount = constraintMatchModCount;
+            }
+            return materializedMap;
+        }
+
+        @Override
+        public Set<Entry<Key_, Value_>> entrySet() {
+            return getMaterializedMap().entrySet();
+        }
+
+        @Override
+        public int size() {
+            return getMaterializedMap().size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return getMaterializedMap().containsKey(key);
+        }
+
+        @Override
+        public Value_ get(Object key) {
+            return getMaterializedMap().get(key);
+        }
+
     }
 
     protected final Score_ getConstraintWeight(Constraint constraint) {
@@ -34,60 +34,108 @@ import java.math.BigDecimal;
  * An implementation of this interface can throw an {@link UnsupportedOperationException}
  * for the method types it doesn't support. The CS API guarantees no types are mixed. For example,
  * a {@link BigDecimal} parameter method won't be called on an instance built with an {@link IntImpactFunction}.
+ * <p>
+ * Every built-in score is linear in the match weight,
+ * so an impact is undone by impacting the negated match weight again.
+ * That allows the undo of a score-only impact to be a {@link ReusableUndoScoreImpacter},
+ * which the caller allocates once per match instead of once per impact.
+ * Callers that can't keep an instance per match, such as Drools, use the methods without it,
+ * which return a plain lambda as the undo if constraint matching is disabled.
  */
 public interface WeightedScoreImpacter {
 
-    static WeightedScoreImpacter of(IntImpactFunction impactFunction) {
-        return new IntWeightedScoreImpacter(impactFunction);
-    }
-
-    static WeightedScoreImpacter of(LongImpactFunction impactFunction) {
-        return new LongWeightedScoreImpacter(impactFunction);
-    }
-
-    static WeightedScoreImpacter of(BigDecimalImpactFunction impactFunction) {
-        return new BigDecimalWeightedScoreImpacter(impactFunction);
-    }
-
     /**
      * @param matchWeight never null
      * @param justificationsSupplier never null
      * @return never null
      */
-    UndoScoreImpacter impactScore(int matchWeight, JustificationsSupplier justificationsSupplier);
+    default UndoScoreImpacter impactScore(int matchWeight, JustificationsSupplier justificationsSupplier) {
+        return impactScore(matchWeight, justificationsSupplier, new ReusableUndoScoreImpacter());
+    }
 
     /**
      * @param matchWeight never null
      * @param justificationsSupplier never null
      * @return never null
      */
-    UndoScoreImpacter impactScore(long matchWeight, JustificationsSupplier justificationsSupplier);
+    default UndoScoreImpacter impactScore(long matchWeight, JustificationsSupplier justificationsSupplier) {
+        return impactScore(matchWeight, justificationsSupplier, new ReusableUndoScoreImpacter());
+    }
 
     /**
      * @param matchWeight never null
      * @param justificationsSupplier never null
      * @return never null
      */
-    UndoScoreImpacter impactScore(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier);
+    default UndoScoreImpacter impactScore(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) {
+        return impactScore(matchWeight, justificationsSupplier, new ReusableUndoScoreImpacter());
+    }
 
+    /**
+     * As defined by {@link #impactScore(int, JustificationsSupplier)},
+     * but without allocating an {@link UndoScoreImpacter} if constraint matching is disabled.
+     *
+     * @param matchWeight never null
+     * @param justificationsSupplier never null, only called if constraint matching is enabled
+     * @param reusableUndoScoreImpacter never null, owned by the match,
+     *        its previous impact must have been undone already
+     * @return never null, reusableUndoScoreImpacter if constraint matching is disabled
+     */
+    UndoScoreImpacter impactScore(int matchWeight, JustificationsSupplier justificationsSupplier,
+            ReusableUndoScoreImpacter reusableUndoScoreImpacter);
+
+    /**
+     * As defined by {@link #impactScore(int, JustificationsSupplier, ReusableUndoScoreImpacter)}.
+     *
+     * @param matchWeight never null
+     * @param justificationsSupplier never null, only called if constraint matching is enabled
+     * @param reusableUndoScoreImpacter never null, owned by the match,
+     *        its previous impact must have been undone already
+     * @return never null, reusableUndoScoreImpacter if constraint matching is disabled
+     */
+    UndoScoreImpacter impactScore(long matchWeight, JustificationsSupplier justificationsSupplier,
+            ReusableUndoScoreImpacter reusableUndoScoreImpacter);
+
+    /**
+     * As defined by {@link #impactScore(int, JustificationsSupplier, ReusableUndoScoreImpacter)}.
+     *
+     * @param matchWeight never null
+     * @param justificationsSupplier never null, only called if constraint matching is enabled
+     * @param reusableUndoScoreImpacter never null, owned by the match,
+     *        its previous impact must have been undone already
+     * @return never null, reusableUndoScoreImpacter if constraint matching is disabled
+     */
+    UndoScoreImpacter impactScore(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier,
+            ReusableUndoScoreImpacter reusableUndoScoreImpacter);
+
+    /**
+     * Adds the weighted match weight to the score of the {@link ScoreInliner}.
+     * Must not allocate, unless the score type itself is immutable (such as {@link BigDecimal}).
+     */
     @FunctionalInterface
     interface IntImpactFunction {
 
-        UndoScoreImpacter impact(int matchWeight, JustificationsSupplier justificationsSupplier);
+        void impact(int matchWeight);
 
     }
 
+    /**
+     * As defined by {@link IntImpactFunction}.
+     */
     @FunctionalInterface
     interface LongImpactFunction {
 
-        UndoScoreImpacter impact(long matchWeight, JustificationsSupplier justificationsSupplier);
+        void impact(long matchWeight);
 
     }
 
+    /**
+     * As defined by {@link IntImpactFunction}.
+     */
     @FunctionalInterface
     interface BigDecimalImpactFunction {
 
-        UndoScoreImpacter impact(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier);
+        void impact(BigDecimal matchWeight);
 
     }
 
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet;
+
+import java.util.List;
+
+/**
+ * Sums up the {@link BavetNodeProfile}s of every node that feeds the scoring node of 1 constraint.
+ * A node that is shared by several constraints counts for each of them.
+ */
+public final class BavetConstraintProfile {
+
+    private final String constraintPackage;
+    private final String constraintName;
+    private final List<BavetNodeProfile> nodeProfileList;
+
+    public BavetConstraintProfile(String constraintPackage, String constraintName,
+            List<BavetNodeProfile> nodeProfileList) {
+        this.constraintPackage = constraintPackage;
+        this.constraintName = constraintName;
+        this.nodeProfileList = nodeProfileList;
+    }
+
+    @Override
+    public String toString() {
+        return constraintPackage + "/" + constraintName + ": " + getRefreshCount() + " refreshes in "
+                + getRefreshNanos() + " ns over " + nodeProfileList.size() + " nodes";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    public String getConstraintPackage() {
+        return constraintPackage;
+    }
+
+    public String getConstraintName() {
+        return constraintName;
+    }
+
+    /**
+     * @return never null, in node index order, the last one is the scoring node
+     */
+    public List<BavetNodeProfile> getNodeProfileList() {
+        return nodeProfileList;
+    }
+
+    public long getRefreshCount() {
+        return nodeProfileList.stream().mapToLong(BavetNodeProfile::getRefreshCount).sum();
+    }
+
+    public long getRefreshNanos() {
+        return nodeProfileList.stream().mapToLong(BavetNodeProfile::getRefreshNanos).sum();
+    }
+
+    public long getLiveTupleCount() {
+        return nodeProfileList.stream().mapToLong(BavetNodeProfile::getLiveTupleCount).sum();
+    }
+
+    public long getIndexBucketCount() {
+        return nodeProfileList.stream().mapToLong(BavetNodeProfile::getIndexBucketCount).sum();
+    }
+
+}
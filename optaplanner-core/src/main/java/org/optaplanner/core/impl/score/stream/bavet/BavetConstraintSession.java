@@ -18,59 +18,381 @@ package org.optaplanner.core.impl.score.stream.bavet;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.impl.score.ScoreUtils;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupBridgeNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTuplePool;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniNode;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniTuple;
 
 public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_>> {
 
+    /**
+     * Below this number of dirty tuples, refreshing the subnetworks in parallel costs more than it gains.
+     */
+    private static final int PARALLEL_BULK_REFRESH_THRESHOLD = 10_000;
+    /**
+     * Above this number of dirty tuples, {@link #calculateScore(int, Score)} refreshes every node,
+     * so the tuples that bounded score calculations postpone don't pile up.
+     */
+    public static final int MAX_POSTPONED_DIRTY_TUPLE_COUNT = 10_000;
+
+    private final boolean tupleRecyclingEnabled;
     private final ScoreInliner<Score_> scoreInliner;
     private final Map<Class<?>, BavetFromUniNode<Object>> declaredClassToNodeMap;
     private final List<BavetNode> nodeIndexedNodeMap;
+    private final int sharedNodeCount;
     private final List<BavetScoringNode> scoringNodeList;
     private final Map<Class<?>, List<BavetFromUniNode<Object>>> effectiveClassToNodeListMap;
-    private final List<Queue<BavetAbstractTuple>> nodeIndexToDirtyTupleQueueMap;
-    private final Map<Object, List<BavetFromUniTuple<Object>>> fromTupleListMap;
+    /**
+     * An array instead of a list of queues, so flushing it doesn't go through interface calls.
+     */
+    private final ArrayDeque<BavetAbstractTuple>[] nodeIndexToDirtyTupleQueueMap;
+    private final BavetTuplePool<?>[] tuplePools;
+    private final BavetNodeNetworkRefresher nodeNetworkRefresher;
+    private final int hardLevelsSize;
+    /**
+     * Like {@link #nodeIndexToDirtyTupleQueueMap}, but with an always empty queue for every node
+     * that doesn't feed a constraint with a hard constraint weight.
+     * Null if every node or no node feeds such a constraint.
+     */
+    private final ArrayDeque<BavetAbstractTuple>[] hardNodeIndexToDirtyTupleQueueMap;
+    /**
+     * The node indexes of the nodes that {@link #refreshAfterBulkInsert()} refreshes before the subnetworks:
+     * the from nodes and the nodes that fan out from them, such as the shared filter of a forEach().
+     */
+    private final int[] headNodeIndexes;
+    /**
+     * The node indexes of every subnetwork: the nodes that don't exchange tuples with the nodes of another subnetwork,
+     * excluding the head nodes and the scoring nodes, in node index order.
+     * Null if there are less than 2 subnetworks.
+     */
+    private final int[][] subnetworkNodeIndexes;
+    /**
+     * The node indexes of the nodes that {@link #refreshAfterBulkInsert()} refreshes after the subnetworks.
+     */
+    private final int[] scoringNodeIndexes;
+    /**
+     * Null if the {@link #nodeNetworkRefresher} isn't a {@link BavetProfilingNodeNetworkRefresher}.
+     */
+    private final Map<String, BavetConstraintProfile> constraintIdToProfileMap;
+    private Map<Object, List<BavetFromUniTuple<Object>>> fromTupleListMap;
+    /**
+     * The number of tuples in the {@link #nodeIndexToDirtyTupleQueueMap}, so counting them doesn't visit every node.
+     * During a parallel {@link #refreshAfterBulkInsert()} it's unreliable, but afterwards every queue is empty.
+     */
+    private int dirtyTupleCount = 0;
+    /**
+     * True if {@link #insertAll(Collection)} inserted facts that no score calculation has refreshed yet.
+     */
+    private boolean bulkRefreshPending = false;
+    /**
+     * Null if {@link #refreshAfterBulkInsert()} always refreshes sequentially.
+     */
+    private Executor bulkRefreshExecutor = null;
 
     public BavetConstraintSession(boolean constraintMatchEnabled, ScoreDefinition<Score_> scoreDefinition,
             Map<BavetConstraint<Solution_>, Score_> constraintToWeightMap) {
+        this(constraintMatchEnabled, scoreDefinition, constraintToWeightMap,
+                nodeList -> new BavetInterpretedNodeNetworkRefresher());
+    }
+
+    /**
+     * @param constraintMatchEnabled true if the constraint matches need to be tracked
+     * @param scoreDefinition never null
+     * @param constraintToWeightMap never null
+     * @param nodeNetworkRefresherFactory never null, receives the created nodes in node index order
+     */
+    public BavetConstraintSession(boolean constraintMatchEnabled, ScoreDefinition<Score_> scoreDefinition,
+            Map<BavetConstraint<Solution_>, Score_> constraintToWeightMap,
+            Function<List<BavetNode>, BavetNodeNetworkRefresher> nodeNetworkRefresherFactory) {
+        this(constraintMatchEnabled, scoreDefinition, constraintToWeightMap, nodeNetworkRefresherFactory, false);
+    }
+
+    /**
+     * @param constraintMatchEnabled true if the constraint matches need to be tracked
+     * @param scoreDefinition never null
+     * @param constraintToWeightMap never null
+     * @param nodeNetworkRefresherFactory never null, receives the created nodes in node index order
+     * @param tupleRecyclingEnabled true if the nodes that support it reuse their dead tuples,
+     *        see {@link #isTupleRecyclingEnabled()}
+     */
+    public BavetConstraintSession(boolean constraintMatchEnabled, ScoreDefinition<Score_> scoreDefinition,
+            Map<BavetConstraint<Solution_>, Score_> constraintToWeightMap,
+            Function<List<BavetNode>, BavetNodeNetworkRefresher> nodeNetworkRefresherFactory,
+            boolean tupleRecyclingEnabled) {
+        // Before the nodes are created, because they decide on it when they are created
+        this.tupleRecyclingEnabled = tupleRecyclingEnabled;
         scoreInliner = scoreDefinition.buildScoreInliner((Map) constraintToWeightMap, constraintMatchEnabled);
         declaredClassToNodeMap = new HashMap<>(50);
-        BavetNodeBuildPolicy<Solution_> buildPolicy = new BavetNodeBuildPolicy<>(this);
+        BavetNodeBuildPolicy<Solution_> buildPolicy = new BavetNodeBuildPolicy<>(this, constraintToWeightMap);
         constraintToWeightMap.forEach((constraint, constraintWeight) -> constraint.createNodes(buildPolicy,
                 declaredClassToNodeMap, constraintWeight));
         nodeIndexedNodeMap = buildPolicy.getCreatedNodes();
+        sharedNodeCount = buildPolicy.getSharedNodeCount();
         scoringNodeList = nodeIndexedNodeMap.stream()
                 .filter(node -> node instanceof BavetScoringNode)
                 .map(node -> (BavetScoringNode) node)
                 .collect(Collectors.toList());
         effectiveClassToNodeListMap = new HashMap<>(declaredClassToNodeMap.size());
         int nodeCount = nodeIndexedNodeMap.size();
-        nodeIndexToDirtyTupleQueueMap = new ArrayList<>(nodeCount);
+        nodeIndexToDirtyTupleQueueMap = new ArrayDeque[nodeCount];
         for (int i = 0; i < nodeCount; i++) {
-            nodeIndexToDirtyTupleQueueMap.add(new ArrayDeque<>(1000));
+            nodeIndexToDirtyTupleQueueMap[i] = new ArrayDeque<>(1000);
+        }
+        tuplePools = nodeIndexedNodeMap.stream()
+                .map(node -> ((BavetAbstractNode) node).getTuplePool())
+                .filter(Objects::nonNull)
+                .toArray(BavetTuplePool[]::new);
+        nodeNetworkRefresher = nodeNetworkRefresherFactory.apply(nodeIndexedNodeMap);
+        hardLevelsSize = scoreDefinition.getFeasibleLevelsSize();
+        boolean[] nodeIndexToHardMap = buildNodeIndexToHardMap(scoreDefinition.getZeroScore());
+        int hardNodeCount = 0;
+        for (boolean hard : nodeIndexToHardMap) {
+            if (hard) {
+                hardNodeCount++;
+            }
+        }
+        if (hardNodeCount == 0 || hardNodeCount == nodeCount) {
+            hardNodeIndexToDirtyTupleQueueMap = null;
+        } else {
+            hardNodeIndexToDirtyTupleQueueMap = new ArrayDeque[nodeCount];
+            ArrayDeque<BavetAbstractTuple> emptyQueue = new ArrayDeque<>(0);
+            for (int i = 0; i < nodeCount; i++) {
+                hardNodeIndexToDirtyTupleQueueMap[i] = nodeIndexToHardMap[i] ? nodeIndexToDirtyTupleQueueMap[i] : emptyQueue;
+            }
+        }
+        boolean[] nodeIndexToHeadMap = buildNodeIndexToHeadMap();
+        headNodeIndexes = IntStream.range(0, nodeCount)
+                .filter(i -> nodeIndexToHeadMap[i])
+                .toArray();
+        scoringNodeIndexes = IntStream.range(0, nodeCount)
+                .filter(i -> nodeIndexedNodeMap.get(i) instanceof BavetScoringNode)
+                .toArray();
+        subnetworkNodeIndexes = buildSubnetworkNodeIndexes(nodeIndexToHeadMap);
+        if (nodeNetworkRefresher instanceof BavetProfilingNodeNetworkRefresher) {
+            constraintIdToProfileMap =
+                    buildConstraintIdToProfileMap((BavetProfilingNodeNetworkRefresher) nodeNetworkRefresher);
+        } else {
+            constraintIdToProfileMap = null;
         }
         fromTupleListMap = new IdentityHashMap<>(1000);
     }
 
-    private static void refreshTuple(BavetAbstractTuple tuple) {
-        tuple.getNode().refresh(tuple);
+    /**
+     * A node is hard if it feeds a constraint with a constraint weight that has a non-zero hard level.
+     * Every scoring node has the constraint weight of its own constraint,
+     * so a node that several constraints share is hard if any of those constraints is hard.
+     * So every parent node of a hard node is hard too
+     * and a node that isn't hard never creates tuples for a hard node.
+     *
+     * @param zeroScore never null
+     * @return never null, a hard flag for every node index
+     */
+    private boolean[] buildNodeIndexToHardMap(Score_ zeroScore) {
+        int nodeCount = nodeIndexedNodeMap.size();
+        boolean[] nodeIndexToHardMap = new boolean[nodeCount];
+        // Every node has a higher node index than its parent nodes, so visit the children first
+        for (int i = nodeCount - 1; i >= 0; i--) {
+            BavetAbstractNode node = (BavetAbstractNode) nodeIndexedNodeMap.get(i);
+            // A join node visited earlier might already have marked this node as hard
+            boolean hard = nodeIndexToHardMap[i];
+            if (node instanceof BavetScoringNode) {
+                Score<?> constraintWeight = ((BavetScoringNode) node).getConstraintWeight();
+                hard |= ScoreUtils.compareHardLevels(constraintWeight, zeroScore, hardLevelsSize) != 0;
+            }
+            for (BavetAbstractNode childNode : node.getChildNodeList()) {
+                hard |= isHardChildNode(nodeIndexToHardMap, node, childNode);
+            }
+            if (node instanceof BavetGroupBridgeNode) {
+                BavetAbstractNode groupNode = (BavetAbstractNode) ((BavetGroupBridgeNode) node).getGroupNode();
+                hard |= isHardChildNode(nodeIndexToHardMap, node, groupNode);
+            }
+            nodeIndexToHardMap[i] = hard;
+            if (hard && node instanceof BavetJoinNode) {
+                BavetJoinNode joinNode = (BavetJoinNode) node;
+                nodeIndexToHardMap[joinNode.getLeftParentNode().getNodeIndex()] = true;
+                nodeIndexToHardMap[joinNode.getRightParentNode().getNodeIndex()] = true;
+            }
+        }
+        return nodeIndexToHardMap;
+    }
+
+    private static boolean isHardChildNode(boolean[] nodeIndexToHardMap, BavetAbstractNode node,
+            BavetAbstractNode childNode) {
+        if (childNode.getNodeIndex() <= node.getNodeIndex()) {
+            throw new IllegalStateException("Impossible state: the childNode (" + childNode
+                    + ") has a nodeIndex (" + childNode.getNodeIndex() + ") that isn't higher than the nodeIndex ("
+                    + node.getNodeIndex() + ") of its parent node (" + node + ").");
+        }
+        return nodeIndexToHardMap[childNode.getNodeIndex()];
+    }
+
+    private Map<String, BavetConstraintProfile> buildConstraintIdToProfileMap(
+            BavetProfilingNodeNetworkRefresher profilingNodeNetworkRefresher) {
+        Map<String, BavetConstraintProfile> constraintIdToProfileMap = new LinkedHashMap<>(scoringNodeList.size());
+        for (BavetScoringNode scoringNode : scoringNodeList) {
+            boolean[] nodeIndexToFeedingMap = new boolean[scoringNode.getNodeIndex() + 1];
+            nodeIndexToFeedingMap[scoringNode.getNodeIndex()] = true;
+            // Like buildNodeIndexToHardMap(), but for 1 scoring node
+            for (int i = scoringNode.getNodeIndex() - 1; i >= 0; i--) {
+                BavetAbstractNode node = (BavetAbstractNode) nodeIndexedNodeMap.get(i);
+                boolean feeding = nodeIndexToFeedingMap[i];
+                for (BavetAbstractNode childNode : node.getChildNodeList()) {
+                    feeding |= isFeedingChildNode(nodeIndexToFeedingMap, childNode);
+                }
+                if (node instanceof BavetGroupBridgeNode) {
+                    BavetAbstractNode groupNode = (BavetAbstractNode) ((BavetGroupBridgeNode) node).getGroupNode();
+                    feeding |= isFeedingChildNode(nodeIndexToFeedingMap, groupNode);
+                }
+                nodeIndexToFeedingMap[i] = feeding;
+                if (feeding && node instanceof BavetJoinNode) {
+                    BavetJoinNode joinNode = (BavetJoinNode) node;
+                    nodeIndexToFeedingMap[joinNode.getLeftParentNode().getNodeIndex()] = true;
+                    nodeIndexToFeedingMap[joinNode.getRightParentNode().getNodeIndex()] = true;
+                }
+            }
+            List<BavetNodeProfile> nodeProfileList = IntStream.range(0, nodeIndexToFeedingMap.length)
+                    .filter(i -> nodeIndexToFeedingMap[i])
+                    .mapToObj(profilingNodeNetworkRefresher::getNodeProfile)
+                    .collect(Collectors.toList());
+            BavetConstraint<?> constraint = scoringNode.getConstraint();
+            constraintIdToProfileMap.put(constraint.getConstraintId(), new BavetConstraintProfile(
+                    constraint.getConstraintPackage(), constraint.getConstraintName(), nodeProfileList));
+        }
+        return constraintIdToProfileMap;
+    }
+
+    private static boolean isFeedingChildNode(boolean[] nodeIndexToFeedingMap, BavetAbstractNode childNode) {
+        // A child node behind the scoring node can't feed it
+        return childNode.getNodeIndex() < nodeIndexToFeedingMap.length && nodeIndexToFeedingMap[childNode.getNodeIndex()];
+    }
+
+    /**
+     * A head node is a from node or a node that has a head node as its only parent and creates tuples for several
+     * child nodes. Every child node of a head node has a higher node index, so a single pass suffices.
+     *
+     * @return never null, true for the node indexes of the head nodes
+     */
+    private boolean[] buildNodeIndexToHeadMap() {
+        boolean[] nodeIndexToHeadMap = new boolean[nodeIndexedNodeMap.size()];
+        for (BavetNode uncastNode : nodeIndexedNodeMap) {
+            BavetAbstractNode node = (BavetAbstractNode) uncastNode;
+            if (node instanceof BavetFromUniNode) {
+                nodeIndexToHeadMap[node.getNodeIndex()] = true;
+            }
+            if (!nodeIndexToHeadMap[node.getNodeIndex()]) {
+                continue;
+            }
+            for (BavetAbstractNode childNode : node.getChildNodeList()) {
+                // A join node or a group node isn't in the child node list, so a child node has no other parent
+                if (!(childNode instanceof BavetScoringNode) && childNode.getChildNodeList().size() > 1) {
+                    nodeIndexToHeadMap[childNode.getNodeIndex()] = true;
+                }
+            }
+        }
+        return nodeIndexToHeadMap;
+    }
+
+    /**
+     * A head node only creates tuples for its child nodes
+     * and a scoring node only impacts the {@link #scoreInliner}, which isn't thread-safe.
+     * So once the head nodes are refreshed, the other nodes can be refreshed per subnetwork in parallel,
+     * if the scoring nodes are refreshed afterwards.
+     *
+     * @param nodeIndexToHeadMap never null
+     * @return null if there are less than 2 subnetworks
+     */
+    private int[][] buildSubnetworkNodeIndexes(boolean[] nodeIndexToHeadMap) {
+        int nodeCount = nodeIndexedNodeMap.size();
+        int[] nodeIndexToRootMap = IntStream.range(0, nodeCount).toArray();
+        for (BavetNode uncastNode : nodeIndexedNodeMap) {
+            BavetAbstractNode node = (BavetAbstractNode) uncastNode;
+            if (!isSubnetworkNode(nodeIndexToHeadMap, node)) {
+                continue;
+            }
+            for (BavetAbstractNode childNode : node.getChildNodeList()) {
+                if (isSubnetworkNode(nodeIndexToHeadMap, childNode)) {
+                    joinSubnetworks(nodeIndexToRootMap, node.getNodeIndex(), childNode.getNodeIndex());
+                }
+            }
+            if (node instanceof BavetGroupBridgeNode) {
+                BavetAbstractNode groupNode = (BavetAbstractNode) ((BavetGroupBridgeNode) node).getGroupNode();
+                joinSubnetworks(nodeIndexToRootMap, node.getNodeIndex(), groupNode.getNodeIndex());
+            }
+            if (node instanceof BavetJoinNode) {
+                BavetJoinNode joinNode = (BavetJoinNode) node;
+                joinSubnetworks(nodeIndexToRootMap, node.getNodeIndex(), joinNode.getLeftParentNode().getNodeIndex());
+                joinSubnetworks(nodeIndexToRootMap, node.getNodeIndex(), joinNode.getRightParentNode().getNodeIndex());
+            }
+        }
+        Map<Integer, List<Integer>> rootToNodeIndexListMap = new LinkedHashMap<>();
+        for (int i = 0; i < nodeCount; i++) {
+            if (isSubnetworkNode(nodeIndexToHeadMap, (BavetAbstractNode) nodeIndexedNodeMap.get(i))) {
+                rootToNodeIndexListMap.computeIfAbsent(findSubnetworkRoot(nodeIndexToRootMap, i), k -> new ArrayList<>())
+                        .add(i);
+            }
+        }
+        if (rootToNodeIndexListMap.size() < 2) {
+            return null;
+        }
+        return rootToNodeIndexListMap.values().stream()
+                .map(nodeIndexList -> nodeIndexList.stream().mapToInt(Integer::intValue).toArray())
+                .toArray(int[][]::new);
+    }
+
+    private static boolean isSubnetworkNode(boolean[] nodeIndexToHeadMap, BavetAbstractNode node) {
+        return !nodeIndexToHeadMap[node.getNodeIndex()] && !(node instanceof BavetScoringNode);
+    }
+
+    private static void joinSubnetworks(int[] nodeIndexToRootMap, int nodeIndex, int otherNodeIndex) {
+        int root = findSubnetworkRoot(nodeIndexToRootMap, nodeIndex);
+        int otherRoot = findSubnetworkRoot(nodeIndexToRootMap, otherNodeIndex);
+        // The lowest node index is the root, so the subnetworks keep their node index order
+        nodeIndexToRootMap[Math.max(root, otherRoot)] = Math.min(root, otherRoot);
+    }
+
+    private static int findSubnetworkRoot(int[] nodeIndexToRootMap, int nodeIndex) {
+        int root = nodeIndex;
+        while (nodeIndexToRootMap[root] != root) {
+            root = nodeIndexToRootMap[root];
+        }
+        nodeIndexToRootMap[nodeIndex] = root;
+        return root;
+    }
+
+    /**
+     * Called by every {@link BavetNodeNetworkRefresher} right after the node of the tuple refreshed it.
+     *
+     * @param tuple never null, no longer dirty after this call
+     */
+    public static void afterTupleRefreshed(BavetAbstractTuple tuple) {
         switch (tuple.getState()) {
             case CREATING:
             case UPDATING:
@@ -79,6 +401,11 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
             case DYING:
             case ABORTING:
                 tuple.setState(BavetTupleState.DEAD);
+                BavetTuplePool<BavetAbstractTuple> tuplePool =
+                        (BavetTuplePool<BavetAbstractTuple>) tuple.getNode().getTuplePool();
+                if (tuplePool != null) {
+                    tuplePool.add(tuple);
+                }
                 return;
             case DEAD:
                 throw new IllegalStateException("Impossible state: The tuple (" + tuple + ") in node (" +
@@ -102,16 +429,55 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
     }
 
     public void insert(Object fact) {
-        Class<?> factClass = fact.getClass();
-        List<BavetFromUniNode<Object>> fromNodeList = findFromNodeList(factClass);
-        List<BavetFromUniTuple<Object>> tupleList = new ArrayList<>(fromNodeList.size());
+        insert(fact, findFromNodeList(fact.getClass()));
+    }
+
+    /**
+     * Inserts a lot of facts at once, such as all facts of a new working solution.
+     * The next score calculation lets every node presize its data structures, such as its join index,
+     * before it refreshes the tuples of those facts.
+     *
+     * @param facts never null, preferably grouped by class
+     */
+    public void insertAll(Collection<Object> facts) {
+        if (fromTupleListMap.isEmpty()) {
+            fromTupleListMap = new IdentityHashMap<>(facts.size());
+        }
+        Class<?> lastFactClass = null;
+        List<BavetFromUniNode<Object>> fromNodeList = null;
+        for (Object fact : facts) {
+            Class<?> factClass = fact.getClass();
+            // Only look up the from nodes when the class changes
+            if (factClass != lastFactClass) {
+                fromNodeList = findFromNodeList(factClass);
+                lastFactClass = factClass;
+            }
+            insert(fact, fromNodeList);
+        }
+        // The bulk refresh doesn't go through the nodeNetworkRefresher, so it would escape the profile
+        bulkRefreshPending = constraintIdToProfileMap == null;
+    }
+
+    private void insert(Object fact, List<BavetFromUniNode<Object>> fromNodeList) {
+        List<BavetFromUniTuple<Object>> tupleList;
+        int fromNodeCount = fromNodeList.size();
+        if (fromNodeCount == 0) {
+            tupleList = Collections.emptyList();
+        } else if (fromNodeCount == 1) {
+            // Most facts only match 1 from node, so don't allocate an ArrayList for them
+            tupleList = Collections.singletonList(fromNodeList.get(0).createTuple(fact));
+        } else {
+            tupleList = new ArrayList<>(fromNodeCount);
+            for (BavetFromUniNode<Object> node : fromNodeList) {
+                tupleList.add(node.createTuple(fact));
+            }
+        }
         List<BavetFromUniTuple<Object>> old = fromTupleListMap.put(fact, tupleList);
         if (old != null) {
+            fromTupleListMap.put(fact, old);
             throw new IllegalStateException("The fact (" + fact + ") was already inserted, so it cannot insert again.");
         }
-        for (BavetFromUniNode<Object> node : fromNodeList) {
-            BavetFromUniTuple<Object> tuple = node.createTuple(fact);
-            tupleList.add(tuple);
+        for (BavetFromUniTuple<Object> tuple : tupleList) {
             transitionTuple(tuple, BavetTupleState.CREATING);
         }
     }
@@ -139,7 +505,9 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
     public void transitionTuple(BavetAbstractTuple tuple, BavetTupleState newState) {
         if (tuple.isDirty()) {
             if (tuple.getState() != newState) {
-                if ((tuple.getState() == BavetTupleState.CREATING && newState == BavetTupleState.DYING)) {
+                if ((tuple.getState() == BavetTupleState.CREATING && newState == BavetTupleState.UPDATING)) {
+                    // Only after a bounded score calculation: it is still new, so it gets created with the latest facts
+                } else if ((tuple.getState() == BavetTupleState.CREATING && newState == BavetTupleState.DYING)) {
                     tuple.setState(BavetTupleState.ABORTING);
                 } else if ((tuple.getState() == BavetTupleState.UPDATING && newState == BavetTupleState.DYING)) {
                     tuple.setState(BavetTupleState.DYING);
@@ -153,18 +521,118 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
             return;
         }
         tuple.setState(newState);
-        nodeIndexToDirtyTupleQueueMap.get(tuple.getNodeIndex()).add(tuple);
+        nodeIndexToDirtyTupleQueueMap[tuple.getNodeIndex()].add(tuple);
+        dirtyTupleCount++;
     }
 
     public Score_ calculateScore(int initScore) {
-        for (Queue<BavetAbstractTuple> queue : nodeIndexToDirtyTupleQueueMap) {
-            BavetAbstractTuple tuple = queue.poll();
-            while (tuple != null) {
-                refreshTuple(tuple);
-                tuple = queue.poll();
+        refreshAll();
+        return scoreInliner.extractScore(initScore);
+    }
+
+    /**
+     * Refreshes every dirty tuple, including those that {@link #calculateScore(int, Score)} postponed.
+     */
+    public void refreshAll() {
+        if (bulkRefreshPending) {
+            refreshAfterBulkInsert();
+            bulkRefreshPending = false;
+        } else {
+            nodeNetworkRefresher.refreshAll(nodeIndexToDirtyTupleQueueMap);
+        }
+        dirtyTupleCount = 0;
+        // Only now no dirty tuple can still reach the tuples that died during this calculation
+        for (BavetTuplePool<?> tuplePool : tuplePools) {
+            tuplePool.release();
+        }
+    }
+
+    /**
+     * Like {@link #calculateScore(int)}, but it first only refreshes the nodes that feed a constraint
+     * with a hard constraint weight and stops there if the hard levels are already worse than those of the threshold.
+     * The tuples of the other nodes stay dirty, so a later score calculation or {@link #refreshAll()} refreshes them.
+     * If more than {@link #MAX_POSTPONED_DIRTY_TUPLE_COUNT} tuples are dirty, it refreshes them anyway.
+     *
+     * @param initScore {@code <= 0}
+     * @param threshold never null
+     * @return never null, if it's worse than the threshold on the hard levels,
+     *         its soft levels are not reliable
+     */
+    public Score_ calculateScore(int initScore, Score_ threshold) {
+        if (hardNodeIndexToDirtyTupleQueueMap == null || bulkRefreshPending) {
+            return calculateScore(initScore);
+        }
+        dirtyTupleCount -= nodeNetworkRefresher.refreshAll(hardNodeIndexToDirtyTupleQueueMap);
+        if (scoreInliner.compareHardLevels(initScore, threshold, hardLevelsSize) < 0
+                && dirtyTupleCount <= MAX_POSTPONED_DIRTY_TUPLE_COUNT) {
+            // The dirty tuples of the other nodes might still reach tuples that died, so don't release the pools
+            return scoreInliner.extractScore(initScore);
+        }
+        return calculateScore(initScore);
+    }
+
+    /**
+     * Refreshes like {@link BavetInterpretedNodeNetworkRefresher}, but presizes every node first.
+     * Every node has a higher node index than its parent nodes,
+     * so by the time a node's turn comes, its queue already contains all of its dirty tuples.
+     * <p>
+     * If there is a {@link #setBulkRefreshExecutor(Executor) bulk refresh executor} and enough dirty tuples,
+     * it refreshes the subnetworks in parallel, on that executor and the calling thread.
+     * Every subnetwork only fills the dirty queues of its own nodes and of the scoring nodes of its constraints.
+     */
+    private void refreshAfterBulkInsert() {
+        if (bulkRefreshExecutor == null || subnetworkNodeIndexes == null
+                || dirtyTupleCount < PARALLEL_BULK_REFRESH_THRESHOLD) {
+            for (int i = 0; i < nodeIndexToDirtyTupleQueueMap.length; i++) {
+                refreshNodeAfterBulkInsert(i);
             }
+            return;
+        }
+        refreshNodesAfterBulkInsert(headNodeIndexes);
+        int lastSubnetworkIndex = subnetworkNodeIndexes.length - 1;
+        CompletableFuture<?>[] futures = new CompletableFuture[lastSubnetworkIndex];
+        for (int i = 0; i < lastSubnetworkIndex; i++) {
+            int[] nodeIndexes = subnetworkNodeIndexes[i];
+            futures[i] = CompletableFuture.runAsync(() -> refreshNodesAfterBulkInsert(nodeIndexes), bulkRefreshExecutor);
+        }
+        refreshNodesAfterBulkInsert(subnetworkNodeIndexes[lastSubnetworkIndex]);
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        refreshNodesAfterBulkInsert(scoringNodeIndexes);
+    }
+
+    /**
+     * @return {@code >= 0}, the number of tuples that the next score calculation will refresh
+     */
+    public int getDirtyTupleCount() {
+        return dirtyTupleCount;
+    }
+
+    private void refreshNodesAfterBulkInsert(int[] nodeIndexes) {
+        for (int nodeIndex : nodeIndexes) {
+            refreshNodeAfterBulkInsert(nodeIndex);
+        }
+    }
+
+    private void refreshNodeAfterBulkInsert(int nodeIndex) {
+        ArrayDeque<BavetAbstractTuple> queue = nodeIndexToDirtyTupleQueueMap[nodeIndex];
+        if (queue.isEmpty()) {
+            return;
+        }
+        BavetAbstractNode node = (BavetAbstractNode) nodeIndexedNodeMap.get(nodeIndex);
+        node.presize(queue.size());
+        BavetAbstractTuple tuple = queue.poll();
+        while (tuple != null) {
+            node.refresh(tuple);
+            afterTupleRefreshed(tuple);
+            tuple = queue.poll();
         }
-        return scoreInliner.extractScore(initScore);
     }
 
     public Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalMap() {
@@ -175,6 +643,10 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
         return scoreInliner.getIndictmentMap();
     }
 
+    public Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalSummaryMap() {
+        return scoreInliner.getConstraintMatchTotalSummaryMap();
+    }
+
     // ************************************************************************
     // Getters/setters
     // ************************************************************************
@@ -183,10 +655,74 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
         return scoreInliner;
     }
 
+    /**
+     * Recycling dead tuples reduces the allocation per move a lot,
+     * but it costs throughput when garbage collection is cheap, such as on a small heap.
+     * So it's disabled by default.
+     *
+     * @return true if the nodes that support it reuse their dead tuples through a {@link BavetTuplePool}
+     */
+    public boolean isTupleRecyclingEnabled() {
+        return tupleRecyclingEnabled;
+    }
+
     public List<BavetNode> getNodes() {
         return nodeIndexedNodeMap;
     }
 
+    /**
+     * @return {@code >= 0}, the number of nodes that constraints share instead of creating their own
+     */
+    public int getSharedNodeCount() {
+        return sharedNodeCount;
+    }
+
+    /**
+     * @return {@code >= 0}, the number of subnetworks that a bulk refresh can refresh in parallel,
+     *         0 if it always refreshes sequentially
+     */
+    public int getSubnetworkCount() {
+        return (subnetworkNodeIndexes == null) ? 0 : subnetworkNodeIndexes.length;
+    }
+
+    public Executor getBulkRefreshExecutor() {
+        return bulkRefreshExecutor;
+    }
+
+    /**
+     * Enables the parallel refresh after {@link #insertAll(Collection)}.
+     * The lambdas of the constraints then run concurrently, so they must be thread-safe.
+     *
+     * @param bulkRefreshExecutor null to always refresh sequentially, which is the default
+     */
+    public void setBulkRefreshExecutor(Executor bulkRefreshExecutor) {
+        this.bulkRefreshExecutor = bulkRefreshExecutor;
+    }
+
+    /**
+     * @return true if {@link #getConstraintProfileMap()} is supported
+     */
+    public boolean isProfilingEnabled() {
+        return constraintIdToProfileMap != null;
+    }
+
+    /**
+     * @return never null, the key is the {@link BavetConstraint#getConstraintId() constraint ID},
+     *         the values are live
+     * @throws IllegalStateException if {@link #isProfilingEnabled()} is false
+     */
+    public Map<String, BavetConstraintProfile> getConstraintProfileMap() {
+        if (constraintIdToProfileMap == null) {
+            throw new IllegalStateException("The session isn't profiled, so it has no constraintProfileMap."
+                    + " Maybe build it with a " + BavetProfilingNodeNetworkRefresher.class.getSimpleName() + ".");
+        }
+        return constraintIdToProfileMap;
+    }
+
+    public BavetNodeNetworkRefresher getNodeNetworkRefresher() {
+        return nodeNetworkRefresher;
+    }
+
     public List<BavetScoringNode> getScoringNodeList() {
         return scoringNodeList;
     }
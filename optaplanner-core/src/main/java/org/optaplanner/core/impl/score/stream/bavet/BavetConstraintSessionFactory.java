@@ -28,18 +28,36 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
 
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final List<BavetConstraint<Solution_>> constraintList;
+    private final boolean tupleRecyclingEnabled;
 
     public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             List<BavetConstraint<Solution_>> constraintList) {
+        this(solutionDescriptor, constraintList, false);
+    }
+
+    /**
+     * @param solutionDescriptor never null
+     * @param constraintList never null
+     * @param tupleRecyclingEnabled see {@link BavetConstraintSession#isTupleRecyclingEnabled()}
+     */
+    public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            List<BavetConstraint<Solution_>> constraintList, boolean tupleRecyclingEnabled) {
         this.solutionDescriptor = solutionDescriptor;
         this.constraintList = constraintList;
+        this.tupleRecyclingEnabled = tupleRecyclingEnabled;
     }
 
     // ************************************************************************
     // Node creation
     // ************************************************************************
 
-    public BavetConstraintSession<Solution_, Score_> buildSession(boolean constraintMatchEnabled,
+    /**
+     * @param constraintMatchEnabled true if the constraint matches need to be tracked
+     * @param profilingEnabled true if the session needs to record a {@link BavetConstraintProfile} per constraint
+     * @param workingSolution never null
+     * @return never null
+     */
+    public BavetConstraintSession<Solution_, Score_> buildSession(boolean constraintMatchEnabled, boolean profilingEnabled,
             Solution_ workingSolution) {
         ScoreDefinition<Score_> scoreDefinition = solutionDescriptor.getScoreDefinition();
         Score_ zeroScore = scoreDefinition.getZeroScore();
@@ -54,7 +72,12 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
                         .collect(Collectors.toMap(
                                 constraintAndWeight -> (BavetConstraint<Solution_>) constraintAndWeight[0],
                                 constraintAndWeight -> (Score_) constraintAndWeight[1]));
-        return new BavetConstraintSession<>(constraintMatchEnabled, scoreDefinition, constraintToWeightMap);
+        if (profilingEnabled) {
+            return new BavetConstraintSession<>(constraintMatchEnabled, scoreDefinition, constraintToWeightMap,
+                    BavetProfilingNodeNetworkRefresher::new, tupleRecyclingEnabled);
+        }
+        return new BavetConstraintSession<>(constraintMatchEnabled, scoreDefinition, constraintToWeightMap,
+                nodeList -> new BavetInterpretedNodeNetworkRefresher(), tupleRecyclingEnabled);
     }
 
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet;
+
+import java.util.ArrayDeque;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+
+/**
+ * Refreshes every tuple through {@link org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractNode#refresh},
+ * so that call site sees every node class of the network.
+ */
+public final class BavetInterpretedNodeNetworkRefresher implements BavetNodeNetworkRefresher {
+
+    @Override
+    public int refreshAll(ArrayDeque<BavetAbstractTuple>[] nodeIndexToDirtyTupleQueueMap) {
+        int refreshCount = 0;
+        for (ArrayDeque<BavetAbstractTuple> queue : nodeIndexToDirtyTupleQueueMap) {
+            BavetAbstractTuple tuple = queue.poll();
+            while (tuple != null) {
+                tuple.getNode().refresh(tuple);
+                BavetConstraintSession.afterTupleRefreshed(tuple);
+                refreshCount++;
+                tuple = queue.poll();
+            }
+        }
+        return refreshCount;
+    }
+
+}
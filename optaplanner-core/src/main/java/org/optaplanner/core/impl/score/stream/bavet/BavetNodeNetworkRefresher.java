@@ -0,0 +1,40 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet;
+
+import java.util.ArrayDeque;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+
+/**
+ * Drains the dirty tuple queues of a {@link BavetConstraintSession}.
+ *
+ * @see BavetInterpretedNodeNetworkRefresher
+ * @see BavetProfilingNodeNetworkRefresher
+ */
+public interface BavetNodeNetworkRefresher {
+
+    /**
+     * Refreshes every dirty tuple, node by node in node index order,
+     * and calls {@link BavetConstraintSession#afterTupleRefreshed(BavetAbstractTuple)} for each of them.
+     *
+     * @param nodeIndexToDirtyTupleQueueMap never null, empty after this call
+     * @return {@code >= 0}, the number of tuples refreshed, including those that became dirty during this call
+     */
+    int refreshAll(ArrayDeque<BavetAbstractTuple>[] nodeIndexToDirtyTupleQueueMap);
+
+}
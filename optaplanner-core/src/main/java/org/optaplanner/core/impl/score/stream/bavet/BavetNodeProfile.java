@@ -0,0 +1,89 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractNode;
+
+/**
+ * What a {@link BavetProfilingNodeNetworkRefresher} measured for 1 node, since its session was created.
+ * The values are live: they change during every score calculation.
+ */
+public final class BavetNodeProfile {
+
+    private final BavetAbstractNode node;
+
+    private long refreshCount = 0L;
+    private long refreshNanos = 0L;
+    private long liveTupleCount = 0L;
+
+    public BavetNodeProfile(BavetAbstractNode node) {
+        this.node = node;
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    void addRefreshes(long refreshCount, long refreshNanos, long liveTupleCountDiff) {
+        this.refreshCount += refreshCount;
+        this.refreshNanos += refreshNanos;
+        this.liveTupleCount += liveTupleCountDiff;
+    }
+
+    @Override
+    public String toString() {
+        return node + " (" + node.getNodeIndex() + "): " + refreshCount + " refreshes in " + refreshNanos + " ns, "
+                + liveTupleCount + " live tuples, " + getIndexBucketCount() + " index buckets";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    public BavetAbstractNode getNode() {
+        return node;
+    }
+
+    /**
+     * @return {@code >= 0}, the number of dirty tuples that the node refreshed
+     */
+    public long getRefreshCount() {
+        return refreshCount;
+    }
+
+    /**
+     * @return {@code >= 0}, the time spent refreshing those tuples
+     */
+    public long getRefreshNanos() {
+        return refreshNanos;
+    }
+
+    /**
+     * @return {@code >= 0}, the number of tuples of the node that are currently alive
+     */
+    public long getLiveTupleCount() {
+        return liveTupleCount;
+    }
+
+    /**
+     * @return {@code >= 0}, see {@link BavetAbstractNode#getIndexBucketCount()}
+     */
+    public int getIndexBucketCount() {
+        return node.getIndexBucketCount();
+    }
+
+}
@@ -18,6 +18,8 @@ package org.optaplanner.core.impl.score.stream.bavet.bi;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -25,8 +27,10 @@ import java.util.function.Function;
 import java.util.function.ToIntBiFunction;
 import java.util.function.ToLongBiFunction;
 
+import org.optaplanner.core.api.function.TriPredicate;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintCollectors;
 import org.optaplanner.core.api.score.stream.ConstraintFactory;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
@@ -39,13 +43,19 @@ import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+import org.optaplanner.core.impl.score.stream.bavet.quad.BavetGroupQuadConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.tri.BavetGroupTriConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.tri.BavetJoinTriConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetAbstractUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetGroupUniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bi.InnerBiConstraintStream;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
 import org.optaplanner.core.impl.score.stream.common.RetrievalSemantics;
 import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
 import org.optaplanner.core.impl.score.stream.tri.AbstractTriJoiner;
+import org.optaplanner.core.impl.score.stream.tri.FilteringTriJoiner;
+import org.optaplanner.core.impl.score.stream.tri.NoneTriJoiner;
 
 public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends BavetAbstractConstraintStream<Solution_>
         implements InnerBiConstraintStream<A, B> {
@@ -128,25 +138,87 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
     @SafeVarargs
     @Override
     public final <C> BiConstraintStream<A, B> ifExists(Class<C> otherClass, TriJoiner<A, B, C>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(true, getRetrievalSemantics() != RetrievalSemantics.STANDARD, otherClass, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <C> BiConstraintStream<A, B> ifExistsIncludingNullVars(Class<C> otherClass, TriJoiner<A, B, C>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(true, true, otherClass, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <C> BiConstraintStream<A, B> ifNotExists(Class<C> otherClass, TriJoiner<A, B, C>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(false, getRetrievalSemantics() != RetrievalSemantics.STANDARD, otherClass, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <C> BiConstraintStream<A, B> ifNotExistsIncludingNullVars(Class<C> otherClass, TriJoiner<A, B, C>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(false, true, otherClass, joiners);
+    }
+
+    private <C> BiConstraintStream<A, B> ifExistsOrNot(boolean shouldExist, boolean shouldIncludeNullVars,
+            Class<C> otherClass, TriJoiner<A, B, C>[] joiners) {
+        BavetAbstractUniConstraintStream<Solution_, C> other =
+                (BavetAbstractUniConstraintStream<Solution_, C>) (shouldIncludeNullVars
+                        ? constraintFactory.forEachIncludingNullVars(otherClass)
+                        : constraintFactory.forEach(otherClass));
+        int indexOfFirstFilter = -1;
+        // Split the joiners into an indexing joiner and a filter.
+        AbstractTriJoiner<A, B, C> finalJoiner = null;
+        TriPredicate<A, B, C> finalFilter = null;
+        for (int i = 0; i < joiners.length; i++) {
+            if (!(joiners[i] instanceof AbstractTriJoiner)) {
+                throw new IllegalArgumentException("The joiner class (" + joiners[i].getClass() + ") is not supported.");
+            }
+            AbstractTriJoiner<A, B, C> joiner = (AbstractTriJoiner<A, B, C>) joiners[i];
+            boolean hasAFilter = indexOfFirstFilter >= 0;
+            if (joiner instanceof NoneTriJoiner && joiners.length > 1) {
+                throw new IllegalStateException("If present, " + NoneTriJoiner.class + " must be the only joiner, got "
+                        + Arrays.toString(joiners) + " instead.");
+            } else if (!(joiner instanceof FilteringTriJoiner)) {
+                if (hasAFilter) {
+                    throw new IllegalStateException("Indexing joiner (" + joiner + ") must not follow a filtering joiner ("
+                            + joiners[indexOfFirstFilter] + ").");
+                }
+                finalJoiner = finalJoiner == null ? joiner : AbstractTriJoiner.merge(finalJoiner, joiner);
+            } else {
+                if (!hasAFilter) {
+                    indexOfFirstFilter = i;
+                }
+                // Merge all filters into one, so each match is only filtered once.
+                finalFilter = finalFilter == null ? joiner.getFilter() : finalFilter.and(joiner.getFilter());
+            }
+        }
+        if (finalJoiner == null) {
+            finalJoiner = new NoneTriJoiner<>();
+        }
+        for (JoinerType type : finalJoiner.getJoinerTypes()) {
+            switch (type) {
+                case EQUAL:
+                case LESS_THAN:
+                case LESS_THAN_OR_EQUAL:
+                case GREATER_THAN:
+                case GREATER_THAN_OR_EQUAL:
+                    continue;
+                default:
+                    throw new UnsupportedOperationException("Unsupported joiner type (" + type + ").");
+            }
+        }
+        BavetIndexFactory indexFactory = new BavetIndexFactory(finalJoiner);
+        BavetJoinBridgeBiConstraintStream<Solution_, A, B> leftBridge = new BavetJoinBridgeBiConstraintStream<>(
+                constraintFactory, this, true, finalJoiner.getLeftCombinedMapping(), indexFactory);
+        addChildStream(leftBridge);
+        BavetJoinBridgeUniConstraintStream<Solution_, C> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, other, false, finalJoiner.getRightCombinedMapping(), indexFactory);
+        other.addChildStream(rightBridge);
+        BavetIfExistsBiConstraintStream<Solution_, A, B, C> ifExistsStream = new BavetIfExistsBiConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge, shouldExist, finalFilter);
+        leftBridge.setJoinStream(ifExistsStream);
+        rightBridge.setJoinStream(ifExistsStream);
+        return ifExistsStream;
     }
 
     // ************************************************************************
@@ -156,14 +228,15 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
     @Override
     public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
             BiConstraintCollector<A, B, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        return groupByToUni((a, b) -> Collections.emptyList(), 0, collector);
     }
 
     @Override
     public <ResultContainerA_, ResultA_, ResultContainerB_, ResultB_> BiConstraintStream<ResultA_, ResultB_> groupBy(
             BiConstraintCollector<A, B, ResultContainerA_, ResultA_> collectorA,
             BiConstraintCollector<A, B, ResultContainerB_, ResultB_> collectorB) {
-        throw new UnsupportedOperationException();
+        return groupByToBi((a, b) -> Collections.emptyList(),
+                0, ConstraintCollectors.compose(collectorA, collectorB, Arrays::asList));
     }
 
     @Override
@@ -172,7 +245,8 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
             groupBy(BiConstraintCollector<A, B, ResultContainerA_, ResultA_> collectorA,
                     BiConstraintCollector<A, B, ResultContainerB_, ResultB_> collectorB,
                     BiConstraintCollector<A, B, ResultContainerC_, ResultC_> collectorC) {
-        throw new UnsupportedOperationException();
+        return groupByToTri((a, b) -> Collections.emptyList(),
+                0, ConstraintCollectors.compose(collectorA, collectorB, collectorC, Arrays::asList));
     }
 
     @Override
@@ -182,12 +256,13 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
                     BiConstraintCollector<A, B, ResultContainerB_, ResultB_> collectorB,
                     BiConstraintCollector<A, B, ResultContainerC_, ResultC_> collectorC,
                     BiConstraintCollector<A, B, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        return groupByToQuad((a, b) -> Collections.emptyList(),
+                0, ConstraintCollectors.compose(collectorA, collectorB, collectorC, collectorD, Arrays::asList));
     }
 
     @Override
     public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(BiFunction<A, B, GroupKey_> groupKeyMapping) {
-        throw new UnsupportedOperationException();
+        return groupByToUni(groupKeyMapping, 1, null);
     }
 
     @Override
@@ -195,7 +270,7 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
             TriConstraintStream<GroupKey_, ResultB_, ResultC_> groupBy(BiFunction<A, B, GroupKey_> groupKeyMapping,
                     BiConstraintCollector<A, B, ResultContainerB_, ResultB_> collectorB,
                     BiConstraintCollector<A, B, ResultContainerC_, ResultC_> collectorC) {
-        throw new UnsupportedOperationException();
+        return groupByToTri(groupKeyMapping, 1, ConstraintCollectors.compose(collectorB, collectorC, Arrays::asList));
     }
 
     @Override
@@ -204,33 +279,30 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
                     BiConstraintCollector<A, B, ResultContainerB_, ResultB_> collectorB,
                     BiConstraintCollector<A, B, ResultContainerC_, ResultC_> collectorC,
                     BiConstraintCollector<A, B, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        return groupByToQuad(groupKeyMapping,
+                1, ConstraintCollectors.compose(collectorB, collectorC, collectorD, Arrays::asList));
     }
 
     @Override
     public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
             BiFunction<A, B, GroupKey_> groupKeyMapping,
             BiConstraintCollector<A, B, ResultContainer_, Result_> collector) {
-        BavetGroupBridgeBiConstraintStream<Solution_, A, B, GroupKey_, ResultContainer_, Result_> bridge =
-                new BavetGroupBridgeBiConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
-        childStreamList.add(bridge);
-        BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, Result_> groupStream =
-                new BavetGroupBiConstraintStream<>(constraintFactory, bridge, collector.finisher());
-        bridge.setGroupStream(groupStream);
-        return groupStream;
+        return groupByToBi(groupKeyMapping, 1, collector);
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
             BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping) {
-        throw new UnsupportedOperationException();
+        return groupByToBi((a, b) -> Arrays.asList(groupKeyAMapping.apply(a, b), groupKeyBMapping.apply(a, b)),
+                2, null);
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, ResultContainer_, Result_> TriConstraintStream<GroupKeyA_, GroupKeyB_, Result_> groupBy(
             BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping,
             BiConstraintCollector<A, B, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        return groupByToTri((a, b) -> Arrays.asList(groupKeyAMapping.apply(a, b), groupKeyBMapping.apply(a, b)),
+                2, collector);
     }
 
     @Override
@@ -239,14 +311,18 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
                     BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping,
                     BiConstraintCollector<A, B, ResultContainerC_, ResultC_> collectorC,
                     BiConstraintCollector<A, B, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        return groupByToQuad((a, b) -> Arrays.asList(groupKeyAMapping.apply(a, b), groupKeyBMapping.apply(a, b)),
+                2, ConstraintCollectors.compose(collectorC, collectorD, Arrays::asList));
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, GroupKeyC_> TriConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_> groupBy(
             BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping,
             BiFunction<A, B, GroupKeyC_> groupKeyCMapping) {
-        throw new UnsupportedOperationException();
+        return groupByToTri(
+                (a, b) -> Arrays.asList(groupKeyAMapping.apply(a, b), groupKeyBMapping.apply(a, b),
+                        groupKeyCMapping.apply(a, b)),
+                3, null);
     }
 
     @Override
@@ -255,14 +331,72 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
             groupBy(BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping,
                     BiFunction<A, B, GroupKeyC_> groupKeyCMapping,
                     BiConstraintCollector<A, B, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        return groupByToQuad(
+                (a, b) -> Arrays.asList(groupKeyAMapping.apply(a, b), groupKeyBMapping.apply(a, b),
+                        groupKeyCMapping.apply(a, b)),
+                3, collectorD);
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_> QuadConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_>
             groupBy(BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping,
                     BiFunction<A, B, GroupKeyC_> groupKeyCMapping, BiFunction<A, B, GroupKeyD_> groupKeyDMapping) {
-        throw new UnsupportedOperationException();
+        return groupByToQuad(
+                (a, b) -> Arrays.asList(groupKeyAMapping.apply(a, b), groupKeyBMapping.apply(a, b),
+                        groupKeyCMapping.apply(a, b), groupKeyDMapping.apply(a, b)),
+                4, null);
+    }
+
+    private <GroupKey_, ResultContainer_, NewA> UniConstraintStream<NewA> groupByToUni(
+            BiFunction<A, B, GroupKey_> groupKeyMapping, int keyCount,
+            BiConstraintCollector<A, B, ResultContainer_, ?> collector) {
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeBiConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        BavetGroupUniConstraintStream<Solution_, GroupKey_, ResultContainer_, NewA> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge, keyCount,
+                        (collector == null) ? null : collector.finisher());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    private <GroupKey_, ResultContainer_, NewA, NewB> BiConstraintStream<NewA, NewB> groupByToBi(
+            BiFunction<A, B, GroupKey_> groupKeyMapping, int keyCount,
+            BiConstraintCollector<A, B, ResultContainer_, ?> collector) {
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeBiConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, NewA, NewB> groupStream =
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge, keyCount,
+                        (collector == null) ? null : collector.finisher());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    private <GroupKey_, ResultContainer_, NewA, NewB, NewC> TriConstraintStream<NewA, NewB, NewC> groupByToTri(
+            BiFunction<A, B, GroupKey_> groupKeyMapping, int keyCount,
+            BiConstraintCollector<A, B, ResultContainer_, ?> collector) {
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeBiConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        BavetGroupTriConstraintStream<Solution_, GroupKey_, ResultContainer_, NewA, NewB, NewC> groupStream =
+                new BavetGroupTriConstraintStream<>(constraintFactory, bridge, keyCount,
+                        (collector == null) ? null : collector.finisher());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    private <GroupKey_, ResultContainer_, NewA, NewB, NewC, NewD> QuadConstraintStream<NewA, NewB, NewC, NewD> groupByToQuad(
+            BiFunction<A, B, GroupKey_> groupKeyMapping, int keyCount,
+            BiConstraintCollector<A, B, ResultContainer_, ?> collector) {
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeBiConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        BavetGroupQuadConstraintStream<Solution_, GroupKey_, ResultContainer_, NewA, NewB, NewC, NewD> groupStream =
+                new BavetGroupQuadConstraintStream<>(constraintFactory, bridge, keyCount,
+                        (collector == null) ? null : collector.finisher());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     // ************************************************************************
@@ -377,8 +511,13 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
 
     public BavetAbstractBiNode<A, B> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Score<?> constraintWeight, BavetAbstractBiNode<A, B> parentNode) {
+        BavetAbstractBiNode<A, B> builtNode = buildPolicy.retrieveBuiltNode(this);
+        if (builtNode != null) { // Another constraint shares this stream and already built it
+            return builtNode;
+        }
         BavetAbstractBiNode<A, B> node = createNode(buildPolicy, constraintWeight, parentNode);
         node = processNode(buildPolicy, parentNode, node);
+        buildPolicy.registerBuiltNode(this, node);
         createChildNodeChains(buildPolicy, constraintWeight, node);
         return node;
     }
@@ -23,6 +23,7 @@ import java.util.function.BiPredicate;
 
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTuplePool;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
 public final class BavetFilterBiNode<A, B> extends BavetAbstractBiNode<A, B> {
@@ -32,6 +33,8 @@ public final class BavetFilterBiNode<A, B> extends BavetAbstractBiNode<A, B> {
 
     private final List<BavetAbstractBiNode<A, B>> childNodeList = new ArrayList<>();
 
+    private final BavetTuplePool<BavetFilterBiTuple<A, B>> tuplePool = buildTuplePool();
+
     public BavetFilterBiNode(BavetConstraintSession session, int nodeIndex,
             BavetAbstractBiNode<A, B> parentNode, BiPredicate<A, B> predicate) {
         super(session, nodeIndex);
@@ -78,6 +81,11 @@ public final class BavetFilterBiNode<A, B> extends BavetAbstractBiNode<A, B> {
     @Override
     public BavetFilterBiTuple<A, B> createTuple(BavetAbstractBiTuple<A, B> parentTuple) {
         // TODO Use childNodeList.size() to improve the tuple's childTupleList's capacity
+        BavetFilterBiTuple<A, B> tuple = (tuplePool == null) ? null : tuplePool.poll();
+        if (tuple != null) {
+            tuple.reuse(parentTuple);
+            return tuple;
+        }
         return new BavetFilterBiTuple<>(this, parentTuple);
     }
 
@@ -111,4 +119,9 @@ public final class BavetFilterBiNode<A, B> extends BavetAbstractBiNode<A, B> {
     // Getters/setters
     // ************************************************************************
 
+    @Override
+    public BavetTuplePool<BavetFilterBiTuple<A, B>> getTuplePool() {
+        return tuplePool;
+    }
+
 }
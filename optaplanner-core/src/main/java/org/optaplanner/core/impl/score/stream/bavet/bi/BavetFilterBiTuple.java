@@ -20,11 +20,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
 public final class BavetFilterBiTuple<A, B> extends BavetAbstractBiTuple<A, B> {
 
     private final BavetFilterBiNode<A, B> node;
-    private final BavetAbstractBiTuple<A, B> parentTuple;
+    private BavetAbstractBiTuple<A, B> parentTuple;
     private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
 
     public BavetFilterBiTuple(BavetFilterBiNode<A, B> node, BavetAbstractBiTuple<A, B> parentTuple) {
@@ -32,6 +33,14 @@ public final class BavetFilterBiTuple<A, B> extends BavetAbstractBiTuple<A, B> {
         this.parentTuple = parentTuple;
     }
 
+    /**
+     * Reinitializes this dead tuple, as if {@link BavetFilterBiNode} created it.
+     */
+    public void reuse(BavetAbstractBiTuple<A, B> parentTuple) {
+        this.parentTuple = parentTuple;
+        state = BavetTupleState.NEW;
+    }
+
     @Override
     public String toString() {
         return "Filter(" + getFactsString() + ") with " + childTupleList.size() + " children";
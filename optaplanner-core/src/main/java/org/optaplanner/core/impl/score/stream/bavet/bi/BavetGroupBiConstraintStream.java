@@ -22,20 +22,30 @@ import java.util.function.Function;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
 
-public final class BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, Result_>
-        extends BavetAbstractBiConstraintStream<Solution_, GroupKey_, Result_> {
+public final class BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, A, B>
+        extends BavetAbstractBiConstraintStream<Solution_, A, B>
+        implements BavetGroupConstraintStream<Solution_, GroupKey_, ResultContainer_> {
 
     private final BavetAbstractConstraintStream<Solution_> parent;
-    private final Function<ResultContainer_, Result_> finisher;
+    private final int keyCount;
+    private final Function<ResultContainer_, ?> finisher;
 
+    /**
+     * @param constraintFactory never null
+     * @param parent never null, the group bridge
+     * @param keyCount {@code 0 <= keyCount <= 2}, the number of facts that come from the group key
+     * @param finisher null if {@code keyCount == 2}
+     */
     public BavetGroupBiConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
-            BavetAbstractConstraintStream<Solution_> parent,
-            Function<ResultContainer_, Result_> finisher) {
+            BavetAbstractConstraintStream<Solution_> parent, int keyCount,
+            Function<ResultContainer_, ?> finisher) {
         super(constraintFactory, parent.getRetrievalSemantics());
         this.parent = parent;
+        this.keyCount = keyCount;
         this.finisher = finisher;
     }
 
@@ -54,20 +64,26 @@ public final class BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultCont
     // ************************************************************************
 
     @Override
-    public BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
-            Score<?> constraintWeight, BavetAbstractBiNode<GroupKey_, Result_> parentNode) {
-        return (BavetGroupBiNode<GroupKey_, ResultContainer_, Result_>) super.createNodeChain(buildPolicy, constraintWeight,
+    public BavetGroupBiNode<GroupKey_, ResultContainer_, A, B> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight) {
+        return createNodeChain(buildPolicy, constraintWeight, null);
+    }
+
+    @Override
+    public BavetGroupBiNode<GroupKey_, ResultContainer_, A, B> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractBiNode<A, B> parentNode) {
+        return (BavetGroupBiNode<GroupKey_, ResultContainer_, A, B>) super.createNodeChain(buildPolicy, constraintWeight,
                 parentNode);
     }
 
     @Override
-    protected BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
-            Score<?> constraintWeight, BavetAbstractBiNode<GroupKey_, Result_> parentNode) {
+    protected BavetGroupBiNode<GroupKey_, ResultContainer_, A, B> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractBiNode<A, B> parentNode) {
         if (parentNode != null) {
             throw new IllegalStateException("Impossible state: the stream (" + this
                     + ") cannot have a parentNode (" + parentNode + ").");
         }
-        return new BavetGroupBiNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), finisher);
+        return new BavetGroupBiNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), keyCount, finisher);
     }
 
     @Override
@@ -22,27 +22,31 @@ import java.util.function.Function;
 
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
-public final class BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> extends BavetAbstractBiNode<GroupKey_, Result_> {
+public final class BavetGroupBiNode<GroupKey_, ResultContainer_, A, B> extends BavetAbstractBiNode<A, B>
+        implements BavetGroupNode<GroupKey_, ResultContainer_> {
 
-    private final Function<ResultContainer_, Result_> finisher;
+    private final int keyCount;
+    private final Function<ResultContainer_, ?> finisher;
 
-    private final List<BavetAbstractBiNode<GroupKey_, Result_>> childNodeList = new ArrayList<>();
+    private final List<BavetAbstractBiNode<A, B>> childNodeList = new ArrayList<>();
 
     public BavetGroupBiNode(BavetConstraintSession session, int nodeIndex,
-            Function<ResultContainer_, Result_> finisher) {
+            int keyCount, Function<ResultContainer_, ?> finisher) {
         super(session, nodeIndex);
+        this.keyCount = keyCount;
         this.finisher = finisher;
     }
 
     @Override
-    public void addChildNode(BavetAbstractBiNode<GroupKey_, Result_> childNode) {
+    public void addChildNode(BavetAbstractBiNode<A, B> childNode) {
         childNodeList.add(childNode);
     }
 
     @Override
-    public List<BavetAbstractBiNode<GroupKey_, Result_>> getChildNodeList() {
+    public List<BavetAbstractBiNode<A, B>> getChildNodeList() {
         return childNodeList;
     }
 
@@ -57,21 +61,21 @@ public final class BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> extend
     // ************************************************************************
 
     @Override
-    public BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> createTuple(
-            BavetAbstractBiTuple<GroupKey_, Result_> parentTuple) {
+    public BavetGroupBiTuple<GroupKey_, ResultContainer_, A, B> createTuple(BavetAbstractBiTuple<A, B> parentTuple) {
         throw new IllegalStateException("The Grouped node (" + getClass().getSimpleName()
                 + ") can't have a parentTuple (" + parentTuple + ");");
     }
 
-    public BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> createTuple(
-            GroupKey_ groupKey, ResultContainer_ resultContainer) {
+    @Override
+    public BavetGroupBiTuple<GroupKey_, ResultContainer_, A, B> createTuple(GroupKey_ groupKey,
+            ResultContainer_ resultContainer) {
         return new BavetGroupBiTuple<>(this, groupKey, resultContainer);
     }
 
     @Override
     public void refresh(BavetAbstractTuple uncastTuple) {
-        BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> tuple =
-                (BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_>) uncastTuple;
+        BavetGroupBiTuple<GroupKey_, ResultContainer_, A, B> tuple =
+                (BavetGroupBiTuple<GroupKey_, ResultContainer_, A, B>) uncastTuple;
         List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
         for (BavetAbstractTuple childTuple : childTupleList) {
             session.transitionTuple(childTuple, BavetTupleState.DYING);
@@ -79,8 +83,8 @@ public final class BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> extend
         childTupleList.clear();
         if (tuple.isActive()) {
             tuple.updateResult(finisher);
-            for (BavetAbstractBiNode<GroupKey_, Result_> childNode : childNodeList) {
-                BavetAbstractBiTuple<GroupKey_, Result_> childTuple = childNode.createTuple(tuple);
+            for (BavetAbstractBiNode<A, B> childNode : childNodeList) {
+                BavetAbstractBiTuple<A, B> childTuple = childNode.createTuple(tuple);
                 childTupleList.add(childTuple);
                 session.transitionTuple(childTuple, BavetTupleState.CREATING);
             }
@@ -96,4 +100,14 @@ public final class BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> extend
     // Getters/setters
     // ************************************************************************
 
+    @Override
+    public int getKeyCount() {
+        return keyCount;
+    }
+
+    @Override
+    public int getResultCount() {
+        return 2 - keyCount;
+    }
+
 }
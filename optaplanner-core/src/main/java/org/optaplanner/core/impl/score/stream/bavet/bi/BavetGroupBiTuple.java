@@ -23,18 +23,18 @@ import java.util.function.Function;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
 
-public final class BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> extends BavetAbstractBiTuple<GroupKey_, Result_>
-        implements BavetGroupTuple {
+public final class BavetGroupBiTuple<GroupKey_, ResultContainer_, A, B> extends BavetAbstractBiTuple<A, B>
+        implements BavetGroupTuple<GroupKey_, ResultContainer_> {
 
-    private final BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> node;
+    private final BavetGroupBiNode<GroupKey_, ResultContainer_, A, B> node;
 
     private GroupKey_ groupKey;
     private int parentCount;
     private ResultContainer_ resultContainer;
-    private Result_ result;
+    private Object result;
     private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
 
-    public BavetGroupBiTuple(BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> node,
+    public BavetGroupBiTuple(BavetGroupBiNode<GroupKey_, ResultContainer_, A, B> node,
             GroupKey_ groupKey, ResultContainer_ resultContainer) {
         this.node = node;
         this.groupKey = groupKey;
@@ -43,11 +43,13 @@ public final class BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> exten
         result = null;
     }
 
+    @Override
     public int increaseParentCount() {
         parentCount++;
         return parentCount;
     }
 
+    @Override
     public int decreaseParentCount() {
         parentCount--;
         if (parentCount < 0) {
@@ -57,12 +59,13 @@ public final class BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> exten
         return parentCount;
     }
 
+    @Override
     public void clearResult() {
         result = null;
     }
 
-    public void updateResult(Function<ResultContainer_, Result_> finisher) {
-        result = finisher.apply(resultContainer);
+    public void updateResult(Function<ResultContainer_, ?> finisher) {
+        result = (finisher == null) ? null : finisher.apply(resultContainer);
     }
 
     @Override
@@ -75,7 +78,7 @@ public final class BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> exten
     // ************************************************************************
 
     @Override
-    public BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> getNode() {
+    public BavetGroupBiNode<GroupKey_, ResultContainer_, A, B> getNode() {
         return node;
     }
 
@@ -85,21 +88,28 @@ public final class BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> exten
     }
 
     @Override
-    public GroupKey_ getFactA() {
-        return groupKey;
+    public A getFactA() {
+        return (A) getGroupFact(0);
     }
 
     @Override
-    public Result_ getFactB() {
-        return result;
+    public B getFactB() {
+        return (B) getGroupFact(1);
     }
 
+    @Override
     public GroupKey_ getGroupKey() {
         return groupKey;
     }
 
+    @Override
     public ResultContainer_ getResultContainer() {
         return resultContainer;
     }
 
+    @Override
+    public Object getResult() {
+        return result;
+    }
+
 }
@@ -22,20 +22,28 @@ import java.util.function.BiFunction;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
 
-public final class BavetGroupBridgeBiConstraintStream<Solution_, A, B, NewA, ResultContainer_, NewB>
+public final class BavetGroupBridgeBiConstraintStream<Solution_, A, B, GroupKey_, ResultContainer_>
         extends BavetAbstractBiConstraintStream<Solution_, A, B> {
 
     private final BavetAbstractBiConstraintStream<Solution_, A, B> parent;
-    private final BiFunction<A, B, NewA> groupKeyMapping;
-    private final BiConstraintCollector<A, B, ResultContainer_, NewB> collector;
-    private BavetGroupBiConstraintStream<Solution_, NewA, ResultContainer_, NewB> groupStream;
+    private final BiFunction<A, B, GroupKey_> groupKeyMapping;
+    private final BiConstraintCollector<A, B, ResultContainer_, ?> collector;
+    private BavetGroupConstraintStream<Solution_, GroupKey_, ResultContainer_> groupStream;
 
+    /**
+     * @param constraintFactory never null
+     * @param parent never null
+     * @param groupKeyMapping never null
+     * @param collector null if there is nothing to collect
+     */
     public BavetGroupBridgeBiConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
-            BavetAbstractBiConstraintStream<Solution_, A, B> parent, BiFunction<A, B, NewA> groupKeyMapping,
-            BiConstraintCollector<A, B, ResultContainer_, NewB> collector) {
+            BavetAbstractBiConstraintStream<Solution_, A, B> parent, BiFunction<A, B, GroupKey_> groupKeyMapping,
+            BiConstraintCollector<A, B, ResultContainer_, ?> collector) {
         super(constraintFactory, parent.getRetrievalSemantics());
         this.parent = parent;
         this.groupKeyMapping = groupKeyMapping;
@@ -47,7 +55,7 @@ public final class BavetGroupBridgeBiConstraintStream<Solution_, A, B, NewA, Res
         return parent.guaranteesDistinct();
     }
 
-    public void setGroupStream(BavetGroupBiConstraintStream<Solution_, NewA, ResultContainer_, NewB> groupStream) {
+    public void setGroupStream(BavetGroupConstraintStream<Solution_, GroupKey_, ResultContainer_> groupStream) {
         this.groupStream = groupStream;
     }
 
@@ -61,7 +69,7 @@ public final class BavetGroupBridgeBiConstraintStream<Solution_, A, B, NewA, Res
     // ************************************************************************
 
     @Override
-    protected BavetAbstractBiNode<A, B> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+    protected BavetGroupBridgeBiNode<A, B, GroupKey_, ResultContainer_> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Score<?> constraintWeight, BavetAbstractBiNode<A, B> parentNode) {
         return new BavetGroupBridgeBiNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), parentNode,
                 groupKeyMapping, collector);
@@ -74,11 +82,19 @@ public final class BavetGroupBridgeBiConstraintStream<Solution_, A, B, NewA, Res
             throw new IllegalStateException("Impossible state: the stream (" + this
                     + ") has an non-empty childStreamList (" + childStreamList + ") but it's a groupBy bridge.");
         }
-        BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode = groupStream.createNodeChain(buildPolicy,
-                constraintWeight, null);
-        BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> groupBridgeNode =
-                (BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB>) node;
+        BavetGroupNode<GroupKey_, ResultContainer_> groupNode = groupStream.createNodeChain(buildPolicy, constraintWeight);
+        BavetGroupBridgeBiNode<A, B, GroupKey_, ResultContainer_> groupBridgeNode =
+                (BavetGroupBridgeBiNode<A, B, GroupKey_, ResultContainer_>) node;
         groupBridgeNode.setGroupNode(groupNode);
+    }
 
+    @Override
+    public String toString() {
+        return "GroupBridge()";
     }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
 }
@@ -16,37 +16,49 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.bi;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 
 import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupBridgeNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
-public class BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> extends BavetAbstractBiNode<A, B> {
+public final class BavetGroupBridgeBiNode<A, B, GroupKey_, ResultContainer_> extends BavetAbstractBiNode<A, B>
+        implements BavetGroupBridgeNode {
 
-    private final BiFunction<A, B, NewA> groupKeyMapping;
-    private final BiConstraintCollector<A, B, ResultContainer_, NewB> collector;
-    private BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode;
-
-    private final Map<NewA, BavetGroupBiTuple<NewA, ResultContainer_, NewB>> tupleMap;
+    private final BavetAbstractBiNode<A, B> parentNode;
+    private final BiFunction<A, B, GroupKey_> groupKeyMapping;
+    private final BiConstraintCollector<A, B, ResultContainer_, ?> collector;
+    private final Map<GroupKey_, BavetGroupTuple<GroupKey_, ResultContainer_>> tupleMap;
+    private BavetGroupNode<GroupKey_, ResultContainer_> groupNode;
 
     public BavetGroupBridgeBiNode(BavetConstraintSession session, int nodeIndex, BavetAbstractBiNode<A, B> parentNode,
-            BiFunction<A, B, NewA> groupKeyMapping, BiConstraintCollector<A, B, ResultContainer_, NewB> collector) {
+            BiFunction<A, B, GroupKey_> groupKeyMapping, BiConstraintCollector<A, B, ResultContainer_, ?> collector) {
         super(session, nodeIndex);
+        this.parentNode = parentNode;
         this.groupKeyMapping = groupKeyMapping;
         this.collector = collector;
         tupleMap = new HashMap<>();
     }
 
     @Override
-    public BavetGroupBridgeBiTuple<A, B, NewA, ResultContainer_, NewB> createTuple(BavetAbstractBiTuple<A, B> parentTuple) {
+    public List<BavetAbstractBiNode<A, B>> getChildNodeList() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public BavetGroupBridgeBiTuple<A, B, GroupKey_, ResultContainer_> createTuple(BavetAbstractBiTuple<A, B> parentTuple) {
         return new BavetGroupBridgeBiTuple<>(this, parentTuple);
     }
 
-    public void setGroupNode(BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode) {
+    public void setGroupNode(BavetGroupNode<GroupKey_, ResultContainer_> groupNode) {
         this.groupNode = groupNode;
     }
 
@@ -56,42 +68,46 @@ public class BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> extends
             throw new IllegalStateException("Impossible state: GroupBridgeNode (" + this +
                     ") has no child GroupNode (" + groupNode + ").");
         }
-        BavetGroupBridgeBiTuple<A, B, NewA, ResultContainer_, NewB> tuple =
-                (BavetGroupBridgeBiTuple<A, B, NewA, ResultContainer_, NewB>) uncastTuple;
+        BavetGroupBridgeBiTuple<A, B, GroupKey_, ResultContainer_> tuple =
+                (BavetGroupBridgeBiTuple<A, B, GroupKey_, ResultContainer_>) uncastTuple;
         if (tuple.getChildTuple() != null) {
-            BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple = tuple.getChildTuple();
-            NewA oldGroupKey = childTuple.getGroupKey();
+            BavetGroupTuple<GroupKey_, ResultContainer_> childTuple = tuple.getChildTuple();
+            GroupKey_ oldGroupKey = childTuple.getGroupKey();
             int parentCount = childTuple.decreaseParentCount();
-            tuple.getUndoAccumulator().run();
+            if (tuple.getUndoAccumulator() != null) {
+                tuple.getUndoAccumulator().run();
+            }
             childTuple.clearResult();
             tuple.setChildTuple(null);
             tuple.setUndoAccumulator(null);
             if (parentCount == 0) {
                 // Clean up tupleMap
                 tupleMap.remove(oldGroupKey);
-                session.transitionTuple(childTuple, BavetTupleState.DYING);
+                session.transitionTuple((BavetAbstractTuple) childTuple, BavetTupleState.DYING);
             } else {
-                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+                session.transitionTuple((BavetAbstractTuple) childTuple, BavetTupleState.UPDATING);
             }
         }
         if (tuple.isActive()) {
             A a = tuple.getFactA();
             B b = tuple.getFactB();
-            NewA groupKey = groupKeyMapping.apply(a, b);
-            BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple = tupleMap.computeIfAbsent(groupKey,
-                    k -> groupNode.createTuple(groupKey, collector.supplier().get()));
+            GroupKey_ groupKey = groupKeyMapping.apply(a, b);
+            BavetGroupTuple<GroupKey_, ResultContainer_> childTuple = tupleMap.computeIfAbsent(groupKey,
+                    k -> groupNode.createTuple(groupKey, (collector == null) ? null : collector.supplier().get()));
             int parentCount = childTuple.increaseParentCount();
 
-            Runnable undoAccumulator = collector.accumulator().apply(childTuple.getResultContainer(), a, b);
-            tuple.setUndoAccumulator(undoAccumulator);
+            if (collector != null) {
+                Runnable undoAccumulator = collector.accumulator().apply(childTuple.getResultContainer(), a, b);
+                tuple.setUndoAccumulator(undoAccumulator);
+            }
             childTuple.clearResult();
             tuple.setChildTuple(childTuple);
             if (parentCount == 1) {
-                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+                session.transitionTuple((BavetAbstractTuple) childTuple, BavetTupleState.CREATING);
             } else {
                 // It might have just been created by an earlier tuple in the same nodeIndex
                 if (childTuple.getState() != BavetTupleState.CREATING) {
-                    session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+                    session.transitionTuple((BavetAbstractTuple) childTuple, BavetTupleState.UPDATING);
                 }
             }
         }
@@ -106,4 +122,9 @@ public class BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> extends
     // Getters/setters
     // ************************************************************************
 
+    @Override
+    public BavetGroupNode<GroupKey_, ResultContainer_> getGroupNode() {
+        return groupNode;
+    }
+
 }
@@ -19,16 +19,17 @@ package org.optaplanner.core.impl.score.stream.bavet.bi;
 import java.util.List;
 
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
 
-public final class BavetGroupBridgeBiTuple<A, B, NewA, ResultContainer_, NewB> extends BavetAbstractBiTuple<A, B> {
+public final class BavetGroupBridgeBiTuple<A, B, GroupKey_, ResultContainer_> extends BavetAbstractBiTuple<A, B> {
 
-    private final BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> node;
+    private final BavetGroupBridgeBiNode<A, B, GroupKey_, ResultContainer_> node;
     private final BavetAbstractBiTuple<A, B> parentTuple;
 
     private Runnable undoAccumulator;
-    private BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple;
+    private BavetGroupTuple<GroupKey_, ResultContainer_> childTuple;
 
-    public BavetGroupBridgeBiTuple(BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> node,
+    public BavetGroupBridgeBiTuple(BavetGroupBridgeBiNode<A, B, GroupKey_, ResultContainer_> node,
             BavetAbstractBiTuple<A, B> parentTuple) {
         this.node = node;
         this.parentTuple = parentTuple;
@@ -44,7 +45,7 @@ public final class BavetGroupBridgeBiTuple<A, B, NewA, ResultContainer_, NewB> e
     // ************************************************************************
 
     @Override
-    public BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> getNode() {
+    public BavetGroupBridgeBiNode<A, B, GroupKey_, ResultContainer_> getNode() {
         return node;
     }
 
@@ -71,11 +72,12 @@ public final class BavetGroupBridgeBiTuple<A, B, NewA, ResultContainer_, NewB> e
         this.undoAccumulator = undoAccumulator;
     }
 
-    public BavetGroupBiTuple<NewA, ResultContainer_, NewB> getChildTuple() {
+    public BavetGroupTuple<GroupKey_, ResultContainer_> getChildTuple() {
         return childTuple;
     }
 
-    public void setChildTuple(BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple) {
+    public void setChildTuple(BavetGroupTuple<GroupKey_, ResultContainer_> childTuple) {
         this.childTuple = childTuple;
     }
+
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.bi;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.optaplanner.core.api.function.TriPredicate;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetAbstractUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniNode;
+
+public final class BavetIfExistsBiConstraintStream<Solution_, A, B, C>
+        extends BavetAbstractBiConstraintStream<Solution_, A, B>
+        implements BavetJoinConstraintStream<Solution_> {
+
+    private final BavetAbstractBiConstraintStream<Solution_, A, B> leftParent;
+    private final BavetAbstractUniConstraintStream<Solution_, C> rightParent;
+    private final boolean shouldExist;
+    private final TriPredicate<A, B, C> filter;
+
+    /**
+     * @param constraintFactory never null
+     * @param leftParent never null, the left join bridge
+     * @param rightParent never null, the right join bridge
+     * @param shouldExist true for ifExists, false for ifNotExists
+     * @param filter null if the joiners have no filtering joiner
+     */
+    public BavetIfExistsBiConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractBiConstraintStream<Solution_, A, B> leftParent,
+            BavetAbstractUniConstraintStream<Solution_, C> rightParent,
+            boolean shouldExist, TriPredicate<A, B, C> filter) {
+        super(constraintFactory, leftParent.getRetrievalSemantics());
+        this.leftParent = leftParent;
+        this.rightParent = rightParent;
+        this.shouldExist = shouldExist;
+        this.filter = filter;
+    }
+
+    @Override
+    public boolean guaranteesDistinct() {
+        return leftParent.guaranteesDistinct();
+    }
+
+    @Override
+    public List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList() {
+        return Stream.concat(leftParent.getFromStreamList().stream(),
+                rightParent.getFromStreamList().stream())
+                .collect(Collectors.toList());
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    public BavetIfExistsBiNode<A, B, C> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetJoinBridgeNode leftNode_, BavetJoinBridgeNode rightNode_) {
+        BavetJoinBridgeBiNode<A, B> leftNode = (BavetJoinBridgeBiNode<A, B>) leftNode_;
+        BavetJoinBridgeUniNode<C> rightNode = (BavetJoinBridgeUniNode<C>) rightNode_;
+        BavetIfExistsBiNode<A, B, C> node = new BavetIfExistsBiNode<>(buildPolicy.getSession(),
+                buildPolicy.nextNodeIndex(), leftNode, rightNode, shouldExist, filter);
+        BavetIfExistsBiNode<A, B, C> sharedNode = (BavetIfExistsBiNode<A, B, C>) processNode(buildPolicy, null, node);
+        if (sharedNode == node) {
+            leftNode.setChildTupleRefresher(node::refreshChildTuplesLeft);
+            rightNode.setChildTupleRefresher(node::refreshChildTuplesRight);
+        } else { // The shared node already has its own join bridges
+            leftNode.getParentNode().getChildNodeList().remove(leftNode);
+            buildPolicy.discardJoinBridgeNode(leftNode);
+            rightNode.getParentNode().getChildNodeList().remove(rightNode);
+            buildPolicy.discardJoinBridgeNode(rightNode);
+        }
+        createChildNodeChains(buildPolicy, constraintWeight, sharedNode);
+        return sharedNode;
+    }
+
+    @Override
+    protected BavetIfExistsBiNode<A, B, C> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractBiNode<A, B> parentNode) {
+        throw new IllegalStateException("Impossible state: this code is never called.");
+    }
+
+    @Override
+    public String toString() {
+        return "IfExists(" + shouldExist + ") with " + childStreamList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.bi;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.optaplanner.core.api.function.TriPredicate;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniTuple;
+
+/**
+ * Keeps 1 {@link BavetIfExistsBiTuple} per left tuple, which counts the right tuples that match it.
+ * A right tuple change only touches the left tuples with the same index properties
+ * and only propagates to the child nodes if a match count crosses zero.
+ *
+ * @param <C> the right fact, which is never propagated
+ */
+public final class BavetIfExistsBiNode<A, B, C> extends BavetAbstractBiNode<A, B> implements BavetJoinNode {
+
+    private final BavetJoinBridgeBiNode<A, B> leftParentNode;
+    private final BavetJoinBridgeUniNode<C> rightParentNode;
+    private final boolean shouldExist;
+    private final TriPredicate<A, B, C> filter;
+    /**
+     * The {@link BavetIndex} forgets the index properties of a removed tuple,
+     * but they are needed to find the left tuples that matched it.
+     */
+    private final Map<BavetJoinBridgeUniTuple<C>, Object[]> rightTupleToIndexPropertiesMap = new HashMap<>();
+
+    private final List<BavetAbstractBiNode<A, B>> childNodeList = new ArrayList<>();
+
+    public BavetIfExistsBiNode(BavetConstraintSession session, int nodeIndex,
+            BavetJoinBridgeBiNode<A, B> leftParentNode, BavetJoinBridgeUniNode<C> rightParentNode,
+            boolean shouldExist, TriPredicate<A, B, C> filter) {
+        super(session, nodeIndex);
+        this.leftParentNode = leftParentNode;
+        this.rightParentNode = rightParentNode;
+        this.shouldExist = shouldExist;
+        this.filter = filter;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractBiNode<A, B> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    @Override
+    public List<BavetAbstractBiNode<A, B>> getChildNodeList() {
+        return childNodeList;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(leftParentNode.getParentNode()),
+                System.identityHashCode(rightParentNode.getParentNode()), leftParentNode.getIndexFactory(), shouldExist,
+                System.identityHashCode(filter));
+    }
+
+    /**
+     * The join bridges themselves are never shared,
+     * so compare the nodes they bridge from and the joiners that index them.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetIfExistsBiNode) {
+            BavetIfExistsBiNode<?, ?, ?> other = (BavetIfExistsBiNode<?, ?, ?>) o;
+            return leftParentNode.getParentNode() == other.leftParentNode.getParentNode()
+                    && rightParentNode.getParentNode() == other.rightParentNode.getParentNode()
+                    && leftParentNode.getIndexFactory().equals(other.leftParentNode.getIndexFactory())
+                    && shouldExist == other.shouldExist
+                    && filter == other.filter;
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetIfExistsBiTuple<A, B, C> createTuple(BavetAbstractBiTuple<A, B> parentTuple) {
+        throw new IllegalStateException("The ifExists node (" + getClass().getSimpleName()
+                + ") can't have a parentTuple (" + parentTuple + ");");
+    }
+
+    public BavetIfExistsBiTuple<A, B, C> createTuple(BavetJoinBridgeBiTuple<A, B> abTuple) {
+        return new BavetIfExistsBiTuple<>(this, abTuple);
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetIfExistsBiTuple<A, B, C> tuple = (BavetIfExistsBiTuple<A, B, C>) uncastTuple;
+        List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
+        for (BavetAbstractTuple childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (tuple.isActive() && (tuple.getMatchCount() > 0) == shouldExist) {
+            for (BavetAbstractBiNode<A, B> childNode : childNodeList) {
+                BavetAbstractBiTuple<A, B> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+    }
+
+    public void refreshChildTuplesLeft(BavetJoinBridgeBiTuple<A, B> leftParentTuple) {
+        List<BavetAbstractTuple> leftTupleList = leftParentTuple.getChildTupleList();
+        if (!leftParentTuple.isActive()) {
+            for (BavetAbstractTuple tuple : leftTupleList) {
+                session.transitionTuple(tuple, BavetTupleState.DYING);
+            }
+            leftTupleList.clear();
+            return;
+        }
+        if (leftTupleList.isEmpty()) {
+            BavetIfExistsBiTuple<A, B, C> tuple = createTuple(leftParentTuple);
+            tuple.setMatchCount(countMatches(leftParentTuple));
+            leftTupleList.add(tuple);
+            session.transitionTuple(tuple, BavetTupleState.CREATING);
+        } else {
+            BavetIfExistsBiTuple<A, B, C> tuple = (BavetIfExistsBiTuple<A, B, C>) leftTupleList.get(0);
+            tuple.setMatchCount(countMatches(leftParentTuple));
+            // The left facts might have changed, so propagate even if the match count didn't cross zero
+            session.transitionTuple(tuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    public void refreshChildTuplesRight(BavetJoinBridgeUniTuple<C> rightParentTuple) {
+        Object[] oldIndexProperties = rightTupleToIndexPropertiesMap.remove(rightParentTuple);
+        if (oldIndexProperties != null) {
+            for (BavetJoinBridgeBiTuple<A, B> leftParentTuple : getLeftIndex().get(oldIndexProperties)) {
+                updateMatchCount(leftParentTuple, -1);
+            }
+        }
+        if (rightParentTuple.isActive()) {
+            Object[] indexProperties = rightParentTuple.getIndexProperties();
+            rightTupleToIndexPropertiesMap.put(rightParentTuple, indexProperties);
+            for (BavetJoinBridgeBiTuple<A, B> leftParentTuple : getLeftIndex().get(indexProperties)) {
+                updateMatchCount(leftParentTuple, 1);
+            }
+        }
+    }
+
+    private int countMatches(BavetJoinBridgeBiTuple<A, B> leftParentTuple) {
+        if (filter == null) {
+            return getRightIndex().get(leftParentTuple.getIndexProperties()).size();
+        }
+        A a = leftParentTuple.getFactA();
+        B b = leftParentTuple.getFactB();
+        int matchCount = 0;
+        for (BavetJoinBridgeUniTuple<C> rightParentTuple : getRightIndex().get(leftParentTuple.getIndexProperties())) {
+            if (filter.test(a, b, rightParentTuple.getFactA())) {
+                matchCount++;
+            }
+        }
+        return matchCount;
+    }
+
+    private void updateMatchCount(BavetJoinBridgeBiTuple<A, B> leftParentTuple, int matchCountDiff) {
+        BavetIfExistsBiTuple<A, B, C> tuple = (BavetIfExistsBiTuple<A, B, C>) leftParentTuple.getChildTupleList().get(0);
+        int oldMatchCount = tuple.getMatchCount();
+        // The filter can't be applied to the old right fact, so count the matches again
+        int newMatchCount = (filter == null) ? oldMatchCount + matchCountDiff : countMatches(leftParentTuple);
+        tuple.setMatchCount(newMatchCount);
+        if ((oldMatchCount > 0) != (newMatchCount > 0) && !tuple.isDirty()) {
+            session.transitionTuple(tuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    public BavetIndex<BavetJoinBridgeBiTuple<A, B>> getLeftIndex() {
+        return leftParentNode.getIndex();
+    }
+
+    public BavetIndex<BavetJoinBridgeUniTuple<C>> getRightIndex() {
+        return rightParentNode.getIndex();
+    }
+
+    @Override
+    public String toString() {
+        return "IfExists(" + shouldExist + ") with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetJoinBridgeBiNode<A, B> getLeftParentNode() {
+        return leftParentNode;
+    }
+
+    @Override
+    public BavetJoinBridgeUniNode<C> getRightParentNode() {
+        return rightParentNode;
+    }
+
+}
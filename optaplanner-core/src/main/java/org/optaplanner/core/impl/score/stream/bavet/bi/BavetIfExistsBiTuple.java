@@ -0,0 +1,81 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.bi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinTuple;
+
+public final class BavetIfExistsBiTuple<A, B, C> extends BavetAbstractBiTuple<A, B>
+        implements BavetJoinTuple {
+
+    private final BavetIfExistsBiNode<A, B, C> node;
+    private final BavetJoinBridgeBiTuple<A, B> abTuple;
+    private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
+
+    private int matchCount;
+
+    public BavetIfExistsBiTuple(BavetIfExistsBiNode<A, B, C> node, BavetJoinBridgeBiTuple<A, B> abTuple) {
+        this.node = node;
+        this.abTuple = abTuple;
+        matchCount = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "IfExists(" + getFactsString() + ") with " + matchCount + " matches";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetIfExistsBiNode<A, B, C> getNode() {
+        return node;
+    }
+
+    @Override
+    public List<BavetAbstractTuple> getChildTupleList() {
+        return childTupleList;
+    }
+
+    @Override
+    public A getFactA() {
+        return abTuple.getFactA();
+    }
+
+    @Override
+    public B getFactB() {
+        return abTuple.getFactB();
+    }
+
+    public BavetJoinBridgeBiTuple<A, B> getAbTuple() {
+        return abTuple;
+    }
+
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    public void setMatchCount(int matchCount) {
+        this.matchCount = matchCount;
+    }
+
+}
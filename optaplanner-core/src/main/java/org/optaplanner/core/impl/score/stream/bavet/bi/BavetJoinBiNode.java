@@ -18,11 +18,13 @@ package org.optaplanner.core.impl.score.stream.bavet.bi;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTuplePool;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniNode;
@@ -35,6 +37,8 @@ public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> imple
 
     private final List<BavetAbstractBiNode<A, B>> childNodeList = new ArrayList<>();
 
+    private final BavetTuplePool<BavetJoinBiTuple<A, B>> tuplePool = buildTuplePool();
+
     public BavetJoinBiNode(BavetConstraintSession session, int nodeIndex,
             BavetJoinBridgeUniNode<A> leftParentNode, BavetJoinBridgeUniNode<B> rightParentNode) {
         super(session, nodeIndex);
@@ -56,7 +60,29 @@ public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> imple
     // Equality for node sharing
     // ************************************************************************
 
-    // TODO
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(leftParentNode.getParentNode()),
+                System.identityHashCode(rightParentNode.getParentNode()), leftParentNode.getIndexFactory());
+    }
+
+    /**
+     * The join bridges themselves are never shared,
+     * so compare the nodes they bridge from and the joiners that index them.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinBiNode) {
+            BavetJoinBiNode<?, ?> other = (BavetJoinBiNode<?, ?>) o;
+            return leftParentNode.getParentNode() == other.leftParentNode.getParentNode()
+                    && rightParentNode.getParentNode() == other.rightParentNode.getParentNode()
+                    && leftParentNode.getIndexFactory().equals(other.leftParentNode.getIndexFactory());
+        } else {
+            return false;
+        }
+    }
 
     // ************************************************************************
     // Runtime
@@ -70,6 +96,11 @@ public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> imple
 
     public BavetJoinBiTuple<A, B> createTuple(
             BavetJoinBridgeUniTuple<A> aTuple, BavetJoinBridgeUniTuple<B> bTuple) {
+        BavetJoinBiTuple<A, B> tuple = (tuplePool == null) ? null : tuplePool.poll();
+        if (tuple != null) {
+            tuple.reuse(aTuple, bTuple);
+            return tuple;
+        }
         return new BavetJoinBiTuple<>(this, aTuple, bTuple);
     }
 
@@ -159,4 +190,19 @@ public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> imple
     // Getters/setters
     // ************************************************************************
 
+    @Override
+    public BavetJoinBridgeUniNode<A> getLeftParentNode() {
+        return leftParentNode;
+    }
+
+    @Override
+    public BavetJoinBridgeUniNode<B> getRightParentNode() {
+        return rightParentNode;
+    }
+
+    @Override
+    public BavetTuplePool<BavetJoinBiTuple<A, B>> getTuplePool() {
+        return tuplePool;
+    }
+
 }
@@ -21,14 +21,15 @@ import java.util.List;
 
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniTuple;
 
 public final class BavetJoinBiTuple<A, B> extends BavetAbstractBiTuple<A, B>
         implements BavetJoinTuple {
 
     private final BavetJoinBiNode<A, B> node;
-    private final BavetJoinBridgeUniTuple<A> aTuple;
-    private final BavetJoinBridgeUniTuple<B> bTuple;
+    private BavetJoinBridgeUniTuple<A> aTuple;
+    private BavetJoinBridgeUniTuple<B> bTuple;
     private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
 
     public BavetJoinBiTuple(BavetJoinBiNode<A, B> node,
@@ -38,6 +39,15 @@ public final class BavetJoinBiTuple<A, B> extends BavetAbstractBiTuple<A, B>
         this.bTuple = bTuple;
     }
 
+    /**
+     * Reinitializes this dead tuple, as if {@link BavetJoinBiNode} created it.
+     */
+    public void reuse(BavetJoinBridgeUniTuple<A> aTuple, BavetJoinBridgeUniTuple<B> bTuple) {
+        this.aTuple = aTuple;
+        this.bTuple = bTuple;
+        state = BavetTupleState.NEW;
+    }
+
     @Override
     public String toString() {
         return "Join(" + getFactsString() + ")";
@@ -70,7 +70,7 @@ public final class BavetJoinBridgeBiConstraintStream<Solution_, A, B>
     protected BavetJoinBridgeBiNode<A, B> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Score<?> constraintWeight, BavetAbstractBiNode<A, B> parentNode) {
         return new BavetJoinBridgeBiNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), parentNode, mapping,
-                indexFactory.buildIndex(isLeftBridge));
+                indexFactory, isLeftBridge);
     }
 
     @Override
@@ -81,7 +81,7 @@ public final class BavetJoinBridgeBiConstraintStream<Solution_, A, B>
                     + ") has an non-empty childStreamList (" + childStreamList + ") but it's a join bridge.");
         }
         BavetJoinBridgeBiNode<A, B> node = (BavetJoinBridgeBiNode<A, B>) uncastedNode;
-        BavetJoinBridgeNode otherBridgeNode = buildPolicy.getJoinConstraintStreamToJoinBridgeNodeMap().get(joinStream);
+        BavetJoinBridgeNode otherBridgeNode = buildPolicy.getJoinConstraintStreamToJoinBridgeNodeMap().remove(joinStream);
         if (otherBridgeNode == null) {
             buildPolicy.getJoinConstraintStreamToJoinBridgeNodeMap().put(joinStream, node);
         } else {
@@ -22,8 +22,10 @@ import java.util.function.Consumer;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTuplePool;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
 import org.optaplanner.core.impl.score.stream.bavet.tri.BavetJoinTriNode;
 
 public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
@@ -34,21 +36,41 @@ public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
     /** Calls {@link BavetJoinTriNode#refreshChildTuplesLeft(BavetJoinBridgeBiTuple)}, right or tri/quad/... variants. */
     private Consumer<BavetJoinBridgeBiTuple<A, B>> childTupleRefresher;
 
+    private final BavetIndexFactory indexFactory;
     private final BavetIndex<BavetJoinBridgeBiTuple<A, B>> index;
 
+    private final BavetTuplePool<BavetJoinBridgeBiTuple<A, B>> tuplePool = buildTuplePool();
+
     public BavetJoinBridgeBiNode(BavetConstraintSession session, int nodeIndex, BavetAbstractBiNode<A, B> parentNode,
-            BiFunction<A, B, Object[]> mapping, BavetIndex<BavetJoinBridgeBiTuple<A, B>> index) {
+            BiFunction<A, B, Object[]> mapping,
+            BavetIndexFactory indexFactory, boolean isLeftBridge) {
         super(session, nodeIndex);
         this.parentNode = parentNode;
         this.mapping = mapping;
-        this.index = index;
+        this.indexFactory = indexFactory;
+        this.index = indexFactory.buildIndex(isLeftBridge);
     }
 
     @Override
     public BavetJoinBridgeBiTuple<A, B> createTuple(BavetAbstractBiTuple<A, B> parentTuple) {
+        BavetJoinBridgeBiTuple<A, B> tuple = (tuplePool == null) ? null : tuplePool.poll();
+        if (tuple != null) {
+            tuple.reuse(parentTuple);
+            return tuple;
+        }
         return new BavetJoinBridgeBiTuple<>(this, parentTuple);
     }
 
+    @Override
+    public void presize(int dirtyTupleCount) {
+        index.presize(dirtyTupleCount);
+    }
+
+    @Override
+    public int getIndexBucketCount() {
+        return index.getBucketCount();
+    }
+
     @Override
     public void refresh(BavetAbstractTuple uncastTuple) {
         BavetJoinBridgeBiTuple<A, B> tuple = (BavetJoinBridgeBiTuple<A, B>) uncastTuple;
@@ -74,6 +96,19 @@ public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
     // Getters/setters
     // ************************************************************************
 
+    @Override
+    public BavetTuplePool<BavetJoinBridgeBiTuple<A, B>> getTuplePool() {
+        return tuplePool;
+    }
+
+    public BavetAbstractBiNode<A, B> getParentNode() {
+        return parentNode;
+    }
+
+    public BavetIndexFactory getIndexFactory() {
+        return indexFactory;
+    }
+
     public BavetIndex<BavetJoinBridgeBiTuple<A, B>> getIndex() {
         return index;
     }
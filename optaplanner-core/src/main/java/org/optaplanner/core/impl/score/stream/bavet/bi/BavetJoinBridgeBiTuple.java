@@ -21,11 +21,12 @@ import java.util.List;
 
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
 public final class BavetJoinBridgeBiTuple<A, B> extends BavetAbstractBiTuple<A, B>
         implements BavetJoinBridgeTuple {
 
-    protected final BavetAbstractBiTuple<A, B> parentTuple;
+    protected BavetAbstractBiTuple<A, B> parentTuple;
     private final BavetJoinBridgeBiNode<A, B> node;
     private final List<BavetAbstractTuple> childTupleList = new ArrayList<>();
 
@@ -37,6 +38,15 @@ public final class BavetJoinBridgeBiTuple<A, B> extends BavetAbstractBiTuple<A,
         this.node = node;
     }
 
+    /**
+     * Reinitializes this dead tuple, as if {@link BavetJoinBridgeBiNode} created it.
+     */
+    public void reuse(BavetAbstractBiTuple<A, B> parentTuple) {
+        this.parentTuple = parentTuple;
+        indexProperties = null;
+        state = BavetTupleState.NEW;
+    }
+
     @Override
     public String toString() {
         return "JoinBridge(" + getFactsString() + ") with " + childTupleList.size() + " children";
@@ -16,11 +16,10 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.bi;
 
-import static java.util.Arrays.asList;
-
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.ToIntBiFunction;
 import java.util.function.ToLongBiFunction;
 
@@ -109,31 +108,32 @@ public final class BavetScoringBiConstraintStream<Solution_, A, B>
             Score<?> constraintWeight, BavetAbstractBiNode<A, B> parentNode) {
         ScoreInliner<?> scoreInliner = buildPolicy.getSession().getScoreInliner();
         WeightedScoreImpacter weightedScoreImpacter = scoreInliner.buildWeightedScoreImpacter(constraint);
-        BiFunction<A, B, UndoScoreImpacter> scoreImpacter;
+        Function<BavetScoringBiTuple<A, B>, UndoScoreImpacter> scoreImpacter;
         if (intMatchWeigher != null) {
-            scoreImpacter = (a, b) -> {
-                int matchWeight = intMatchWeigher.applyAsInt(a, b);
+            scoreImpacter = tuple -> {
+                int matchWeight = intMatchWeigher.applyAsInt(tuple.getFactA(), tuple.getFactB());
                 constraint.assertCorrectImpact(matchWeight);
-                return weightedScoreImpacter.impactScore(matchWeight, () -> asList(a, b));
+                return weightedScoreImpacter.impactScore(matchWeight, tuple, tuple.getReusableUndoScoreImpacter());
             };
         } else if (longMatchWeigher != null) {
-            scoreImpacter = (a, b) -> {
-                long matchWeight = longMatchWeigher.applyAsLong(a, b);
+            scoreImpacter = tuple -> {
+                long matchWeight = longMatchWeigher.applyAsLong(tuple.getFactA(), tuple.getFactB());
                 constraint.assertCorrectImpact(matchWeight);
-                return weightedScoreImpacter.impactScore(matchWeight, () -> asList(a, b));
+                return weightedScoreImpacter.impactScore(matchWeight, tuple, tuple.getReusableUndoScoreImpacter());
             };
         } else if (bigDecimalMatchWeigher != null) {
-            scoreImpacter = (a, b) -> {
-                BigDecimal matchWeight = bigDecimalMatchWeigher.apply(a, b);
+            scoreImpacter = tuple -> {
+                BigDecimal matchWeight = bigDecimalMatchWeigher.apply(tuple.getFactA(), tuple.getFactB());
                 constraint.assertCorrectImpact(matchWeight);
-                return weightedScoreImpacter.impactScore(matchWeight, () -> asList(a, b));
+                return weightedScoreImpacter.impactScore(matchWeight, tuple, tuple.getReusableUndoScoreImpacter());
             };
         } else if (noMatchWeigher) {
-            scoreImpacter = (a, b) -> weightedScoreImpacter.impactScore(1, () -> asList(a, b));
+            scoreImpacter = tuple -> weightedScoreImpacter.impactScore(1, tuple, tuple.getReusableUndoScoreImpacter());
         } else {
             throw new IllegalStateException("Impossible state: neither of the supported match weighers provided.");
         }
-        return new BavetScoringBiNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), constraintWeight,
+        return new BavetScoringBiNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), constraint,
+                buildPolicy.getConstraintWeight(constraint),
                 scoreImpacter);
     }
 
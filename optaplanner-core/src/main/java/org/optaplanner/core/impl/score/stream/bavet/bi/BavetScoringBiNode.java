@@ -16,22 +16,29 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.bi;
 
-import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTuplePool;
 
 public final class BavetScoringBiNode<A, B> extends BavetAbstractBiNode<A, B> implements BavetScoringNode {
 
+    private final BavetConstraint<?> constraint;
     private final Score<?> constraintWeight;
-    private final BiFunction<A, B, UndoScoreImpacter> scoreImpacter;
+    private final Function<BavetScoringBiTuple<A, B>, UndoScoreImpacter> scoreImpacter;
 
-    public BavetScoringBiNode(BavetConstraintSession session, int nodeIndex, Score<?> constraintWeight,
-            BiFunction<A, B, UndoScoreImpacter> scoreImpacter) {
+    private final BavetTuplePool<BavetScoringBiTuple<A, B>> tuplePool = buildTuplePool();
+
+    public BavetScoringBiNode(BavetConstraintSession session, int nodeIndex, BavetConstraint<?> constraint,
+            Score<?> constraintWeight,
+            Function<BavetScoringBiTuple<A, B>, UndoScoreImpacter> scoreImpacter) {
         super(session, nodeIndex);
+        this.constraint = constraint;
         this.constraintWeight = constraintWeight;
         this.scoreImpacter = scoreImpacter;
     }
@@ -48,20 +55,23 @@ public final class BavetScoringBiNode<A, B> extends BavetAbstractBiNode<A, B> im
 
     @Override
     public BavetScoringBiTuple<A, B> createTuple(BavetAbstractBiTuple<A, B> parentTuple) {
+        BavetScoringBiTuple<A, B> tuple = (tuplePool == null) ? null : tuplePool.poll();
+        if (tuple != null) {
+            tuple.reuse(parentTuple);
+            return tuple;
+        }
         return new BavetScoringBiTuple<>(this, parentTuple);
     }
 
     @Override
     public void refresh(BavetAbstractTuple uncastTuple) {
         BavetScoringBiTuple<A, B> tuple = (BavetScoringBiTuple<A, B>) uncastTuple;
-        A a = tuple.getFactA();
-        B b = tuple.getFactB();
         UndoScoreImpacter oldUndoScoreImpacter = tuple.getUndoScoreImpacter();
         if (oldUndoScoreImpacter != null) {
             oldUndoScoreImpacter.run();
         }
         if (tuple.isActive()) {
-            UndoScoreImpacter undoScoreImpacter = scoreImpacter.apply(a, b);
+            UndoScoreImpacter undoScoreImpacter = scoreImpacter.apply(tuple);
             tuple.setUndoScoreImpacter(undoScoreImpacter);
         } else {
             tuple.setUndoScoreImpacter(null);
@@ -73,4 +83,23 @@ public final class BavetScoringBiNode<A, B> extends BavetAbstractBiNode<A, B> im
         return "Scoring(" + constraintWeight + ")";
     }
 
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetConstraint<?> getConstraint() {
+        return constraint;
+    }
+
+    @Override
+    public Score<?> getConstraintWeight() {
+        return constraintWeight;
+    }
+
+    @Override
+    public BavetTuplePool<BavetScoringBiTuple<A, B>> getTuplePool() {
+        return tuplePool;
+    }
+
 }
@@ -16,17 +16,22 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.bi;
 
+import static java.util.Arrays.asList;
+
 import java.util.List;
 
+import org.optaplanner.core.impl.score.inliner.ReusableUndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
 public final class BavetScoringBiTuple<A, B> extends BavetAbstractBiTuple<A, B> implements BavetScoringTuple {
 
     private final BavetScoringBiNode<A, B> node;
-    private final BavetAbstractBiTuple<A, B> parentTuple;
+    private BavetAbstractBiTuple<A, B> parentTuple;
 
+    private final ReusableUndoScoreImpacter reusableUndoScoreImpacter = new ReusableUndoScoreImpacter();
     private UndoScoreImpacter undoScoreImpacter = null;
 
     public BavetScoringBiTuple(BavetScoringBiNode<A, B> node, BavetAbstractBiTuple<A, B> parentTuple) {
@@ -34,6 +39,20 @@ public final class BavetScoringBiTuple<A, B> extends BavetAbstractBiTuple<A, B>
         this.parentTuple = parentTuple;
     }
 
+    /**
+     * Reinitializes this dead tuple, as if {@link BavetScoringBiNode} created it.
+     */
+    public void reuse(BavetAbstractBiTuple<A, B> parentTuple) {
+        this.parentTuple = parentTuple;
+        undoScoreImpacter = null;
+        state = BavetTupleState.NEW;
+    }
+
+    @Override
+    public List<Object> get() {
+        return asList(getFactA(), getFactB());
+    }
+
     @Override
     public String toString() {
         return "Scoring(" + getFactsString() + ")";
@@ -63,6 +82,11 @@ public final class BavetScoringBiTuple<A, B> extends BavetAbstractBiTuple<A, B>
         return parentTuple.getFactB();
     }
 
+    @Override
+    public ReusableUndoScoreImpacter getReusableUndoScoreImpacter() {
+        return reusableUndoScoreImpacter;
+    }
+
     @Override
     public UndoScoreImpacter getUndoScoreImpacter() {
         return undoScoreImpacter;
@@ -16,20 +16,65 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common;
 
+import java.util.List;
+
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 
 public abstract class BavetAbstractNode implements BavetNode {
 
     protected final BavetConstraintSession session;
-    protected final int nodeIndex;
+    protected int nodeIndex;
 
     public BavetAbstractNode(BavetConstraintSession session, int nodeIndex) {
         this.session = session;
         this.nodeIndex = nodeIndex;
     }
 
+    /**
+     * Called right before this node refreshes the dirty tuples of a bulk insert, such as a new working solution,
+     * so it can presize its data structures once instead of growing them tuple by tuple.
+     * Does nothing by default.
+     *
+     * @param dirtyTupleCount {@code >= 0}, the number of dirty tuples that this node is about to refresh
+     */
+    public void presize(int dirtyTupleCount) {
+        // Most nodes have nothing to presize
+    }
+
+    /**
+     * Only used for profiling.
+     *
+     * @return {@code >= 0}, the number of index buckets of this node, 0 if it has no index
+     */
+    public int getIndexBucketCount() {
+        return 0;
+    }
+
     public abstract void refresh(BavetAbstractTuple tuple);
 
+    /**
+     * Excludes the join node behind a {@link BavetJoinBridgeNode} and the group node behind a {@link BavetGroupBridgeNode}.
+     *
+     * @return never null, the nodes that this node creates tuples for
+     */
+    public abstract List<? extends BavetAbstractNode> getChildNodeList();
+
+    /**
+     * @return null if this node doesn't recycle its dead tuples
+     */
+    public BavetTuplePool<? extends BavetAbstractTuple> getTuplePool() {
+        return null;
+    }
+
+    /**
+     * For the nodes that support recycling their dead tuples.
+     *
+     * @return null if {@link BavetConstraintSession#isTupleRecyclingEnabled()} is false
+     */
+    protected <Tuple_ extends BavetAbstractTuple> BavetTuplePool<Tuple_> buildTuplePool() {
+        return session.isTupleRecyclingEnabled() ? new BavetTuplePool<>() : null;
+    }
+
     // ************************************************************************
     // Getters/setters
     // ************************************************************************
@@ -39,4 +84,13 @@ public abstract class BavetAbstractNode implements BavetNode {
         return nodeIndex;
     }
 
+    /**
+     * Only called by {@link BavetNodeBuildPolicy#getCreatedNodes()}, before any tuple exists.
+     *
+     * @param nodeIndex {@code >= 0}
+     */
+    void setNodeIndex(int nodeIndex) {
+        this.nodeIndex = nodeIndex;
+    }
+
 }
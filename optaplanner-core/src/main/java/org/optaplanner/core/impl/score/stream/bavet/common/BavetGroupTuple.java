@@ -16,6 +16,46 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common;
 
-public interface BavetGroupTuple extends BavetTuple {
+import java.util.List;
+
+public interface BavetGroupTuple<GroupKey_, ResultContainer_> extends BavetTuple {
+
+    @Override
+    BavetGroupNode<GroupKey_, ResultContainer_> getNode();
+
+    BavetTupleState getState();
+
+    int increaseParentCount();
+
+    int decreaseParentCount();
+
+    void clearResult();
+
+    GroupKey_ getGroupKey();
+
+    ResultContainer_ getResultContainer();
+
+    Object getResult();
+
+    /**
+     * The first {@link BavetGroupNode#getKeyCount()} facts come from the group key,
+     * the others come from the result.
+     *
+     * @param index {@code 0 <= index < keyCount + resultCount}
+     * @return sometimes null
+     */
+    default Object getGroupFact(int index) {
+        BavetGroupNode<GroupKey_, ResultContainer_> node = getNode();
+        int keyCount = node.getKeyCount();
+        if (index < keyCount) {
+            GroupKey_ groupKey = getGroupKey();
+            return (keyCount == 1) ? groupKey : ((List<?>) groupKey).get(index);
+        }
+        Object result = getResult();
+        if (result == null || node.getResultCount() == 1) { // The result is cleared while the group is dirty
+            return result;
+        }
+        return ((List<?>) result).get(index - keyCount);
+    }
 
 }
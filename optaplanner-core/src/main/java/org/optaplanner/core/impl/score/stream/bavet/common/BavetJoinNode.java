@@ -18,4 +18,14 @@ package org.optaplanner.core.impl.score.stream.bavet.common;
 
 public interface BavetJoinNode {
 
+    /**
+     * @return never null, the bridge of the left side of the join
+     */
+    BavetJoinBridgeNode getLeftParentNode();
+
+    /**
+     * @return never null, the bridge of the right side of the join
+     */
+    BavetJoinBridgeNode getRightParentNode();
+
 }
@@ -19,6 +19,7 @@ package org.optaplanner.core.impl.score.stream.bavet.common;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
@@ -26,19 +27,27 @@ import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 
 public class BavetNodeBuildPolicy<Solution_> {
 
     private final BavetConstraintSession<Solution_, ?> session;
+    private final Map<BavetConstraint<Solution_>, ? extends Score<?>> constraintToWeightMap;
     private final Map<BavetJoinConstraintStream<Solution_>, BavetJoinBridgeNode> joinConstraintStreamToJoinBridgeNodeMap =
             new HashMap<>();
     private final Map<BavetAbstractNode, BavetAbstractNode> sharableNodeMap = new HashMap<>();
+    private final Map<BavetAbstractConstraintStream<Solution_>, BavetAbstractNode> streamToBuiltNodeMap =
+            new IdentityHashMap<>();
 
     private int nextNodeIndex = 0;
+    private int sharedNodeCount = 0;
 
-    public BavetNodeBuildPolicy(BavetConstraintSession<Solution_, ?> session) {
+    public BavetNodeBuildPolicy(BavetConstraintSession<Solution_, ?> session,
+            Map<BavetConstraint<Solution_>, ? extends Score<?>> constraintToWeightMap) {
         this.session = session;
+        this.constraintToWeightMap = constraintToWeightMap;
     }
 
     public <Node_ extends BavetAbstractNode> Node_ retrieveSharedNode(Node_ node) {
@@ -46,10 +55,42 @@ public class BavetNodeBuildPolicy<Solution_> {
         if (sharedNode != node) {
             // We are throwing away the new instance; throw away the new index, too.
             nextNodeIndex = node.getNodeIndex();
+            sharedNodeCount++;
         }
         return sharedNode;
     }
 
+    /**
+     * A join node that turned out to be shared already has its own join bridge nodes,
+     * so the join bridge nodes built for the new instance are never reached.
+     * The caller must remove the join bridge node from its parent node's child node list.
+     *
+     * @param joinBridgeNode never null
+     */
+    public void discardJoinBridgeNode(BavetAbstractNode joinBridgeNode) {
+        BavetAbstractNode removedNode = sharableNodeMap.remove(joinBridgeNode);
+        if (removedNode != joinBridgeNode) {
+            throw new IllegalStateException("Impossible state: the join bridge node (" + joinBridgeNode
+                    + ") with index (" + joinBridgeNode.getNodeIndex() + ") was never built.");
+        }
+        sharedNodeCount++;
+    }
+
+    /**
+     * A stream that feeds multiple constraints is reached once per constraint,
+     * but its node chain (including its join bridges) must only be built once.
+     *
+     * @param stream never null
+     * @return null if the stream has not been built yet
+     */
+    public <Node_ extends BavetAbstractNode> Node_ retrieveBuiltNode(BavetAbstractConstraintStream<Solution_> stream) {
+        return (Node_) streamToBuiltNodeMap.get(stream);
+    }
+
+    public void registerBuiltNode(BavetAbstractConstraintStream<Solution_> stream, BavetAbstractNode node) {
+        streamToBuiltNodeMap.put(stream, node);
+    }
+
     // ************************************************************************
     // Getters/setters
     // ************************************************************************
@@ -58,10 +99,34 @@ public class BavetNodeBuildPolicy<Solution_> {
         return session;
     }
 
+    /**
+     * A stream that several constraints share is built with the constraint weight of the first of those constraints,
+     * so a scoring node must not use the constraint weight it is built with.
+     *
+     * @param constraint never null
+     * @return never null, the constraint weight of that constraint
+     */
+    public Score<?> getConstraintWeight(BavetConstraint<Solution_> constraint) {
+        Score<?> constraintWeight = constraintToWeightMap.get(constraint);
+        if (constraintWeight == null) {
+            throw new IllegalStateException("Impossible state: the constraint (" + constraint
+                    + ") has no constraintWeight, so it should have been culled during node creation.");
+        }
+        return constraintWeight;
+    }
+
     public int nextNodeIndex() {
         return nextNodeIndex++;
     }
 
+    /**
+     * @return {@code >= 0}, the number of nodes that were not created
+     *         because an equal node (or the join they bridge to) was already created by another constraint
+     */
+    public int getSharedNodeCount() {
+        return sharedNodeCount;
+    }
+
     public Map<BavetJoinConstraintStream<Solution_>, BavetJoinBridgeNode> getJoinConstraintStreamToJoinBridgeNodeMap() {
         return joinConstraintStreamToJoinBridgeNodeMap;
     }
@@ -71,17 +136,16 @@ public class BavetNodeBuildPolicy<Solution_> {
             return Collections.emptyList();
         }
         // Make a sequential list of unique nodes.
-        SortedMap<Integer, BavetNode> nodeIndexToNodeMap = sharableNodeMap.keySet().stream()
+        SortedMap<Integer, BavetAbstractNode> nodeIndexToNodeMap = sharableNodeMap.keySet().stream()
                 .collect(Collectors.toMap(BavetAbstractNode::getNodeIndex, Function.identity(), (a, b) -> {
                     throw new IllegalStateException("Impossible state: 2 nodes (" + a + ", " + b +
                             ") share the same index (" + a.getNodeIndex() + ").");
                 }, TreeMap::new));
-        // Ensure there are no gaps in that list.
-        int maxNodeIndex = nodeIndexToNodeMap.lastKey();
-        int expectedMaxNodeIndex = nodeIndexToNodeMap.size() - 1;
-        if (maxNodeIndex != expectedMaxNodeIndex) {
-            throw new IllegalStateException("Impossible state: maximum node index (" + maxNodeIndex +
-                    ") does not match the expected maximum node index (" + expectedMaxNodeIndex + ").");
+        // Discarded join bridge nodes leave gaps in that list, so close them without changing the order.
+        int nodeIndex = 0;
+        for (BavetAbstractNode node : nodeIndexToNodeMap.values()) {
+            node.setNodeIndex(nodeIndex);
+            nodeIndex++;
         }
         return new ArrayList<>(nodeIndexToNodeMap.values());
     }
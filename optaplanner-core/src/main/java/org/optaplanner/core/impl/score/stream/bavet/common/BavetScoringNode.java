@@ -16,6 +16,19 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common;
 
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
+
 public interface BavetScoringNode extends BavetNode {
 
+    /**
+     * @return never null
+     */
+    BavetConstraint<?> getConstraint();
+
+    /**
+     * @return never null, not zero
+     */
+    Score<?> getConstraintWeight();
+
 }
@@ -16,9 +16,20 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common;
 
+import org.optaplanner.core.impl.score.inliner.JustificationsSupplier;
+import org.optaplanner.core.impl.score.inliner.ReusableUndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 
-public interface BavetScoringTuple {
+/**
+ * Supplies its own facts as justifications,
+ * so that impacting the score does not need to capture them in a new lambda per match.
+ */
+public interface BavetScoringTuple extends JustificationsSupplier {
+
+    /**
+     * @return never null, owned by this tuple and refilled on every score-only impact of it
+     */
+    ReusableUndoScoreImpacter getReusableUndoScoreImpacter();
 
     UndoScoreImpacter getUndoScoreImpacter();
 
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+
+/**
+ * Recycles the dead tuples of a single node,
+ * so that an insert or a join match in a later score calculation doesn't need to allocate a new tuple.
+ * Only used if {@link BavetConstraintSession#isTupleRecyclingEnabled()} is true.
+ * <p>
+ * A tuple that dies during {@link BavetConstraintSession#calculateScore(int)} is only reused after that calculation,
+ * because its child tuples might still be dying in a later node and read the facts through it.
+ *
+ * @param <Tuple_> the tuple type of the node
+ */
+public final class BavetTuplePool<Tuple_ extends BavetAbstractTuple> {
+
+    private final List<Tuple_> freshlyDeadTupleList = new ArrayList<>();
+    private final List<Tuple_> reusableTupleList = new ArrayList<>();
+
+    /**
+     * @return null if there is no reusable tuple, otherwise a {@link BavetTupleState#DEAD} tuple
+     *         without child tuples that the caller must reinitialize before use
+     */
+    public Tuple_ poll() {
+        int size = reusableTupleList.size();
+        if (size == 0) {
+            return null;
+        }
+        return reusableTupleList.remove(size - 1);
+    }
+
+    /**
+     * @param deadTuple never null, {@link BavetTupleState#DEAD}
+     */
+    public void add(Tuple_ deadTuple) {
+        freshlyDeadTupleList.add(deadTuple);
+    }
+
+    /**
+     * Makes the tuples that died in the last score calculation reusable.
+     * Called after every dirty tuple has been refreshed.
+     */
+    public void release() {
+        int size = freshlyDeadTupleList.size();
+        if (size == 0) {
+            return;
+        }
+        // Don't use addAll() because it allocates an array
+        for (int i = 0; i < size; i++) {
+            reusableTupleList.add(freshlyDeadTupleList.get(i));
+        }
+        freshlyDeadTupleList.clear();
+    }
+
+}
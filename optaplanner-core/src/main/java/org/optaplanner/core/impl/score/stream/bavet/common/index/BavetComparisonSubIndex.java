@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+/**
+ * Sorts the tuples on 1 comparison index property,
+ * so only the child levels in the matching range are visited.
+ *
+ * @param <Tuple_> the tuple type
+ */
+public class BavetComparisonSubIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetSubIndex<Tuple_> {
+
+    private final int propertyIndex;
+    private final JoinerType comparisonJoinerType;
+    private final Supplier<BavetSubIndex<Tuple_>> childSubIndexSupplier;
+    private final NavigableMap<Object, BavetSubIndex<Tuple_>> comparisonMap = new TreeMap<>();
+
+    public BavetComparisonSubIndex(int propertyIndex, JoinerType comparisonJoinerType,
+            Supplier<BavetSubIndex<Tuple_>> childSubIndexSupplier) {
+        this.propertyIndex = propertyIndex;
+        this.comparisonJoinerType = comparisonJoinerType;
+        this.childSubIndexSupplier = childSubIndexSupplier;
+    }
+
+    @Override
+    public void put(Object[] indexProperties, Tuple_ tuple) {
+        Object comparisonIndexProperty = indexProperties[propertyIndex];
+        BavetSubIndex<Tuple_> childSubIndex = comparisonMap.computeIfAbsent(comparisonIndexProperty,
+                k -> childSubIndexSupplier.get());
+        childSubIndex.put(indexProperties, tuple);
+    }
+
+    @Override
+    public boolean remove(Object[] indexProperties, Tuple_ tuple) {
+        Object comparisonIndexProperty = indexProperties[propertyIndex];
+        BavetSubIndex<Tuple_> childSubIndex = comparisonMap.get(comparisonIndexProperty);
+        if (childSubIndex == null) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ")'s tuple cannot be removed in the index from the comparisonMap (" + comparisonMap + ").");
+        }
+        if (childSubIndex.remove(indexProperties, tuple)) {
+            comparisonMap.remove(comparisonIndexProperty);
+        }
+        return comparisonMap.isEmpty();
+    }
+
+    @Override
+    public void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor) {
+        Object comparisonIndexProperty = indexProperties[propertyIndex];
+        NavigableMap<Object, BavetSubIndex<Tuple_>> selectedComparisonMap;
+        switch (comparisonJoinerType) {
+            case LESS_THAN:
+                selectedComparisonMap = comparisonMap.headMap(comparisonIndexProperty, false);
+                break;
+            case LESS_THAN_OR_EQUAL:
+                selectedComparisonMap = comparisonMap.headMap(comparisonIndexProperty, true);
+                break;
+            case GREATER_THAN:
+                selectedComparisonMap = comparisonMap.tailMap(comparisonIndexProperty, false);
+                break;
+            case GREATER_THAN_OR_EQUAL:
+                selectedComparisonMap = comparisonMap.tailMap(comparisonIndexProperty, true);
+                break;
+            default:
+                throw new IllegalStateException("Impossible state: the comparisonJoinerType (" + comparisonJoinerType
+                        + ") is not one of the 4 comparison types.");
+        }
+        for (BavetSubIndex<Tuple_> childSubIndex : selectedComparisonMap.values()) {
+            childSubIndex.visit(indexProperties, tupleVisitor);
+        }
+    }
+
+}
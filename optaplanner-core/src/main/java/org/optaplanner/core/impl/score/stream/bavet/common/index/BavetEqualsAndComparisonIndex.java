@@ -16,95 +16,146 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common.index;
 
-import java.util.Arrays;
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.NavigableMap;
 import java.util.Set;
-import java.util.TreeMap;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
 import org.optaplanner.core.impl.score.stream.common.JoinerType;
 
+/**
+ * Hashes the {@link JoinerType#EQUAL} index properties
+ * and sorts the comparison index properties in a tree of {@link BavetSubIndex sub indexes}:
+ * a {@link BavetComparisonSubIndex} per comparison
+ * and a {@link BavetIntervalSubIndex} for a pair of opposite comparisons, such as an overlapping interval.
+ *
+ * @param <Tuple_> the tuple type
+ */
 public class BavetEqualsAndComparisonIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIndex<Tuple_> {
 
-    private final JoinerType comparisonJoinerType;
-    private final Map<BavetIndexKey, NavigableMap<Object, Set<Tuple_>>> equalsMap = new HashMap<>();
+    private final int[] equalsPropertyIndexes;
+    private final Supplier<BavetSubIndex<Tuple_>> comparisonSubIndexSupplier;
+    private Map<BavetIndexKey, BavetSubIndex<Tuple_>> equalsMap = new HashMap<>();
+
+    /**
+     * @param joinerTypes never null, already flipped for the right bridge,
+     *        at least 1 of them is not {@link JoinerType#EQUAL}
+     */
+    public BavetEqualsAndComparisonIndex(JoinerType[] joinerTypes) {
+        List<Integer> equalsPropertyIndexList = new ArrayList<>(joinerTypes.length);
+        List<Integer> comparisonPropertyIndexList = new ArrayList<>(joinerTypes.length);
+        int startPropertyIndex = -1;
+        int endPropertyIndex = -1;
+        for (int i = 0; i < joinerTypes.length; i++) {
+            switch (joinerTypes[i]) {
+                case EQUAL:
+                    equalsPropertyIndexList.add(i);
+                    break;
+                case LESS_THAN:
+                case LESS_THAN_OR_EQUAL:
+                    if (startPropertyIndex < 0) {
+                        startPropertyIndex = i;
+                    } else {
+                        comparisonPropertyIndexList.add(i);
+                    }
+                    break;
+                case GREATER_THAN:
+                case GREATER_THAN_OR_EQUAL:
+                    if (endPropertyIndex < 0) {
+                        endPropertyIndex = i;
+                    } else {
+                        comparisonPropertyIndexList.add(i);
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("The joinerType (" + joinerTypes[i]
+                            + ") is not supported by the index.");
+            }
+        }
+        equalsPropertyIndexes = equalsPropertyIndexList.stream().mapToInt(Integer::intValue).toArray();
+        // The innermost level matches a start and an end at once, which is an interval if both are present
+        Supplier<BavetSubIndex<Tuple_>> subIndexSupplier;
+        if (startPropertyIndex >= 0 && endPropertyIndex >= 0) {
+            int finalStartPropertyIndex = startPropertyIndex;
+            int finalEndPropertyIndex = endPropertyIndex;
+            subIndexSupplier = () -> new BavetIntervalSubIndex<>(finalStartPropertyIndex,
+                    joinerTypes[finalStartPropertyIndex], finalEndPropertyIndex, joinerTypes[finalEndPropertyIndex]);
+        } else {
+            subIndexSupplier = BavetTupleSetSubIndex::new;
+            if (startPropertyIndex >= 0) {
+                comparisonPropertyIndexList.add(startPropertyIndex);
+            }
+            if (endPropertyIndex >= 0) {
+                comparisonPropertyIndexList.add(endPropertyIndex);
+            }
+        }
+        for (int propertyIndex : comparisonPropertyIndexList) {
+            Supplier<BavetSubIndex<Tuple_>> childSubIndexSupplier = subIndexSupplier;
+            subIndexSupplier = () -> new BavetComparisonSubIndex<>(propertyIndex, joinerTypes[propertyIndex],
+                    childSubIndexSupplier);
+        }
+        comparisonSubIndexSupplier = subIndexSupplier;
+    }
+
+    @Override
+    public void presize(int tupleCount) {
+        if (equalsPropertyIndexes.length > 0 && equalsMap.isEmpty()) {
+            // There is at most 1 key per tuple
+            equalsMap = new HashMap<>(tupleCount);
+        }
+    }
 
-    public BavetEqualsAndComparisonIndex(JoinerType comparisonJoinerType) {
-        this.comparisonJoinerType = comparisonJoinerType;
+    @Override
+    public int getBucketCount() {
+        return equalsMap.size();
     }
 
     @Override
     public void remove(Tuple_ tuple) {
         Object[] oldIndexProperties = tuple.getIndexProperties();
-        BavetIndexKey oldEqualsIndexKey = new BavetIndexKey(
-                Arrays.copyOfRange(oldIndexProperties, 0, oldIndexProperties.length - 1));
-        Object oldComparisonIndexProperty = oldIndexProperties[oldIndexProperties.length - 1];
-        NavigableMap<Object, Set<Tuple_>> comparisonMap = equalsMap.get(oldEqualsIndexKey);
-        Set<Tuple_> tupleSet = comparisonMap.get(oldComparisonIndexProperty);
-        boolean removed = tupleSet.remove(tuple);
-        if (!removed) {
+        BavetIndexKey oldEqualsIndexKey = buildEqualsIndexKey(oldIndexProperties);
+        BavetSubIndex<Tuple_> comparisonSubIndex = equalsMap.get(oldEqualsIndexKey);
+        if (comparisonSubIndex == null) {
             throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
-                    + ")'s tuple cannot be removed in the index from the tupleSet (" + tupleSet + ").");
+                    + ")'s tuple cannot be removed in the index from the equalsMap (" + equalsMap + ").");
         }
-        if (tupleSet.isEmpty()) {
-            comparisonMap.remove(oldComparisonIndexProperty);
-            if (comparisonMap.isEmpty()) {
-                equalsMap.remove(oldEqualsIndexKey);
-            }
+        if (comparisonSubIndex.remove(oldIndexProperties, tuple)) {
+            equalsMap.remove(oldEqualsIndexKey);
         }
         tuple.setIndexProperties(null);
     }
 
     @Override
     public void put(Object[] indexProperties, Tuple_ tuple) {
-        BavetIndexKey equalsIndexKey = new BavetIndexKey(Arrays.copyOfRange(indexProperties, 0, indexProperties.length - 1));
-        Object comparisonIndexProperty = indexProperties[indexProperties.length - 1];
-        NavigableMap<Object, Set<Tuple_>> comparisonMap = equalsMap.computeIfAbsent(equalsIndexKey, k -> new TreeMap<>());
-        Set<Tuple_> tupleSet = comparisonMap.computeIfAbsent(comparisonIndexProperty, k -> new LinkedHashSet<>());
-        boolean added = tupleSet.add(tuple);
-        if (!added) {
-            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
-                    + ") with indexProperties (" + Arrays.toString(indexProperties)
-                    + ") was already added in the index to the tupleSet (" + tupleSet + ").");
-        }
+        BavetIndexKey equalsIndexKey = buildEqualsIndexKey(indexProperties);
+        BavetSubIndex<Tuple_> comparisonSubIndex = equalsMap.computeIfAbsent(equalsIndexKey,
+                k -> comparisonSubIndexSupplier.get());
+        comparisonSubIndex.put(indexProperties, tuple);
         tuple.setIndexProperties(indexProperties);
     }
 
     @Override
     public Set<Tuple_> get(Object[] indexProperties) {
-        BavetIndexKey equalsIndexKey = new BavetIndexKey(Arrays.copyOfRange(indexProperties, 0, indexProperties.length - 1));
-        Object comparisonIndexProperty = indexProperties[indexProperties.length - 1];
-        NavigableMap<Object, Set<Tuple_>> comparisonMap = equalsMap.get(equalsIndexKey);
-        if (comparisonMap == null) {
+        BavetSubIndex<Tuple_> comparisonSubIndex = equalsMap.get(buildEqualsIndexKey(indexProperties));
+        if (comparisonSubIndex == null) {
             return Collections.emptySet();
         }
-        NavigableMap<Object, Set<Tuple_>> selectedComparisonMap;
-        switch (comparisonJoinerType) {
-            case LESS_THAN:
-                selectedComparisonMap = comparisonMap.headMap(comparisonIndexProperty, false);
-                break;
-            case LESS_THAN_OR_EQUAL:
-                selectedComparisonMap = comparisonMap.headMap(comparisonIndexProperty, true);
-                break;
-            case GREATER_THAN:
-                selectedComparisonMap = comparisonMap.tailMap(comparisonIndexProperty, false);
-                break;
-            case GREATER_THAN_OR_EQUAL:
-                selectedComparisonMap = comparisonMap.tailMap(comparisonIndexProperty, true);
-                break;
-            default:
-                throw new IllegalStateException("Impossible state: the comparisonJoinerType (" + comparisonJoinerType
-                        + ") is not one of the 4 comparison types.");
+        Set<Tuple_> tupleSet = new LinkedHashSet<>();
+        comparisonSubIndex.visit(indexProperties, tupleSet::add);
+        return tupleSet;
+    }
+
+    private BavetIndexKey buildEqualsIndexKey(Object[] indexProperties) {
+        Object[] equalsIndexProperties = new Object[equalsPropertyIndexes.length];
+        for (int i = 0; i < equalsPropertyIndexes.length; i++) {
+            equalsIndexProperties[i] = indexProperties[equalsPropertyIndexes[i]];
         }
-        return selectedComparisonMap.values().stream()
-                .flatMap(Collection::stream)
-                .collect(Collectors.toSet());
+        return new BavetIndexKey(equalsIndexProperties);
     }
 
 }
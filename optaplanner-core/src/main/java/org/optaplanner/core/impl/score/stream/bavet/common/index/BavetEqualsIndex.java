@@ -27,7 +27,20 @@ import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
 
 public class BavetEqualsIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIndex<Tuple_> {
 
-    private final Map<BavetIndexKey, Set<Tuple_>> map = new HashMap<>();
+    private Map<BavetIndexKey, Set<Tuple_>> map = new HashMap<>();
+
+    @Override
+    public void presize(int tupleCount) {
+        if (map.isEmpty()) {
+            // There is at most 1 key per tuple
+            map = new HashMap<>(tupleCount);
+        }
+    }
+
+    @Override
+    public int getBucketCount() {
+        return map.size();
+    }
 
     @Override
     public void remove(Tuple_ tuple) {
@@ -22,6 +22,23 @@ import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
 
 public abstract class BavetIndex<Tuple_ extends BavetJoinBridgeTuple> {
 
+    /**
+     * Called before a lot of tuples are put in this index at once.
+     * Does nothing if the index already contains tuples.
+     *
+     * @param tupleCount {@code >= 0}, the number of tuples that are about to be put
+     */
+    public void presize(int tupleCount) {
+        // Most indexes have nothing to presize
+    }
+
+    /**
+     * Only used for profiling.
+     *
+     * @return {@code >= 0}, the number of buckets that the {@link #get(Object[])} lookups hash into
+     */
+    public abstract int getBucketCount();
+
     public abstract void remove(Tuple_ tuple);
 
     public abstract void put(Object[] indexProperties, Tuple_ tuple);
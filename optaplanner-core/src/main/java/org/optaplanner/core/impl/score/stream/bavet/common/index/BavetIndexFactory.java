@@ -16,39 +16,72 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common.index;
 
+import java.util.Arrays;
+
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
 import org.optaplanner.core.impl.score.stream.common.AbstractJoiner;
 import org.optaplanner.core.impl.score.stream.common.JoinerType;
 
 public class BavetIndexFactory {
 
+    private final AbstractJoiner joiner;
     private final JoinerType[] joinerTypes;
 
     public BavetIndexFactory(AbstractJoiner joiner) {
+        this.joiner = joiner;
         joinerTypes = joiner.getJoinerTypes();
-        for (int i = 0; i < joinerTypes.length; i++) {
-            if (joinerTypes[i] != JoinerType.EQUAL && i != (joinerTypes.length - 1)) {
-                throw new IllegalArgumentException("The joinerType (" + joinerTypes[i]
-                        + ") is currently only supported as the last joinerType.\n"
-                        + ((joinerTypes[i + 1] == JoinerType.EQUAL)
-                                ? "Maybe move the next joinerType (" + joinerTypes[i + 1]
-                                        + ") before this joinerType (" + joinerTypes[i] + ")."
-                                : "Maybe put the next joinerType (" + joinerTypes[i + 1]
-                                        + ") in a filter() predicate after the join() call for now."));
-            }
-        }
     }
 
     public <Tuple_ extends BavetJoinBridgeTuple> BavetIndex<Tuple_> buildIndex(boolean isLeftBridge) {
         if (joinerTypes.length == 0) {
             return new BavetNoneIndex<>();
         }
-        JoinerType lastJoinerType = joinerTypes[joinerTypes.length - 1];
-        if (lastJoinerType == JoinerType.EQUAL) {
+        if (Arrays.stream(joinerTypes).allMatch(joinerType -> joinerType == JoinerType.EQUAL)) {
             return new BavetEqualsIndex<>();
+        }
+        // Use flip() to model A < B as B > A
+        JoinerType[] indexJoinerTypes = Arrays.stream(joinerTypes)
+                .map(joinerType -> (isLeftBridge || joinerType == JoinerType.EQUAL) ? joinerType : joinerType.flip())
+                .toArray(JoinerType[]::new);
+        return new BavetEqualsAndComparisonIndex<>(indexJoinerTypes);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    /**
+     * Lambdas can only be compared by identity,
+     * so 2 joiners are only equal if they use the same mapping instances in the same order.
+     */
+    @Override
+    public int hashCode() {
+        int hashCode = Arrays.hashCode(joinerTypes);
+        for (int i = 0; i < joinerTypes.length; i++) {
+            hashCode = 31 * hashCode + System.identityHashCode(joiner.getLeftMapping(i));
+            hashCode = 31 * hashCode + System.identityHashCode(joiner.getRightMapping(i));
+        }
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetIndexFactory) {
+            BavetIndexFactory other = (BavetIndexFactory) o;
+            if (!Arrays.equals(joinerTypes, other.joinerTypes)) {
+                return false;
+            }
+            for (int i = 0; i < joinerTypes.length; i++) {
+                if (joiner.getLeftMapping(i) != other.joiner.getLeftMapping(i)
+                        || joiner.getRightMapping(i) != other.joiner.getRightMapping(i)) {
+                    return false;
+                }
+            }
+            return true;
         } else {
-            // Use flip() to model A < B as B > A
-            return new BavetEqualsAndComparisonIndex<>(isLeftBridge ? lastJoinerType : lastJoinerType.flip());
+            return false;
         }
     }
 
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+/**
+ * Indexes 2 comparison index properties at once, typically the start and the end of an interval
+ * as used by {@code Joiners.overlapping(...)}.
+ * The start must be {@link JoinerType#LESS_THAN} (or equal) and the end {@link JoinerType#GREATER_THAN} (or equal)
+ * than the respective index properties of the other side.
+ * <p>
+ * This is an AVL tree sorted by start, where each node also knows the maximum end in its subtree.
+ * A query only descends into subtrees that can still contain a match,
+ * so it costs {@code O(log(n) + k)} in practice, where k is the number of matches.
+ *
+ * @param <Tuple_> the tuple type
+ */
+public class BavetIntervalSubIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetSubIndex<Tuple_> {
+
+    private final int startPropertyIndex;
+    private final JoinerType startJoinerType;
+    private final int endPropertyIndex;
+    private final JoinerType endJoinerType;
+
+    private IntervalNode root = null;
+
+    public BavetIntervalSubIndex(int startPropertyIndex, JoinerType startJoinerType,
+            int endPropertyIndex, JoinerType endJoinerType) {
+        if (startJoinerType != JoinerType.LESS_THAN && startJoinerType != JoinerType.LESS_THAN_OR_EQUAL) {
+            throw new IllegalArgumentException("The startJoinerType (" + startJoinerType
+                    + ") must be " + JoinerType.LESS_THAN + " or " + JoinerType.LESS_THAN_OR_EQUAL + ".");
+        }
+        if (endJoinerType != JoinerType.GREATER_THAN && endJoinerType != JoinerType.GREATER_THAN_OR_EQUAL) {
+            throw new IllegalArgumentException("The endJoinerType (" + endJoinerType
+                    + ") must be " + JoinerType.GREATER_THAN + " or " + JoinerType.GREATER_THAN_OR_EQUAL + ".");
+        }
+        this.startPropertyIndex = startPropertyIndex;
+        this.startJoinerType = startJoinerType;
+        this.endPropertyIndex = endPropertyIndex;
+        this.endJoinerType = endJoinerType;
+    }
+
+    @Override
+    public void put(Object[] indexProperties, Tuple_ tuple) {
+        root = insert(root, (Comparable) indexProperties[startPropertyIndex], (Comparable) indexProperties[endPropertyIndex],
+                indexProperties, tuple);
+    }
+
+    @Override
+    public boolean remove(Object[] indexProperties, Tuple_ tuple) {
+        root = delete(root, (Comparable) indexProperties[startPropertyIndex], (Comparable) indexProperties[endPropertyIndex],
+                tuple);
+        return root == null;
+    }
+
+    @Override
+    public void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor) {
+        visit(root, indexProperties[startPropertyIndex], indexProperties[endPropertyIndex], tupleVisitor);
+    }
+
+    private void visit(IntervalNode node, Object otherStart, Object otherEnd, Consumer<Tuple_> tupleVisitor) {
+        // Every end in this subtree is at most maxEnd, so if maxEnd doesn't match, nothing does
+        if (node == null || !endJoinerType.matches(node.maxEnd, otherEnd)) {
+            return;
+        }
+        visit(node.left, otherStart, otherEnd, tupleVisitor);
+        if (!startJoinerType.matches(node.start, otherStart)) {
+            // Every start in the right subtree is at least this start, so none of them match either
+            return;
+        }
+        if (endJoinerType.matches(node.end, otherEnd)) {
+            node.tupleSet.forEach(tupleVisitor);
+        }
+        visit(node.right, otherStart, otherEnd, tupleVisitor);
+    }
+
+    // ************************************************************************
+    // AVL tree
+    // ************************************************************************
+
+    private IntervalNode insert(IntervalNode node, Comparable start, Comparable end,
+            Object[] indexProperties, Tuple_ tuple) {
+        if (node == null) {
+            IntervalNode newNode = new IntervalNode(start, end);
+            newNode.tupleSet.add(tuple);
+            return newNode;
+        }
+        int comparison = node.compareTo(start, end);
+        if (comparison < 0) {
+            node.left = insert(node.left, start, end, indexProperties, tuple);
+        } else if (comparison > 0) {
+            node.right = insert(node.right, start, end, indexProperties, tuple);
+        } else {
+            boolean added = node.tupleSet.add(tuple);
+            if (!added) {
+                throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                        + ") with indexProperties (" + Arrays.toString(indexProperties)
+                        + ") was already added in the index to the tupleSet (" + node.tupleSet + ").");
+            }
+            return node;
+        }
+        return rebalance(node);
+    }
+
+    private IntervalNode delete(IntervalNode node, Comparable start, Comparable end, Tuple_ tuple) {
+        if (node == null) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ")'s tuple cannot be removed in the index, because its interval (" + start + ", " + end
+                    + ") is not in the index.");
+        }
+        int comparison = node.compareTo(start, end);
+        if (comparison < 0) {
+            node.left = delete(node.left, start, end, tuple);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, start, end, tuple);
+        } else {
+            boolean removed = node.tupleSet.remove(tuple);
+            if (!removed) {
+                throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                        + ")'s tuple cannot be removed in the index from the tupleSet (" + node.tupleSet + ").");
+            }
+            if (!node.tupleSet.isEmpty()) {
+                return node;
+            }
+            if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            }
+            IntervalNode successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMinimum(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private IntervalNode deleteMinimum(IntervalNode node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMinimum(node.left);
+        return rebalance(node);
+    }
+
+    private IntervalNode rebalance(IntervalNode node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private IntervalNode rotateRight(IntervalNode node) {
+        IntervalNode newParent = node.left;
+        node.left = newParent.right;
+        newParent.right = node;
+        node.update();
+        newParent.update();
+        return newParent;
+    }
+
+    private IntervalNode rotateLeft(IntervalNode node) {
+        IntervalNode newParent = node.right;
+        node.right = newParent.left;
+        newParent.left = node;
+        node.update();
+        newParent.update();
+        return newParent;
+    }
+
+    private int height(IntervalNode node) {
+        return (node == null) ? 0 : node.height;
+    }
+
+    private final class IntervalNode {
+
+        private final Comparable start;
+        private final Comparable end;
+        private final Set<Tuple_> tupleSet = new LinkedHashSet<>();
+
+        private IntervalNode left = null;
+        private IntervalNode right = null;
+        private int height = 1;
+        private Comparable maxEnd;
+
+        private IntervalNode(Comparable start, Comparable end) {
+            this.start = start;
+            this.end = end;
+            maxEnd = end;
+        }
+
+        private int compareTo(Comparable otherStart, Comparable otherEnd) {
+            int comparison = otherStart.compareTo(start);
+            if (comparison != 0) {
+                return comparison;
+            }
+            return otherEnd.compareTo(end);
+        }
+
+        private void update() {
+            height = Math.max(height(left), height(right)) + 1;
+            maxEnd = end;
+            if (left != null && left.maxEnd.compareTo(maxEnd) > 0) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.compareTo(maxEnd) > 0) {
+                maxEnd = right.maxEnd;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "[" + start + ", " + end + "]=" + tupleSet;
+        }
+
+    }
+
+}
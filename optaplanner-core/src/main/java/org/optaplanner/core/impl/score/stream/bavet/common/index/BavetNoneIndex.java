@@ -26,6 +26,11 @@ public class BavetNoneIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIn
 
     private final Set<Tuple_> tupleSet = new HashSet<>();
 
+    @Override
+    public int getBucketCount() {
+        return tupleSet.isEmpty() ? 0 : 1;
+    }
+
     @Override
     public void remove(Tuple_ tuple) {
         boolean removed = tupleSet.remove(tuple);
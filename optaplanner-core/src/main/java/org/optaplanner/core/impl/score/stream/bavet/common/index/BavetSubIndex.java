@@ -0,0 +1,50 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.function.Consumer;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+
+/**
+ * A level in the index tree of a {@link BavetEqualsAndComparisonIndex}.
+ * Each level handles 1 or more of the index properties and delegates the other ones to its child levels.
+ *
+ * @param <Tuple_> the tuple type
+ */
+public abstract class BavetSubIndex<Tuple_ extends BavetJoinBridgeTuple> {
+
+    /**
+     * @param indexProperties never null, all the index properties of the tuple
+     * @param tuple never null
+     */
+    public abstract void put(Object[] indexProperties, Tuple_ tuple);
+
+    /**
+     * @param indexProperties never null, the index properties with which the tuple was put
+     * @param tuple never null
+     * @return true if this sub index is empty afterwards, so its parent can discard it
+     */
+    public abstract boolean remove(Object[] indexProperties, Tuple_ tuple);
+
+    /**
+     * @param indexProperties never null, the index properties of the other side of the join
+     * @param tupleVisitor never null, called for every matching tuple
+     */
+    public abstract void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor);
+
+}
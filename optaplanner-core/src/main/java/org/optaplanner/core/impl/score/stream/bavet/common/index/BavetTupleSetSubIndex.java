@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+
+/**
+ * The leaf level of the index tree: every tuple in it matches.
+ *
+ * @param <Tuple_> the tuple type
+ */
+public class BavetTupleSetSubIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetSubIndex<Tuple_> {
+
+    private final Set<Tuple_> tupleSet = new LinkedHashSet<>();
+
+    @Override
+    public void put(Object[] indexProperties, Tuple_ tuple) {
+        boolean added = tupleSet.add(tuple);
+        if (!added) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ") with indexProperties (" + Arrays.toString(indexProperties)
+                    + ") was already added in the index to the tupleSet (" + tupleSet + ").");
+        }
+    }
+
+    @Override
+    public boolean remove(Object[] indexProperties, Tuple_ tuple) {
+        boolean removed = tupleSet.remove(tuple);
+        if (!removed) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ")'s tuple cannot be removed in the index from the tupleSet (" + tupleSet + ").");
+        }
+        return tupleSet.isEmpty();
+    }
+
+    @Override
+    public void visit(Object[] indexProperties, Consumer<Tuple_> tupleVisitor) {
+        tupleSet.forEach(tupleVisitor);
+    }
+
+}
@@ -0,0 +1,520 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.optaplanner.core.api.function.PentaPredicate;
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.function.QuadPredicate;
+import org.optaplanner.core.api.function.ToIntQuadFunction;
+import org.optaplanner.core.api.function.ToLongQuadFunction;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintCollectors;
+import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
+import org.optaplanner.core.api.score.stream.penta.PentaJoiner;
+import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
+import org.optaplanner.core.api.score.stream.quad.QuadConstraintStream;
+import org.optaplanner.core.api.score.stream.tri.TriConstraintStream;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+import org.optaplanner.core.impl.score.stream.bavet.tri.BavetGroupTriConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetAbstractUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetGroupUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+import org.optaplanner.core.impl.score.stream.common.RetrievalSemantics;
+import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
+import org.optaplanner.core.impl.score.stream.penta.AbstractPentaJoiner;
+import org.optaplanner.core.impl.score.stream.penta.FilteringPentaJoiner;
+import org.optaplanner.core.impl.score.stream.penta.NonePentaJoiner;
+import org.optaplanner.core.impl.score.stream.quad.InnerQuadConstraintStream;
+
+public abstract class BavetAbstractQuadConstraintStream<Solution_, A, B, C, D>
+        extends BavetAbstractConstraintStream<Solution_>
+        implements InnerQuadConstraintStream<A, B, C, D> {
+
+    protected final List<BavetAbstractQuadConstraintStream<Solution_, A, B, C, D>> childStreamList = new ArrayList<>(2);
+
+    public BavetAbstractQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            RetrievalSemantics retrievalSemantics) {
+        super(constraintFactory, retrievalSemantics);
+    }
+
+    // ************************************************************************
+    // Stream builder methods
+    // ************************************************************************
+
+    protected void addChildStream(BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> childStream) {
+        childStreamList.add(childStream);
+    }
+
+    // ************************************************************************
+    // Filter
+    // ************************************************************************
+
+    @Override
+    public BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> filter(QuadPredicate<A, B, C, D> predicate) {
+        BavetFilterQuadConstraintStream<Solution_, A, B, C, D> stream =
+                new BavetFilterQuadConstraintStream<>(constraintFactory, this, predicate);
+        addChildStream(stream);
+        return stream;
+    }
+
+    // ************************************************************************
+    // If (not) exists
+    // ************************************************************************
+
+    @SafeVarargs
+    @Override
+    public final <E> QuadConstraintStream<A, B, C, D> ifExists(Class<E> otherClass,
+            PentaJoiner<A, B, C, D, E>... joiners) {
+        return ifExistsOrNot(true, getRetrievalSemantics() != RetrievalSemantics.STANDARD, otherClass, joiners);
+    }
+
+    @SafeVarargs
+    @Override
+    public final <E> QuadConstraintStream<A, B, C, D> ifExistsIncludingNullVars(Class<E> otherClass,
+            PentaJoiner<A, B, C, D, E>... joiners) {
+        return ifExistsOrNot(true, true, otherClass, joiners);
+    }
+
+    @SafeVarargs
+    @Override
+    public final <E> QuadConstraintStream<A, B, C, D> ifNotExists(Class<E> otherClass,
+            PentaJoiner<A, B, C, D, E>... joiners) {
+        return ifExistsOrNot(false, getRetrievalSemantics() != RetrievalSemantics.STANDARD, otherClass, joiners);
+    }
+
+    @SafeVarargs
+    @Override
+    public final <E> QuadConstraintStream<A, B, C, D> ifNotExistsIncludingNullVars(Class<E> otherClass,
+            PentaJoiner<A, B, C, D, E>... joiners) {
+        return ifExistsOrNot(false, true, otherClass, joiners);
+    }
+
+    private <E> QuadConstraintStream<A, B, C, D> ifExistsOrNot(boolean shouldExist, boolean shouldIncludeNullVars,
+            Class<E> otherClass, PentaJoiner<A, B, C, D, E>[] joiners) {
+        BavetAbstractUniConstraintStream<Solution_, E> other =
+                (BavetAbstractUniConstraintStream<Solution_, E>) (shouldIncludeNullVars
+                        ? constraintFactory.forEachIncludingNullVars(otherClass)
+                        : constraintFactory.forEach(otherClass));
+        int indexOfFirstFilter = -1;
+        // Split the joiners into an indexing joiner and a filter.
+        AbstractPentaJoiner<A, B, C, D, E> finalJoiner = null;
+        PentaPredicate<A, B, C, D, E> finalFilter = null;
+        for (int i = 0; i < joiners.length; i++) {
+            if (!(joiners[i] instanceof AbstractPentaJoiner)) {
+                throw new IllegalArgumentException("The joiner class (" + joiners[i].getClass() + ") is not supported.");
+            }
+            AbstractPentaJoiner<A, B, C, D, E> joiner = (AbstractPentaJoiner<A, B, C, D, E>) joiners[i];
+            boolean hasAFilter = indexOfFirstFilter >= 0;
+            if (joiner instanceof NonePentaJoiner && joiners.length > 1) {
+                throw new IllegalStateException("If present, " + NonePentaJoiner.class + " must be the only joiner, got "
+                        + Arrays.toString(joiners) + " instead.");
+            } else if (!(joiner instanceof FilteringPentaJoiner)) {
+                if (hasAFilter) {
+                    throw new IllegalStateException("Indexing joiner (" + joiner + ") must not follow a filtering joiner ("
+                            + joiners[indexOfFirstFilter] + ").");
+                }
+                finalJoiner = finalJoiner == null ? joiner : AbstractPentaJoiner.merge(finalJoiner, joiner);
+            } else {
+                if (!hasAFilter) {
+                    indexOfFirstFilter = i;
+                }
+                // Merge all filters into one, so each match is only filtered once.
+                finalFilter = finalFilter == null ? joiner.getFilter() : finalFilter.and(joiner.getFilter());
+            }
+        }
+        if (finalJoiner == null) {
+            finalJoiner = new NonePentaJoiner<>();
+        }
+        for (JoinerType type : finalJoiner.getJoinerTypes()) {
+            switch (type) {
+                case EQUAL:
+                case LESS_THAN:
+                case LESS_THAN_OR_EQUAL:
+                case GREATER_THAN:
+                case GREATER_THAN_OR_EQUAL:
+                    continue;
+                default:
+                    throw new UnsupportedOperationException("Unsupported joiner type (" + type + ").");
+            }
+        }
+        BavetIndexFactory indexFactory = new BavetIndexFactory(finalJoiner);
+        BavetJoinBridgeQuadConstraintStream<Solution_, A, B, C, D> leftBridge = new BavetJoinBridgeQuadConstraintStream<>(
+                constraintFactory, this, true, finalJoiner.getLeftCombinedMapping(), indexFactory);
+        addChildStream(leftBridge);
+        BavetJoinBridgeUniConstraintStream<Solution_, E> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, other, false, finalJoiner.getRightCombinedMapping(), indexFactory);
+        other.addChildStream(rightBridge);
+        BavetIfExistsQuadConstraintStream<Solution_, A, B, C, D, E> ifExistsStream = new BavetIfExistsQuadConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge, shouldExist, finalFilter);
+        leftBridge.setJoinStream(ifExistsStream);
+        rightBridge.setJoinStream(ifExistsStream);
+        return ifExistsStream;
+    }
+
+    // ************************************************************************
+    // Group by
+    // ************************************************************************
+
+    @Override
+    public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector) {
+        return groupByToUni((a, b, c, d) -> Collections.emptyList(), 0, collector);
+    }
+
+    @Override
+    public <ResultContainerA_, ResultA_, ResultContainerB_, ResultB_> BiConstraintStream<ResultA_, ResultB_> groupBy(
+            QuadConstraintCollector<A, B, C, D, ResultContainerA_, ResultA_> collectorA,
+            QuadConstraintCollector<A, B, C, D, ResultContainerB_, ResultB_> collectorB) {
+        return groupByToBi((a, b, c, d) -> Collections.emptyList(),
+                0, ConstraintCollectors.compose(collectorA, collectorB, Arrays::asList));
+    }
+
+    @Override
+    public <ResultContainerA_, ResultA_, ResultContainerB_, ResultB_, ResultContainerC_, ResultC_>
+            TriConstraintStream<ResultA_, ResultB_, ResultC_>
+            groupBy(QuadConstraintCollector<A, B, C, D, ResultContainerA_, ResultA_> collectorA,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerB_, ResultB_> collectorB,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC) {
+        return groupByToTri((a, b, c, d) -> Collections.emptyList(),
+                0, ConstraintCollectors.compose(collectorA, collectorB, collectorC, Arrays::asList));
+    }
+
+    @Override
+    public <ResultContainerA_, ResultA_, ResultContainerB_, ResultB_, ResultContainerC_, ResultC_, ResultContainerD_, ResultD_>
+            QuadConstraintStream<ResultA_, ResultB_, ResultC_, ResultD_>
+            groupBy(QuadConstraintCollector<A, B, C, D, ResultContainerA_, ResultA_> collectorA,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerB_, ResultB_> collectorB,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerD_, ResultD_> collectorD) {
+        return groupByToQuad((a, b, c, d) -> Collections.emptyList(),
+                0, ConstraintCollectors.compose(collectorA, collectorB, collectorC, collectorD, Arrays::asList));
+    }
+
+    @Override
+    public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping) {
+        return groupByToUni(groupKeyMapping, 1, null);
+    }
+
+    @Override
+    public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
+            QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping,
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector) {
+        return groupByToBi(groupKeyMapping, 1, collector);
+    }
+
+    @Override
+    public <GroupKey_, ResultContainerB_, ResultB_, ResultContainerC_, ResultC_>
+            TriConstraintStream<GroupKey_, ResultB_, ResultC_> groupBy(QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerB_, ResultB_> collectorB,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC) {
+        return groupByToTri(groupKeyMapping, 1, ConstraintCollectors.compose(collectorB, collectorC, Arrays::asList));
+    }
+
+    @Override
+    public <GroupKey_, ResultContainerB_, ResultB_, ResultContainerC_, ResultC_, ResultContainerD_, ResultD_>
+            QuadConstraintStream<GroupKey_, ResultB_, ResultC_, ResultD_>
+            groupBy(QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerB_, ResultB_> collectorB,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerD_, ResultD_> collectorD) {
+        return groupByToQuad(groupKeyMapping,
+                1, ConstraintCollectors.compose(collectorB, collectorC, collectorD, Arrays::asList));
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
+            QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping,
+            QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping) {
+        return groupByToBi(
+                (a, b, c, d) -> Arrays.asList(groupKeyAMapping.apply(a, b, c, d), groupKeyBMapping.apply(a, b, c, d)),
+                2, null);
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_, ResultContainer_, Result_> TriConstraintStream<GroupKeyA_, GroupKeyB_, Result_> groupBy(
+            QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping,
+            QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping,
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector) {
+        return groupByToTri(
+                (a, b, c, d) -> Arrays.asList(groupKeyAMapping.apply(a, b, c, d), groupKeyBMapping.apply(a, b, c, d)),
+                2, collector);
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_, ResultContainerC_, ResultC_, ResultContainerD_, ResultD_>
+            QuadConstraintStream<GroupKeyA_, GroupKeyB_, ResultC_, ResultD_> groupBy(
+                    QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping,
+                    QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerD_, ResultD_> collectorD) {
+        return groupByToQuad(
+                (a, b, c, d) -> Arrays.asList(groupKeyAMapping.apply(a, b, c, d), groupKeyBMapping.apply(a, b, c, d)),
+                2, ConstraintCollectors.compose(collectorC, collectorD, Arrays::asList));
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_, GroupKeyC_> TriConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_> groupBy(
+            QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping, QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping,
+            QuadFunction<A, B, C, D, GroupKeyC_> groupKeyCMapping) {
+        return groupByToTri(
+                (a, b, c, d) -> Arrays.asList(groupKeyAMapping.apply(a, b, c, d), groupKeyBMapping.apply(a, b, c, d),
+                        groupKeyCMapping.apply(a, b, c, d)),
+                3, null);
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_, GroupKeyC_, ResultContainerD_, ResultD_>
+            QuadConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_, ResultD_>
+            groupBy(QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping,
+                    QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping,
+                    QuadFunction<A, B, C, D, GroupKeyC_> groupKeyCMapping,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerD_, ResultD_> collectorD) {
+        return groupByToQuad(
+                (a, b, c, d) -> Arrays.asList(groupKeyAMapping.apply(a, b, c, d), groupKeyBMapping.apply(a, b, c, d),
+                        groupKeyCMapping.apply(a, b, c, d)),
+                3, collectorD);
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_> QuadConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_>
+            groupBy(QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping,
+                    QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping,
+                    QuadFunction<A, B, C, D, GroupKeyC_> groupKeyCMapping,
+                    QuadFunction<A, B, C, D, GroupKeyD_> groupKeyDMapping) {
+        return groupByToQuad(
+                (a, b, c, d) -> Arrays.asList(groupKeyAMapping.apply(a, b, c, d), groupKeyBMapping.apply(a, b, c, d),
+                        groupKeyCMapping.apply(a, b, c, d), groupKeyDMapping.apply(a, b, c, d)),
+                4, null);
+    }
+
+    private <GroupKey_, ResultContainer_, NewA> UniConstraintStream<NewA> groupByToUni(
+            QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping, int keyCount,
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, ?> collector) {
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeQuadConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        BavetGroupUniConstraintStream<Solution_, GroupKey_, ResultContainer_, NewA> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge, keyCount,
+                        (collector == null) ? null : collector.finisher());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    private <GroupKey_, ResultContainer_, NewA, NewB> BiConstraintStream<NewA, NewB> groupByToBi(
+            QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping, int keyCount,
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, ?> collector) {
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeQuadConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, NewA, NewB> groupStream =
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge, keyCount,
+                        (collector == null) ? null : collector.finisher());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    private <GroupKey_, ResultContainer_, NewA, NewB, NewC> TriConstraintStream<NewA, NewB, NewC> groupByToTri(
+            QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping, int keyCount,
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, ?> collector) {
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeQuadConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        BavetGroupTriConstraintStream<Solution_, GroupKey_, ResultContainer_, NewA, NewB, NewC> groupStream =
+                new BavetGroupTriConstraintStream<>(constraintFactory, bridge, keyCount,
+                        (collector == null) ? null : collector.finisher());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    private <GroupKey_, ResultContainer_, NewA, NewB, NewC, NewD> QuadConstraintStream<NewA, NewB, NewC, NewD> groupByToQuad(
+            QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping, int keyCount,
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, ?> collector) {
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeQuadConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        BavetGroupQuadConstraintStream<Solution_, GroupKey_, ResultContainer_, NewA, NewB, NewC, NewD> groupStream =
+                new BavetGroupQuadConstraintStream<>(constraintFactory, bridge, keyCount,
+                        (collector == null) ? null : collector.finisher());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    // ************************************************************************
+    // Operations with duplicate tuple possibility
+    // ************************************************************************
+
+    @Override
+    public <ResultA_> UniConstraintStream<ResultA_> map(QuadFunction<A, B, C, D, ResultA_> mapping) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <ResultD_> QuadConstraintStream<A, B, C, ResultD_> flattenLast(Function<D, Iterable<ResultD_>> mapping) {
+        throw new UnsupportedOperationException();
+    }
+
+    // ************************************************************************
+    // Penalize/reward
+    // ************************************************************************
+
+    @Override
+    public final Constraint impactScore(String constraintPackage, String constraintName, Score<?> constraintWeight,
+            ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream =
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, constraint);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScore(String constraintPackage, String constraintName, Score<?> constraintWeight,
+            ToIntQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream =
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreLong(String constraintPackage, String constraintName,
+            Score<?> constraintWeight, ToLongQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream =
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreBigDecimal(String constraintPackage, String constraintName,
+            Score<?> constraintWeight, QuadFunction<A, B, C, D, BigDecimal> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream =
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurable(String constraintPackage, String constraintName,
+            ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream =
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, constraint);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurable(String constraintPackage, String constraintName,
+            ToIntQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream =
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurableLong(String constraintPackage, String constraintName,
+            ToLongQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream =
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurableBigDecimal(String constraintPackage, String constraintName,
+            QuadFunction<A, B, C, D, BigDecimal> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream =
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    public BavetAbstractQuadNode<A, B, C, D> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractQuadNode<A, B, C, D> parentNode) {
+        BavetAbstractQuadNode<A, B, C, D> builtNode = buildPolicy.retrieveBuiltNode(this);
+        if (builtNode != null) { // Another constraint shares this stream and already built it
+            return builtNode;
+        }
+        BavetAbstractQuadNode<A, B, C, D> node = createNode(buildPolicy, constraintWeight, parentNode);
+        node = processNode(buildPolicy, parentNode, node);
+        buildPolicy.registerBuiltNode(this, node);
+        createChildNodeChains(buildPolicy, constraintWeight, node);
+        return node;
+    }
+
+    protected BavetAbstractQuadNode<A, B, C, D> processNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            BavetAbstractQuadNode<A, B, C, D> parentNode, BavetAbstractQuadNode<A, B, C, D> node) {
+        BavetAbstractQuadNode<A, B, C, D> sharedNode = buildPolicy.retrieveSharedNode(node);
+        if (sharedNode != node) { // Share node
+            return sharedNode;
+        }
+        if (parentNode != null) { // TODO remove null check and don't go through this for from and joins
+            parentNode.addChildNode(node);
+        }
+        return node;
+    }
+
+    protected void createChildNodeChains(BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight,
+            BavetAbstractQuadNode<A, B, C, D> node) {
+        if (childStreamList.isEmpty()) {
+            throw new IllegalStateException("The stream (" + this + ") leads to nowhere.\n"
+                    + "Maybe don't create it.");
+        }
+        for (BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> childStream : childStreamList) {
+            childStream.createNodeChain(buildPolicy, constraintWeight, node);
+        }
+    }
+
+    protected abstract BavetAbstractQuadNode<A, B, C, D> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractQuadNode<A, B, C, D> parentNode);
+
+}
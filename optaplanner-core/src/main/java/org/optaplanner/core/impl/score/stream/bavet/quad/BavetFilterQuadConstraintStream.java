@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.List;
+
+import org.optaplanner.core.api.function.QuadPredicate;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
+
+public final class BavetFilterQuadConstraintStream<Solution_, A, B, C, D>
+        extends BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> {
+
+    private final BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> parent;
+    private final QuadPredicate<A, B, C, D> predicate;
+
+    public BavetFilterQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> parent,
+            QuadPredicate<A, B, C, D> predicate) {
+        super(constraintFactory, parent.getRetrievalSemantics());
+        this.parent = parent;
+        this.predicate = predicate;
+        if (predicate == null) {
+            throw new IllegalArgumentException("The predicate (null) cannot be null.");
+        }
+    }
+
+    @Override
+    public boolean guaranteesDistinct() {
+        return parent.guaranteesDistinct();
+    }
+
+    @Override
+    public List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList() {
+        return parent.getFromStreamList();
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    protected BavetFilterQuadNode<A, B, C, D> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractQuadNode<A, B, C, D> parentNode) {
+        return new BavetFilterQuadNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), parentNode, predicate);
+    }
+
+    @Override
+    public String toString() {
+        return "Filter() with " + childStreamList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
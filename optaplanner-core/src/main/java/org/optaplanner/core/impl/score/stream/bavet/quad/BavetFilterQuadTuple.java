@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+public final class BavetFilterQuadTuple<A, B, C, D> extends BavetAbstractQuadTuple<A, B, C, D> {
+
+    private final BavetFilterQuadNode<A, B, C, D> node;
+    private BavetAbstractQuadTuple<A, B, C, D> parentTuple;
+    private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
+
+    public BavetFilterQuadTuple(BavetFilterQuadNode<A, B, C, D> node, BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        this.node = node;
+        this.parentTuple = parentTuple;
+    }
+
+    /**
+     * Reinitializes this dead tuple, as if {@link BavetFilterQuadNode} created it.
+     */
+    public void reuse(BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        this.parentTuple = parentTuple;
+        state = BavetTupleState.NEW;
+    }
+
+    @Override
+    public String toString() {
+        return "Filter(" + getFactsString() + ") with " + childTupleList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetFilterQuadNode<A, B, C, D> getNode() {
+        return node;
+    }
+
+    @Override
+    public List<BavetAbstractTuple> getChildTupleList() {
+        return childTupleList;
+    }
+
+    @Override
+    public A getFactA() {
+        return parentTuple.getFactA();
+    }
+
+    @Override
+    public B getFactB() {
+        return parentTuple.getFactB();
+    }
+
+    @Override
+    public C getFactC() {
+        return parentTuple.getFactC();
+    }
+
+    @Override
+    public D getFactD() {
+        return parentTuple.getFactD();
+    }
+
+}
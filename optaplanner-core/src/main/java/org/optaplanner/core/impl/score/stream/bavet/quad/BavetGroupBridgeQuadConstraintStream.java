@@ -0,0 +1,102 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.List;
+
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
+
+public final class BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, GroupKey_, ResultContainer_>
+        extends BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> {
+
+    private final BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> parent;
+    private final QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping;
+    private final QuadConstraintCollector<A, B, C, D, ResultContainer_, ?> collector;
+    private BavetGroupConstraintStream<Solution_, GroupKey_, ResultContainer_> groupStream;
+
+    /**
+     * @param constraintFactory never null
+     * @param parent never null
+     * @param groupKeyMapping never null
+     * @param collector null if there is nothing to collect
+     */
+    public BavetGroupBridgeQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> parent,
+            QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping,
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, ?> collector) {
+        super(constraintFactory, parent.getRetrievalSemantics());
+        this.parent = parent;
+        this.groupKeyMapping = groupKeyMapping;
+        this.collector = collector;
+    }
+
+    @Override
+    public boolean guaranteesDistinct() {
+        return parent.guaranteesDistinct();
+    }
+
+    public void setGroupStream(BavetGroupConstraintStream<Solution_, GroupKey_, ResultContainer_> groupStream) {
+        this.groupStream = groupStream;
+    }
+
+    @Override
+    public List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList() {
+        return parent.getFromStreamList();
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    protected BavetGroupBridgeQuadNode<A, B, C, D, GroupKey_, ResultContainer_> createNode(
+            BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractQuadNode<A, B, C, D> parentNode) {
+        return new BavetGroupBridgeQuadNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), parentNode,
+                groupKeyMapping, collector);
+    }
+
+    @Override
+    protected void createChildNodeChains(BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight,
+            BavetAbstractQuadNode<A, B, C, D> node) {
+        if (!childStreamList.isEmpty()) {
+            throw new IllegalStateException("Impossible state: the stream (" + this
+                    + ") has an non-empty childStreamList (" + childStreamList + ") but it's a groupBy bridge.");
+        }
+        BavetGroupNode<GroupKey_, ResultContainer_> groupNode = groupStream.createNodeChain(buildPolicy, constraintWeight);
+        BavetGroupBridgeQuadNode<A, B, C, D, GroupKey_, ResultContainer_> groupBridgeNode =
+                (BavetGroupBridgeQuadNode<A, B, C, D, GroupKey_, ResultContainer_>) node;
+        groupBridgeNode.setGroupNode(groupNode);
+    }
+
+    @Override
+    public String toString() {
+        return "GroupBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
+
+public final class BavetGroupQuadConstraintStream<Solution_, GroupKey_, ResultContainer_, A, B, C, D>
+        extends BavetAbstractQuadConstraintStream<Solution_, A, B, C, D>
+        implements BavetGroupConstraintStream<Solution_, GroupKey_, ResultContainer_> {
+
+    private final BavetAbstractConstraintStream<Solution_> parent;
+    private final int keyCount;
+    private final Function<ResultContainer_, ?> finisher;
+
+    /**
+     * @param constraintFactory never null
+     * @param parent never null, the group bridge
+     * @param keyCount {@code 0 <= keyCount <= 4}, the number of facts that come from the group key
+     * @param finisher null if {@code keyCount == 4}
+     */
+    public BavetGroupQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractConstraintStream<Solution_> parent, int keyCount,
+            Function<ResultContainer_, ?> finisher) {
+        super(constraintFactory, parent.getRetrievalSemantics());
+        this.parent = parent;
+        this.keyCount = keyCount;
+        this.finisher = finisher;
+    }
+
+    @Override
+    public boolean guaranteesDistinct() {
+        return true;
+    }
+
+    @Override
+    public List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList() {
+        return parent.getFromStreamList();
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    public BavetGroupQuadNode<GroupKey_, ResultContainer_, A, B, C, D> createNodeChain(
+            BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight) {
+        return createNodeChain(buildPolicy, constraintWeight, null);
+    }
+
+    @Override
+    public BavetGroupQuadNode<GroupKey_, ResultContainer_, A, B, C, D> createNodeChain(
+            BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractQuadNode<A, B, C, D> parentNode) {
+        return (BavetGroupQuadNode<GroupKey_, ResultContainer_, A, B, C, D>) super.createNodeChain(buildPolicy,
+                constraintWeight,
+                parentNode);
+    }
+
+    @Override
+    protected BavetGroupQuadNode<GroupKey_, ResultContainer_, A, B, C, D> createNode(
+            BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractQuadNode<A, B, C, D> parentNode) {
+        if (parentNode != null) {
+            throw new IllegalStateException("Impossible state: the stream (" + this
+                    + ") cannot have a parentNode (" + parentNode + ").");
+        }
+        return new BavetGroupQuadNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), keyCount, finisher);
+    }
+
+    @Override
+    public String toString() {
+        return "Group() with " + childStreamList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
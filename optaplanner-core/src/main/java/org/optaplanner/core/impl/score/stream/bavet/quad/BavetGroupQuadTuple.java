@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
+
+public final class BavetGroupQuadTuple<GroupKey_, ResultContainer_, A, B, C, D> extends BavetAbstractQuadTuple<A, B, C, D>
+        implements BavetGroupTuple<GroupKey_, ResultContainer_> {
+
+    private final BavetGroupQuadNode<GroupKey_, ResultContainer_, A, B, C, D> node;
+
+    private GroupKey_ groupKey;
+    private int parentCount;
+    private ResultContainer_ resultContainer;
+    private Object result;
+    private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
+
+    public BavetGroupQuadTuple(BavetGroupQuadNode<GroupKey_, ResultContainer_, A, B, C, D> node,
+            GroupKey_ groupKey, ResultContainer_ resultContainer) {
+        this.node = node;
+        this.groupKey = groupKey;
+        parentCount = 0;
+        this.resultContainer = resultContainer;
+        result = null;
+    }
+
+    @Override
+    public int increaseParentCount() {
+        parentCount++;
+        return parentCount;
+    }
+
+    @Override
+    public int decreaseParentCount() {
+        parentCount--;
+        if (parentCount < 0) {
+            throw new IllegalStateException("The parentCount (" + parentCount + ") for groupKey (" + groupKey
+                    + ") must not be negative.");
+        }
+        return parentCount;
+    }
+
+    @Override
+    public void clearResult() {
+        result = null;
+    }
+
+    public void updateResult(Function<ResultContainer_, ?> finisher) {
+        result = (finisher == null) ? null : finisher.apply(resultContainer);
+    }
+
+    @Override
+    public String toString() {
+        return "Group(" + getFactsString() + ")";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetGroupQuadNode<GroupKey_, ResultContainer_, A, B, C, D> getNode() {
+        return node;
+    }
+
+    @Override
+    public List<BavetAbstractTuple> getChildTupleList() {
+        return childTupleList;
+    }
+
+    @Override
+    public A getFactA() {
+        return (A) getGroupFact(0);
+    }
+
+    @Override
+    public B getFactB() {
+        return (B) getGroupFact(1);
+    }
+
+    @Override
+    public C getFactC() {
+        return (C) getGroupFact(2);
+    }
+
+    @Override
+    public D getFactD() {
+        return (D) getGroupFact(3);
+    }
+
+    @Override
+    public GroupKey_ getGroupKey() {
+        return groupKey;
+    }
+
+    @Override
+    public ResultContainer_ getResultContainer() {
+        return resultContainer;
+    }
+
+    @Override
+    public Object getResult() {
+        return result;
+    }
+
+}
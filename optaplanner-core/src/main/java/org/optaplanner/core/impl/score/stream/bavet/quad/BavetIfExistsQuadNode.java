@@ -0,0 +1,231 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.optaplanner.core.api.function.PentaPredicate;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniTuple;
+
+/**
+ * Keeps 1 {@link BavetIfExistsQuadTuple} per left tuple, which counts the right tuples that match it.
+ * A right tuple change only touches the left tuples with the same index properties
+ * and only propagates to the child nodes if a match count crosses zero.
+ *
+ * @param <E> the right fact, which is never propagated
+ */
+public final class BavetIfExistsQuadNode<A, B, C, D, E> extends BavetAbstractQuadNode<A, B, C, D> implements BavetJoinNode {
+
+    private final BavetJoinBridgeQuadNode<A, B, C, D> leftParentNode;
+    private final BavetJoinBridgeUniNode<E> rightParentNode;
+    private final boolean shouldExist;
+    private final PentaPredicate<A, B, C, D, E> filter;
+    /**
+     * The {@link BavetIndex} forgets the index properties of a removed tuple,
+     * but they are needed to find the left tuples that matched it.
+     */
+    private final Map<BavetJoinBridgeUniTuple<E>, Object[]> rightTupleToIndexPropertiesMap = new HashMap<>();
+
+    private final List<BavetAbstractQuadNode<A, B, C, D>> childNodeList = new ArrayList<>();
+
+    public BavetIfExistsQuadNode(BavetConstraintSession session, int nodeIndex,
+            BavetJoinBridgeQuadNode<A, B, C, D> leftParentNode, BavetJoinBridgeUniNode<E> rightParentNode,
+            boolean shouldExist, PentaPredicate<A, B, C, D, E> filter) {
+        super(session, nodeIndex);
+        this.leftParentNode = leftParentNode;
+        this.rightParentNode = rightParentNode;
+        this.shouldExist = shouldExist;
+        this.filter = filter;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractQuadNode<A, B, C, D> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    @Override
+    public List<BavetAbstractQuadNode<A, B, C, D>> getChildNodeList() {
+        return childNodeList;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(leftParentNode.getParentNode()),
+                System.identityHashCode(rightParentNode.getParentNode()), leftParentNode.getIndexFactory(), shouldExist,
+                System.identityHashCode(filter));
+    }
+
+    /**
+     * The join bridges themselves are never shared,
+     * so compare the nodes they bridge from and the joiners that index them.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetIfExistsQuadNode) {
+            BavetIfExistsQuadNode<?, ?, ?, ?, ?> other = (BavetIfExistsQuadNode<?, ?, ?, ?, ?>) o;
+            return leftParentNode.getParentNode() == other.leftParentNode.getParentNode()
+                    && rightParentNode.getParentNode() == other.rightParentNode.getParentNode()
+                    && leftParentNode.getIndexFactory().equals(other.leftParentNode.getIndexFactory())
+                    && shouldExist == other.shouldExist
+                    && filter == other.filter;
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetIfExistsQuadTuple<A, B, C, D, E> createTuple(BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        throw new IllegalStateException("The ifExists node (" + getClass().getSimpleName()
+                + ") can't have a parentTuple (" + parentTuple + ");");
+    }
+
+    public BavetIfExistsQuadTuple<A, B, C, D, E> createTuple(BavetJoinBridgeQuadTuple<A, B, C, D> abcdTuple) {
+        return new BavetIfExistsQuadTuple<>(this, abcdTuple);
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetIfExistsQuadTuple<A, B, C, D, E> tuple = (BavetIfExistsQuadTuple<A, B, C, D, E>) uncastTuple;
+        List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
+        for (BavetAbstractTuple childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (tuple.isActive() && (tuple.getMatchCount() > 0) == shouldExist) {
+            for (BavetAbstractQuadNode<A, B, C, D> childNode : childNodeList) {
+                BavetAbstractQuadTuple<A, B, C, D> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+    }
+
+    public void refreshChildTuplesLeft(BavetJoinBridgeQuadTuple<A, B, C, D> leftParentTuple) {
+        List<BavetAbstractTuple> leftTupleList = leftParentTuple.getChildTupleList();
+        if (!leftParentTuple.isActive()) {
+            for (BavetAbstractTuple tuple : leftTupleList) {
+                session.transitionTuple(tuple, BavetTupleState.DYING);
+            }
+            leftTupleList.clear();
+            return;
+        }
+        if (leftTupleList.isEmpty()) {
+            BavetIfExistsQuadTuple<A, B, C, D, E> tuple = createTuple(leftParentTuple);
+            tuple.setMatchCount(countMatches(leftParentTuple));
+            leftTupleList.add(tuple);
+            session.transitionTuple(tuple, BavetTupleState.CREATING);
+        } else {
+            BavetIfExistsQuadTuple<A, B, C, D, E> tuple = (BavetIfExistsQuadTuple<A, B, C, D, E>) leftTupleList.get(0);
+            tuple.setMatchCount(countMatches(leftParentTuple));
+            // The left facts might have changed, so propagate even if the match count didn't cross zero
+            session.transitionTuple(tuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    public void refreshChildTuplesRight(BavetJoinBridgeUniTuple<E> rightParentTuple) {
+        Object[] oldIndexProperties = rightTupleToIndexPropertiesMap.remove(rightParentTuple);
+        if (oldIndexProperties != null) {
+            for (BavetJoinBridgeQuadTuple<A, B, C, D> leftParentTuple : getLeftIndex().get(oldIndexProperties)) {
+                updateMatchCount(leftParentTuple, -1);
+            }
+        }
+        if (rightParentTuple.isActive()) {
+            Object[] indexProperties = rightParentTuple.getIndexProperties();
+            rightTupleToIndexPropertiesMap.put(rightParentTuple, indexProperties);
+            for (BavetJoinBridgeQuadTuple<A, B, C, D> leftParentTuple : getLeftIndex().get(indexProperties)) {
+                updateMatchCount(leftParentTuple, 1);
+            }
+        }
+    }
+
+    private int countMatches(BavetJoinBridgeQuadTuple<A, B, C, D> leftParentTuple) {
+        if (filter == null) {
+            return getRightIndex().get(leftParentTuple.getIndexProperties()).size();
+        }
+        A a = leftParentTuple.getFactA();
+        B b = leftParentTuple.getFactB();
+        C c = leftParentTuple.getFactC();
+        D d = leftParentTuple.getFactD();
+        int matchCount = 0;
+        for (BavetJoinBridgeUniTuple<E> rightParentTuple : getRightIndex().get(leftParentTuple.getIndexProperties())) {
+            if (filter.test(a, b, c, d, rightParentTuple.getFactA())) {
+                matchCount++;
+            }
+        }
+        return matchCount;
+    }
+
+    private void updateMatchCount(BavetJoinBridgeQuadTuple<A, B, C, D> leftParentTuple, int matchCountDiff) {
+        BavetIfExistsQuadTuple<A, B, C, D, E> tuple =
+                (BavetIfExistsQuadTuple<A, B, C, D, E>) leftParentTuple.getChildTupleList().get(0);
+        int oldMatchCount = tuple.getMatchCount();
+        // The filter can't be applied to the old right fact, so count the matches again
+        int newMatchCount = (filter == null) ? oldMatchCount + matchCountDiff : countMatches(leftParentTuple);
+        tuple.setMatchCount(newMatchCount);
+        if ((oldMatchCount > 0) != (newMatchCount > 0) && !tuple.isDirty()) {
+            session.transitionTuple(tuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    public BavetIndex<BavetJoinBridgeQuadTuple<A, B, C, D>> getLeftIndex() {
+        return leftParentNode.getIndex();
+    }
+
+    public BavetIndex<BavetJoinBridgeUniTuple<E>> getRightIndex() {
+        return rightParentNode.getIndex();
+    }
+
+    @Override
+    public String toString() {
+        return "IfExists(" + shouldExist + ") with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetJoinBridgeQuadNode<A, B, C, D> getLeftParentNode() {
+        return leftParentNode;
+    }
+
+    @Override
+    public BavetJoinBridgeUniNode<E> getRightParentNode() {
+        return rightParentNode;
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinTuple;
+
+public final class BavetIfExistsQuadTuple<A, B, C, D, E> extends BavetAbstractQuadTuple<A, B, C, D>
+        implements BavetJoinTuple {
+
+    private final BavetIfExistsQuadNode<A, B, C, D, E> node;
+    private final BavetJoinBridgeQuadTuple<A, B, C, D> abcdTuple;
+    private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
+
+    private int matchCount;
+
+    public BavetIfExistsQuadTuple(BavetIfExistsQuadNode<A, B, C, D, E> node, BavetJoinBridgeQuadTuple<A, B, C, D> abcdTuple) {
+        this.node = node;
+        this.abcdTuple = abcdTuple;
+        matchCount = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "IfExists(" + getFactsString() + ") with " + matchCount + " matches";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetIfExistsQuadNode<A, B, C, D, E> getNode() {
+        return node;
+    }
+
+    @Override
+    public List<BavetAbstractTuple> getChildTupleList() {
+        return childTupleList;
+    }
+
+    @Override
+    public A getFactA() {
+        return abcdTuple.getFactA();
+    }
+
+    @Override
+    public B getFactB() {
+        return abcdTuple.getFactB();
+    }
+
+    @Override
+    public C getFactC() {
+        return abcdTuple.getFactC();
+    }
+
+    @Override
+    public D getFactD() {
+        return abcdTuple.getFactD();
+    }
+
+    public BavetJoinBridgeQuadTuple<A, B, C, D> getAbcdTuple() {
+        return abcdTuple;
+    }
+
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    public void setMatchCount(int matchCount) {
+        this.matchCount = matchCount;
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.tri.BavetAbstractTriConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.tri.BavetJoinBridgeTriNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetAbstractUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniNode;
+
+public final class BavetJoinQuadConstraintStream<Solution_, A, B, C, D>
+        extends BavetAbstractQuadConstraintStream<Solution_, A, B, C, D>
+        implements BavetJoinConstraintStream<Solution_> {
+
+    private final BavetAbstractTriConstraintStream<Solution_, A, B, C> leftParent;
+    private final BavetAbstractUniConstraintStream<Solution_, D> rightParent;
+
+    public BavetJoinQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractTriConstraintStream<Solution_, A, B, C> leftParent,
+            BavetAbstractUniConstraintStream<Solution_, D> rightParent) {
+        super(constraintFactory, leftParent.getRetrievalSemantics());
+        this.leftParent = leftParent;
+        this.rightParent = rightParent;
+    }
+
+    @Override
+    public boolean guaranteesDistinct() {
+        return leftParent.guaranteesDistinct() && rightParent.guaranteesDistinct();
+    }
+
+    @Override
+    public List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList() {
+        return Stream.concat(leftParent.getFromStreamList().stream(),
+                rightParent.getFromStreamList().stream())
+                .collect(Collectors.toList());
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    public BavetJoinQuadNode<A, B, C, D> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetJoinBridgeNode leftNode_, BavetJoinBridgeNode rightNode_) {
+        BavetJoinBridgeTriNode<A, B, C> leftNode = (BavetJoinBridgeTriNode<A, B, C>) leftNode_;
+        BavetJoinBridgeUniNode<D> rightNode = (BavetJoinBridgeUniNode<D>) rightNode_;
+        BavetJoinQuadNode<A, B, C, D> node = new BavetJoinQuadNode<>(buildPolicy.getSession(),
+                buildPolicy.nextNodeIndex(), leftNode, rightNode);
+        BavetJoinQuadNode<A, B, C, D> sharedNode = (BavetJoinQuadNode<A, B, C, D>) processNode(buildPolicy, null, node);
+        if (sharedNode == node) {
+            leftNode.setChildTupleRefresher(node::refreshChildTuplesLeft);
+            rightNode.setChildTupleRefresher(node::refreshChildTuplesRight);
+        } else { // The shared node already has its own join bridges
+            leftNode.getParentNode().getChildNodeList().remove(leftNode);
+            buildPolicy.discardJoinBridgeNode(leftNode);
+            rightNode.getParentNode().getChildNodeList().remove(rightNode);
+            buildPolicy.discardJoinBridgeNode(rightNode);
+        }
+        createChildNodeChains(buildPolicy, constraintWeight, sharedNode);
+        return sharedNode;
+    }
+
+    @Override
+    protected BavetJoinQuadNode<A, B, C, D> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractQuadNode<A, B, C, D> parentNode) {
+        throw new IllegalStateException("Impossible state: this code is never called.");
+    }
+
+    @Override
+    public String toString() {
+        return "Join() with " + childStreamList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
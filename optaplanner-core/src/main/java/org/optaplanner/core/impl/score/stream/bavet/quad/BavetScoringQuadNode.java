@@ -0,0 +1,105 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.function.Function;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTuplePool;
+
+public final class BavetScoringQuadNode<A, B, C, D> extends BavetAbstractQuadNode<A, B, C, D> implements BavetScoringNode {
+
+    private final BavetConstraint<?> constraint;
+    private final Score<?> constraintWeight;
+    private final Function<BavetScoringQuadTuple<A, B, C, D>, UndoScoreImpacter> scoreImpacter;
+
+    private final BavetTuplePool<BavetScoringQuadTuple<A, B, C, D>> tuplePool = buildTuplePool();
+
+    public BavetScoringQuadNode(BavetConstraintSession session, int nodeIndex, BavetConstraint<?> constraint,
+            Score<?> constraintWeight,
+            Function<BavetScoringQuadTuple<A, B, C, D>, UndoScoreImpacter> scoreImpacter) {
+        super(session, nodeIndex);
+        this.constraint = constraint;
+        this.constraintWeight = constraintWeight;
+        this.scoreImpacter = scoreImpacter;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    // No node sharing
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetScoringQuadTuple<A, B, C, D> createTuple(BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        BavetScoringQuadTuple<A, B, C, D> tuple = (tuplePool == null) ? null : tuplePool.poll();
+        if (tuple != null) {
+            tuple.reuse(parentTuple);
+            return tuple;
+        }
+        return new BavetScoringQuadTuple<>(this, parentTuple);
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetScoringQuadTuple<A, B, C, D> tuple = (BavetScoringQuadTuple<A, B, C, D>) uncastTuple;
+        UndoScoreImpacter oldUndoScoreImpacter = tuple.getUndoScoreImpacter();
+        if (oldUndoScoreImpacter != null) {
+            oldUndoScoreImpacter.run();
+        }
+        if (tuple.isActive()) {
+            UndoScoreImpacter undoScoreImpacter = scoreImpacter.apply(tuple);
+            tuple.setUndoScoreImpacter(undoScoreImpacter);
+        } else {
+            tuple.setUndoScoreImpacter(null);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Scoring(" + constraintWeight + ")";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetConstraint<?> getConstraint() {
+        return constraint;
+    }
+
+    @Override
+    public Score<?> getConstraintWeight() {
+        return constraintWeight;
+    }
+
+    @Override
+    public BavetTuplePool<BavetScoringQuadTuple<A, B, C, D>> getTuplePool() {
+        return tuplePool;
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import static java.util.Arrays.asList;
+
+import java.util.List;
+
+import org.optaplanner.core.impl.score.inliner.ReusableUndoScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+public final class BavetScoringQuadTuple<A, B, C, D> extends BavetAbstractQuadTuple<A, B, C, D> implements BavetScoringTuple {
+
+    private final BavetScoringQuadNode<A, B, C, D> node;
+    private BavetAbstractQuadTuple<A, B, C, D> parentTuple;
+
+    private final ReusableUndoScoreImpacter reusableUndoScoreImpacter = new ReusableUndoScoreImpacter();
+    private UndoScoreImpacter undoScoreImpacter = null;
+
+    public BavetScoringQuadTuple(BavetScoringQuadNode<A, B, C, D> node, BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        this.node = node;
+        this.parentTuple = parentTuple;
+    }
+
+    /**
+     * Reinitializes this dead tuple, as if {@link BavetScoringQuadNode} created it.
+     */
+    public void reuse(BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        this.parentTuple = parentTuple;
+        undoScoreImpacter = null;
+        state = BavetTupleState.NEW;
+    }
+
+    @Override
+    public List<Object> get() {
+        return asList(getFactA(), getFactB(), getFactC(), getFactD());
+    }
+
+    @Override
+    public String toString() {
+        return "Scoring(" + getFactsString() + ")";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetScoringQuadNode<A, B, C, D> getNode() {
+        return node;
+    }
+
+    @Override
+    public List<BavetAbstractTuple> getChildTupleList() {
+        throw new IllegalStateException("Impossible state: scoring can not have child tuples.");
+    }
+
+    @Override
+    public A getFactA() {
+        return parentTuple.getFactA();
+    }
+
+    @Override
+    public B getFactB() {
+        return parentTuple.getFactB();
+    }
+
+    @Override
+    public C getFactC() {
+        return parentTuple.getFactC();
+    }
+
+    @Override
+    public D getFactD() {
+        return parentTuple.getFactD();
+    }
+
+    @Override
+    public ReusableUndoScoreImpacter getReusableUndoScoreImpacter() {
+        return reusableUndoScoreImpacter;
+    }
+
+    @Override
+    public UndoScoreImpacter getUndoScoreImpacter() {
+        return undoScoreImpacter;
+    }
+
+    @Override
+    public void setUndoScoreImpacter(UndoScoreImpacter undoScoreImpacter) {
+        this.undoScoreImpacter = undoScoreImpacter;
+    }
+
+}
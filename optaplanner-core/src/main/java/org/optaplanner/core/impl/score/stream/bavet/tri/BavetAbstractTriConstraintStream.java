@@ -18,15 +18,20 @@ package org.optaplanner.core.impl.score.stream.bavet.tri;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
+import org.optaplanner.core.api.function.QuadPredicate;
 import org.optaplanner.core.api.function.ToIntTriFunction;
 import org.optaplanner.core.api.function.ToLongTriFunction;
 import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.function.TriPredicate;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintCollectors;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
 import org.optaplanner.core.api.score.stream.quad.QuadConstraintStream;
 import org.optaplanner.core.api.score.stream.quad.QuadJoiner;
@@ -35,10 +40,21 @@ import org.optaplanner.core.api.score.stream.tri.TriConstraintStream;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+import org.optaplanner.core.impl.score.stream.bavet.quad.BavetGroupQuadConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.quad.BavetJoinQuadConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetAbstractUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetGroupUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
 import org.optaplanner.core.impl.score.stream.common.RetrievalSemantics;
 import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
+import org.optaplanner.core.impl.score.stream.quad.AbstractQuadJoiner;
+import org.optaplanner.core.impl.score.stream.quad.FilteringQuadJoiner;
+import org.optaplanner.core.impl.score.stream.quad.NoneQuadJoiner;
 import org.optaplanner.core.impl.score.stream.tri.InnerTriConstraintStream;
 
 public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> extends BavetAbstractConstraintStream<Solution_>
@@ -77,7 +93,48 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
 
     @Override
     public <D> QuadConstraintStream<A, B, C, D> join(UniConstraintStream<D> otherStream, QuadJoiner<A, B, C, D> joiner) {
-        throw new UnsupportedOperationException();
+        if (!(otherStream instanceof BavetAbstractUniConstraintStream)) {
+            throw new IllegalStateException("The streams (" + this + ", " + otherStream
+                    + ") are not build from the same " + ConstraintFactory.class.getSimpleName() + ".");
+        }
+        BavetAbstractUniConstraintStream<Solution_, D> other = (BavetAbstractUniConstraintStream<Solution_, D>) otherStream;
+        if (constraintFactory != other.getConstraintFactory()) {
+            throw new IllegalStateException("The streams (" + this + ", " + other
+                    + ") are build from different constraintFactories (" + constraintFactory + ", "
+                    + other.getConstraintFactory()
+                    + ").");
+        }
+        if (!(joiner instanceof AbstractQuadJoiner)) {
+            throw new IllegalArgumentException("The joiner class (" + joiner.getClass() + ") is not supported.");
+        } else if (joiner instanceof FilteringQuadJoiner) {
+            return join(otherStream)
+                    .filter(((FilteringQuadJoiner<A, B, C, D>) joiner).getFilter());
+        }
+        AbstractQuadJoiner<A, B, C, D> castedJoiner = (AbstractQuadJoiner<A, B, C, D>) joiner;
+        for (JoinerType type : castedJoiner.getJoinerTypes()) {
+            switch (type) {
+                case EQUAL:
+                case LESS_THAN:
+                case LESS_THAN_OR_EQUAL:
+                case GREATER_THAN:
+                case GREATER_THAN_OR_EQUAL:
+                    continue;
+                default:
+                    throw new UnsupportedOperationException("Unsupported joiner type (" + type + ").");
+            }
+        }
+        BavetIndexFactory indexFactory = new BavetIndexFactory(castedJoiner);
+        BavetJoinBridgeTriConstraintStream<Solution_, A, B, C> leftBridge = new BavetJoinBridgeTriConstraintStream<>(
+                constraintFactory, this, true, castedJoiner.getLeftCombinedMapping(), indexFactory);
+        addChildStream(leftBridge);
+        BavetJoinBridgeUniConstraintStream<Solution_, D> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, other, false, castedJoiner.getRightCombinedMapping(), indexFactory);
+        other.addChildStream(rightBridge);
+        BavetJoinQuadConstraintStream<Solution_, A, B, C, D> joinStream = new BavetJoinQuadConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge);
+        leftBridge.setJoinStream(joinStream);
+        rightBridge.setJoinStream(joinStream);
+        return joinStream;
     }
 
     @Override
@@ -96,27 +153,89 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
     @SafeVarargs
     @Override
     public final <D> TriConstraintStream<A, B, C> ifExists(Class<D> otherClass, QuadJoiner<A, B, C, D>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(true, getRetrievalSemantics() != RetrievalSemantics.STANDARD, otherClass, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <D> TriConstraintStream<A, B, C> ifExistsIncludingNullVars(Class<D> otherClass,
             QuadJoiner<A, B, C, D>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(true, true, otherClass, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <D> TriConstraintStream<A, B, C> ifNotExists(Class<D> otherClass, QuadJoiner<A, B, C, D>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(false, getRetrievalSemantics() != RetrievalSemantics.STANDARD, otherClass, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <D> TriConstraintStream<A, B, C> ifNotExistsIncludingNullVars(Class<D> otherClass,
             QuadJoiner<A, B, C, D>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(false, true, otherClass, joiners);
+    }
+
+    private <D> TriConstraintStream<A, B, C> ifExistsOrNot(boolean shouldExist, boolean shouldIncludeNullVars,
+            Class<D> otherClass, QuadJoiner<A, B, C, D>[] joiners) {
+        BavetAbstractUniConstraintStream<Solution_, D> other =
+                (BavetAbstractUniConstraintStream<Solution_, D>) (shouldIncludeNullVars
+                        ? constraintFactory.forEachIncludingNullVars(otherClass)
+                        : constraintFactory.forEach(otherClass));
+        int indexOfFirstFilter = -1;
+        // Split the joiners into an indexing joiner and a filter.
+        AbstractQuadJoiner<A, B, C, D> finalJoiner = null;
+        QuadPredicate<A, B, C, D> finalFilter = null;
+        for (int i = 0; i < joiners.length; i++) {
+            if (!(joiners[i] instanceof AbstractQuadJoiner)) {
+                throw new IllegalArgumentException("The joiner class (" + joiners[i].getClass() + ") is not supported.");
+            }
+            AbstractQuadJoiner<A, B, C, D> joiner = (AbstractQuadJoiner<A, B, C, D>) joiners[i];
+            boolean hasAFilter = indexOfFirstFilter >= 0;
+            if (joiner instanceof NoneQuadJoiner && joiners.length > 1) {
+                throw new IllegalStateException("If present, " + NoneQuadJoiner.class + " must be the only joiner, got "
+                        + Arrays.toString(joiners) + " instead.");
+            } else if (!(joiner instanceof FilteringQuadJoiner)) {
+                if (hasAFilter) {
+                    throw new IllegalStateException("Indexing joiner (" + joiner + ") must not follow a filtering joiner ("
+                            + joiners[indexOfFirstFilter] + ").");
+                }
+                finalJoiner = finalJoiner == null ? joiner : AbstractQuadJoiner.merge(finalJoiner, joiner);
+            } else {
+                if (!hasAFilter) {
+                    indexOfFirstFilter = i;
+                }
+                // Merge all filters into one, so each match is only filtered once.
+                finalFilter = finalFilter == null ? joiner.getFilter() : finalFilter.and(joiner.getFilter());
+            }
+        }
+        if (finalJoiner == null) {
+            finalJoiner = new NoneQuadJoiner<>();
+        }
+        for (JoinerType type : finalJoiner.getJoinerTypes()) {
+            switch (type) {
+                case EQUAL:
+                case LESS_THAN:
+                case LESS_THAN_OR_EQUAL:
+                case GREATER_THAN:
+                case GREATER_THAN_OR_EQUAL:
+                    continue;
+                default:
+                    throw new UnsupportedOperationException("Unsupported joiner type (" + type + ").");
+            }
+        }
+        BavetIndexFactory indexFactory = new BavetIndexFactory(finalJoiner);
+        BavetJoinBridgeTriConstraintStream<Solution_, A, B, C> leftBridge = new BavetJoinBridgeTriConstraintStream<>(
+                constraintFactory, this, true, finalJoiner.getLeftCombinedMapping(), indexFactory);
+        addChildStream(leftBridge);
+        BavetJoinBridgeUniConstraintStream<Solution_, D> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, other, false, finalJoiner.getRightCombinedMapping(), indexFactory);
+        other.addChildStream(rightBridge);
+        BavetIfExistsTriConstraintStream<Solution_, A, B, C, D> ifExistsStream = new BavetIfExistsTriConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge, shouldExist, finalFilter);
+        leftBridge.setJoinStream(ifExistsStream);
+        rightBridge.setJoinStream(ifExistsStream);
+        return ifExistsStream;
     }
 
     // ************************************************************************
@@ -126,14 +245,15 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
     @Override
     public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
             TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        return groupByToUni((a, b, c) -> Collections.emptyList(), 0, collector);
     }
 
     @Override
     public <ResultContainerA_, ResultA_, ResultContainerB_, ResultB_> BiConstraintStream<ResultA_, ResultB_> groupBy(
             TriConstraintCollector<A, B, C, ResultContainerA_, ResultA_> collectorA,
             TriConstraintCollector<A, B, C, ResultContainerB_, ResultB_> collectorB) {
-        throw new UnsupportedOperationException();
+        return groupByToBi((a, b, c) -> Collections.emptyList(),
+                0, ConstraintCollectors.compose(collectorA, collectorB, Arrays::asList));
     }
 
     @Override
@@ -142,7 +262,8 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
             groupBy(TriConstraintCollector<A, B, C, ResultContainerA_, ResultA_> collectorA,
                     TriConstraintCollector<A, B, C, ResultContainerB_, ResultB_> collectorB,
                     TriConstraintCollector<A, B, C, ResultContainerC_, ResultC_> collectorC) {
-        throw new UnsupportedOperationException();
+        return groupByToTri((a, b, c) -> Collections.emptyList(),
+                0, ConstraintCollectors.compose(collectorA, collectorB, collectorC, Arrays::asList));
     }
 
     @Override
@@ -152,12 +273,13 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
                     TriConstraintCollector<A, B, C, ResultContainerB_, ResultB_> collectorB,
                     TriConstraintCollector<A, B, C, ResultContainerC_, ResultC_> collectorC,
                     TriConstraintCollector<A, B, C, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        return groupByToQuad((a, b, c) -> Collections.emptyList(),
+                0, ConstraintCollectors.compose(collectorA, collectorB, collectorC, collectorD, Arrays::asList));
     }
 
     @Override
     public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(TriFunction<A, B, C, GroupKey_> groupKeyMapping) {
-        throw new UnsupportedOperationException();
+        return groupByToUni(groupKeyMapping, 1, null);
     }
 
     @Override
@@ -165,7 +287,7 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
             TriConstraintStream<GroupKey_, ResultB_, ResultC_> groupBy(TriFunction<A, B, C, GroupKey_> groupKeyMapping,
                     TriConstraintCollector<A, B, C, ResultContainerB_, ResultB_> collectorB,
                     TriConstraintCollector<A, B, C, ResultContainerC_, ResultC_> collectorC) {
-        throw new UnsupportedOperationException();
+        return groupByToTri(groupKeyMapping, 1, ConstraintCollectors.compose(collectorB, collectorC, Arrays::asList));
     }
 
     @Override
@@ -175,27 +297,30 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
                     TriConstraintCollector<A, B, C, ResultContainerB_, ResultB_> collectorB,
                     TriConstraintCollector<A, B, C, ResultContainerC_, ResultC_> collectorC,
                     TriConstraintCollector<A, B, C, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        return groupByToQuad(groupKeyMapping,
+                1, ConstraintCollectors.compose(collectorB, collectorC, collectorD, Arrays::asList));
     }
 
     @Override
     public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
             TriFunction<A, B, C, GroupKey_> groupKeyMapping,
             TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        return groupByToBi(groupKeyMapping, 1, collector);
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
             TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping) {
-        throw new UnsupportedOperationException();
+        return groupByToBi((a, b, c) -> Arrays.asList(groupKeyAMapping.apply(a, b, c), groupKeyBMapping.apply(a, b, c)),
+                2, null);
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, ResultContainer_, Result_> TriConstraintStream<GroupKeyA_, GroupKeyB_, Result_> groupBy(
             TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping,
             TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        return groupByToTri((a, b, c) -> Arrays.asList(groupKeyAMapping.apply(a, b, c), groupKeyBMapping.apply(a, b, c)),
+                2, collector);
     }
 
     @Override
@@ -204,14 +329,18 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
                     TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping,
                     TriConstraintCollector<A, B, C, ResultContainerC_, ResultC_> collectorC,
                     TriConstraintCollector<A, B, C, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        return groupByToQuad((a, b, c) -> Arrays.asList(groupKeyAMapping.apply(a, b, c), groupKeyBMapping.apply(a, b, c)),
+                2, ConstraintCollectors.compose(collectorC, collectorD, Arrays::asList));
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, GroupKeyC_> TriConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_> groupBy(
             TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping,
             TriFunction<A, B, C, GroupKeyC_> groupKeyCMapping) {
-        throw new UnsupportedOperationException();
+        return groupByToTri(
+                (a, b, c) -> Arrays.asList(groupKeyAMapping.apply(a, b, c), groupKeyBMapping.apply(a, b, c),
+                        groupKeyCMapping.apply(a, b, c)),
+                3, null);
     }
 
     @Override
@@ -220,14 +349,72 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
             groupBy(TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping,
                     TriFunction<A, B, C, GroupKeyC_> groupKeyCMapping,
                     TriConstraintCollector<A, B, C, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        return groupByToQuad(
+                (a, b, c) -> Arrays.asList(groupKeyAMapping.apply(a, b, c), groupKeyBMapping.apply(a, b, c),
+                        groupKeyCMapping.apply(a, b, c)),
+                3, collectorD);
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_> QuadConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_>
             groupBy(TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping,
                     TriFunction<A, B, C, GroupKeyC_> groupKeyCMapping, TriFunction<A, B, C, GroupKeyD_> groupKeyDMapping) {
-        throw new UnsupportedOperationException();
+        return groupByToQuad(
+                (a, b, c) -> Arrays.asList(groupKeyAMapping.apply(a, b, c), groupKeyBMapping.apply(a, b, c),
+                        groupKeyCMapping.apply(a, b, c), groupKeyDMapping.apply(a, b, c)),
+                4, null);
+    }
+
+    private <GroupKey_, ResultContainer_, NewA> UniConstraintStream<NewA> groupByToUni(
+            TriFunction<A, B, C, GroupKey_> groupKeyMapping, int keyCount,
+            TriConstraintCollector<A, B, C, ResultContainer_, ?> collector) {
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeTriConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        BavetGroupUniConstraintStream<Solution_, GroupKey_, ResultContainer_, NewA> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge, keyCount,
+                        (collector == null) ? null : collector.finisher());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    private <GroupKey_, ResultContainer_, NewA, NewB> BiConstraintStream<NewA, NewB> groupByToBi(
+            TriFunction<A, B, C, GroupKey_> groupKeyMapping, int keyCount,
+            TriConstraintCollector<A, B, C, ResultContainer_, ?> collector) {
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeTriConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, NewA, NewB> groupStream =
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge, keyCount,
+                        (collector == null) ? null : collector.finisher());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    private <GroupKey_, ResultContainer_, NewA, NewB, NewC> TriConstraintStream<NewA, NewB, NewC> groupByToTri(
+            TriFunction<A, B, C, GroupKey_> groupKeyMapping, int keyCount,
+            TriConstraintCollector<A, B, C, ResultContainer_, ?> collector) {
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeTriConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        BavetGroupTriConstraintStream<Solution_, GroupKey_, ResultContainer_, NewA, NewB, NewC> groupStream =
+                new BavetGroupTriConstraintStream<>(constraintFactory, bridge, keyCount,
+                        (collector == null) ? null : collector.finisher());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    private <GroupKey_, ResultContainer_, NewA, NewB, NewC, NewD> QuadConstraintStream<NewA, NewB, NewC, NewD> groupByToQuad(
+            TriFunction<A, B, C, GroupKey_> groupKeyMapping, int keyCount,
+            TriConstraintCollector<A, B, C, ResultContainer_, ?> collector) {
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeTriConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        BavetGroupQuadConstraintStream<Solution_, GroupKey_, ResultContainer_, NewA, NewB, NewC, NewD> groupStream =
+                new BavetGroupQuadConstraintStream<>(constraintFactory, bridge, keyCount,
+                        (collector == null) ? null : collector.finisher());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     // ************************************************************************
@@ -342,8 +529,13 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
 
     public BavetAbstractTriNode<A, B, C> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Score<?> constraintWeight, BavetAbstractTriNode<A, B, C> parentNode) {
+        BavetAbstractTriNode<A, B, C> builtNode = buildPolicy.retrieveBuiltNode(this);
+        if (builtNode != null) { // Another constraint shares this stream and already built it
+            return builtNode;
+        }
         BavetAbstractTriNode<A, B, C> node = createNode(buildPolicy, constraintWeight, parentNode);
         node = processNode(buildPolicy, parentNode, node);
+        buildPolicy.registerBuiltNode(this, node);
         createChildNodeChains(buildPolicy, constraintWeight, node);
         return node;
     }
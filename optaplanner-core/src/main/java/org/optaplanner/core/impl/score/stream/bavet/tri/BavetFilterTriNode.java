@@ -23,6 +23,7 @@ import java.util.Objects;
 import org.optaplanner.core.api.function.TriPredicate;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTuplePool;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
 public final class BavetFilterTriNode<A, B, C> extends BavetAbstractTriNode<A, B, C> {
@@ -32,6 +33,8 @@ public final class BavetFilterTriNode<A, B, C> extends BavetAbstractTriNode<A, B
 
     private final List<BavetAbstractTriNode<A, B, C>> childNodeList = new ArrayList<>();
 
+    private final BavetTuplePool<BavetFilterTriTuple<A, B, C>> tuplePool = buildTuplePool();
+
     public BavetFilterTriNode(BavetConstraintSession session, int nodeIndex,
             BavetAbstractTriNode<A, B, C> parentNode, TriPredicate<A, B, C> predicate) {
         super(session, nodeIndex);
@@ -78,6 +81,11 @@ public final class BavetFilterTriNode<A, B, C> extends BavetAbstractTriNode<A, B
     @Override
     public BavetFilterTriTuple<A, B, C> createTuple(BavetAbstractTriTuple<A, B, C> parentTuple) {
         // TODO Use childNodeList.size() to improve the tuple's childTupleList's capacity
+        BavetFilterTriTuple<A, B, C> tuple = (tuplePool == null) ? null : tuplePool.poll();
+        if (tuple != null) {
+            tuple.reuse(parentTuple);
+            return tuple;
+        }
         return new BavetFilterTriTuple<>(this, parentTuple);
     }
 
@@ -112,4 +120,9 @@ public final class BavetFilterTriNode<A, B, C> extends BavetAbstractTriNode<A, B
     // Getters/setters
     // ************************************************************************
 
+    @Override
+    public BavetTuplePool<BavetFilterTriTuple<A, B, C>> getTuplePool() {
+        return tuplePool;
+    }
+
 }
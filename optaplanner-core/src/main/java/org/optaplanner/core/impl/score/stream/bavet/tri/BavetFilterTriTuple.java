@@ -20,11 +20,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
 public final class BavetFilterTriTuple<A, B, C> extends BavetAbstractTriTuple<A, B, C> {
 
     private final BavetFilterTriNode<A, B, C> node;
-    private final BavetAbstractTriTuple<A, B, C> parentTuple;
+    private BavetAbstractTriTuple<A, B, C> parentTuple;
     private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
 
     public BavetFilterTriTuple(BavetFilterTriNode<A, B, C> node, BavetAbstractTriTuple<A, B, C> parentTuple) {
@@ -32,6 +33,14 @@ public final class BavetFilterTriTuple<A, B, C> extends BavetAbstractTriTuple<A,
         this.parentTuple = parentTuple;
     }
 
+    /**
+     * Reinitializes this dead tuple, as if {@link BavetFilterTriNode} created it.
+     */
+    public void reuse(BavetAbstractTriTuple<A, B, C> parentTuple) {
+        this.parentTuple = parentTuple;
+        state = BavetTupleState.NEW;
+    }
+
     @Override
     public String toString() {
         return "Filter(" + getFactsString() + ") with " + childTupleList.size() + " children";
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+public final class BavetGroupTriNode<GroupKey_, ResultContainer_, A, B, C> extends BavetAbstractTriNode<A, B, C>
+        implements BavetGroupNode<GroupKey_, ResultContainer_> {
+
+    private final int keyCount;
+    private final Function<ResultContainer_, ?> finisher;
+
+    private final List<BavetAbstractTriNode<A, B, C>> childNodeList = new ArrayList<>();
+
+    public BavetGroupTriNode(BavetConstraintSession session, int nodeIndex,
+            int keyCount, Function<ResultContainer_, ?> finisher) {
+        super(session, nodeIndex);
+        this.keyCount = keyCount;
+        this.finisher = finisher;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractTriNode<A, B, C> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    @Override
+    public List<BavetAbstractTriNode<A, B, C>> getChildNodeList() {
+        return childNodeList;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    // TODO
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetGroupTriTuple<GroupKey_, ResultContainer_, A, B, C> createTuple(BavetAbstractTriTuple<A, B, C> parentTuple) {
+        throw new IllegalStateException("The Grouped node (" + getClass().getSimpleName()
+                + ") can't have a parentTuple (" + parentTuple + ");");
+    }
+
+    @Override
+    public BavetGroupTriTuple<GroupKey_, ResultContainer_, A, B, C> createTuple(GroupKey_ groupKey,
+            ResultContainer_ resultContainer) {
+        return new BavetGroupTriTuple<>(this, groupKey, resultContainer);
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetGroupTriTuple<GroupKey_, ResultContainer_, A, B, C> tuple =
+                (BavetGroupTriTuple<GroupKey_, ResultContainer_, A, B, C>) uncastTuple;
+        List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
+        for (BavetAbstractTuple childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (tuple.isActive()) {
+            tuple.updateResult(finisher);
+            for (BavetAbstractTriNode<A, B, C> childNode : childNodeList) {
+                BavetAbstractTriTuple<A, B, C> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Group() with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public int getKeyCount() {
+        return keyCount;
+    }
+
+    @Override
+    public int getResultCount() {
+        return 3 - keyCount;
+    }
+
+}
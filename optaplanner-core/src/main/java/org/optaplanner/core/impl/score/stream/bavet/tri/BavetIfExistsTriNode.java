@@ -0,0 +1,230 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.optaplanner.core.api.function.QuadPredicate;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniTuple;
+
+/**
+ * Keeps 1 {@link BavetIfExistsTriTuple} per left tuple, which counts the right tuples that match it.
+ * A right tuple change only touches the left tuples with the same index properties
+ * and only propagates to the child nodes if a match count crosses zero.
+ *
+ * @param <D> the right fact, which is never propagated
+ */
+public final class BavetIfExistsTriNode<A, B, C, D> extends BavetAbstractTriNode<A, B, C> implements BavetJoinNode {
+
+    private final BavetJoinBridgeTriNode<A, B, C> leftParentNode;
+    private final BavetJoinBridgeUniNode<D> rightParentNode;
+    private final boolean shouldExist;
+    private final QuadPredicate<A, B, C, D> filter;
+    /**
+     * The {@link BavetIndex} forgets the index properties of a removed tuple,
+     * but they are needed to find the left tuples that matched it.
+     */
+    private final Map<BavetJoinBridgeUniTuple<D>, Object[]> rightTupleToIndexPropertiesMap = new HashMap<>();
+
+    private final List<BavetAbstractTriNode<A, B, C>> childNodeList = new ArrayList<>();
+
+    public BavetIfExistsTriNode(BavetConstraintSession session, int nodeIndex,
+            BavetJoinBridgeTriNode<A, B, C> leftParentNode, BavetJoinBridgeUniNode<D> rightParentNode,
+            boolean shouldExist, QuadPredicate<A, B, C, D> filter) {
+        super(session, nodeIndex);
+        this.leftParentNode = leftParentNode;
+        this.rightParentNode = rightParentNode;
+        this.shouldExist = shouldExist;
+        this.filter = filter;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractTriNode<A, B, C> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    @Override
+    public List<BavetAbstractTriNode<A, B, C>> getChildNodeList() {
+        return childNodeList;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(leftParentNode.getParentNode()),
+                System.identityHashCode(rightParentNode.getParentNode()), leftParentNode.getIndexFactory(), shouldExist,
+                System.identityHashCode(filter));
+    }
+
+    /**
+     * The join bridges themselves are never shared,
+     * so compare the nodes they bridge from and the joiners that index them.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetIfExistsTriNode) {
+            BavetIfExistsTriNode<?, ?, ?, ?> other = (BavetIfExistsTriNode<?, ?, ?, ?>) o;
+            return leftParentNode.getParentNode() == other.leftParentNode.getParentNode()
+                    && rightParentNode.getParentNode() == other.rightParentNode.getParentNode()
+                    && leftParentNode.getIndexFactory().equals(other.leftParentNode.getIndexFactory())
+                    && shouldExist == other.shouldExist
+                    && filter == other.filter;
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetIfExistsTriTuple<A, B, C, D> createTuple(BavetAbstractTriTuple<A, B, C> parentTuple) {
+        throw new IllegalStateException("The ifExists node (" + getClass().getSimpleName()
+                + ") can't have a parentTuple (" + parentTuple + ");");
+    }
+
+    public BavetIfExistsTriTuple<A, B, C, D> createTuple(BavetJoinBridgeTriTuple<A, B, C> abcTuple) {
+        return new BavetIfExistsTriTuple<>(this, abcTuple);
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetIfExistsTriTuple<A, B, C, D> tuple = (BavetIfExistsTriTuple<A, B, C, D>) uncastTuple;
+        List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
+        for (BavetAbstractTuple childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (tuple.isActive() && (tuple.getMatchCount() > 0) == shouldExist) {
+            for (BavetAbstractTriNode<A, B, C> childNode : childNodeList) {
+                BavetAbstractTriTuple<A, B, C> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+    }
+
+    public void refreshChildTuplesLeft(BavetJoinBridgeTriTuple<A, B, C> leftParentTuple) {
+        List<BavetAbstractTuple> leftTupleList = leftParentTuple.getChildTupleList();
+        if (!leftParentTuple.isActive()) {
+            for (BavetAbstractTuple tuple : leftTupleList) {
+                session.transitionTuple(tuple, BavetTupleState.DYING);
+            }
+            leftTupleList.clear();
+            return;
+        }
+        if (leftTupleList.isEmpty()) {
+            BavetIfExistsTriTuple<A, B, C, D> tuple = createTuple(leftParentTuple);
+            tuple.setMatchCount(countMatches(leftParentTuple));
+            leftTupleList.add(tuple);
+            session.transitionTuple(tuple, BavetTupleState.CREATING);
+        } else {
+            BavetIfExistsTriTuple<A, B, C, D> tuple = (BavetIfExistsTriTuple<A, B, C, D>) leftTupleList.get(0);
+            tuple.setMatchCount(countMatches(leftParentTuple));
+            // The left facts might have changed, so propagate even if the match count didn't cross zero
+            session.transitionTuple(tuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    public void refreshChildTuplesRight(BavetJoinBridgeUniTuple<D> rightParentTuple) {
+        Object[] oldIndexProperties = rightTupleToIndexPropertiesMap.remove(rightParentTuple);
+        if (oldIndexProperties != null) {
+            for (BavetJoinBridgeTriTuple<A, B, C> leftParentTuple : getLeftIndex().get(oldIndexProperties)) {
+                updateMatchCount(leftParentTuple, -1);
+            }
+        }
+        if (rightParentTuple.isActive()) {
+            Object[] indexProperties = rightParentTuple.getIndexProperties();
+            rightTupleToIndexPropertiesMap.put(rightParentTuple, indexProperties);
+            for (BavetJoinBridgeTriTuple<A, B, C> leftParentTuple : getLeftIndex().get(indexProperties)) {
+                updateMatchCount(leftParentTuple, 1);
+            }
+        }
+    }
+
+    private int countMatches(BavetJoinBridgeTriTuple<A, B, C> leftParentTuple) {
+        if (filter == null) {
+            return getRightIndex().get(leftParentTuple.getIndexProperties()).size();
+        }
+        A a = leftParentTuple.getFactA();
+        B b = leftParentTuple.getFactB();
+        C c = leftParentTuple.getFactC();
+        int matchCount = 0;
+        for (BavetJoinBridgeUniTuple<D> rightParentTuple : getRightIndex().get(leftParentTuple.getIndexProperties())) {
+            if (filter.test(a, b, c, rightParentTuple.getFactA())) {
+                matchCount++;
+            }
+        }
+        return matchCount;
+    }
+
+    private void updateMatchCount(BavetJoinBridgeTriTuple<A, B, C> leftParentTuple, int matchCountDiff) {
+        BavetIfExistsTriTuple<A, B, C, D> tuple =
+                (BavetIfExistsTriTuple<A, B, C, D>) leftParentTuple.getChildTupleList().get(0);
+        int oldMatchCount = tuple.getMatchCount();
+        // The filter can't be applied to the old right fact, so count the matches again
+        int newMatchCount = (filter == null) ? oldMatchCount + matchCountDiff : countMatches(leftParentTuple);
+        tuple.setMatchCount(newMatchCount);
+        if ((oldMatchCount > 0) != (newMatchCount > 0) && !tuple.isDirty()) {
+            session.transitionTuple(tuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    public BavetIndex<BavetJoinBridgeTriTuple<A, B, C>> getLeftIndex() {
+        return leftParentNode.getIndex();
+    }
+
+    public BavetIndex<BavetJoinBridgeUniTuple<D>> getRightIndex() {
+        return rightParentNode.getIndex();
+    }
+
+    @Override
+    public String toString() {
+        return "IfExists(" + shouldExist + ") with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetJoinBridgeTriNode<A, B, C> getLeftParentNode() {
+        return leftParentNode;
+    }
+
+    @Override
+    public BavetJoinBridgeUniNode<D> getRightParentNode() {
+        return rightParentNode;
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinTuple;
+
+public final class BavetIfExistsTriTuple<A, B, C, D> extends BavetAbstractTriTuple<A, B, C>
+        implements BavetJoinTuple {
+
+    private final BavetIfExistsTriNode<A, B, C, D> node;
+    private final BavetJoinBridgeTriTuple<A, B, C> abcTuple;
+    private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
+
+    private int matchCount;
+
+    public BavetIfExistsTriTuple(BavetIfExistsTriNode<A, B, C, D> node, BavetJoinBridgeTriTuple<A, B, C> abcTuple) {
+        this.node = node;
+        this.abcTuple = abcTuple;
+        matchCount = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "IfExists(" + getFactsString() + ") with " + matchCount + " matches";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetIfExistsTriNode<A, B, C, D> getNode() {
+        return node;
+    }
+
+    @Override
+    public List<BavetAbstractTuple> getChildTupleList() {
+        return childTupleList;
+    }
+
+    @Override
+    public A getFactA() {
+        return abcTuple.getFactA();
+    }
+
+    @Override
+    public B getFactB() {
+        return abcTuple.getFactB();
+    }
+
+    @Override
+    public C getFactC() {
+        return abcTuple.getFactC();
+    }
+
+    public BavetJoinBridgeTriTuple<A, B, C> getAbcTuple() {
+        return abcTuple;
+    }
+
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    public void setMatchCount(int matchCount) {
+        this.matchCount = matchCount;
+    }
+
+}
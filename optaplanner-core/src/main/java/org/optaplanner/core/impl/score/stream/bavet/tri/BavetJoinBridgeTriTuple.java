@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+public final class BavetJoinBridgeTriTuple<A, B, C> extends BavetAbstractTriTuple<A, B, C>
+        implements BavetJoinBridgeTuple {
+
+    protected BavetAbstractTriTuple<A, B, C> parentTuple;
+    private final BavetJoinBridgeTriNode<A, B, C> node;
+    private final List<BavetAbstractTuple> childTupleList = new ArrayList<>();
+
+    private Object[] indexProperties;
+
+    public BavetJoinBridgeTriTuple(BavetJoinBridgeTriNode<A, B, C> node,
+            BavetAbstractTriTuple<A, B, C> parentTuple) {
+        this.parentTuple = parentTuple;
+        this.node = node;
+    }
+
+    /**
+     * Reinitializes this dead tuple, as if {@link BavetJoinBridgeTriNode} created it.
+     */
+    public void reuse(BavetAbstractTriTuple<A, B, C> parentTuple) {
+        this.parentTuple = parentTuple;
+        indexProperties = null;
+        state = BavetTupleState.NEW;
+    }
+
+    @Override
+    public String toString() {
+        return "JoinBridge(" + getFactsString() + ") with " + childTupleList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetJoinBridgeTriNode<A, B, C> getNode() {
+        return node;
+    }
+
+    @Override
+    public List<BavetAbstractTuple> getChildTupleList() {
+        return childTupleList;
+    }
+
+    @Override
+    public A getFactA() {
+        return parentTuple.getFactA();
+    }
+
+    @Override
+    public B getFactB() {
+        return parentTuple.getFactB();
+    }
+
+    @Override
+    public C getFactC() {
+        return parentTuple.getFactC();
+    }
+
+    @Override
+    public Object[] getIndexProperties() {
+        return indexProperties;
+    }
+
+    @Override
+    public void setIndexProperties(Object[] indexProperties) {
+        this.indexProperties = indexProperties;
+    }
+
+}
@@ -68,11 +68,18 @@ public final class BavetJoinTriConstraintStream<Solution_, A, B, C> extends Bave
         BavetJoinBridgeUniNode<C> rightNode = (BavetJoinBridgeUniNode<C>) rightNode_;
         BavetJoinTriNode<A, B, C> node = new BavetJoinTriNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(),
                 leftNode, rightNode);
-        leftNode.setChildTupleRefresher(node::refreshChildTuplesLeft); // TODO don't register if shared
-        rightNode.setChildTupleRefresher(node::refreshChildTuplesRight);
-        node = (BavetJoinTriNode<A, B, C>) processNode(buildPolicy, null, node); // TODO Sharing never happens
-        createChildNodeChains(buildPolicy, constraintWeight, node);
-        return node;
+        BavetJoinTriNode<A, B, C> sharedNode = (BavetJoinTriNode<A, B, C>) processNode(buildPolicy, null, node);
+        if (sharedNode == node) {
+            leftNode.setChildTupleRefresher(node::refreshChildTuplesLeft);
+            rightNode.setChildTupleRefresher(node::refreshChildTuplesRight);
+        } else { // The shared node already has its own join bridges
+            leftNode.getParentNode().getChildNodeList().remove(leftNode);
+            buildPolicy.discardJoinBridgeNode(leftNode);
+            rightNode.getParentNode().getChildNodeList().remove(rightNode);
+            buildPolicy.discardJoinBridgeNode(rightNode);
+        }
+        createChildNodeChains(buildPolicy, constraintWeight, sharedNode);
+        return sharedNode;
     }
 
     @Override
@@ -18,6 +18,7 @@ package org.optaplanner.core.impl.score.stream.bavet.tri;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
@@ -25,6 +26,7 @@ import org.optaplanner.core.impl.score.stream.bavet.bi.BavetJoinBridgeBiNode;
 import org.optaplanner.core.impl.score.stream.bavet.bi.BavetJoinBridgeBiTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTuplePool;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniNode;
@@ -37,6 +39,8 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
 
     private final List<BavetAbstractTriNode<A, B, C>> childNodeList = new ArrayList<>();
 
+    private final BavetTuplePool<BavetJoinTriTuple<A, B, C>> tuplePool = buildTuplePool();
+
     public BavetJoinTriNode(BavetConstraintSession session, int nodeIndex,
             BavetJoinBridgeBiNode<A, B> leftParentNode, BavetJoinBridgeUniNode<C> rightParentNode) {
         super(session, nodeIndex);
@@ -58,7 +62,29 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
     // Equality for node sharing
     // ************************************************************************
 
-    // TODO
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(leftParentNode.getParentNode()),
+                System.identityHashCode(rightParentNode.getParentNode()), leftParentNode.getIndexFactory());
+    }
+
+    /**
+     * The join bridges themselves are never shared,
+     * so compare the nodes they bridge from and the joiners that index them.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinTriNode) {
+            BavetJoinTriNode<?, ?, ?> other = (BavetJoinTriNode<?, ?, ?>) o;
+            return leftParentNode.getParentNode() == other.leftParentNode.getParentNode()
+                    && rightParentNode.getParentNode() == other.rightParentNode.getParentNode()
+                    && leftParentNode.getIndexFactory().equals(other.leftParentNode.getIndexFactory());
+        } else {
+            return false;
+        }
+    }
 
     // ************************************************************************
     // Runtime
@@ -72,6 +98,11 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
 
     public BavetJoinTriTuple<A, B, C> createTuple(
             BavetJoinBridgeBiTuple<A, B> abTuple, BavetJoinBridgeUniTuple<C> cTuple) {
+        BavetJoinTriTuple<A, B, C> tuple = (tuplePool == null) ? null : tuplePool.poll();
+        if (tuple != null) {
+            tuple.reuse(abTuple, cTuple);
+            return tuple;
+        }
         return new BavetJoinTriTuple<>(this, abTuple, cTuple);
     }
 
@@ -161,4 +192,19 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
     // Getters/setters
     // ************************************************************************
 
+    @Override
+    public BavetJoinBridgeBiNode<A, B> getLeftParentNode() {
+        return leftParentNode;
+    }
+
+    @Override
+    public BavetJoinBridgeUniNode<C> getRightParentNode() {
+        return rightParentNode;
+    }
+
+    @Override
+    public BavetTuplePool<BavetJoinTriTuple<A, B, C>> getTuplePool() {
+        return tuplePool;
+    }
+
 }
@@ -22,14 +22,15 @@ import java.util.List;
 import org.optaplanner.core.impl.score.stream.bavet.bi.BavetJoinBridgeBiTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniTuple;
 
 public final class BavetJoinTriTuple<A, B, C> extends BavetAbstractTriTuple<A, B, C>
         implements BavetJoinTuple {
 
     private final BavetJoinTriNode<A, B, C> node;
-    private final BavetJoinBridgeBiTuple<A, B> abTuple;
-    private final BavetJoinBridgeUniTuple<C> cTuple;
+    private BavetJoinBridgeBiTuple<A, B> abTuple;
+    private BavetJoinBridgeUniTuple<C> cTuple;
     private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
 
     public BavetJoinTriTuple(BavetJoinTriNode<A, B, C> node,
@@ -39,6 +40,15 @@ public final class BavetJoinTriTuple<A, B, C> extends BavetAbstractTriTuple<A, B
         this.cTuple = cTuple;
     }
 
+    /**
+     * Reinitializes this dead tuple, as if {@link BavetJoinTriNode} created it.
+     */
+    public void reuse(BavetJoinBridgeBiTuple<A, B> abTuple, BavetJoinBridgeUniTuple<C> cTuple) {
+        this.abTuple = abTuple;
+        this.cTuple = cTuple;
+        state = BavetTupleState.NEW;
+    }
+
     @Override
     public String toString() {
         return "Join(" + getFactsString() + ")";
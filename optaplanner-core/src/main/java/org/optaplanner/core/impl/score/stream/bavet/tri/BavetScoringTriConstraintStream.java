@@ -16,10 +16,9 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.tri;
 
-import static java.util.Arrays.asList;
-
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Function;
 
 import org.optaplanner.core.api.function.ToIntTriFunction;
 import org.optaplanner.core.api.function.ToLongTriFunction;
@@ -109,31 +108,32 @@ public final class BavetScoringTriConstraintStream<Solution_, A, B, C>
             Score<?> constraintWeight, BavetAbstractTriNode<A, B, C> parentNode) {
         ScoreInliner<?> scoreInliner = buildPolicy.getSession().getScoreInliner();
         WeightedScoreImpacter weightedScoreImpacter = scoreInliner.buildWeightedScoreImpacter(constraint);
-        TriFunction<A, B, C, UndoScoreImpacter> scoreImpacter;
+        Function<BavetScoringTriTuple<A, B, C>, UndoScoreImpacter> scoreImpacter;
         if (intMatchWeigher != null) {
-            scoreImpacter = (a, b, c) -> {
-                int matchWeight = intMatchWeigher.applyAsInt(a, b, c);
+            scoreImpacter = tuple -> {
+                int matchWeight = intMatchWeigher.applyAsInt(tuple.getFactA(), tuple.getFactB(), tuple.getFactC());
                 constraint.assertCorrectImpact(matchWeight);
-                return weightedScoreImpacter.impactScore(matchWeight, () -> asList(a, b, c));
+                return weightedScoreImpacter.impactScore(matchWeight, tuple, tuple.getReusableUndoScoreImpacter());
             };
         } else if (longMatchWeigher != null) {
-            scoreImpacter = (a, b, c) -> {
-                long matchWeight = longMatchWeigher.applyAsLong(a, b, c);
+            scoreImpacter = tuple -> {
+                long matchWeight = longMatchWeigher.applyAsLong(tuple.getFactA(), tuple.getFactB(), tuple.getFactC());
                 constraint.assertCorrectImpact(matchWeight);
-                return weightedScoreImpacter.impactScore(matchWeight, () -> asList(a, b, c));
+                return weightedScoreImpacter.impactScore(matchWeight, tuple, tuple.getReusableUndoScoreImpacter());
             };
         } else if (bigDecimalMatchWeigher != null) {
-            scoreImpacter = (a, b, c) -> {
-                BigDecimal matchWeight = bigDecimalMatchWeigher.apply(a, b, c);
+            scoreImpacter = tuple -> {
+                BigDecimal matchWeight = bigDecimalMatchWeigher.apply(tuple.getFactA(), tuple.getFactB(), tuple.getFactC());
                 constraint.assertCorrectImpact(matchWeight);
-                return weightedScoreImpacter.impactScore(matchWeight, () -> asList(a, b, c));
+                return weightedScoreImpacter.impactScore(matchWeight, tuple, tuple.getReusableUndoScoreImpacter());
             };
         } else if (noMatchWeigher) {
-            scoreImpacter = (a, b, c) -> weightedScoreImpacter.impactScore(1, () -> asList(a, b, c));
+            scoreImpacter = tuple -> weightedScoreImpacter.impactScore(1, tuple, tuple.getReusableUndoScoreImpacter());
         } else {
             throw new IllegalStateException("Impossible state: neither of the supported match weighers provided.");
         }
-        return new BavetScoringTriNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), constraintWeight,
+        return new BavetScoringTriNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), constraint,
+                buildPolicy.getConstraintWeight(constraint),
                 scoreImpacter);
     }
 
@@ -16,21 +16,29 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.tri;
 
-import org.optaplanner.core.api.function.TriFunction;
+import java.util.function.Function;
+
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTuplePool;
 
 public final class BavetScoringTriNode<A, B, C> extends BavetAbstractTriNode<A, B, C> implements BavetScoringNode {
 
+    private final BavetConstraint<?> constraint;
     private final Score<?> constraintWeight;
-    private final TriFunction<A, B, C, UndoScoreImpacter> scoreImpacter;
+    private final Function<BavetScoringTriTuple<A, B, C>, UndoScoreImpacter> scoreImpacter;
+
+    private final BavetTuplePool<BavetScoringTriTuple<A, B, C>> tuplePool = buildTuplePool();
 
-    public BavetScoringTriNode(BavetConstraintSession session, int nodeIndex, Score<?> constraintWeight,
-            TriFunction<A, B, C, UndoScoreImpacter> scoreImpacter) {
+    public BavetScoringTriNode(BavetConstraintSession session, int nodeIndex, BavetConstraint<?> constraint,
+            Score<?> constraintWeight,
+            Function<BavetScoringTriTuple<A, B, C>, UndoScoreImpacter> scoreImpacter) {
         super(session, nodeIndex);
+        this.constraint = constraint;
         this.constraintWeight = constraintWeight;
         this.scoreImpacter = scoreImpacter;
     }
@@ -47,21 +55,23 @@ public final class BavetScoringTriNode<A, B, C> extends BavetAbstractTriNode<A,
 
     @Override
     public BavetScoringTriTuple<A, B, C> createTuple(BavetAbstractTriTuple<A, B, C> parentTuple) {
+        BavetScoringTriTuple<A, B, C> tuple = (tuplePool == null) ? null : tuplePool.poll();
+        if (tuple != null) {
+            tuple.reuse(parentTuple);
+            return tuple;
+        }
         return new BavetScoringTriTuple<>(this, parentTuple);
     }
 
     @Override
     public void refresh(BavetAbstractTuple uncastTuple) {
         BavetScoringTriTuple<A, B, C> tuple = (BavetScoringTriTuple<A, B, C>) uncastTuple;
-        A a = tuple.getFactA();
-        B b = tuple.getFactB();
-        C c = tuple.getFactC();
         UndoScoreImpacter oldUndoScoreImpacter = tuple.getUndoScoreImpacter();
         if (oldUndoScoreImpacter != null) {
             oldUndoScoreImpacter.run();
         }
         if (tuple.isActive()) {
-            UndoScoreImpacter undoScoreImpacter = scoreImpacter.apply(a, b, c);
+            UndoScoreImpacter undoScoreImpacter = scoreImpacter.apply(tuple);
             tuple.setUndoScoreImpacter(undoScoreImpacter);
         } else {
             tuple.setUndoScoreImpacter(null);
@@ -73,4 +83,23 @@ public final class BavetScoringTriNode<A, B, C> extends BavetAbstractTriNode<A,
         return "Scoring(" + constraintWeight + ")";
     }
 
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetConstraint<?> getConstraint() {
+        return constraint;
+    }
+
+    @Override
+    public Score<?> getConstraintWeight() {
+        return constraintWeight;
+    }
+
+    @Override
+    public BavetTuplePool<BavetScoringTriTuple<A, B, C>> getTuplePool() {
+        return tuplePool;
+    }
+
 }
@@ -16,17 +16,22 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.tri;
 
+import static java.util.Arrays.asList;
+
 import java.util.List;
 
+import org.optaplanner.core.impl.score.inliner.ReusableUndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
 public final class BavetScoringTriTuple<A, B, C> extends BavetAbstractTriTuple<A, B, C> implements BavetScoringTuple {
 
     private final BavetScoringTriNode<A, B, C> node;
-    private final BavetAbstractTriTuple<A, B, C> parentTuple;
+    private BavetAbstractTriTuple<A, B, C> parentTuple;
 
+    private final ReusableUndoScoreImpacter reusableUndoScoreImpacter = new ReusableUndoScoreImpacter();
     private UndoScoreImpacter undoScoreImpacter = null;
 
     public BavetScoringTriTuple(BavetScoringTriNode<A, B, C> node, BavetAbstractTriTuple<A, B, C> parentTuple) {
@@ -34,6 +39,20 @@ public final class BavetScoringTriTuple<A, B, C> extends BavetAbstractTriTuple<A
         this.parentTuple = parentTuple;
     }
 
+    /**
+     * Reinitializes this dead tuple, as if {@link BavetScoringTriNode} created it.
+     */
+    public void reuse(BavetAbstractTriTuple<A, B, C> parentTuple) {
+        this.parentTuple = parentTuple;
+        undoScoreImpacter = null;
+        state = BavetTupleState.NEW;
+    }
+
+    @Override
+    public List<Object> get() {
+        return asList(getFactA(), getFactB(), getFactC());
+    }
+
     @Override
     public String toString() {
         return "Scoring(" + getFactsString() + ")";
@@ -68,6 +87,11 @@ public final class BavetScoringTriTuple<A, B, C> extends BavetAbstractTriTuple<A
         return parentTuple.getFactC();
     }
 
+    @Override
+    public ReusableUndoScoreImpacter getReusableUndoScoreImpacter() {
+        return reusableUndoScoreImpacter;
+    }
+
     @Override
     public UndoScoreImpacter getUndoScoreImpacter() {
         return undoScoreImpacter;
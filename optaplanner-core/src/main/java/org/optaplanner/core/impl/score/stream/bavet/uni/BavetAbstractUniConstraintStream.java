@@ -18,7 +18,10 @@ package org.optaplanner.core.impl.score.stream.bavet.uni;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.ToIntFunction;
@@ -26,6 +29,7 @@ import java.util.function.ToLongFunction;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintCollectors;
 import org.optaplanner.core.api.score.stream.ConstraintFactory;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
 import org.optaplanner.core.api.score.stream.bi.BiJoiner;
@@ -40,8 +44,11 @@ import org.optaplanner.core.impl.score.stream.bavet.bi.BavetJoinBiConstraintStre
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+import org.optaplanner.core.impl.score.stream.bavet.quad.BavetGroupQuadConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.tri.BavetGroupTriConstraintStream;
 import org.optaplanner.core.impl.score.stream.bi.AbstractBiJoiner;
 import org.optaplanner.core.impl.score.stream.bi.FilteringBiJoiner;
+import org.optaplanner.core.impl.score.stream.bi.NoneBiJoiner;
 import org.optaplanner.core.impl.score.stream.common.JoinerType;
 import org.optaplanner.core.impl.score.stream.common.RetrievalSemantics;
 import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
@@ -143,25 +150,87 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
     @SafeVarargs
     @Override
     public final <B> UniConstraintStream<A> ifExists(Class<B> otherClass, BiJoiner<A, B>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(true, getRetrievalSemantics() != RetrievalSemantics.STANDARD, otherClass, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <B> UniConstraintStream<A> ifExistsIncludingNullVars(Class<B> otherClass, BiJoiner<A, B>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(true, true, otherClass, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <B> UniConstraintStream<A> ifNotExists(Class<B> otherClass, BiJoiner<A, B>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(false, getRetrievalSemantics() != RetrievalSemantics.STANDARD, otherClass, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <B> UniConstraintStream<A> ifNotExistsIncludingNullVars(Class<B> otherClass, BiJoiner<A, B>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(false, true, otherClass, joiners);
+    }
+
+    private <B> UniConstraintStream<A> ifExistsOrNot(boolean shouldExist, boolean shouldIncludeNullVars,
+            Class<B> otherClass, BiJoiner<A, B>[] joiners) {
+        BavetAbstractUniConstraintStream<Solution_, B> other =
+                (BavetAbstractUniConstraintStream<Solution_, B>) (shouldIncludeNullVars
+                        ? constraintFactory.forEachIncludingNullVars(otherClass)
+                        : constraintFactory.forEach(otherClass));
+        int indexOfFirstFilter = -1;
+        // Split the joiners into an indexing joiner and a filter.
+        AbstractBiJoiner<A, B> finalJoiner = null;
+        BiPredicate<A, B> finalFilter = null;
+        for (int i = 0; i < joiners.length; i++) {
+            if (!(joiners[i] instanceof AbstractBiJoiner)) {
+                throw new IllegalArgumentException("The joiner class (" + joiners[i].getClass() + ") is not supported.");
+            }
+            AbstractBiJoiner<A, B> biJoiner = (AbstractBiJoiner<A, B>) joiners[i];
+            boolean hasAFilter = indexOfFirstFilter >= 0;
+            if (biJoiner instanceof NoneBiJoiner && joiners.length > 1) {
+                throw new IllegalStateException("If present, " + NoneBiJoiner.class + " must be the only joiner, got "
+                        + Arrays.toString(joiners) + " instead.");
+            } else if (!(biJoiner instanceof FilteringBiJoiner)) {
+                if (hasAFilter) {
+                    throw new IllegalStateException("Indexing joiner (" + biJoiner + ") must not follow a filtering joiner ("
+                            + joiners[indexOfFirstFilter] + ").");
+                }
+                finalJoiner = finalJoiner == null ? biJoiner : AbstractBiJoiner.merge(finalJoiner, biJoiner);
+            } else {
+                if (!hasAFilter) {
+                    indexOfFirstFilter = i;
+                }
+                // Merge all filters into one, so each match is only filtered once.
+                finalFilter = finalFilter == null ? biJoiner.getFilter() : finalFilter.and(biJoiner.getFilter());
+            }
+        }
+        if (finalJoiner == null) {
+            finalJoiner = new NoneBiJoiner<>();
+        }
+        for (JoinerType type : finalJoiner.getJoinerTypes()) {
+            switch (type) {
+                case EQUAL:
+                case LESS_THAN:
+                case LESS_THAN_OR_EQUAL:
+                case GREATER_THAN:
+                case GREATER_THAN_OR_EQUAL:
+                    continue;
+                default:
+                    throw new UnsupportedOperationException("Unsupported joiner type (" + type + ").");
+            }
+        }
+        BavetIndexFactory indexFactory = new BavetIndexFactory(finalJoiner);
+        BavetJoinBridgeUniConstraintStream<Solution_, A> leftBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, this, true, finalJoiner.getLeftCombinedMapping(), indexFactory);
+        childStreamList.add(leftBridge);
+        BavetJoinBridgeUniConstraintStream<Solution_, B> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, other, false, finalJoiner.getRightCombinedMapping(), indexFactory);
+        other.childStreamList.add(rightBridge);
+        BavetIfExistsUniConstraintStream<Solution_, A, B> ifExistsStream = new BavetIfExistsUniConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge, shouldExist, finalFilter);
+        leftBridge.setJoinStream(ifExistsStream);
+        rightBridge.setJoinStream(ifExistsStream);
+        return ifExistsStream;
     }
 
     // ************************************************************************
@@ -171,14 +240,15 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
     @Override
     public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
             UniConstraintCollector<A, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        return groupByToUni(a -> Collections.emptyList(), 0, collector);
     }
 
     @Override
     public <ResultContainerA_, ResultA_, ResultContainerB_, ResultB_> BiConstraintStream<ResultA_, ResultB_> groupBy(
             UniConstraintCollector<A, ResultContainerA_, ResultA_> collectorA,
             UniConstraintCollector<A, ResultContainerB_, ResultB_> collectorB) {
-        throw new UnsupportedOperationException();
+        return groupByToBi(a -> Collections.emptyList(),
+                0, ConstraintCollectors.compose(collectorA, collectorB, Arrays::asList));
     }
 
     @Override
@@ -187,7 +257,8 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
             groupBy(UniConstraintCollector<A, ResultContainerA_, ResultA_> collectorA,
                     UniConstraintCollector<A, ResultContainerB_, ResultB_> collectorB,
                     UniConstraintCollector<A, ResultContainerC_, ResultC_> collectorC) {
-        throw new UnsupportedOperationException();
+        return groupByToTri(a -> Collections.emptyList(),
+                0, ConstraintCollectors.compose(collectorA, collectorB, collectorC, Arrays::asList));
     }
 
     @Override
@@ -197,12 +268,13 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
                     UniConstraintCollector<A, ResultContainerB_, ResultB_> collectorB,
                     UniConstraintCollector<A, ResultContainerC_, ResultC_> collectorC,
                     UniConstraintCollector<A, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        return groupByToQuad(a -> Collections.emptyList(),
+                0, ConstraintCollectors.compose(collectorA, collectorB, collectorC, collectorD, Arrays::asList));
     }
 
     @Override
     public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(Function<A, GroupKey_> groupKeyMapping) {
-        throw new UnsupportedOperationException();
+        return groupByToUni(groupKeyMapping, 1, null);
     }
 
     @Override
@@ -210,7 +282,7 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
             TriConstraintStream<GroupKey_, ResultB_, ResultC_> groupBy(Function<A, GroupKey_> groupKeyMapping,
                     UniConstraintCollector<A, ResultContainerB_, ResultB_> collectorB,
                     UniConstraintCollector<A, ResultContainerC_, ResultC_> collectorC) {
-        throw new UnsupportedOperationException();
+        return groupByToTri(groupKeyMapping, 1, ConstraintCollectors.compose(collectorB, collectorC, Arrays::asList));
     }
 
     @Override
@@ -219,33 +291,28 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
             groupBy(Function<A, GroupKey_> groupKeyMapping, UniConstraintCollector<A, ResultContainerB_, ResultB_> collectorB,
                     UniConstraintCollector<A, ResultContainerC_, ResultC_> collectorC,
                     UniConstraintCollector<A, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        return groupByToQuad(groupKeyMapping,
+                1, ConstraintCollectors.compose(collectorB, collectorC, collectorD, Arrays::asList));
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
             Function<A, GroupKeyA_> groupKeyAMapping, Function<A, GroupKeyB_> groupKeyBMapping) {
-        throw new UnsupportedOperationException();
+        return groupByToBi(a -> Arrays.asList(groupKeyAMapping.apply(a), groupKeyBMapping.apply(a)), 2, null);
     }
 
     @Override
     public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
             Function<A, GroupKey_> groupKeyMapping,
             UniConstraintCollector<A, ResultContainer_, Result_> collector) {
-        BavetGroupBridgeUniConstraintStream<Solution_, A, GroupKey_, ResultContainer_, Result_> bridge =
-                new BavetGroupBridgeUniConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
-        childStreamList.add(bridge);
-        BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, Result_> groupStream =
-                new BavetGroupBiConstraintStream<>(constraintFactory, bridge, collector.finisher());
-        bridge.setGroupStream(groupStream);
-        return groupStream;
+        return groupByToBi(groupKeyMapping, 1, collector);
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, ResultContainer_, Result_> TriConstraintStream<GroupKeyA_, GroupKeyB_, Result_> groupBy(
             Function<A, GroupKeyA_> groupKeyAMapping, Function<A, GroupKeyB_> groupKeyBMapping,
             UniConstraintCollector<A, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        return groupByToTri(a -> Arrays.asList(groupKeyAMapping.apply(a), groupKeyBMapping.apply(a)), 2, collector);
     }
 
     @Override
@@ -254,14 +321,16 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
                     Function<A, GroupKeyA_> groupKeyAMapping, Function<A, GroupKeyB_> groupKeyBMapping,
                     UniConstraintCollector<A, ResultContainerC_, ResultC_> collectorC,
                     UniConstraintCollector<A, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        return groupByToQuad(a -> Arrays.asList(groupKeyAMapping.apply(a), groupKeyBMapping.apply(a)),
+                2, ConstraintCollectors.compose(collectorC, collectorD, Arrays::asList));
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, GroupKeyC_> TriConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_> groupBy(
             Function<A, GroupKeyA_> groupKeyAMapping, Function<A, GroupKeyB_> groupKeyBMapping,
             Function<A, GroupKeyC_> groupKeyCMapping) {
-        throw new UnsupportedOperationException();
+        return groupByToTri(a -> Arrays.asList(groupKeyAMapping.apply(a), groupKeyBMapping.apply(a), groupKeyCMapping.apply(a)),
+                3, null);
     }
 
     @Override
@@ -269,14 +338,71 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
             QuadConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_, ResultD_> groupBy(Function<A, GroupKeyA_> groupKeyAMapping,
                     Function<A, GroupKeyB_> groupKeyBMapping, Function<A, GroupKeyC_> groupKeyCMapping,
                     UniConstraintCollector<A, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        return groupByToQuad(
+                a -> Arrays.asList(groupKeyAMapping.apply(a), groupKeyBMapping.apply(a), groupKeyCMapping.apply(a)),
+                3, collectorD);
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_> QuadConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_>
             groupBy(Function<A, GroupKeyA_> groupKeyAMapping, Function<A, GroupKeyB_> groupKeyBMapping,
                     Function<A, GroupKeyC_> groupKeyCMapping, Function<A, GroupKeyD_> groupKeyDMapping) {
-        throw new UnsupportedOperationException();
+        return groupByToQuad(
+                a -> Arrays.asList(groupKeyAMapping.apply(a), groupKeyBMapping.apply(a), groupKeyCMapping.apply(a),
+                        groupKeyDMapping.apply(a)),
+                4, null);
+    }
+
+    private <GroupKey_, ResultContainer_, NewA> UniConstraintStream<NewA> groupByToUni(
+            Function<A, GroupKey_> groupKeyMapping, int keyCount,
+            UniConstraintCollector<A, ResultContainer_, ?> collector) {
+        BavetGroupBridgeUniConstraintStream<Solution_, A, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeUniConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        BavetGroupUniConstraintStream<Solution_, GroupKey_, ResultContainer_, NewA> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge, keyCount,
+                        (collector == null) ? null : collector.finisher());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    private <GroupKey_, ResultContainer_, NewA, NewB> BiConstraintStream<NewA, NewB> groupByToBi(
+            Function<A, GroupKey_> groupKeyMapping, int keyCount,
+            UniConstraintCollector<A, ResultContainer_, ?> collector) {
+        BavetGroupBridgeUniConstraintStream<Solution_, A, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeUniConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, NewA, NewB> groupStream =
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge, keyCount,
+                        (collector == null) ? null : collector.finisher());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    private <GroupKey_, ResultContainer_, NewA, NewB, NewC> TriConstraintStream<NewA, NewB, NewC> groupByToTri(
+            Function<A, GroupKey_> groupKeyMapping, int keyCount,
+            UniConstraintCollector<A, ResultContainer_, ?> collector) {
+        BavetGroupBridgeUniConstraintStream<Solution_, A, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeUniConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        BavetGroupTriConstraintStream<Solution_, GroupKey_, ResultContainer_, NewA, NewB, NewC> groupStream =
+                new BavetGroupTriConstraintStream<>(constraintFactory, bridge, keyCount,
+                        (collector == null) ? null : collector.finisher());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    private <GroupKey_, ResultContainer_, NewA, NewB, NewC, NewD> QuadConstraintStream<NewA, NewB, NewC, NewD> groupByToQuad(
+            Function<A, GroupKey_> groupKeyMapping, int keyCount,
+            UniConstraintCollector<A, ResultContainer_, ?> collector) {
+        BavetGroupBridgeUniConstraintStream<Solution_, A, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeUniConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        BavetGroupQuadConstraintStream<Solution_, GroupKey_, ResultContainer_, NewA, NewB, NewC, NewD> groupStream =
+                new BavetGroupQuadConstraintStream<>(constraintFactory, bridge, keyCount,
+                        (collector == null) ? null : collector.finisher());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     // ************************************************************************
@@ -285,12 +411,28 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
 
     @Override
     public <ResultA_> UniConstraintStream<ResultA_> map(Function<A, ResultA_> mapping) {
-        throw new UnsupportedOperationException();
+        BavetMapUniConstraintStream<Solution_, A, ResultA_> stream = new BavetMapUniConstraintStream<>(constraintFactory,
+                this, mapping);
+        addMappingChildStream(stream);
+        return stream;
     }
 
     @Override
     public <ResultA_> UniConstraintStream<ResultA_> flattenLast(Function<A, Iterable<ResultA_>> mapping) {
-        throw new UnsupportedOperationException();
+        BavetFlattenLastUniConstraintStream<Solution_, A, ResultA_> stream =
+                new BavetFlattenLastUniConstraintStream<>(constraintFactory, this, mapping);
+        addMappingChildStream(stream);
+        return stream;
+    }
+
+    /**
+     * A mapping stream has another fact type than this stream,
+     * but it still gets this stream's node as its parent node, see {@link #createChildNodeChains}.
+     *
+     * @param stream never null
+     */
+    private void addMappingChildStream(BavetAbstractUniConstraintStream<Solution_, ?> stream) {
+        childStreamList.add((BavetAbstractUniConstraintStream<Solution_, A>) stream);
     }
 
     // ************************************************************************
@@ -391,8 +533,13 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
 
     public BavetAbstractUniNode<A> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Score<?> constraintWeight, BavetAbstractUniNode<A> parentNode) {
+        BavetAbstractUniNode<A> builtNode = buildPolicy.retrieveBuiltNode(this);
+        if (builtNode != null) { // Another constraint shares this stream and already built it
+            return builtNode;
+        }
         BavetAbstractUniNode<A> node = createNode(buildPolicy, constraintWeight, parentNode);
         node = processNode(buildPolicy, parentNode, node);
+        buildPolicy.registerBuiltNode(this, node);
         createChildNodeChains(buildPolicy, constraintWeight, node);
         return node;
     }
@@ -21,6 +21,7 @@ import java.util.List;
 
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 
 public abstract class BavetAbstractUniNode<A> extends BavetAbstractNode {
 
@@ -37,7 +38,12 @@ public abstract class BavetAbstractUniNode<A> extends BavetAbstractNode {
         return Collections.emptyList();
     }
 
-    public abstract BavetAbstractUniTuple<A> createTuple(BavetAbstractUniTuple<A> parentTuple);
+    /**
+     * @param parentTuple never null
+     * @return never null, not always a {@link BavetAbstractUniTuple} of the fact type of this node's child nodes,
+     *         see {@link BavetFlattenLastUniNode}
+     */
+    public abstract BavetAbstractTuple createTuple(BavetAbstractUniTuple<A> parentTuple);
 
     // ************************************************************************
     // Getters/setters
@@ -23,6 +23,7 @@ import java.util.function.Predicate;
 
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTuplePool;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
 public final class BavetFilterUniNode<A> extends BavetAbstractUniNode<A> {
@@ -32,6 +33,8 @@ public final class BavetFilterUniNode<A> extends BavetAbstractUniNode<A> {
 
     private List<BavetAbstractUniNode<A>> childNodeList = new ArrayList<>();
 
+    private final BavetTuplePool<BavetFilterUniTuple<A>> tuplePool = buildTuplePool();
+
     public BavetFilterUniNode(BavetConstraintSession session, int nodeIndex,
             BavetAbstractUniNode<A> parentNode, Predicate<A> predicate) {
         super(session, nodeIndex);
@@ -78,6 +81,11 @@ public final class BavetFilterUniNode<A> extends BavetAbstractUniNode<A> {
     @Override
     public BavetFilterUniTuple<A> createTuple(BavetAbstractUniTuple<A> parentTuple) {
         // TODO Use childNodeList.size() to improve the tuple's childTupleList's capacity
+        BavetFilterUniTuple<A> tuple = (tuplePool == null) ? null : tuplePool.poll();
+        if (tuple != null) {
+            tuple.reuse(parentTuple);
+            return tuple;
+        }
         return new BavetFilterUniTuple<>(this, parentTuple);
     }
 
@@ -86,17 +94,23 @@ public final class BavetFilterUniNode<A> extends BavetAbstractUniNode<A> {
         BavetFilterUniTuple<A> tuple = (BavetFilterUniTuple<A>) uncastTuple;
         A a = tuple.getFactA();
         List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
+        boolean passes = tuple.isActive() && predicate.test(a);
+        if (passes && !childTupleList.isEmpty()) {
+            // Only an UPDATING tuple already has child tuples, so update them instead of recreating them
+            for (BavetAbstractTuple childTuple : childTupleList) {
+                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+            }
+            return;
+        }
         for (BavetAbstractTuple childTuple : childTupleList) {
             session.transitionTuple(childTuple, BavetTupleState.DYING);
         }
         childTupleList.clear();
-        if (tuple.isActive()) {
-            if (predicate.test(a)) {
-                for (BavetAbstractUniNode<A> childNode : childNodeList) {
-                    BavetAbstractUniTuple<A> childTuple = childNode.createTuple(tuple);
-                    childTupleList.add(childTuple);
-                    session.transitionTuple(childTuple, BavetTupleState.CREATING);
-                }
+        if (passes) {
+            for (BavetAbstractUniNode<A> childNode : childNodeList) {
+                BavetAbstractTuple childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
             }
         }
     }
@@ -110,4 +124,9 @@ public final class BavetFilterUniNode<A> extends BavetAbstractUniNode<A> {
     // Getters/setters
     // ************************************************************************
 
+    @Override
+    public BavetTuplePool<BavetFilterUniTuple<A>> getTuplePool() {
+        return tuplePool;
+    }
+
 }
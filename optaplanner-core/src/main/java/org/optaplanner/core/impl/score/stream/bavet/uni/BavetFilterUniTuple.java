@@ -20,11 +20,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
 public final class BavetFilterUniTuple<A> extends BavetAbstractUniTuple<A> {
 
     private final BavetFilterUniNode<A> node;
-    private final BavetAbstractUniTuple<A> parentTuple;
+    private BavetAbstractUniTuple<A> parentTuple;
     private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
 
     public BavetFilterUniTuple(BavetFilterUniNode<A> node, BavetAbstractUniTuple<A> parentTuple) {
@@ -32,6 +33,14 @@ public final class BavetFilterUniTuple<A> extends BavetAbstractUniTuple<A> {
         this.parentTuple = parentTuple;
     }
 
+    /**
+     * Reinitializes this dead tuple, as if {@link BavetFilterUniNode} created it.
+     */
+    public void reuse(BavetAbstractUniTuple<A> parentTuple) {
+        this.parentTuple = parentTuple;
+        state = BavetTupleState.NEW;
+    }
+
     @Override
     public String toString() {
         return "Filter(" + getFactsString() + ") with " + childTupleList.size() + " children";
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+/**
+ * The parent tuple of the child tuples of a single item of a {@link BavetFlattenLastUniTuple}.
+ * It's never dirty, so it never goes through a dirty tuple queue.
+ */
+public final class BavetFlattenLastItemUniTuple<NewA> extends BavetAbstractUniTuple<NewA> {
+
+    private final BavetFlattenLastUniNode<?, NewA> node;
+    private NewA factA;
+    private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
+
+    public BavetFlattenLastItemUniTuple(BavetFlattenLastUniNode<?, NewA> node, NewA factA) {
+        this.node = node;
+        this.factA = factA;
+        state = BavetTupleState.OK;
+    }
+
+    @Override
+    public String toString() {
+        return "FlattenLastItem(" + getFactsString() + ") with " + childTupleList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetFlattenLastUniNode<?, NewA> getNode() {
+        return node;
+    }
+
+    @Override
+    public List<BavetAbstractTuple> getChildTupleList() {
+        return childTupleList;
+    }
+
+    @Override
+    public NewA getFactA() {
+        return factA;
+    }
+
+    public void setFactA(NewA factA) {
+        this.factA = factA;
+    }
+
+}
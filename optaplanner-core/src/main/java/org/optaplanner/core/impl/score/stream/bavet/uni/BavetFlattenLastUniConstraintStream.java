@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+
+public final class BavetFlattenLastUniConstraintStream<Solution_, A, NewA>
+        extends BavetAbstractUniConstraintStream<Solution_, NewA> {
+
+    private final BavetAbstractUniConstraintStream<Solution_, A> parent;
+    private final Function<A, Iterable<NewA>> mapping;
+
+    public BavetFlattenLastUniConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractUniConstraintStream<Solution_, A> parent, Function<A, Iterable<NewA>> mapping) {
+        super(constraintFactory, parent.getRetrievalSemantics());
+        this.parent = parent;
+        this.mapping = mapping;
+        if (mapping == null) {
+            throw new IllegalArgumentException("The mapping (null) cannot be null.");
+        }
+    }
+
+    @Override
+    public boolean guaranteesDistinct() {
+        return false;
+    }
+
+    @Override
+    public List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList() {
+        return parent.getFromStreamList();
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    protected BavetAbstractUniNode<NewA> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractUniNode<NewA> parentNode) {
+        // The parent stream built the parentNode, so it's a node of A
+        BavetAbstractUniNode<A> unflattenedParentNode = (BavetAbstractUniNode<A>) (BavetAbstractUniNode<?>) parentNode;
+        return new BavetFlattenLastUniNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), unflattenedParentNode,
+                mapping);
+    }
+
+    @Override
+    public String toString() {
+        return "FlattenLast() with " + childStreamList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTuplePool;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+/**
+ * Its parent node is a {@link BavetAbstractUniNode} of A, even though it is a {@link BavetAbstractUniNode} of NewA,
+ * because the child nodes need the flattened fact type.
+ * <p>
+ * Its tuples don't create the child tuples directly:
+ * every tuple has a {@link BavetFlattenLastItemUniTuple} per item, which is the parent tuple of the child tuples.
+ * On an update, only the items that were added or removed (by {@link Object#equals(Object)})
+ * create or kill child tuples, the child tuples of the other items are updated.
+ *
+ * @param <A> the fact type of the parent node
+ * @param <NewA> the item type
+ */
+public final class BavetFlattenLastUniNode<A, NewA> extends BavetAbstractUniNode<NewA> {
+
+    private final BavetAbstractUniNode<A> parentNode;
+    private final Function<A, Iterable<NewA>> mapping;
+
+    private final List<BavetAbstractUniNode<NewA>> childNodeList = new ArrayList<>();
+
+    private final BavetTuplePool<BavetFlattenLastUniTuple<A, NewA>> tuplePool = buildTuplePool();
+
+    public BavetFlattenLastUniNode(BavetConstraintSession session, int nodeIndex,
+            BavetAbstractUniNode<A> parentNode, Function<A, Iterable<NewA>> mapping) {
+        super(session, nodeIndex);
+        this.parentNode = parentNode;
+        this.mapping = mapping;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractUniNode<NewA> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    @Override
+    public List<BavetAbstractUniNode<NewA>> getChildNodeList() {
+        return childNodeList;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), System.identityHashCode(mapping));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetFlattenLastUniNode) {
+            BavetFlattenLastUniNode<A, NewA> other = (BavetFlattenLastUniNode<A, NewA>) o;
+            return parentNode == other.parentNode
+                    && mapping == other.mapping;
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    /**
+     * @param parentTuple never null, a tuple of the {@link #parentNode}, so its fact is an A
+     * @return never null
+     */
+    @Override
+    public BavetFlattenLastUniTuple<A, NewA> createTuple(BavetAbstractUniTuple<NewA> parentTuple) {
+        BavetAbstractUniTuple<A> unflattenedParentTuple =
+                (BavetAbstractUniTuple<A>) (BavetAbstractUniTuple<?>) parentTuple;
+        BavetFlattenLastUniTuple<A, NewA> tuple = (tuplePool == null) ? null : tuplePool.poll();
+        if (tuple != null) {
+            tuple.reuse(unflattenedParentTuple);
+            return tuple;
+        }
+        return new BavetFlattenLastUniTuple<>(this, unflattenedParentTuple);
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetFlattenLastUniTuple<A, NewA> tuple = (BavetFlattenLastUniTuple<A, NewA>) uncastTuple;
+        List<BavetAbstractTuple> itemTupleList = tuple.getChildTupleList();
+        if (!tuple.isActive()) {
+            for (BavetAbstractTuple itemTuple : itemTupleList) {
+                killItemTuple((BavetFlattenLastItemUniTuple<NewA>) itemTuple);
+            }
+            itemTupleList.clear();
+            return;
+        }
+        Iterable<NewA> items = mapping.apply(tuple.getFactA());
+        if (itemTupleList.isEmpty()) {
+            for (NewA item : items) {
+                itemTupleList.add(createItemTuple(item));
+            }
+            return;
+        }
+        // Keep the item tuples of the items that are still there, so their child tuples are updated, not recreated
+        Map<NewA, ArrayDeque<BavetFlattenLastItemUniTuple<NewA>>> oldItemToItemTuplesMap =
+                new HashMap<>(itemTupleList.size());
+        for (BavetAbstractTuple uncastItemTuple : itemTupleList) {
+            BavetFlattenLastItemUniTuple<NewA> itemTuple = (BavetFlattenLastItemUniTuple<NewA>) uncastItemTuple;
+            oldItemToItemTuplesMap.computeIfAbsent(itemTuple.getFactA(), item -> new ArrayDeque<>(1))
+                    .add(itemTuple);
+        }
+        itemTupleList.clear();
+        for (NewA item : items) {
+            ArrayDeque<BavetFlattenLastItemUniTuple<NewA>> oldItemTuples = oldItemToItemTuplesMap.get(item);
+            BavetFlattenLastItemUniTuple<NewA> itemTuple = (oldItemTuples == null) ? null : oldItemTuples.poll();
+            if (itemTuple == null) {
+                itemTupleList.add(createItemTuple(item));
+            } else {
+                updateItemTuple(itemTuple, item);
+                itemTupleList.add(itemTuple);
+            }
+        }
+        for (ArrayDeque<BavetFlattenLastItemUniTuple<NewA>> removedItemTuples : oldItemToItemTuplesMap.values()) {
+            for (BavetFlattenLastItemUniTuple<NewA> removedItemTuple : removedItemTuples) {
+                killItemTuple(removedItemTuple);
+            }
+        }
+    }
+
+    private BavetFlattenLastItemUniTuple<NewA> createItemTuple(NewA item) {
+        BavetFlattenLastItemUniTuple<NewA> itemTuple = new BavetFlattenLastItemUniTuple<>(this, item);
+        List<BavetAbstractTuple> childTupleList = itemTuple.getChildTupleList();
+        for (BavetAbstractUniNode<NewA> childNode : childNodeList) {
+            BavetAbstractTuple childTuple = childNode.createTuple(itemTuple);
+            childTupleList.add(childTuple);
+            session.transitionTuple(childTuple, BavetTupleState.CREATING);
+        }
+        return itemTuple;
+    }
+
+    private void updateItemTuple(BavetFlattenLastItemUniTuple<NewA> itemTuple, NewA item) {
+        // The item might be an equal instance or it might have changed in place
+        itemTuple.setFactA(item);
+        for (BavetAbstractTuple childTuple : itemTuple.getChildTupleList()) {
+            session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    private void killItemTuple(BavetFlattenLastItemUniTuple<NewA> itemTuple) {
+        List<BavetAbstractTuple> childTupleList = itemTuple.getChildTupleList();
+        for (BavetAbstractTuple childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        itemTuple.setState(BavetTupleState.DEAD);
+    }
+
+    @Override
+    public String toString() {
+        return "FlattenLast() with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetTuplePool<BavetFlattenLastUniTuple<A, NewA>> getTuplePool() {
+        return tuplePool;
+    }
+
+}
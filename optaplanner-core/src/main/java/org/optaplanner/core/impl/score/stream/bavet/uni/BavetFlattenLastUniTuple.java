@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+/**
+ * Its child tuples are the {@link BavetFlattenLastItemUniTuple}s of its items.
+ */
+public final class BavetFlattenLastUniTuple<A, NewA> extends BavetAbstractUniTuple<A> {
+
+    private final BavetFlattenLastUniNode<A, NewA> node;
+    private BavetAbstractUniTuple<A> parentTuple;
+    private final List<BavetAbstractTuple> itemTupleList = new ArrayList<>();
+
+    public BavetFlattenLastUniTuple(BavetFlattenLastUniNode<A, NewA> node, BavetAbstractUniTuple<A> parentTuple) {
+        this.node = node;
+        this.parentTuple = parentTuple;
+    }
+
+    /**
+     * Reinitializes this dead tuple, as if {@link BavetFlattenLastUniNode} created it.
+     */
+    public void reuse(BavetAbstractUniTuple<A> parentTuple) {
+        this.parentTuple = parentTuple;
+        state = BavetTupleState.NEW;
+    }
+
+    @Override
+    public String toString() {
+        return "FlattenLast(" + getFactsString() + ") with " + itemTupleList.size() + " items";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetFlattenLastUniNode<A, NewA> getNode() {
+        return node;
+    }
+
+    @Override
+    public List<BavetAbstractTuple> getChildTupleList() {
+        return itemTupleList;
+    }
+
+    @Override
+    public A getFactA() {
+        return parentTuple.getFactA();
+    }
+
+}
@@ -84,15 +84,21 @@ public final class BavetFromUniNode<A> extends BavetAbstractUniNode<A> {
     public void refresh(BavetAbstractTuple uncastTuple) {
         BavetFromUniTuple<A> tuple = (BavetFromUniTuple<A>) uncastTuple;
         List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
+        if (tuple.getState() == BavetTupleState.UPDATING) {
+            // Update the child tuples instead of recreating them,
+            // so a child node that keeps state per tuple, such as a map or flattenLast node, can diff it
+            for (BavetAbstractTuple childTuple : childTupleList) {
+                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+            }
+            return;
+        }
         for (BavetAbstractTuple childTuple : childTupleList) {
-            // TODO the entire FromUniNode isn't really doing anything
-            // so the destruction/construction is just an update op unless it's CREATING or DYING
             session.transitionTuple(childTuple, BavetTupleState.DYING);
         }
         childTupleList.clear();
         if (tuple.isActive()) {
             for (BavetAbstractUniNode<A> childNode : childNodeList) {
-                BavetAbstractUniTuple<A> childTuple = childNode.createTuple(tuple);
+                BavetAbstractTuple childTuple = childNode.createTuple(tuple);
                 childTupleList.add(childTuple);
                 session.transitionTuple(childTuple, BavetTupleState.CREATING);
             }
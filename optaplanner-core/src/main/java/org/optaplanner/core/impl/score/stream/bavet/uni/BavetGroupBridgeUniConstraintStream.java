@@ -22,21 +22,27 @@ import java.util.function.Function;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
-import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiConstraintStream;
-import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 
-public final class BavetGroupBridgeUniConstraintStream<Solution_, A, NewA, ResultContainer_, NewB>
+public final class BavetGroupBridgeUniConstraintStream<Solution_, A, GroupKey_, ResultContainer_>
         extends BavetAbstractUniConstraintStream<Solution_, A> {
 
     private final BavetAbstractUniConstraintStream<Solution_, A> parent;
-    private final Function<A, NewA> groupKeyMapping;
-    private final UniConstraintCollector<A, ResultContainer_, NewB> collector;
-    private BavetGroupBiConstraintStream<Solution_, NewA, ResultContainer_, NewB> groupStream;
+    private final Function<A, GroupKey_> groupKeyMapping;
+    private final UniConstraintCollector<A, ResultContainer_, ?> collector;
+    private BavetGroupConstraintStream<Solution_, GroupKey_, ResultContainer_> groupStream;
 
+    /**
+     * @param constraintFactory never null
+     * @param parent never null
+     * @param groupKeyMapping never null
+     * @param collector null if there is nothing to collect
+     */
     public BavetGroupBridgeUniConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
-            BavetAbstractUniConstraintStream<Solution_, A> parent, Function<A, NewA> groupKeyMapping,
-            UniConstraintCollector<A, ResultContainer_, NewB> collector) {
+            BavetAbstractUniConstraintStream<Solution_, A> parent, Function<A, GroupKey_> groupKeyMapping,
+            UniConstraintCollector<A, ResultContainer_, ?> collector) {
         super(constraintFactory, parent.getRetrievalSemantics());
         this.parent = parent;
         this.groupKeyMapping = groupKeyMapping;
@@ -48,7 +54,7 @@ public final class BavetGroupBridgeUniConstraintStream<Solution_, A, NewA, Resul
         return parent.guaranteesDistinct();
     }
 
-    public void setGroupStream(BavetGroupBiConstraintStream<Solution_, NewA, ResultContainer_, NewB> groupStream) {
+    public void setGroupStream(BavetGroupConstraintStream<Solution_, GroupKey_, ResultContainer_> groupStream) {
         this.groupStream = groupStream;
     }
 
@@ -62,7 +68,7 @@ public final class BavetGroupBridgeUniConstraintStream<Solution_, A, NewA, Resul
     // ************************************************************************
 
     @Override
-    protected BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+    protected BavetGroupBridgeUniNode<A, GroupKey_, ResultContainer_> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Score<?> constraintWeight, BavetAbstractUniNode<A> parentNode) {
         return new BavetGroupBridgeUniNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), parentNode,
                 groupKeyMapping, collector);
@@ -75,10 +81,9 @@ public final class BavetGroupBridgeUniConstraintStream<Solution_, A, NewA, Resul
             throw new IllegalStateException("Impossible state: the stream (" + this
                     + ") has an non-empty childStreamList (" + childStreamList + ") but it's a groupBy bridge.");
         }
-        BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode = groupStream.createNodeChain(buildPolicy,
-                constraintWeight, null);
-        BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> groupBridgeNode =
-                (BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB>) node;
+        BavetGroupNode<GroupKey_, ResultContainer_> groupNode = groupStream.createNodeChain(buildPolicy, constraintWeight);
+        BavetGroupBridgeUniNode<A, GroupKey_, ResultContainer_> groupBridgeNode =
+                (BavetGroupBridgeUniNode<A, GroupKey_, ResultContainer_>) node;
         groupBridgeNode.setGroupNode(groupNode);
     }
 
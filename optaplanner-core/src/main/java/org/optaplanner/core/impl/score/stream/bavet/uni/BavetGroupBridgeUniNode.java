@@ -24,21 +24,23 @@ import java.util.function.Function;
 
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
-import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiNode;
-import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupBridgeNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
-public final class BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> extends BavetAbstractUniNode<A> {
+public final class BavetGroupBridgeUniNode<A, GroupKey_, ResultContainer_> extends BavetAbstractUniNode<A>
+        implements BavetGroupBridgeNode {
 
     private final BavetAbstractUniNode<A> parentNode;
-    private final Function<A, NewA> groupKeyMapping;
-    private final UniConstraintCollector<A, ResultContainer_, NewB> collector;
-    private final Map<NewA, BavetGroupBiTuple<NewA, ResultContainer_, NewB>> tupleMap;
-    private BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode;
+    private final Function<A, GroupKey_> groupKeyMapping;
+    private final UniConstraintCollector<A, ResultContainer_, ?> collector;
+    private final Map<GroupKey_, BavetGroupTuple<GroupKey_, ResultContainer_>> tupleMap;
+    private BavetGroupNode<GroupKey_, ResultContainer_> groupNode;
 
     public BavetGroupBridgeUniNode(BavetConstraintSession session, int nodeIndex, BavetAbstractUniNode<A> parentNode,
-            Function<A, NewA> groupKeyMapping, UniConstraintCollector<A, ResultContainer_, NewB> collector) {
+            Function<A, GroupKey_> groupKeyMapping, UniConstraintCollector<A, ResultContainer_, ?> collector) {
         super(session, nodeIndex);
         this.parentNode = parentNode;
         this.groupKeyMapping = groupKeyMapping;
@@ -52,11 +54,11 @@ public final class BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> exte
     }
 
     @Override
-    public BavetGroupBridgeUniTuple<A, NewA, ResultContainer_, NewB> createTuple(BavetAbstractUniTuple<A> parentTuple) {
+    public BavetGroupBridgeUniTuple<A, GroupKey_, ResultContainer_> createTuple(BavetAbstractUniTuple<A> parentTuple) {
         return new BavetGroupBridgeUniTuple<>(this, parentTuple);
     }
 
-    public void setGroupNode(BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode) {
+    public void setGroupNode(BavetGroupNode<GroupKey_, ResultContainer_> groupNode) {
         this.groupNode = groupNode;
     }
 
@@ -66,41 +68,45 @@ public final class BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> exte
             throw new IllegalStateException("Impossible state: GroupBridgeNode (" + this +
                     ") has no child GroupNode (" + groupNode + ").");
         }
-        BavetGroupBridgeUniTuple<A, NewA, ResultContainer_, NewB> tuple =
-                (BavetGroupBridgeUniTuple<A, NewA, ResultContainer_, NewB>) uncastTuple;
+        BavetGroupBridgeUniTuple<A, GroupKey_, ResultContainer_> tuple =
+                (BavetGroupBridgeUniTuple<A, GroupKey_, ResultContainer_>) uncastTuple;
         if (tuple.getChildTuple() != null) {
-            BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple = tuple.getChildTuple();
-            NewA oldGroupKey = childTuple.getGroupKey();
+            BavetGroupTuple<GroupKey_, ResultContainer_> childTuple = tuple.getChildTuple();
+            GroupKey_ oldGroupKey = childTuple.getGroupKey();
             int parentCount = childTuple.decreaseParentCount();
-            tuple.getUndoAccumulator().run();
+            if (tuple.getUndoAccumulator() != null) {
+                tuple.getUndoAccumulator().run();
+            }
             childTuple.clearResult();
             tuple.setChildTuple(null);
             tuple.setUndoAccumulator(null);
             if (parentCount == 0) {
                 // Clean up tupleMap
                 tupleMap.remove(oldGroupKey);
-                session.transitionTuple(childTuple, BavetTupleState.DYING);
+                session.transitionTuple((BavetAbstractTuple) childTuple, BavetTupleState.DYING);
             } else {
-                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+                session.transitionTuple((BavetAbstractTuple) childTuple, BavetTupleState.UPDATING);
             }
         }
         if (tuple.isActive()) {
             A a = tuple.getFactA();
-            NewA groupKey = groupKeyMapping.apply(a);
-            BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple = tupleMap.computeIfAbsent(groupKey,
-                    k -> groupNode.createTuple(groupKey, collector.supplier().get()));
+            GroupKey_ groupKey = groupKeyMapping.apply(a);
+            BavetGroupTuple<GroupKey_, ResultContainer_> childTuple = tupleMap.computeIfAbsent(groupKey,
+                    k -> groupNode.createTuple(groupKey, (collector == null) ? null : collector.supplier().get()));
             int parentCount = childTuple.increaseParentCount();
 
-            Runnable undoAccumulator = collector.accumulator().apply(childTuple.getResultContainer(), a);
-            tuple.setUndoAccumulator(undoAccumulator);
+            if (collector != null) {
+                Runnable undoAccumulator = collector.accumulator().apply(childTuple.getResultContainer(), a);
+                tuple.setUndoAccumulator(undoAccumulator);
+            }
             childTuple.clearResult();
             tuple.setChildTuple(childTuple);
             if (parentCount == 1) {
-                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+                session.transitionTuple((BavetAbstractTuple) childTuple, BavetTupleState.CREATING);
             } else {
                 // It might have just been created by an earlier tuple in the same nodeIndex
                 if (childTuple.getState() != BavetTupleState.CREATING) {
-                    session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+                    session.transitionTuple((BavetAbstractTuple) childTuple, BavetTupleState.UPDATING);
                 }
             }
         }
@@ -115,4 +121,9 @@ public final class BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> exte
     // Getters/setters
     // ************************************************************************
 
+    @Override
+    public BavetGroupNode<GroupKey_, ResultContainer_> getGroupNode() {
+        return groupNode;
+    }
+
 }
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+
+/**
+ * Keeps 1 {@link BavetIfExistsUniTuple} per left tuple, which counts the right tuples that match it.
+ * A right tuple change only touches the left tuples with the same index properties
+ * and only propagates to the child nodes if a match count crosses zero.
+ *
+ * @param <A> the left fact
+ * @param <B> the right fact, which is never propagated
+ */
+public final class BavetIfExistsUniNode<A, B> extends BavetAbstractUniNode<A> implements BavetJoinNode {
+
+    private final BavetJoinBridgeUniNode<A> leftParentNode;
+    private final BavetJoinBridgeUniNode<B> rightParentNode;
+    private final boolean shouldExist;
+    private final BiPredicate<A, B> filter;
+    /**
+     * The {@link BavetIndex} forgets the index properties of a removed tuple,
+     * but they are needed to find the left tuples that matched it.
+     */
+    private final Map<BavetJoinBridgeUniTuple<B>, Object[]> rightTupleToIndexPropertiesMap = new HashMap<>();
+
+    private final List<BavetAbstractUniNode<A>> childNodeList = new ArrayList<>();
+
+    public BavetIfExistsUniNode(BavetConstraintSession session, int nodeIndex,
+            BavetJoinBridgeUniNode<A> leftParentNode, BavetJoinBridgeUniNode<B> rightParentNode,
+            boolean shouldExist, BiPredicate<A, B> filter) {
+        super(session, nodeIndex);
+        this.leftParentNode = leftParentNode;
+        this.rightParentNode = rightParentNode;
+        this.shouldExist = shouldExist;
+        this.filter = filter;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractUniNode<A> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    @Override
+    public List<BavetAbstractUniNode<A>> getChildNodeList() {
+        return childNodeList;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(leftParentNode.getParentNode()),
+                System.identityHashCode(rightParentNode.getParentNode()), leftParentNode.getIndexFactory(), shouldExist,
+                System.identityHashCode(filter));
+    }
+
+    /**
+     * The join bridges themselves are never shared,
+     * so compare the nodes they bridge from and the joiners that index them.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetIfExistsUniNode) {
+            BavetIfExistsUniNode<?, ?> other = (BavetIfExistsUniNode<?, ?>) o;
+            return leftParentNode.getParentNode() == other.leftParentNode.getParentNode()
+                    && rightParentNode.getParentNode() == other.rightParentNode.getParentNode()
+                    && leftParentNode.getIndexFactory().equals(other.leftParentNode.getIndexFactory())
+                    && shouldExist == other.shouldExist
+                    && filter == other.filter;
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetIfExistsUniTuple<A, B> createTuple(BavetAbstractUniTuple<A> parentTuple) {
+        throw new IllegalStateException("The ifExists node (" + getClass().getSimpleName()
+                + ") can't have a parentTuple (" + parentTuple + ");");
+    }
+
+    public BavetIfExistsUniTuple<A, B> createTuple(BavetJoinBridgeUniTuple<A> aTuple) {
+        return new BavetIfExistsUniTuple<>(this, aTuple);
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetIfExistsUniTuple<A, B> tuple = (BavetIfExistsUniTuple<A, B>) uncastTuple;
+        List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
+        for (BavetAbstractTuple childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (tuple.isActive() && (tuple.getMatchCount() > 0) == shouldExist) {
+            for (BavetAbstractUniNode<A> childNode : childNodeList) {
+                BavetAbstractTuple childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+    }
+
+    public void refreshChildTuplesLeft(BavetJoinBridgeUniTuple<A> leftParentTuple) {
+        List<BavetAbstractTuple> leftTupleList = leftParentTuple.getChildTupleList();
+        if (!leftParentTuple.isActive()) {
+            for (BavetAbstractTuple tuple : leftTupleList) {
+                session.transitionTuple(tuple, BavetTupleState.DYING);
+            }
+            leftTupleList.clear();
+            return;
+        }
+        if (leftTupleList.isEmpty()) {
+            BavetIfExistsUniTuple<A, B> tuple = createTuple(leftParentTuple);
+            tuple.setMatchCount(countMatches(leftParentTuple));
+            leftTupleList.add(tuple);
+            session.transitionTuple(tuple, BavetTupleState.CREATING);
+        } else {
+            BavetIfExistsUniTuple<A, B> tuple = (BavetIfExistsUniTuple<A, B>) leftTupleList.get(0);
+            tuple.setMatchCount(countMatches(leftParentTuple));
+            // The left fact might have changed, so propagate even if the match count didn't cross zero
+            session.transitionTuple(tuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    public void refreshChildTuplesRight(BavetJoinBridgeUniTuple<B> rightParentTuple) {
+        Object[] oldIndexProperties = rightTupleToIndexPropertiesMap.remove(rightParentTuple);
+        if (oldIndexProperties != null) {
+            for (BavetJoinBridgeUniTuple<A> leftParentTuple : getLeftIndex().get(oldIndexProperties)) {
+                updateMatchCount(leftParentTuple, -1);
+            }
+        }
+        if (rightParentTuple.isActive()) {
+            Object[] indexProperties = rightParentTuple.getIndexProperties();
+            rightTupleToIndexPropertiesMap.put(rightParentTuple, indexProperties);
+            for (BavetJoinBridgeUniTuple<A> leftParentTuple : getLeftIndex().get(indexProperties)) {
+                updateMatchCount(leftParentTuple, 1);
+            }
+        }
+    }
+
+    private int countMatches(BavetJoinBridgeUniTuple<A> leftParentTuple) {
+        if (filter == null) {
+            return getRightIndex().get(leftParentTuple.getIndexProperties()).size();
+        }
+        A a = leftParentTuple.getFactA();
+        int matchCount = 0;
+        for (BavetJoinBridgeUniTuple<B> rightParentTuple : getRightIndex().get(leftParentTuple.getIndexProperties())) {
+            if (filter.test(a, rightParentTuple.getFactA())) {
+                matchCount++;
+            }
+        }
+        return matchCount;
+    }
+
+    private void updateMatchCount(BavetJoinBridgeUniTuple<A> leftParentTuple, int matchCountDiff) {
+        BavetIfExistsUniTuple<A, B> tuple = (BavetIfExistsUniTuple<A, B>) leftParentTuple.getChildTupleList().get(0);
+        int oldMatchCount = tuple.getMatchCount();
+        // The filter can't be applied to the old right fact, so count the matches again
+        int newMatchCount = (filter == null) ? oldMatchCount + matchCountDiff : countMatches(leftParentTuple);
+        tuple.setMatchCount(newMatchCount);
+        if ((oldMatchCount > 0) != (newMatchCount > 0) && !tuple.isDirty()) {
+            session.transitionTuple(tuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    public BavetIndex<BavetJoinBridgeUniTuple<A>> getLeftIndex() {
+        return leftParentNode.getIndex();
+    }
+
+    public BavetIndex<BavetJoinBridgeUniTuple<B>> getRightIndex() {
+        return rightParentNode.getIndex();
+    }
+
+    @Override
+    public String toString() {
+        return "IfExists(" + shouldExist + ") with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetJoinBridgeUniNode<A> getLeftParentNode() {
+        return leftParentNode;
+    }
+
+    @Override
+    public BavetJoinBridgeUniNode<B> getRightParentNode() {
+        return rightParentNode;
+    }
+
+}
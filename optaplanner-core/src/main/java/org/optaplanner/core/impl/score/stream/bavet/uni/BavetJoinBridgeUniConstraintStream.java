@@ -69,7 +69,7 @@ public final class BavetJoinBridgeUniConstraintStream<Solution_, A>
     protected BavetJoinBridgeUniNode<A> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Score<?> constraintWeight, BavetAbstractUniNode<A> parentNode) {
         return new BavetJoinBridgeUniNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), parentNode, mapping,
-                indexFactory.buildIndex(isLeftBridge));
+                indexFactory, isLeftBridge);
     }
 
     @Override
@@ -80,7 +80,7 @@ public final class BavetJoinBridgeUniConstraintStream<Solution_, A>
                     + ") has an non-empty childStreamList (" + childStreamList + ") but it's a join bridge.");
         }
         BavetJoinBridgeUniNode<A> node = (BavetJoinBridgeUniNode<A>) uncastedNode;
-        BavetJoinBridgeNode otherBridgeNode = buildPolicy.getJoinConstraintStreamToJoinBridgeNodeMap().get(joinStream);
+        BavetJoinBridgeNode otherBridgeNode = buildPolicy.getJoinConstraintStreamToJoinBridgeNodeMap().remove(joinStream);
         if (otherBridgeNode == null) {
             buildPolicy.getJoinConstraintStreamToJoinBridgeNodeMap().put(joinStream, node);
         } else {
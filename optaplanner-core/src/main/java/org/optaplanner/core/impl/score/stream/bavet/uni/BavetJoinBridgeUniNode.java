@@ -25,8 +25,10 @@ import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.bi.BavetJoinBiNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTuplePool;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
 
 public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
         implements BavetJoinBridgeNode {
@@ -36,14 +38,19 @@ public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
     /** Calls {@link BavetJoinBiNode#refreshChildTuplesLeft(BavetJoinBridgeUniTuple)}, right or tri/quad/... variants. */
     private Consumer<BavetJoinBridgeUniTuple<A>> childTupleRefresher;
 
+    private final BavetIndexFactory indexFactory;
     private final BavetIndex<BavetJoinBridgeUniTuple<A>> index;
 
+    private final BavetTuplePool<BavetJoinBridgeUniTuple<A>> tuplePool = buildTuplePool();
+
     public BavetJoinBridgeUniNode(BavetConstraintSession session, int nodeIndex, BavetAbstractUniNode<A> parentNode,
-            Function<A, Object[]> mapping, BavetIndex<BavetJoinBridgeUniTuple<A>> index) {
+            Function<A, Object[]> mapping,
+            BavetIndexFactory indexFactory, boolean isLeftBridge) {
         super(session, nodeIndex);
         this.parentNode = parentNode;
         this.mapping = mapping;
-        this.index = index;
+        this.indexFactory = indexFactory;
+        this.index = indexFactory.buildIndex(isLeftBridge);
     }
 
     @Override
@@ -53,9 +60,24 @@ public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
 
     @Override
     public BavetJoinBridgeUniTuple<A> createTuple(BavetAbstractUniTuple<A> parentTuple) {
+        BavetJoinBridgeUniTuple<A> tuple = (tuplePool == null) ? null : tuplePool.poll();
+        if (tuple != null) {
+            tuple.reuse(parentTuple);
+            return tuple;
+        }
         return new BavetJoinBridgeUniTuple<>(this, parentTuple);
     }
 
+    @Override
+    public void presize(int dirtyTupleCount) {
+        index.presize(dirtyTupleCount);
+    }
+
+    @Override
+    public int getIndexBucketCount() {
+        return index.getBucketCount();
+    }
+
     @Override
     public void refresh(BavetAbstractTuple uncastTuple) {
         BavetJoinBridgeUniTuple<A> tuple = (BavetJoinBridgeUniTuple<A>) uncastTuple;
@@ -80,6 +102,19 @@ public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
     // Getters/setters
     // ************************************************************************
 
+    @Override
+    public BavetTuplePool<BavetJoinBridgeUniTuple<A>> getTuplePool() {
+        return tuplePool;
+    }
+
+    public BavetAbstractUniNode<A> getParentNode() {
+        return parentNode;
+    }
+
+    public BavetIndexFactory getIndexFactory() {
+        return indexFactory;
+    }
+
     public BavetIndex<BavetJoinBridgeUniTuple<A>> getIndex() {
         return index;
     }
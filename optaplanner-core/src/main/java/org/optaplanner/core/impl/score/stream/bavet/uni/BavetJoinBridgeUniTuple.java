@@ -21,11 +21,12 @@ import java.util.List;
 
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
 public final class BavetJoinBridgeUniTuple<A> extends BavetAbstractUniTuple<A>
         implements BavetJoinBridgeTuple {
 
-    protected final BavetAbstractUniTuple<A> parentTuple;
+    protected BavetAbstractUniTuple<A> parentTuple;
     private final BavetJoinBridgeUniNode<A> node;
     private final List<BavetAbstractTuple> childTupleList = new ArrayList<>();
 
@@ -37,6 +38,15 @@ public final class BavetJoinBridgeUniTuple<A> extends BavetAbstractUniTuple<A>
         this.node = node;
     }
 
+    /**
+     * Reinitializes this dead tuple, as if {@link BavetJoinBridgeUniNode} created it.
+     */
+    public void reuse(BavetAbstractUniTuple<A> parentTuple) {
+        this.parentTuple = parentTuple;
+        indexProperties = null;
+        state = BavetTupleState.NEW;
+    }
+
     @Override
     public String toString() {
         return "JoinBridge(" + getFactsString() + ") with " + childTupleList.size() + " children";
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTuplePool;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+/**
+ * Its parent node is a {@link BavetAbstractUniNode} of A, even though it is a {@link BavetAbstractUniNode} of NewA,
+ * because the child nodes need the mapped fact type.
+ *
+ * @param <A> the fact type of the parent node
+ * @param <NewA> the mapped fact type
+ */
+public final class BavetMapUniNode<A, NewA> extends BavetAbstractUniNode<NewA> {
+
+    private final BavetAbstractUniNode<A> parentNode;
+    private final Function<A, NewA> mapping;
+
+    private final List<BavetAbstractUniNode<NewA>> childNodeList = new ArrayList<>();
+
+    private final BavetTuplePool<BavetMapUniTuple<A, NewA>> tuplePool = buildTuplePool();
+
+    public BavetMapUniNode(BavetConstraintSession session, int nodeIndex,
+            BavetAbstractUniNode<A> parentNode, Function<A, NewA> mapping) {
+        super(session, nodeIndex);
+        this.parentNode = parentNode;
+        this.mapping = mapping;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractUniNode<NewA> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    @Override
+    public List<BavetAbstractUniNode<NewA>> getChildNodeList() {
+        return childNodeList;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), System.identityHashCode(mapping));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetMapUniNode) {
+            BavetMapUniNode<?, ?> other = (BavetMapUniNode<?, ?>) o;
+            return parentNode == other.parentNode
+                    && mapping == other.mapping;
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    /**
+     * @param parentTuple never null, a tuple of the {@link #parentNode}, so its fact is an A
+     * @return never null
+     */
+    @Override
+    public BavetMapUniTuple<A, NewA> createTuple(BavetAbstractUniTuple<NewA> parentTuple) {
+        BavetAbstractUniTuple<A> unmappedParentTuple = (BavetAbstractUniTuple<A>) (BavetAbstractUniTuple<?>) parentTuple;
+        BavetMapUniTuple<A, NewA> tuple = (tuplePool == null) ? null : tuplePool.poll();
+        if (tuple != null) {
+            tuple.reuse(unmappedParentTuple);
+            return tuple;
+        }
+        return new BavetMapUniTuple<>(this, unmappedParentTuple);
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetMapUniTuple<A, NewA> tuple = (BavetMapUniTuple<A, NewA>) uncastTuple;
+        List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
+        if (!tuple.isActive()) {
+            killChildTuples(childTupleList);
+            return;
+        }
+        NewA mappedA = mapping.apply(tuple.getParentTuple().getFactA());
+        if (tuple.getState() == BavetTupleState.UPDATING && !childTupleList.isEmpty()
+                && Objects.equals(mappedA, tuple.getFactA())) {
+            // The child tuples only see the mapped fact, so update them instead of recreating them,
+            // because the mapped fact might have changed in place
+            tuple.setFactA(mappedA);
+            for (BavetAbstractTuple childTuple : childTupleList) {
+                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+            }
+            return;
+        }
+        killChildTuples(childTupleList);
+        tuple.setFactA(mappedA);
+        for (BavetAbstractUniNode<NewA> childNode : childNodeList) {
+            BavetAbstractTuple childTuple = childNode.createTuple(tuple);
+            childTupleList.add(childTuple);
+            session.transitionTuple(childTuple, BavetTupleState.CREATING);
+        }
+    }
+
+    private void killChildTuples(List<BavetAbstractTuple> childTupleList) {
+        for (BavetAbstractTuple childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "Map() with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetTuplePool<BavetMapUniTuple<A, NewA>> getTuplePool() {
+        return tuplePool;
+    }
+
+}
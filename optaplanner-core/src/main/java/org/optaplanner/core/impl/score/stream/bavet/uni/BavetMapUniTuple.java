@@ -0,0 +1,82 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+public final class BavetMapUniTuple<A, NewA> extends BavetAbstractUniTuple<NewA> {
+
+    private final BavetMapUniNode<A, NewA> node;
+    private BavetAbstractUniTuple<A> parentTuple;
+    private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
+
+    /**
+     * Null until the node refreshes this tuple for the first time.
+     */
+    private NewA factA = null;
+
+    public BavetMapUniTuple(BavetMapUniNode<A, NewA> node, BavetAbstractUniTuple<A> parentTuple) {
+        this.node = node;
+        this.parentTuple = parentTuple;
+    }
+
+    /**
+     * Reinitializes this dead tuple, as if {@link BavetMapUniNode} created it.
+     */
+    public void reuse(BavetAbstractUniTuple<A> parentTuple) {
+        this.parentTuple = parentTuple;
+        factA = null;
+        state = BavetTupleState.NEW;
+    }
+
+    @Override
+    public String toString() {
+        return "Map(" + getFactsString() + ") with " + childTupleList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetMapUniNode<A, NewA> getNode() {
+        return node;
+    }
+
+    public BavetAbstractUniTuple<A> getParentTuple() {
+        return parentTuple;
+    }
+
+    @Override
+    public List<BavetAbstractTuple> getChildTupleList() {
+        return childTupleList;
+    }
+
+    @Override
+    public NewA getFactA() {
+        return factA;
+    }
+
+    public void setFactA(NewA factA) {
+        this.factA = factA;
+    }
+
+}
@@ -16,8 +16,6 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.uni;
 
-import static java.util.Collections.singletonList;
-
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.function.Function;
@@ -106,31 +104,32 @@ public final class BavetScoringUniConstraintStream<Solution_, A> extends BavetAb
             Score<?> constraintWeight, BavetAbstractUniNode<A> parentNode) {
         ScoreInliner<?> scoreInliner = buildPolicy.getSession().getScoreInliner();
         WeightedScoreImpacter weightedScoreImpacter = scoreInliner.buildWeightedScoreImpacter(constraint);
-        Function<A, UndoScoreImpacter> scoreImpacter;
+        Function<BavetScoringUniTuple<A>, UndoScoreImpacter> scoreImpacter;
         if (intMatchWeigher != null) {
-            scoreImpacter = a -> {
-                int matchWeight = intMatchWeigher.applyAsInt(a);
+            scoreImpacter = tuple -> {
+                int matchWeight = intMatchWeigher.applyAsInt(tuple.getFactA());
                 constraint.assertCorrectImpact(matchWeight);
-                return weightedScoreImpacter.impactScore(matchWeight, () -> singletonList(a));
+                return weightedScoreImpacter.impactScore(matchWeight, tuple, tuple.getReusableUndoScoreImpacter());
             };
         } else if (longMatchWeigher != null) {
-            scoreImpacter = a -> {
-                long matchWeight = longMatchWeigher.applyAsLong(a);
+            scoreImpacter = tuple -> {
+                long matchWeight = longMatchWeigher.applyAsLong(tuple.getFactA());
                 constraint.assertCorrectImpact(matchWeight);
-                return weightedScoreImpacter.impactScore(matchWeight, () -> singletonList(a));
+                return weightedScoreImpacter.impactScore(matchWeight, tuple, tuple.getReusableUndoScoreImpacter());
             };
         } else if (bigDecimalMatchWeigher != null) {
-            scoreImpacter = a -> {
-                BigDecimal matchWeight = bigDecimalMatchWeigher.apply(a);
+            scoreImpacter = tuple -> {
+                BigDecimal matchWeight = bigDecimalMatchWeigher.apply(tuple.getFactA());
                 constraint.assertCorrectImpact(matchWeight);
-                return weightedScoreImpacter.impactScore(matchWeight, () -> singletonList(a));
+                return weightedScoreImpacter.impactScore(matchWeight, tuple, tuple.getReusableUndoScoreImpacter());
             };
         } else if (noMatchWeigher) {
-            scoreImpacter = a -> weightedScoreImpacter.impactScore(1, () -> singletonList(a));
+            scoreImpacter = tuple -> weightedScoreImpacter.impactScore(1, tuple, tuple.getReusableUndoScoreImpacter());
         } else {
             throw new IllegalStateException("Impossible state: neither of the supported match weighers provided.");
         }
-        return new BavetScoringUniNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), constraintWeight,
+        return new BavetScoringUniNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), constraint,
+                buildPolicy.getConstraintWeight(constraint),
                 scoreImpacter);
     }
 
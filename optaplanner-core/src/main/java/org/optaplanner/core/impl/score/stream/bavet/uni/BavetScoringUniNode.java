@@ -22,18 +22,25 @@ import java.util.function.Function;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTuplePool;
 
 public final class BavetScoringUniNode<A> extends BavetAbstractUniNode<A> implements BavetScoringNode {
 
+    private final BavetConstraint<?> constraint;
     private final Score<?> constraintWeight;
-    private final Function<A, UndoScoreImpacter> scoreImpacter;
+    private final Function<BavetScoringUniTuple<A>, UndoScoreImpacter> scoreImpacter;
 
-    public BavetScoringUniNode(BavetConstraintSession session, int nodeIndex, Score<?> constraintWeight,
-            Function<A, UndoScoreImpacter> scoreImpacter) {
+    private final BavetTuplePool<BavetScoringUniTuple<A>> tuplePool = buildTuplePool();
+
+    public BavetScoringUniNode(BavetConstraintSession session, int nodeIndex, BavetConstraint<?> constraint,
+            Score<?> constraintWeight,
+            Function<BavetScoringUniTuple<A>, UndoScoreImpacter> scoreImpacter) {
         super(session, nodeIndex);
+        this.constraint = constraint;
         this.constraintWeight = constraintWeight;
         this.scoreImpacter = scoreImpacter;
     }
@@ -55,19 +62,23 @@ public final class BavetScoringUniNode<A> extends BavetAbstractUniNode<A> implem
 
     @Override
     public BavetScoringUniTuple<A> createTuple(BavetAbstractUniTuple<A> parentTuple) {
+        BavetScoringUniTuple<A> tuple = (tuplePool == null) ? null : tuplePool.poll();
+        if (tuple != null) {
+            tuple.reuse(parentTuple);
+            return tuple;
+        }
         return new BavetScoringUniTuple<>(this, parentTuple);
     }
 
     @Override
     public void refresh(BavetAbstractTuple uncastTuple) {
         BavetScoringUniTuple<A> tuple = (BavetScoringUniTuple<A>) uncastTuple;
-        A a = tuple.getFactA();
         UndoScoreImpacter oldUndoScoreImpacter = tuple.getUndoScoreImpacter();
         if (oldUndoScoreImpacter != null) {
             oldUndoScoreImpacter.run();
         }
         if (tuple.isActive()) {
-            UndoScoreImpacter undoScoreImpacter = scoreImpacter.apply(a);
+            UndoScoreImpacter undoScoreImpacter = scoreImpacter.apply(tuple);
             tuple.setUndoScoreImpacter(undoScoreImpacter);
         } else {
             tuple.setUndoScoreImpacter(null);
@@ -79,4 +90,23 @@ public final class BavetScoringUniNode<A> extends BavetAbstractUniNode<A> implem
         return "Scoring(" + constraintWeight + ")";
     }
 
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetConstraint<?> getConstraint() {
+        return constraint;
+    }
+
+    @Override
+    public Score<?> getConstraintWeight() {
+        return constraintWeight;
+    }
+
+    @Override
+    public BavetTuplePool<BavetScoringUniTuple<A>> getTuplePool() {
+        return tuplePool;
+    }
+
 }
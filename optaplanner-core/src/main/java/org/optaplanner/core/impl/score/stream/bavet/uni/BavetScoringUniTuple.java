@@ -16,17 +16,22 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.uni;
 
+import static java.util.Collections.singletonList;
+
 import java.util.List;
 
+import org.optaplanner.core.impl.score.inliner.ReusableUndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
 public final class BavetScoringUniTuple<A> extends BavetAbstractUniTuple<A> implements BavetScoringTuple {
 
     private final BavetScoringUniNode<A> node;
-    private final BavetAbstractUniTuple<A> parentTuple;
+    private BavetAbstractUniTuple<A> parentTuple;
 
+    private final ReusableUndoScoreImpacter reusableUndoScoreImpacter = new ReusableUndoScoreImpacter();
     private UndoScoreImpacter undoScoreImpacter = null;
 
     public BavetScoringUniTuple(BavetScoringUniNode<A> node, BavetAbstractUniTuple<A> parentTuple) {
@@ -34,6 +39,20 @@ public final class BavetScoringUniTuple<A> extends BavetAbstractUniTuple<A> impl
         this.parentTuple = parentTuple;
     }
 
+    /**
+     * Reinitializes this dead tuple, as if {@link BavetScoringUniNode} created it.
+     */
+    public void reuse(BavetAbstractUniTuple<A> parentTuple) {
+        this.parentTuple = parentTuple;
+        undoScoreImpacter = null;
+        state = BavetTupleState.NEW;
+    }
+
+    @Override
+    public List<Object> get() {
+        return singletonList(getFactA());
+    }
+
     @Override
     public String toString() {
         return "Scoring(" + getFactsString() + ")";
@@ -58,6 +77,11 @@ public final class BavetScoringUniTuple<A> extends BavetAbstractUniTuple<A> impl
         return parentTuple.getFactA();
     }
 
+    @Override
+    public ReusableUndoScoreImpacter getReusableUndoScoreImpacter() {
+        return reusableUndoScoreImpacter;
+    }
+
     @Override
     public UndoScoreImpacter getUndoScoreImpacter() {
         return undoScoreImpacter;
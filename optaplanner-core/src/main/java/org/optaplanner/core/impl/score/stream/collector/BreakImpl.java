@@ -14,10 +14,10 @@
  * limitations under the License.
  */
 
-package org.optaplanner.examples.common.experimental.impl;
+package org.optaplanner.core.impl.score.stream.collector;
 
-import org.optaplanner.examples.common.experimental.api.Break;
-import org.optaplanner.examples.common.experimental.api.Sequence;
+import org.optaplanner.core.api.score.stream.common.Break;
+import org.optaplanner.core.api.score.stream.common.Sequence;
 
 final class BreakImpl<Value_, Difference_ extends Comparable<Difference_>>
         implements Break<Value_, Difference_> {
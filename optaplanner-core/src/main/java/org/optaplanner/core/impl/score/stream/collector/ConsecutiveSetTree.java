@@ -14,7 +14,7 @@
  * limitations under the License.
  */
 
-package org.optaplanner.examples.common.experimental.impl;
+package org.optaplanner.core.impl.score.stream.collector;
 
 import java.util.Comparator;
 import java.util.Map;
@@ -25,9 +25,9 @@ import java.util.TreeMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
-import org.optaplanner.examples.common.experimental.api.Break;
-import org.optaplanner.examples.common.experimental.api.ConsecutiveInfo;
-import org.optaplanner.examples.common.experimental.api.Sequence;
+import org.optaplanner.core.api.score.stream.common.Break;
+import org.optaplanner.core.api.score.stream.common.ConsecutiveInfo;
+import org.optaplanner.core.api.score.stream.common.Sequence;
 
 /**
  * A {@code ConsecutiveSetTree} determines what values are consecutive. A sequence
@@ -233,7 +233,7 @@ public final class ConsecutiveSetTree<Value_, Point_ extends Comparable<Point_>,
         if (difference != 0) {
             return difference < 0;
         }
-        return System.identityHashCode(aItem) - System.identityHashCode(bItem) < 0;
+        return Integer.compare(System.identityHashCode(aItem), System.identityHashCode(bItem)) < 0;
     }
 
     private boolean isFirstSuccessorOfSecond(Point_ first, Value_ firstValue, Point_ second,
@@ -14,14 +14,14 @@
  * limitations under the License.
  */
 
-package org.optaplanner.examples.common.experimental.impl;
+package org.optaplanner.core.impl.score.stream.collector;
 
 import java.util.Iterator;
 import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.function.BiFunction;
 
-import org.optaplanner.examples.common.experimental.api.IntervalCluster;
+import org.optaplanner.core.api.score.stream.common.IntervalCluster;
 
 final class IntervalClusterImpl<Interval_, Point_ extends Comparable<Point_>, Difference_ extends Comparable<Difference_>>
         implements IntervalCluster<Interval_, Point_, Difference_> {
@@ -14,7 +14,7 @@
  * limitations under the License.
  */
 
-package org.optaplanner.examples.common.experimental.impl;
+package org.optaplanner.core.impl.score.stream.collector;
 
 import java.util.Iterator;
 import java.util.TreeSet;
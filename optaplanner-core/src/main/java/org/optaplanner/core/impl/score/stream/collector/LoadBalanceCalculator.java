@@ -0,0 +1,127 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.collector;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.optaplanner.core.api.score.stream.common.LoadBalance;
+
+/**
+ * Keeps the load per balanced item, together with the count, sum and sum of squares of those loads,
+ * so that adding or retracting a fact is O(1).
+ *
+ * @param <Balanced_> The type of the balanced item (examples: employee, machine)
+ */
+public final class LoadBalanceCalculator<Balanced_> implements LoadBalance<Balanced_> {
+
+    private final int balancedItemCount;
+    private final Map<Balanced_, Load> balancedToLoadMap = new HashMap<>();
+    private long sum = 0L;
+    private long sumOfSquares = 0L;
+
+    public LoadBalanceCalculator() {
+        this(0);
+    }
+
+    /**
+     * @param balancedItemCount {@code >= 0}, the number of balanced items, including those that carry no fact,
+     *        0 if only the balanced items that carry at least one fact take part
+     */
+    public LoadBalanceCalculator(int balancedItemCount) {
+        if (balancedItemCount < 0) {
+            throw new IllegalArgumentException("The balancedItemCount (" + balancedItemCount
+                    + ") cannot be negative.");
+        }
+        this.balancedItemCount = balancedItemCount;
+    }
+
+    public Runnable add(Balanced_ balanced, long load) {
+        Load balancedLoad = balancedToLoadMap.computeIfAbsent(balanced, key -> new Load());
+        balancedLoad.factCount++;
+        updateLoad(balancedLoad, load);
+        return () -> retract(balanced, balancedLoad, load);
+    }
+
+    private void retract(Balanced_ balanced, Load balancedLoad, long load) {
+        updateLoad(balancedLoad, -load);
+        balancedLoad.factCount--;
+        if (balancedLoad.factCount == 0) {
+            balancedToLoadMap.remove(balanced);
+        }
+    }
+
+    private void updateLoad(Load balancedLoad, long loadDelta) {
+        long oldLoad = balancedLoad.load;
+        long newLoad = oldLoad + loadDelta;
+        balancedLoad.load = newLoad;
+        sum += loadDelta;
+        sumOfSquares += (newLoad * newLoad) - (oldLoad * oldLoad);
+    }
+
+    @Override
+    public Map<Balanced_, Long> getLoads() {
+        Map<Balanced_, Long> loadMap = new HashMap<>(balancedToLoadMap.size());
+        balancedToLoadMap.forEach((balanced, balancedLoad) -> loadMap.put(balanced, balancedLoad.load));
+        return Collections.unmodifiableMap(loadMap);
+    }
+
+    @Override
+    public int getBalancedCount() {
+        // A balanced item without any fact has a load of 0, so it doesn't affect the sum or the sum of squares
+        return Math.max(balancedItemCount, balancedToLoadMap.size());
+    }
+
+    @Override
+    public long getSum() {
+        return sum;
+    }
+
+    @Override
+    public long getSumOfSquares() {
+        return sumOfSquares;
+    }
+
+    @Override
+    public double getSquaredDeviation() {
+        int balancedCount = getBalancedCount();
+        if (balancedCount == 0) {
+            return 0.0;
+        }
+        return (double) getUnfairness() / balancedCount;
+    }
+
+    @Override
+    public long getUnfairness() {
+        return (getBalancedCount() * sumOfSquares) - (sum * sum);
+    }
+
+    @Override
+    public String toString() {
+        return "LoadBalance {balancedCount=" + getBalancedCount() + ", sum=" + sum
+                + ", sumOfSquares=" + sumOfSquares + "}";
+    }
+
+    private static final class Load {
+
+        private int factCount = 0;
+        private long load = 0L;
+
+    }
+
+}
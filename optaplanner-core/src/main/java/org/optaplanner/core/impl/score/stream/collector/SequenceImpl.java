@@ -14,14 +14,14 @@
  * limitations under the License.
  */
 
-package org.optaplanner.examples.common.experimental.impl;
+package org.optaplanner.core.impl.score.stream.collector;
 
 import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
-import org.optaplanner.examples.common.experimental.api.Break;
-import org.optaplanner.examples.common.experimental.api.Sequence;
+import org.optaplanner.core.api.score.stream.common.Break;
+import org.optaplanner.core.api.score.stream.common.Sequence;
 
 final class SequenceImpl<Value_, Difference_ extends Comparable<Difference_>> implements Sequence<Value_, Difference_> {
 
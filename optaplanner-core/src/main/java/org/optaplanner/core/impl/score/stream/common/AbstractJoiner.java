@@ -20,4 +20,16 @@ public abstract class AbstractJoiner {
 
     public abstract JoinerType[] getJoinerTypes();
 
+    /**
+     * @param index {@code 0 <= index < getJoinerTypes().length}
+     * @return never null, the mapping function applied to the left side of the join
+     */
+    public abstract Object getLeftMapping(int index);
+
+    /**
+     * @param index {@code 0 <= index < getJoinerTypes().length}
+     * @return never null, the mapping function applied to the right side of the join
+     */
+    public abstract Object getRightMapping(int index);
+
 }
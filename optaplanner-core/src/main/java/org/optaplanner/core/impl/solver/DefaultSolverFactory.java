@@ -42,6 +42,7 @@ import org.optaplanner.core.impl.phase.Phase;
 import org.optaplanner.core.impl.phase.PhaseFactory;
 import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.ScoreDirectorFactoryFactory;
+import org.optaplanner.core.impl.score.director.stream.BavetConstraintStreamScoreDirector;
 import org.optaplanner.core.impl.solver.random.DefaultRandomFactory;
 import org.optaplanner.core.impl.solver.random.RandomFactory;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
@@ -102,6 +103,16 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
                     SolverMetric.CONSTRAINT_MATCH_TOTAL_STEP_SCORE.getMeterId(),
                     SolverMetric.CONSTRAINT_MATCH_TOTAL_BEST_SCORE.getMeterId());
         }
+        if (solverScope.isMetricEnabled(SolverMetric.CONSTRAINT_STREAM_PROFILE)) {
+            if (solverScope.getScoreDirector() instanceof BavetConstraintStreamScoreDirector) {
+                ((BavetConstraintStreamScoreDirector<Solution_, ?>) solverScope.getScoreDirector())
+                        .setProfilingEnabled(true);
+            } else {
+                LOGGER.warn("The metric ({}) cannot function properly"
+                        + " because only the BAVET constraint stream implementation supports profiling.",
+                        SolverMetric.CONSTRAINT_STREAM_PROFILE.getMeterId());
+            }
+        }
 
         BestSolutionRecaller<Solution_> bestSolutionRecaller =
                 BestSolutionRecallerFactory.create().buildBestSolutionRecaller(environmentMode_);
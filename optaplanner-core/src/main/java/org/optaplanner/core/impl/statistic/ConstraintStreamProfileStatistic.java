@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.statistic;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.config.solver.monitoring.SolverMetric;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.stream.BavetConstraintStreamScoreDirector;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintProfile;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.BavetNodeProfile;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+
+public class ConstraintStreamProfileStatistic<Solution_> implements SolverStatistic<Solution_> {
+
+    private final Map<Solver<Solution_>, PhaseLifecycleListenerAdapter<Solution_>> solverToPhaseLifecycleListenerMap =
+            new WeakHashMap<>();
+
+    @Override
+    public void unregister(Solver<Solution_> solver) {
+        PhaseLifecycleListenerAdapter<Solution_> listener = solverToPhaseLifecycleListenerMap.remove(solver);
+        if (listener != null) {
+            ((DefaultSolver<Solution_>) solver).removePhaseLifecycleListener(listener);
+        }
+    }
+
+    @Override
+    public void register(Solver<Solution_> solver) {
+        DefaultSolver<Solution_> defaultSolver = (DefaultSolver<Solution_>) solver;
+        InnerScoreDirector<Solution_, ?> scoreDirector = defaultSolver.getSolverScope().getScoreDirector();
+        if (!(scoreDirector instanceof BavetConstraintStreamScoreDirector)
+                || !((BavetConstraintStreamScoreDirector<Solution_, ?>) scoreDirector).isProfilingEnabled()) {
+            // DefaultSolverFactory already warned about it
+            return;
+        }
+        ConstraintStreamProfileStatisticListener<Solution_> listener = new ConstraintStreamProfileStatisticListener<>();
+        solverToPhaseLifecycleListenerMap.put(solver, listener);
+        defaultSolver.addPhaseLifecycleListener(listener);
+    }
+
+    private static class ConstraintStreamProfileStatisticListener<Solution_>
+            extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        private final Map<String, Map<Tags, AtomicLong>> meterIdToTagsToGaugeMap = new ConcurrentHashMap<>();
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            BavetConstraintSession<Solution_, ?> session =
+                    ((BavetConstraintStreamScoreDirector<Solution_, ?>) stepScope.getScoreDirector()).getSession();
+            Tags solverTags = stepScope.getPhaseScope().getSolverScope().getMonitoringTags();
+            Map<BavetNodeProfile, Tags> nodeProfileToTagsMap = new IdentityHashMap<>();
+            for (BavetConstraintProfile constraintProfile : session.getConstraintProfileMap().values()) {
+                Tags tags = solverTags.and(
+                        "constraint.package", constraintProfile.getConstraintPackage(),
+                        "constraint.name", constraintProfile.getConstraintName());
+                collectMetrics("", tags, constraintProfile.getRefreshCount(), constraintProfile.getRefreshNanos(),
+                        constraintProfile.getLiveTupleCount(), constraintProfile.getIndexBucketCount());
+                for (BavetNodeProfile nodeProfile : constraintProfile.getNodeProfileList()) {
+                    nodeProfileToTagsMap.computeIfAbsent(nodeProfile, k -> solverTags.and(
+                            "node.index", Integer.toString(nodeProfile.getNode().getNodeIndex()),
+                            "node", nodeProfile.getNode().toString()));
+                }
+            }
+            // A shared node feeds several constraints, but only gets 1 set of meters
+            nodeProfileToTagsMap.forEach((nodeProfile, tags) -> collectMetrics(".node", tags,
+                    nodeProfile.getRefreshCount(), nodeProfile.getRefreshNanos(),
+                    nodeProfile.getLiveTupleCount(), nodeProfile.getIndexBucketCount()));
+        }
+
+        private void collectMetrics(String meterIdInfix, Tags tags, long refreshCount, long refreshNanos,
+                long liveTupleCount, long indexBucketCount) {
+            String meterIdPrefix = SolverMetric.CONSTRAINT_STREAM_PROFILE.getMeterId() + meterIdInfix;
+            collectMetric(meterIdPrefix + ".refresh.count", tags, refreshCount);
+            collectMetric(meterIdPrefix + ".refresh.nanos", tags, refreshNanos);
+            collectMetric(meterIdPrefix + ".tuple.count", tags, liveTupleCount);
+            collectMetric(meterIdPrefix + ".index.bucket.count", tags, indexBucketCount);
+        }
+
+        private void collectMetric(String meterId, Tags tags, long value) {
+            meterIdToTagsToGaugeMap.computeIfAbsent(meterId, k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(tags, k -> Metrics.gauge(meterId, tags, new AtomicLong()))
+                    .set(value);
+        }
+
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.calculator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.impl.score.director.incremental.IncrementalScoreDirector;
+import org.optaplanner.core.impl.score.director.incremental.IncrementalScoreDirectorFactory;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+public class AbstractAggregateIncrementalScoreCalculatorTest {
+
+    @Test
+    public void scoreFollowsVariableChanges() {
+        IncrementalScoreDirector<TestdataSolution, SimpleScore> scoreDirector = buildScoreDirector(false);
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        TestdataEntity e2 = new TestdataEntity("e2", v1);
+        TestdataEntity e3 = new TestdataEntity("e3", v1);
+        TestdataEntity e4 = new TestdataEntity("e4", null);
+        TestdataSolution solution = buildSolution(Arrays.asList(v1, v2), Arrays.asList(e1, e2, e3, e4));
+        scoreDirector.setWorkingSolution(solution);
+        // 3 pairs on v1 and a capacity overload of 1 on v1, the uninitialized e4 is ignored
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.ofUninitialized(-1, -3 - 10));
+
+        changeValue(scoreDirector, e3, v2);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.ofUninitialized(-1, -1));
+        changeValue(scoreDirector, e4, v2);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-2));
+        changeValue(scoreDirector, e4, null);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.ofUninitialized(-1, -1));
+        changeValue(scoreDirector, e4, v1);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-3 - 10));
+        // Changing a variable without changing the key
+        changeValue(scoreDirector, e1, v1);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-3 - 10));
+
+        scoreDirector.beforeEntityRemoved(e2);
+        solution.getEntityList().remove(e2);
+        scoreDirector.afterEntityRemoved(e2);
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-1));
+
+        TestdataEntity e5 = new TestdataEntity("e5", v2);
+        scoreDirector.beforeEntityAdded(e5);
+        solution.getEntityList().add(e5);
+        scoreDirector.afterEntityAdded(e5);
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-2));
+
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-2));
+    }
+
+    @Test
+    public void constraintMatchTotals() {
+        IncrementalScoreDirector<TestdataSolution, SimpleScore> scoreDirector = buildScoreDirector(true);
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        TestdataEntity e2 = new TestdataEntity("e2", v1);
+        TestdataEntity e3 = new TestdataEntity("e3", v2);
+        scoreDirector.setWorkingSolution(buildSolution(Arrays.asList(v1, v2), Arrays.asList(e1, e2, e3)));
+        assertThat(scoreDirector.isConstraintMatchEnabled()).isTrue();
+
+        Map<String, ConstraintMatchTotal<SimpleScore>> constraintMatchTotalMap =
+                scoreDirector.getConstraintMatchTotalMap();
+        String packageName = ValueScoreCalculator.class.getPackage().getName();
+        ConstraintMatchTotal<SimpleScore> sameValueTotal = constraintMatchTotalMap.get(packageName + "/sameValue");
+        assertThat(sameValueTotal.getScore()).isEqualTo(SimpleScore.of(-1));
+        assertThat(sameValueTotal.getConstraintMatchSet())
+                .singleElement()
+                .satisfies(constraintMatch -> assertThat(constraintMatch.getJustificationList())
+                        .containsExactly(v1, e1, e2));
+        ConstraintMatchTotal<SimpleScore> capacityTotal = constraintMatchTotalMap.get(packageName + "/capacity");
+        assertThat(capacityTotal.getScore()).isEqualTo(SimpleScore.ZERO);
+        assertThat(capacityTotal.getConstraintMatchSet()).isEmpty();
+
+        changeValue(scoreDirector, e2, v2);
+        Map<Object, Indictment<SimpleScore>> indictmentMap = scoreDirector.getIndictmentMap();
+        assertThat(indictmentMap).containsOnlyKeys(v2, e2, e3);
+        assertThat(indictmentMap.get(e2).getScore()).isEqualTo(SimpleScore.of(-1));
+    }
+
+    @Test
+    public void duplicateConstraintName() {
+        assertThatIllegalStateException()
+                .isThrownBy(() -> new ValueScoreCalculator() {
+                    {
+                        pairConflictsByKey("sameValue", SimpleScore.ONE, TestdataEntity.class, TestdataEntity::getValue);
+                    }
+                })
+                .withMessageContaining("sameValue");
+    }
+
+    private static IncrementalScoreDirector<TestdataSolution, SimpleScore> buildScoreDirector(
+            boolean constraintMatchEnabled) {
+        IncrementalScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new IncrementalScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                        ValueScoreCalculator::new);
+        return scoreDirectorFactory.buildScoreDirector(false, constraintMatchEnabled);
+    }
+
+    private static TestdataSolution buildSolution(Collection<TestdataValue> valueList,
+            Collection<TestdataEntity> entityList) {
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(new ArrayList<>(valueList));
+        solution.setEntityList(new ArrayList<>(entityList));
+        return solution;
+    }
+
+    private static void changeValue(IncrementalScoreDirector<TestdataSolution, SimpleScore> scoreDirector,
+            TestdataEntity entity, TestdataValue value) {
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(value);
+        scoreDirector.afterVariableChanged(entity, "value");
+        scoreDirector.triggerVariableListeners();
+    }
+
+    /**
+     * Penalizes every pair of entities with the same value
+     * and penalizes more than 2 entities per value, counting the "e" codes as 1 each.
+     */
+    private static class ValueScoreCalculator
+            extends AbstractAggregateIncrementalScoreCalculator<TestdataSolution, SimpleScore> {
+
+        private ValueScoreCalculator() {
+            pairConflictsByKey("sameValue", SimpleScore.of(-1), TestdataEntity.class, TestdataEntity::getValue);
+            sumByKey("capacity", SimpleScore.of(-10), TestdataEntity.class, TestdataEntity::getValue,
+                    entity -> entity.getCode().startsWith("e") ? 1L : 0L,
+                    (value, sum) -> Math.max(0L, sum - 2L));
+        }
+
+        @Override
+        protected Collection<?> getEntities(TestdataSolution workingSolution) {
+            return workingSolution.getEntityList();
+        }
+
+    }
+
+}
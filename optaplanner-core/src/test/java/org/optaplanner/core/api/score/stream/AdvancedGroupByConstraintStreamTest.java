@@ -44,7 +44,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void collectedDowngradedAndFiltered() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntity entity = new TestdataLavishEntity("MyEntity 1", solution.getFirstEntityGroup(),
                 solution.getFirstValue());
@@ -70,7 +69,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void collectedAndFiltered() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -104,7 +102,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void collectedFilteredRecollected() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 2);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -128,7 +125,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void uniGroupByRecollected() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 2);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -156,7 +152,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void biGroupByRecollected() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 3, 2, 5);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -185,7 +180,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void triGroupByRecollected() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 3, 2, 6);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -217,7 +211,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void quadGroupByRecollected() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 3, 2, 8);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -252,7 +245,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void biGroupByRegrouped() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 4);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -280,7 +272,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void triGroupByRegrouped() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 6);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -312,7 +303,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void quadGroupByRegrouped() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 8);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -347,7 +337,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void biGroupByRegroupedDouble() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 4);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -376,7 +365,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void triGroupByRegroupedDouble() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 6);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -409,7 +397,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void quadGroupByRegroupedDouble() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 8);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -445,7 +432,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void existsAfterGroupBy() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -480,7 +466,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void groupByAfterExists() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -516,7 +501,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void groupByAfterExistsBi() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -584,7 +568,6 @@ public class AdvancedGroupByConstraintStreamTest extends AbstractConstraintStrea
 
     @TestTemplate
     public void groupByThenJoinThenGroupBy() { // PLANNER-2270
-        assumeDrools();
         assertThatCode(() -> buildScoreDirector(factory -> {
             return factory.from(TestdataLavishEntity.class)
                     .groupBy(TestdataLavishEntity::getEntityGroup, TestdataLavishEntity::getValue)
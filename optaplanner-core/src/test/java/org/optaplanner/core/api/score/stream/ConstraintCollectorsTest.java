@@ -55,9 +55,14 @@ import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.function.QuadFunction;
 import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
+import org.optaplanner.core.api.score.stream.common.ConsecutiveInfo;
+import org.optaplanner.core.api.score.stream.common.ConsecutiveIntervalInfo;
+import org.optaplanner.core.api.score.stream.common.LoadBalance;
 import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
 import org.optaplanner.core.api.score.stream.tri.TriConstraintCollector;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
+import org.optaplanner.core.impl.score.stream.collector.ConsecutiveSetTree;
+import org.optaplanner.core.impl.score.stream.collector.IntervalTree;
 import org.optaplanner.core.impl.util.Pair;
 
 public class ConstraintCollectorsTest {
@@ -3381,6 +3386,201 @@ public class ConstraintCollectorsTest {
         assertResult(collector, container, emptySortedMap());
     }
 
+    // ************************************************************************
+    // consecutive collectors
+    // ************************************************************************
+
+    @Test
+    public void toConsecutiveSequences() {
+        // Edge cases are covered in ConsecutiveSetTreeTest.
+        UniConstraintCollector<Integer, ?, ConsecutiveInfo<Integer, Integer>> collector =
+                ConstraintCollectors.toConsecutiveSequences(Integer::intValue);
+        Object container = collector.supplier().get();
+        // Add first value, sequence is [2]
+        int firstValue = 2;
+        Runnable firstRetractor = accumulate(collector, container, firstValue);
+        assertConsecutiveResult(collector, container, consecutiveData(2));
+        // Add second value, sequence is [1,2]
+        int secondValue = 1;
+        Runnable secondRetractor = accumulate(collector, container, secondValue);
+        assertConsecutiveResult(collector, container, consecutiveData(1, 2));
+        // Add third value, same as the second. Sequence is [{1,1},2}]
+        Runnable thirdRetractor = accumulate(collector, container, secondValue);
+        assertConsecutiveResult(collector, container, consecutiveData(1, 1, 2));
+        // Retract one instance of the second value; we only have two values now.
+        secondRetractor.run();
+        assertConsecutiveResult(collector, container, consecutiveData(1, 2));
+        // Retract final instance of the second value; we only have one value now.
+        thirdRetractor.run();
+        assertConsecutiveResult(collector, container, consecutiveData(2));
+        // Retract last value; there are no values now.
+        firstRetractor.run();
+        assertConsecutiveResult(collector, container, consecutiveData());
+    }
+
+    @Test
+    public void toConsecutiveSequencesBi() {
+        BiConstraintCollector<Integer, Integer, ?, ConsecutiveInfo<Integer, Integer>> collector =
+                ConstraintCollectors.toConsecutiveSequences(Integer::sum, Integer::intValue);
+        Object container = collector.supplier().get();
+        // Add first value, sequence is [2]
+        Runnable firstRetractor = accumulate(collector, container, 1, 1);
+        assertConsecutiveResult(collector, container, consecutiveData(2));
+        // Add second value, sequence is [2,3]
+        Runnable secondRetractor = accumulate(collector, container, 1, 2);
+        assertConsecutiveResult(collector, container, consecutiveData(2, 3));
+        // Retract the first value; sequence is [3]
+        firstRetractor.run();
+        assertConsecutiveResult(collector, container, consecutiveData(3));
+        // Retract the second value; there are no values now.
+        secondRetractor.run();
+        assertConsecutiveResult(collector, container, consecutiveData());
+    }
+
+    @Test
+    public void toConsecutiveIntervals() {
+        // Edge cases are covered in IntervalTreeTest.
+        UniConstraintCollector<Interval, ?, ConsecutiveIntervalInfo<Interval, Integer, Integer>> collector =
+                ConstraintCollectors.toConsecutiveIntervals(Interval::getStart, Interval::getEnd, (a, b) -> b - a);
+        Object container = collector.supplier().get();
+        // Add first value, sequence is [(1,3)]
+        Interval firstValue = new Interval(1, 3);
+        Runnable firstRetractor = accumulate(collector, container, firstValue);
+        assertConsecutiveResult(collector, container, consecutiveIntervalData(firstValue));
+        // Add second value, sequence is [(1,3),(2,4)]
+        Interval secondValue = new Interval(2, 4);
+        Runnable secondRetractor = accumulate(collector, container, secondValue);
+        assertConsecutiveResult(collector, container, consecutiveIntervalData(firstValue, secondValue));
+        // Add third value, same as the second. Sequence is [(1,3),{(2,4),(2,4)}]
+        Runnable thirdRetractor = accumulate(collector, container, secondValue);
+        assertConsecutiveResult(collector, container, consecutiveIntervalData(firstValue, secondValue, secondValue));
+        // Retract one instance of the second value; we only have two values now.
+        secondRetractor.run();
+        assertConsecutiveResult(collector, container, consecutiveIntervalData(firstValue, secondValue));
+        // Retract final instance of the second value; we only have one value now.
+        thirdRetractor.run();
+        assertConsecutiveResult(collector, container, consecutiveIntervalData(firstValue));
+        // Retract last value; there are no values now.
+        firstRetractor.run();
+        assertConsecutiveResult(collector, container, consecutiveIntervalData());
+    }
+
+    @Test
+    public void toConsecutiveIntervalsBi() {
+        BiConstraintCollector<Integer, Integer, ?, ConsecutiveIntervalInfo<Interval, Long, Long>> collector =
+                ConstraintCollectors.toConsecutiveIntervals(Interval::new, Interval::getStart, Interval::getEnd);
+        Object container = collector.supplier().get();
+        // Add first value, sequence is [(1,3)]
+        Runnable firstRetractor = accumulate(collector, container, 1, 3);
+        assertConsecutiveResult(collector, container, consecutiveLongIntervalData(new Interval(1, 3)));
+        // Add second value, sequences are [(1,3)] and [(5,6)]
+        Runnable secondRetractor = accumulate(collector, container, 5, 6);
+        assertConsecutiveResult(collector, container,
+                consecutiveLongIntervalData(new Interval(1, 3), new Interval(5, 6)));
+        // Retract both values; there are no values now.
+        firstRetractor.run();
+        secondRetractor.run();
+        assertConsecutiveResult(collector, container, consecutiveLongIntervalData());
+    }
+
+    private static ConsecutiveInfo<Integer, Integer> consecutiveData(Integer... data) {
+        ConsecutiveSetTree<Integer, Integer, Integer> tree =
+                new ConsecutiveSetTree<>(Integer::intValue, (a, b) -> b - a, Integer::sum, 1, 0);
+        asList(data).forEach(tree::add);
+        return tree;
+    }
+
+    private static ConsecutiveIntervalInfo<Interval, Integer, Integer> consecutiveIntervalData(Interval... data) {
+        IntervalTree<Interval, Integer, Integer> tree =
+                new IntervalTree<>(Interval::getStart, Interval::getEnd, (a, b) -> b - a);
+        asList(data).forEach(tree::add);
+        return tree.getConsecutiveIntervalData();
+    }
+
+    private static ConsecutiveIntervalInfo<Interval, Long, Long> consecutiveLongIntervalData(Interval... data) {
+        IntervalTree<Interval, Long, Long> tree =
+                new IntervalTree<>(interval -> (long) interval.getStart(), interval -> (long) interval.getEnd(),
+                        (a, b) -> b - a);
+        asList(data).forEach(tree::add);
+        return tree.getConsecutiveIntervalData();
+    }
+
+    @Test
+    public void loadBalance() {
+        UniConstraintCollector<String, ?, LoadBalance<Character>> collector =
+                ConstraintCollectors.loadBalance(value -> value.charAt(0));
+        Object container = collector.supplier().get();
+        // Add first value, loads are {a=1}
+        Runnable firstRetractor = accumulate(collector, container, "a1");
+        assertLoadBalance(collector, container, asMap('a', 1L), 1, 0L);
+        // Add second value, loads are {a=2}
+        Runnable secondRetractor = accumulate(collector, container, "a2");
+        assertLoadBalance(collector, container, asMap('a', 2L), 4, 0L);
+        // Add third value, loads are {a=2, b=1}
+        Runnable thirdRetractor = accumulate(collector, container, "b1");
+        assertLoadBalance(collector, container, asMap('a', 2L, 'b', 1L), 5, 1L);
+        // Retract the first value, loads are {a=1, b=1}
+        firstRetractor.run();
+        assertLoadBalance(collector, container, asMap('a', 1L, 'b', 1L), 2, 0L);
+        // Retract the second value, loads are {b=1}
+        secondRetractor.run();
+        assertLoadBalance(collector, container, asMap('b', 1L), 1, 0L);
+        // Retract last value; there are no values now.
+        thirdRetractor.run();
+        assertLoadBalance(collector, container, emptyMap(), 0, 0L);
+    }
+
+    @Test
+    public void loadBalanceWithBalancedItemCount() {
+        UniConstraintCollector<String, ?, LoadBalance<Character>> collector =
+                ConstraintCollectors.loadBalance(value -> value.charAt(0), 3);
+        // Concentrated, loads are {a=3, b=0, c=0}
+        Object concentratedContainer = collector.supplier().get();
+        accumulate(collector, concentratedContainer, "a1");
+        accumulate(collector, concentratedContainer, "a2");
+        accumulate(collector, concentratedContainer, "a3");
+        LoadBalance<Character> concentrated = finish(collector, concentratedContainer);
+        assertThat(concentrated.getLoads()).isEqualTo(asMap('a', 3L));
+        assertThat(concentrated.getBalancedCount()).isEqualTo(3);
+        assertThat(concentrated.getUnfairness()).isEqualTo(18L);
+        // Even, loads are {a=1, b=1, c=1}
+        Object evenContainer = collector.supplier().get();
+        accumulate(collector, evenContainer, "a1");
+        accumulate(collector, evenContainer, "b1");
+        Runnable retractor = accumulate(collector, evenContainer, "c1");
+        LoadBalance<Character> even = finish(collector, evenContainer);
+        assertThat(even.getBalancedCount()).isEqualTo(3);
+        assertThat(even.getUnfairness()).isZero();
+        assertThat(concentrated.getUnfairness()).isGreaterThan(even.getUnfairness());
+        // Retract a value, loads are {a=1, b=1, c=0}
+        retractor.run();
+        assertThat(even.getBalancedCount()).isEqualTo(3);
+        assertThat(even.getUnfairness()).isEqualTo(2L);
+    }
+
+    @Test
+    public void loadBalanceBi() {
+        BiConstraintCollector<String, Integer, ?, LoadBalance<String>> collector =
+                ConstraintCollectors.loadBalance((name, load) -> name, (name, load) -> load);
+        Object container = collector.supplier().get();
+        // Add first value, loads are {a=3}
+        Runnable firstRetractor = accumulate(collector, container, "a", 3);
+        assertLoadBalance(collector, container, asMap("a", 3L), 9, 0L);
+        // Add second value, loads are {a=3, b=1}
+        Runnable secondRetractor = accumulate(collector, container, "b", 1);
+        assertLoadBalance(collector, container, asMap("a", 3L, "b", 1L), 10, 4L);
+        // Add third value, loads are {a=3, b=3}
+        Runnable thirdRetractor = accumulate(collector, container, "b", 2);
+        assertLoadBalance(collector, container, asMap("a", 3L, "b", 3L), 18, 0L);
+        // Retract the first value, loads are {b=3}
+        firstRetractor.run();
+        assertLoadBalance(collector, container, asMap("b", 3L), 9, 0L);
+        // Retract the remaining values; there are no values now.
+        secondRetractor.run();
+        thirdRetractor.run();
+        assertLoadBalance(collector, container, emptyMap(), 0, 0L);
+    }
+
     @Test
     public void conditionally() {
         UniConstraintCollector<Integer, Object, Integer> collector = ConstraintCollectors.conditionally(
@@ -3898,6 +4098,47 @@ public class ConstraintCollectorsTest {
         assertResult(collector, container, Quadruple.of(0, null, null, null));
     }
 
+    private static final class Interval {
+
+        private final int start;
+        private final int end;
+
+        public Interval(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        public int getStart() {
+            return start;
+        }
+
+        public int getEnd() {
+            return end;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Interval interval = (Interval) o;
+            return start == interval.start && end == interval.end;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + start + ", " + end + ")";
+        }
+    }
+
     private static final class Quadruple<A, B, C, D> {
 
         public static <A, B, C, D> Quadruple<A, B, C, D> of(A a, B b, C c, D d) {
@@ -3960,6 +4201,56 @@ public class ConstraintCollectorsTest {
         return collector.accumulator().apply((Container_) container, value);
     }
 
+    private static <A, B, Container_, Result_> void assertConsecutiveResult(
+            BiConstraintCollector<A, B, Container_, Result_> collector, Object container, Result_ expectedResult) {
+        Result_ actualResult = collector.finisher().apply((Container_) container);
+        assertRecursivelyEqual(collector, actualResult, expectedResult);
+    }
+
+    private static <A, Container_, Result_> void assertConsecutiveResult(
+            UniConstraintCollector<A, Container_, Result_> collector, Object container, Result_ expectedResult) {
+        Result_ actualResult = collector.finisher().apply((Container_) container);
+        assertRecursivelyEqual(collector, actualResult, expectedResult);
+    }
+
+    private static <Result_> void assertRecursivelyEqual(Object collector, Result_ actualResult,
+            Result_ expectedResult) {
+        assertThat(actualResult)
+                .as("Collector (" + collector + ") did not produce expected result.")
+                .usingRecursiveComparison()
+                .ignoringFields("sourceTree", "indexFunction", "sequenceList", "startItemToSequence")
+                .isEqualTo(expectedResult);
+    }
+
+    private static <A, B, Container_, Balanced_> void assertLoadBalance(
+            BiConstraintCollector<A, B, Container_, LoadBalance<Balanced_>> collector, Object container,
+            Map<Balanced_, Long> expectedLoads, long expectedSumOfSquares, long expectedUnfairness) {
+        LoadBalance<Balanced_> actualResult = collector.finisher().apply((Container_) container);
+        assertLoadBalance(actualResult, expectedLoads, expectedSumOfSquares, expectedUnfairness);
+    }
+
+    private static <A, Container_, Balanced_> void assertLoadBalance(
+            UniConstraintCollector<A, Container_, LoadBalance<Balanced_>> collector, Object container,
+            Map<Balanced_, Long> expectedLoads, long expectedSumOfSquares, long expectedUnfairness) {
+        LoadBalance<Balanced_> actualResult = collector.finisher().apply((Container_) container);
+        assertLoadBalance(actualResult, expectedLoads, expectedSumOfSquares, expectedUnfairness);
+    }
+
+    private static <A, Container_, Result_> Result_ finish(UniConstraintCollector<A, Container_, Result_> collector,
+            Object container) {
+        return collector.finisher().apply((Container_) container);
+    }
+
+    private static <Balanced_> void assertLoadBalance(LoadBalance<Balanced_> actualResult,
+            Map<Balanced_, Long> expectedLoads, long expectedSumOfSquares, long expectedUnfairness) {
+        assertThat(actualResult.getLoads()).isEqualTo(expectedLoads);
+        assertThat(actualResult.getBalancedCount()).isEqualTo(expectedLoads.size());
+        assertThat(actualResult.getSum())
+                .isEqualTo(expectedLoads.values().stream().mapToLong(Long::longValue).sum());
+        assertThat(actualResult.getSumOfSquares()).isEqualTo(expectedSumOfSquares);
+        assertThat(actualResult.getUnfairness()).isEqualTo(expectedUnfairness);
+    }
+
     private static <A, B, C, D, Container_, Result_> void assertResult(
             QuadConstraintCollector<A, B, C, D, Container_, Result_> collector, Object container,
             Result_ expectedResult) {
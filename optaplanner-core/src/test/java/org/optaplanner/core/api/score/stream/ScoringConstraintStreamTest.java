@@ -725,7 +725,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void penalizeQuadUnweighed() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(
@@ -741,7 +740,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void penalizeQuad() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(
@@ -757,7 +755,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void penalizeQuadLong() {
-        assumeDrools();
         TestdataSimpleLongScoreSolution solution = TestdataSimpleLongScoreSolution.generateSolution();
 
         InnerScoreDirector<TestdataSimpleLongScoreSolution, SimpleLongScore> scoreDirector = buildScoreDirector(
@@ -776,7 +773,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void penalizeQuadBigDecimal() {
-        assumeDrools();
         TestdataSimpleBigDecimalScoreSolution solution = TestdataSimpleBigDecimalScoreSolution.generateSolution();
 
         InnerScoreDirector<TestdataSimpleBigDecimalScoreSolution, SimpleBigDecimalScore> scoreDirector =
@@ -796,7 +792,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void rewardQuadUnweighed() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(
@@ -812,7 +807,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void rewardQuad() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(
@@ -828,7 +822,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void rewardQuadLong() {
-        assumeDrools();
         TestdataSimpleLongScoreSolution solution = TestdataSimpleLongScoreSolution.generateSolution();
 
         InnerScoreDirector<TestdataSimpleLongScoreSolution, SimpleLongScore> scoreDirector = buildScoreDirector(
@@ -847,7 +840,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void rewardQuadBigDecimal() {
-        assumeDrools();
         TestdataSimpleBigDecimalScoreSolution solution = TestdataSimpleBigDecimalScoreSolution.generateSolution();
 
         InnerScoreDirector<TestdataSimpleBigDecimalScoreSolution, SimpleBigDecimalScore> scoreDirector =
@@ -867,7 +859,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void impactPositiveQuadUnweighed() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(
@@ -883,7 +874,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void impactPositiveQuad() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(
@@ -899,7 +889,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void impactPositiveQuadLong() {
-        assumeDrools();
         TestdataSimpleLongScoreSolution solution = TestdataSimpleLongScoreSolution.generateSolution();
 
         InnerScoreDirector<TestdataSimpleLongScoreSolution, SimpleLongScore> scoreDirector = buildScoreDirector(
@@ -918,7 +907,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void impactPositiveQuadBigDecimal() {
-        assumeDrools();
         TestdataSimpleBigDecimalScoreSolution solution = TestdataSimpleBigDecimalScoreSolution.generateSolution();
 
         InnerScoreDirector<TestdataSimpleBigDecimalScoreSolution, SimpleBigDecimalScore> scoreDirector =
@@ -938,7 +926,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void impactNegativeQuad() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(
@@ -954,7 +941,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void impactNegativeQuadLong() {
-        assumeDrools();
         TestdataSimpleLongScoreSolution solution = TestdataSimpleLongScoreSolution.generateSolution();
 
         InnerScoreDirector<TestdataSimpleLongScoreSolution, SimpleLongScore> scoreDirector = buildScoreDirector(
@@ -973,7 +959,6 @@ public class ScoringConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void impactNegativeQuadBigDecimal() {
-        assumeDrools();
         TestdataSimpleBigDecimalScoreSolution solution = TestdataSimpleBigDecimalScoreSolution.generateSolution();
 
         InnerScoreDirector<TestdataSimpleBigDecimalScoreSolution, SimpleBigDecimalScore> scoreDirector =
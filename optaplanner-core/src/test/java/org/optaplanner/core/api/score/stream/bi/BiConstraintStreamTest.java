@@ -417,7 +417,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifExists_unknownClass() {
-        assumeDrools();
         assertThatThrownBy(() -> buildScoreDirector(factory -> {
             return factory.forEachUniquePair(TestdataLavishEntity.class)
                     .ifExists(Integer.class)
@@ -430,7 +429,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifExists_0Joiner0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
         TestdataLavishValueGroup valueGroup = new TestdataLavishValueGroup("MyValueGroup");
         solution.getValueGroupList().add(valueGroup);
@@ -457,7 +455,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifExists_0Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -491,7 +488,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifExists_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -527,7 +523,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifExists_1Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -561,7 +556,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifExistsDoesNotIncludeNullVars() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -585,7 +579,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifExistsIncludesNullVarsWithFrom() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -617,7 +610,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifNotExists_unknownClass() {
-        assumeDrools();
         assertThatThrownBy(() -> buildScoreDirector(factory -> {
             return factory.forEachUniquePair(TestdataLavishEntity.class)
                     .ifNotExists(Integer.class)
@@ -630,7 +622,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifNotExists_0Joiner0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
         TestdataLavishValueGroup valueGroup = new TestdataLavishValueGroup("MyValueGroup");
         solution.getValueGroupList().add(valueGroup);
@@ -657,7 +648,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifNotExists_0Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -695,7 +685,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifNotExists_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -727,7 +716,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifNotExists_1Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -765,7 +753,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifNotExistsDoesNotIncludeNullVars() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -798,7 +785,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void ifNotExistsIncludesNullVarsWithFrom() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -834,7 +820,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_1Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -897,7 +882,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_1Mapping2Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -929,7 +913,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_1Mapping3Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -967,7 +950,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_0Mapping1Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -991,7 +973,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_0Mapping2Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEachUniquePair(TestdataLavishEntity.class)
@@ -1016,7 +997,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_0Mapping3Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEachUniquePair(TestdataLavishEntity.class)
@@ -1049,7 +1029,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_0Mapping4Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEachUniquePair(TestdataLavishEntity.class)
@@ -1083,7 +1062,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_2Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 3, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEachUniquePair(TestdataLavishEntity.class)
@@ -1114,7 +1092,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_2Mapping1Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 4);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -1148,7 +1125,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_2Mapping2Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 4);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -1183,7 +1159,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_3Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 3, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEachUniquePair(TestdataLavishEntity.class)
@@ -1216,7 +1191,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_3Mapping1Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 3, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEachUniquePair(TestdataLavishEntity.class)
@@ -1250,7 +1224,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void groupBy_4Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 3, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEachUniquePair(TestdataLavishEntity.class)
@@ -1288,7 +1261,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest impleme
     @Override
     @TestTemplate
     public void distinct() { // On a distinct stream, this is a no-op.
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEachUniquePair(TestdataLavishEntity.class)
@@ -71,7 +71,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void filter_entity() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 0, 1, 0);
         TestdataLavishValue value1 = new TestdataLavishValue("MyValue 1", solution.getFirstValueGroup());
         solution.getValueList().add(value1);
@@ -124,7 +123,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void filter_consecutive() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(5, 5);
         TestdataLavishEntity entity1 = solution.getEntityList().get(0);
         TestdataLavishEntity entity2 = solution.getEntityList().get(1);
@@ -161,7 +159,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void ifExists_unknownClass() {
-        assumeDrools();
         assertThatThrownBy(() -> buildScoreDirector(factory -> {
             return factory.forEach(TestdataLavishEntity.class)
                     .join(TestdataLavishEntityGroup.class, equal(TestdataLavishEntity::getEntityGroup, identity()))
@@ -179,7 +176,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void ifExists_0Joiner0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -209,7 +205,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void ifExists_0Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -247,7 +242,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void ifExists_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -285,7 +279,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void ifExists_1Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -334,7 +327,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void ifNotExists_unknownClass() {
-        assumeDrools();
         assertThatThrownBy(() -> buildScoreDirector(factory -> {
             return factory.forEach(TestdataLavishEntity.class)
                     .join(TestdataLavishEntityGroup.class, equal(TestdataLavishEntity::getEntityGroup, identity()))
@@ -352,7 +344,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void ifNotExists_0Joiner0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -382,7 +373,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void ifNotExists_0Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -420,7 +410,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void ifNotExists_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -454,7 +443,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void ifNotExists_1Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -509,7 +497,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_0Mapping1Collector() {
-        assumeDrools();
         /*
          * E1 has G1 and V1
          * E2 has G2 and V2
@@ -544,7 +531,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_0Mapping2Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEachUniquePair(TestdataLavishEntity.class)
@@ -571,7 +557,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_0Mapping3Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEachUniquePair(TestdataLavishEntity.class)
@@ -608,7 +593,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_0Mapping4Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEachUniquePair(TestdataLavishEntity.class)
@@ -646,7 +630,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_1Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -671,7 +654,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_1Mapping1Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -706,7 +688,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_1Mapping2Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -740,7 +721,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_1Mapping3Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -782,7 +762,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_2Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEach(TestdataLavishEntity.class)
@@ -818,7 +797,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_2Mapping1Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -856,7 +834,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_2Mapping2Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -894,7 +871,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_3Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -933,7 +909,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_3Mapping1Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -970,7 +945,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void groupBy_4Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -1014,7 +988,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void distinct() { // On a distinct stream, this is a no-op.
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEachUniquePair(TestdataLavishEntity.class)
@@ -1333,7 +1306,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void penalize_Int() {
-        assumeDrools();
         TestdataSolution solution = new TestdataSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(singletonList(v1));
@@ -1361,7 +1333,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void penalize_Long() {
-        assumeDrools();
         TestdataSimpleLongScoreSolution solution = new TestdataSimpleLongScoreSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(asList(v1));
@@ -1390,7 +1361,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void penalize_BigDecimal() {
-        assumeDrools();
         TestdataSimpleBigDecimalScoreSolution solution = new TestdataSimpleBigDecimalScoreSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(asList(v1));
@@ -1421,7 +1391,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void penalize_negative() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 2);
 
         String constraintName = "myConstraint";
@@ -1438,7 +1407,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void reward_Int() {
-        assumeDrools();
         TestdataSolution solution = new TestdataSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(asList(v1));
@@ -1466,7 +1434,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void reward_Long() {
-        assumeDrools();
         TestdataSimpleLongScoreSolution solution = new TestdataSimpleLongScoreSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(asList(v1));
@@ -1495,7 +1462,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void reward_BigDecimal() {
-        assumeDrools();
         TestdataSimpleBigDecimalScoreSolution solution = new TestdataSimpleBigDecimalScoreSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(asList(v1));
@@ -1526,7 +1492,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void reward_negative() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 2);
 
         String constraintName = "myConstraint";
@@ -21,8 +21,11 @@ import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.count;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.countDistinct;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.loadBalance;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.max;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.min;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.toConsecutiveIntervals;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.toConsecutiveSequences;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.toSet;
 import static org.optaplanner.core.api.score.stream.Joiners.equal;
 import static org.optaplanner.core.api.score.stream.Joiners.filtering;
@@ -320,7 +323,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifExists_unknownClass() {
-        assumeDrools();
         assertThatThrownBy(() -> buildScoreDirector(factory -> {
             return factory.forEach(TestdataLavishValueGroup.class)
                     .ifExists(Integer.class)
@@ -333,7 +335,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifExists_0Joiner0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
         TestdataLavishValueGroup valueGroup = new TestdataLavishValueGroup("MyValueGroup");
         solution.getValueGroupList().add(valueGroup);
@@ -364,7 +365,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifExists_0Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -400,7 +400,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifExists_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -435,7 +434,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifExists_1Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -470,7 +468,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
 
     @TestTemplate
     public void ifExistsOther_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -504,7 +501,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifExistsDoesNotIncludeNullVars() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -541,7 +537,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifExistsIncludesNullVarsWithFrom() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -580,7 +575,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifNotExists_unknownClass() {
-        assumeDrools();
         assertThatThrownBy(() -> buildScoreDirector(factory -> {
             return factory.forEach(TestdataLavishValueGroup.class)
                     .ifNotExists(Integer.class)
@@ -593,7 +587,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifNotExists_0Joiner0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
         TestdataLavishValueGroup valueGroup = new TestdataLavishValueGroup("MyValueGroup");
         solution.getValueGroupList().add(valueGroup);
@@ -620,7 +613,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifNotExists_0Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -652,7 +644,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifNotExists_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -684,7 +675,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifNotExists_1Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -720,7 +710,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifNotExistsDoesNotIncludeNullVars() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -753,7 +742,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void ifNotExistsIncludesNullVarsWithFrom() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -783,7 +771,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
 
     @TestTemplate
     public void ifNotExistsOther_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -892,7 +879,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
 
     @TestTemplate
     public void groupBy_1Mapping0Collect_filtered() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -917,7 +903,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
 
     @TestTemplate
     public void groupBy_1Mapping1Collect_filtered() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -944,7 +929,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
 
     @TestTemplate
     public void groupBy_joinedAndFiltered() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -973,7 +957,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_1Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -1009,7 +992,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_1Mapping1Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEach(TestdataLavishEntity.class)
@@ -1037,7 +1019,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_1Mapping2Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEach(TestdataLavishEntity.class)
@@ -1069,7 +1050,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_1Mapping3Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEach(TestdataLavishEntity.class)
@@ -1137,7 +1117,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_0Mapping2Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEach(TestdataLavishEntity.class)
@@ -1162,7 +1141,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_0Mapping3Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEach(TestdataLavishEntity.class)
@@ -1195,7 +1173,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_0Mapping4Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEach(TestdataLavishEntity.class)
@@ -1264,10 +1241,114 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
                 assertMatchWithScore(-1, 2, 1));
     }
 
+    @TestTemplate
+    public void groupBy_0Mapping1Collector_loadBalance() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
+            return factory.forEach(TestdataLavishEntity.class)
+                    .groupBy(loadBalance(TestdataLavishEntity::getEntityGroup))
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE,
+                            loadBalance -> (int) loadBalance.getUnfairness());
+        });
+
+        // From scratch, loads are 2 and 1
+        scoreDirector.setWorkingSolution(solution);
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-1));
+
+        // Incremental, loads are 1 and 1
+        TestdataLavishEntity entity = solution.getFirstEntity();
+        scoreDirector.beforeEntityRemoved(entity);
+        solution.getEntityList().remove(entity);
+        scoreDirector.afterEntityRemoved(entity);
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.ZERO);
+    }
+
+    @TestTemplate
+    public void groupBy_1Mapping1Collector_consecutiveSequences() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 4);
+        TestdataLavishEntity entity1 = solution.getEntityList().get(0);
+        entity1.setIntegerProperty(1);
+        TestdataLavishEntity entity2 = solution.getEntityList().get(1);
+        entity2.setIntegerProperty(2);
+        TestdataLavishEntity entity3 = solution.getEntityList().get(2);
+        entity3.setIntegerProperty(4);
+        TestdataLavishEntity entity4 = solution.getEntityList().get(3);
+        entity4.setIntegerProperty(6);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
+            return factory.forEach(TestdataLavishEntity.class)
+                    .groupBy(TestdataLavishEntity::getEntityGroup,
+                            toConsecutiveSequences(TestdataLavishEntity::getIntegerProperty))
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE,
+                            (entityGroup, consecutiveInfo) -> countItems(consecutiveInfo.getBreaks()));
+        });
+
+        // From scratch, sequences [1, 2], [4] and [6]
+        scoreDirector.setWorkingSolution(solution);
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-2));
+
+        // Incremental, sequences [1, 2] and [6]
+        scoreDirector.beforeEntityRemoved(entity3);
+        solution.getEntityList().remove(entity3);
+        scoreDirector.afterEntityRemoved(entity3);
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-1));
+
+        // Incremental, sequence [1, 2]
+        scoreDirector.beforeEntityRemoved(entity4);
+        solution.getEntityList().remove(entity4);
+        scoreDirector.afterEntityRemoved(entity4);
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.ZERO);
+    }
+
+    @TestTemplate
+    public void groupBy_1Mapping1Collector_consecutiveIntervals() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 3);
+        TestdataLavishEntity entity1 = solution.getEntityList().get(0);
+        entity1.setLongProperty(1L);
+        TestdataLavishEntity entity2 = solution.getEntityList().get(1);
+        entity2.setLongProperty(2L);
+        TestdataLavishEntity entity3 = solution.getEntityList().get(2);
+        entity3.setLongProperty(6L);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
+            return factory.forEach(TestdataLavishEntity.class)
+                    .groupBy(TestdataLavishEntity::getEntityGroup,
+                            toConsecutiveIntervals(TestdataLavishEntity::getLongProperty,
+                                    entity -> entity.getLongProperty() + 2L))
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE,
+                            (entityGroup,
+                                    consecutiveIntervalInfo) -> countItems(consecutiveIntervalInfo.getIntervalClusters()));
+        });
+
+        // From scratch, clusters [1, 4) and [6, 8)
+        scoreDirector.setWorkingSolution(solution);
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-2));
+
+        // Incremental, cluster [1, 4)
+        scoreDirector.beforeEntityRemoved(entity3);
+        solution.getEntityList().remove(entity3);
+        scoreDirector.afterEntityRemoved(entity3);
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-1));
+    }
+
+    private static int countItems(Iterable<?> iterable) {
+        int count = 0;
+        for (Object ignored : iterable) {
+            count++;
+        }
+        return count;
+    }
+
     @Override
     @TestTemplate
     public void groupBy_2Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -1324,7 +1405,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_2Mapping1Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -1362,7 +1442,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_2Mapping2Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -1400,7 +1479,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_3Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 3, 2, 5);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -1444,7 +1522,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_3Mapping1Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 3, 2, 5);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -1488,7 +1565,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void groupBy_4Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 3, 2, 5);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
@@ -1536,7 +1612,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void distinct() { // On a distinct stream, this is a no-op.
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 2, 2);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEach(TestdataLavishEntity.class)
@@ -1557,7 +1632,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void mapWithDuplicates() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 2);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEach(TestdataLavishEntity.class)
@@ -1586,7 +1660,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void mapWithoutDuplicates() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 2);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEach(TestdataLavishEntity.class)
@@ -1616,7 +1689,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void mapAndDistinctWithDuplicates() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 2);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEach(TestdataLavishEntity.class)
@@ -1645,7 +1717,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void mapAndDistinctWithoutDuplicates() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 2);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEach(TestdataLavishEntity.class)
@@ -1676,8 +1747,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void flattenLastWithDuplicates() {
-        assumeDrools();
-
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 2);
         TestdataLavishEntityGroup group1 = solution.getFirstEntityGroup();
         TestdataLavishEntityGroup group2 = solution.getEntityGroupList().get(1);
@@ -1713,7 +1782,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void flattenLastWithoutDuplicates() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 2);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEach(TestdataLavishEntity.class)
@@ -1743,8 +1811,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void flattenLastAndDistinctWithDuplicates() {
-        assumeDrools();
-
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 2);
         TestdataLavishEntityGroup group1 = solution.getFirstEntityGroup();
         TestdataLavishEntityGroup group2 = solution.getEntityGroupList().get(1);
@@ -1776,7 +1842,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
     @Override
     @TestTemplate
     public void flattenLastAndDistinctWithoutDuplicates() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 2);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
             return factory.forEach(TestdataLavishEntity.class)
@@ -2107,7 +2172,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
 
     @TestTemplate
     public void reuseGroupedStream() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 3, 2);
         TestdataLavishEntity entity1 = solution.getEntityList().get(0);
         TestdataLavishEntityGroup entityGroup1 = solution.getFirstEntityGroup();
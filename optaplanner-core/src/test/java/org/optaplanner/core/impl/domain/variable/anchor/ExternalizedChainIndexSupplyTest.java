@@ -0,0 +1,214 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.domain.variable.anchor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.inverserelation.ExternalizedSingletonInverseVariableSupply;
+import org.optaplanner.core.impl.domain.variable.listener.SourcedVariableListener;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedObject;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
+
+public class ExternalizedChainIndexSupplyTest {
+
+    @Test
+    public void chainedEntity() {
+        GenuineVariableDescriptor<TestdataChainedSolution> variableDescriptor =
+                TestdataChainedEntity.buildVariableDescriptorForChainedObject();
+        ScoreDirector<TestdataChainedSolution> scoreDirector = mock(ScoreDirector.class);
+        ExternalizedSingletonInverseVariableSupply<TestdataChainedSolution> nextVariableSupply =
+                new ExternalizedSingletonInverseVariableSupply<>(variableDescriptor);
+        ExternalizedAnchorVariableSupply<TestdataChainedSolution> anchorVariableSupply =
+                new ExternalizedAnchorVariableSupply<>(variableDescriptor, nextVariableSupply);
+        ExternalizedChainIndexSupply<TestdataChainedSolution> supply =
+                new ExternalizedChainIndexSupply<>(variableDescriptor, anchorVariableSupply);
+
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        TestdataChainedEntity a3 = new TestdataChainedEntity("a3", a2);
+        TestdataChainedEntity a4 = new TestdataChainedEntity("a4", a3);
+
+        TestdataChainedAnchor b0 = new TestdataChainedAnchor("b0");
+        TestdataChainedEntity b1 = new TestdataChainedEntity("b1", b0);
+
+        TestdataChainedSolution solution = new TestdataChainedSolution("solution");
+        solution.setChainedAnchorList(Arrays.asList(a0, b0));
+        // Not in chain order, so some entities are inserted before their previous entity
+        solution.setChainedEntityList(Arrays.asList(a3, a1, a4, b1, a2));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        nextVariableSupply.resetWorkingSolution(scoreDirector);
+        anchorVariableSupply.resetWorkingSolution(scoreDirector);
+        supply.resetWorkingSolution(scoreDirector);
+
+        assertThat(supply.getIndexInChain(a0)).isEqualTo(-1);
+        assertThat(supply.getIndexInChain(a1)).isEqualTo(0);
+        assertThat(supply.getIndexInChain(a2)).isEqualTo(1);
+        assertThat(supply.getIndexInChain(a3)).isEqualTo(2);
+        assertThat(supply.getIndexInChain(a4)).isEqualTo(3);
+        assertThat(supply.getIndexInChain(b1)).isEqualTo(0);
+        assertThat(supply.getAnchor(a4)).isSameAs(a0);
+
+        List<SourcedVariableListener<TestdataChainedSolution, Object>> supplyList =
+                Arrays.asList(nextVariableSupply, anchorVariableSupply, supply);
+        // Move a3 and its trailing a4 to the end of chain b
+        changeChainedObjects(scoreDirector, supplyList,
+                new TestdataChainedEntity[] { a3 }, new TestdataChainedObject[] { b1 });
+        assertThat(supply.getIndexInChain(a2)).isEqualTo(1);
+        assertThat(supply.getIndexInChain(b1)).isEqualTo(0);
+        assertThat(supply.getIndexInChain(a3)).isEqualTo(1);
+        assertThat(supply.getIndexInChain(a4)).isEqualTo(2);
+        assertThat(supply.getAnchor(a4)).isSameAs(b0);
+
+        // Swap a1 and a2 within the same chain: a0 -> a2 -> a1
+        changeChainedObjects(scoreDirector, supplyList,
+                new TestdataChainedEntity[] { a1, a2 }, new TestdataChainedObject[] { a2, a0 });
+        assertThat(supply.getIndexInChain(a2)).isEqualTo(0);
+        assertThat(supply.getIndexInChain(a1)).isEqualTo(1);
+
+        // Unassign a1
+        changeChainedObjects(scoreDirector, supplyList,
+                new TestdataChainedEntity[] { a1 }, new TestdataChainedObject[] { null });
+        assertThat(supply.getIndexInChain(a1)).isEqualTo(-1);
+
+        nextVariableSupply.close();
+        anchorVariableSupply.close();
+        supply.close();
+    }
+
+    @Test
+    public void randomChangesMatchChainWalk() {
+        GenuineVariableDescriptor<TestdataChainedSolution> variableDescriptor =
+                TestdataChainedEntity.buildVariableDescriptorForChainedObject();
+        ScoreDirector<TestdataChainedSolution> scoreDirector = mock(ScoreDirector.class);
+        ExternalizedSingletonInverseVariableSupply<TestdataChainedSolution> nextVariableSupply =
+                new ExternalizedSingletonInverseVariableSupply<>(variableDescriptor);
+        ExternalizedAnchorVariableSupply<TestdataChainedSolution> anchorVariableSupply =
+                new ExternalizedAnchorVariableSupply<>(variableDescriptor, nextVariableSupply);
+        ExternalizedChainIndexSupply<TestdataChainedSolution> supply =
+                new ExternalizedChainIndexSupply<>(variableDescriptor, anchorVariableSupply);
+
+        List<TestdataChainedAnchor> anchorList = new ArrayList<>();
+        List<TestdataChainedEntity> entityList = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            TestdataChainedAnchor anchor = new TestdataChainedAnchor("a" + i);
+            anchorList.add(anchor);
+            TestdataChainedObject previous = anchor;
+            for (int j = 0; j < 20; j++) {
+                TestdataChainedEntity entity = new TestdataChainedEntity("e" + i + "_" + j, previous);
+                entityList.add(entity);
+                previous = entity;
+            }
+        }
+        TestdataChainedSolution solution = new TestdataChainedSolution("solution");
+        solution.setChainedAnchorList(anchorList);
+        solution.setChainedEntityList(entityList);
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        nextVariableSupply.resetWorkingSolution(scoreDirector);
+        anchorVariableSupply.resetWorkingSolution(scoreDirector);
+        supply.resetWorkingSolution(scoreDirector);
+        assertIndexesMatchChainWalk(supply, nextVariableSupply, anchorList);
+
+        List<SourcedVariableListener<TestdataChainedSolution, Object>> supplyList =
+                Arrays.asList(nextVariableSupply, anchorVariableSupply, supply);
+        List<TestdataChainedObject> valueList = new ArrayList<>(anchorList);
+        valueList.addAll(entityList);
+        Random workingRandom = new Random(37L);
+        for (int i = 0; i < 1000; i++) {
+            // Move an entity after another value, like a chained change move
+            TestdataChainedEntity entity = entityList.get(workingRandom.nextInt(entityList.size()));
+            TestdataChainedObject toValue = valueList.get(workingRandom.nextInt(valueList.size()));
+            TestdataChainedObject fromValue = entity.getChainedObject();
+            if (toValue == entity || toValue == fromValue) {
+                continue;
+            }
+            TestdataChainedEntity oldNext = (TestdataChainedEntity) nextVariableSupply.getInverseSingleton(entity);
+            TestdataChainedEntity newNext = (TestdataChainedEntity) nextVariableSupply.getInverseSingleton(toValue);
+            List<TestdataChainedEntity> changedEntityList = new ArrayList<>(3);
+            List<TestdataChainedObject> changedValueList = new ArrayList<>(3);
+            changedEntityList.add(entity);
+            changedValueList.add(toValue);
+            if (oldNext != null) {
+                changedEntityList.add(oldNext);
+                changedValueList.add(fromValue);
+            }
+            if (newNext != null) {
+                changedEntityList.add(newNext);
+                changedValueList.add(entity);
+            }
+            changeChainedObjects(scoreDirector, supplyList,
+                    changedEntityList.toArray(new TestdataChainedEntity[0]),
+                    changedValueList.toArray(new TestdataChainedObject[0]));
+            assertIndexesMatchChainWalk(supply, nextVariableSupply, anchorList);
+        }
+
+        nextVariableSupply.close();
+        anchorVariableSupply.close();
+        supply.close();
+    }
+
+    private void assertIndexesMatchChainWalk(ExternalizedChainIndexSupply<TestdataChainedSolution> supply,
+            ExternalizedSingletonInverseVariableSupply<TestdataChainedSolution> nextVariableSupply,
+            List<TestdataChainedAnchor> anchorList) {
+        for (TestdataChainedAnchor anchor : anchorList) {
+            assertThat(supply.getIndexInChain(anchor)).isEqualTo(-1);
+            int index = 0;
+            Object entity = nextVariableSupply.getInverseSingleton(anchor);
+            while (entity != null) {
+                assertThat(supply.getIndexInChain(entity)).isEqualTo(index);
+                index++;
+                entity = nextVariableSupply.getInverseSingleton(entity);
+            }
+        }
+    }
+
+    /**
+     * Like a move: all the before events, then all the changes, then all the after events per supply.
+     */
+    private void changeChainedObjects(ScoreDirector<TestdataChainedSolution> scoreDirector,
+            List<SourcedVariableListener<TestdataChainedSolution, Object>> supplyList,
+            TestdataChainedEntity[] entities, TestdataChainedObject[] chainedObjects) {
+        for (SourcedVariableListener<TestdataChainedSolution, Object> supply : supplyList) {
+            for (TestdataChainedEntity entity : entities) {
+                supply.beforeVariableChanged(scoreDirector, entity);
+            }
+        }
+        for (int i = 0; i < entities.length; i++) {
+            entities[i].setChainedObject(chainedObjects[i]);
+        }
+        for (SourcedVariableListener<TestdataChainedSolution, Object> supply : supplyList) {
+            for (TestdataChainedEntity entity : entities) {
+                supply.afterVariableChanged(scoreDirector, entity);
+            }
+        }
+    }
+
+}
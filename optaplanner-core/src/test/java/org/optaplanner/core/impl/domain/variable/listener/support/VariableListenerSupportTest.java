@@ -17,9 +17,12 @@
 package org.optaplanner.core.impl.domain.variable.listener.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
@@ -32,12 +35,18 @@ import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInvers
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.easy.EasyScoreDirectorFactory;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
 import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
 import org.optaplanner.core.impl.testdata.domain.chained.shadow.TestdataShadowingChainedEntity;
 import org.optaplanner.core.impl.testdata.domain.chained.shadow.TestdataShadowingChainedSolution;
+import org.optaplanner.core.impl.testdata.domain.shadow.batch.TestdataBatchShadowedEntity;
+import org.optaplanner.core.impl.testdata.domain.shadow.batch.TestdataBatchShadowedSolution;
+import org.optaplanner.core.impl.testdata.domain.shadow.cascading.TestdataCascadingShadowedEntity;
+import org.optaplanner.core.impl.testdata.domain.shadow.cascading.TestdataCascadingShadowedSolution;
 
 public class VariableListenerSupportTest {
 
@@ -117,4 +126,133 @@ public class VariableListenerSupportTest {
         assertThat(supply2).isSameAs(supply1);
     }
 
+    @Test
+    public void unchangedShadowVariableStopsPropagation() {
+        EasyScoreDirectorFactory<TestdataCascadingShadowedSolution, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(TestdataCascadingShadowedSolution.buildSolutionDescriptor(),
+                        solution -> SimpleScore.ZERO);
+        InnerScoreDirector<TestdataCascadingShadowedSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+
+        TestdataCascadingShadowedSolution solution = new TestdataCascadingShadowedSolution("s1");
+        TestdataValue a1 = new TestdataValue("a1");
+        TestdataValue a2 = new TestdataValue("a2");
+        TestdataValue b1 = new TestdataValue("b1");
+        solution.setValueList(Arrays.asList(a1, a2, b1));
+        TestdataCascadingShadowedEntity entity = new TestdataCascadingShadowedEntity("e1");
+        solution.setEntityList(Collections.singletonList(entity));
+        scoreDirector.setWorkingSolution(solution);
+
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(a1);
+        scoreDirector.afterVariableChanged(entity, "value");
+        scoreDirector.triggerVariableListeners();
+        assertThat(entity.getLabel()).isEqualTo("a-e1");
+        assertThat(entity.getLabelUpdateCount()).isEqualTo(1);
+        assertThat(entity.getCodePrefixLengthUpdateCount()).isEqualTo(1);
+
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(a2);
+        scoreDirector.afterVariableChanged(entity, "value");
+        scoreDirector.triggerVariableListeners();
+        assertThat(entity.getCodePrefix()).isEqualTo("a");
+        assertThat(entity.getLabelUpdateCount()).isEqualTo(1);
+        // A listener that doesn't opt in is notified even if its source is unchanged
+        assertThat(entity.getCodePrefixLengthUpdateCount()).isEqualTo(2);
+
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(b1);
+        scoreDirector.afterVariableChanged(entity, "value");
+        scoreDirector.triggerVariableListeners();
+        assertThat(entity.getLabel()).isEqualTo("b-e1");
+        assertThat(entity.getLabelUpdateCount()).isEqualTo(2);
+        assertThat(entity.getCodePrefixLengthUpdateCount()).isEqualTo(3);
+
+        // The shadow variable corruption detection still recalculates every shadow variable
+        entity.setLabel("corrupted");
+        assertThatIllegalStateException()
+                .isThrownBy(() -> scoreDirector.assertShadowVariablesAreNotStale(SimpleScore.ZERO, "Corruption"))
+                .withMessageContaining("label");
+    }
+
+    @Test
+    public void batchVariableListener() {
+        EasyScoreDirectorFactory<TestdataBatchShadowedSolution, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(TestdataBatchShadowedSolution.buildSolutionDescriptor(),
+                        solution -> SimpleScore.ZERO);
+        InnerScoreDirector<TestdataBatchShadowedSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+
+        TestdataBatchShadowedSolution solution = new TestdataBatchShadowedSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        solution.setValueList(Arrays.asList(v1, v2));
+        TestdataBatchShadowedEntity e1 = new TestdataBatchShadowedEntity("e1");
+        TestdataBatchShadowedEntity e2 = new TestdataBatchShadowedEntity("e2");
+        TestdataBatchShadowedEntity e3 = new TestdataBatchShadowedEntity("e3");
+        solution.setEntityList(Arrays.asList(e1, e2, e3));
+        scoreDirector.setWorkingSolution(solution);
+
+        // Like a pillar change move, with a duplicate notification for e1
+        for (TestdataBatchShadowedEntity entity : Arrays.asList(e1, e2, e1)) {
+            scoreDirector.beforeVariableChanged(entity, "value");
+            entity.setValue(v1);
+            scoreDirector.afterVariableChanged(entity, "value");
+        }
+        scoreDirector.triggerVariableListeners();
+        assertThat(e1.getFirstShadow()).isEqualTo("v1/e1");
+        assertThat(e2.getFirstShadow()).isEqualTo("v1/e2");
+        assertThat(e3.getFirstShadow()).isNull();
+        assertThat(e1.getLastBatchSize()).isEqualTo(2);
+        assertThat(e2.getLastBatchSize()).isEqualTo(2);
+        assertThat(e3.getLastBatchSize()).isEqualTo(0);
+
+        scoreDirector.beforeVariableChanged(e3, "value");
+        e3.setValue(v2);
+        scoreDirector.afterVariableChanged(e3, "value");
+        scoreDirector.triggerVariableListeners();
+        assertThat(e3.getFirstShadow()).isEqualTo("v2/e3");
+        assertThat(e3.getLastBatchSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void batchVariableListenerChangeThenRemove() {
+        EasyScoreDirectorFactory<TestdataBatchShadowedSolution, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(TestdataBatchShadowedSolution.buildSolutionDescriptor(),
+                        solution -> SimpleScore.ZERO);
+        InnerScoreDirector<TestdataBatchShadowedSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+
+        TestdataBatchShadowedSolution solution = new TestdataBatchShadowedSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        solution.setValueList(Collections.singletonList(v1));
+        TestdataBatchShadowedEntity e1 = new TestdataBatchShadowedEntity("e1");
+        TestdataBatchShadowedEntity e2 = new TestdataBatchShadowedEntity("e2");
+        TestdataBatchShadowedEntity e3 = new TestdataBatchShadowedEntity("e3");
+        solution.setEntityList(new ArrayList<>(Arrays.asList(e1, e2, e3)));
+        scoreDirector.setWorkingSolution(solution);
+
+        for (TestdataBatchShadowedEntity entity : Arrays.asList(e1, e2)) {
+            scoreDirector.beforeVariableChanged(entity, "value");
+            entity.setValue(v1);
+            scoreDirector.afterVariableChanged(entity, "value");
+        }
+        scoreDirector.beforeEntityRemoved(e2);
+        solution.getEntityList().remove(e2);
+        scoreDirector.afterEntityRemoved(e2);
+        scoreDirector.beforeVariableChanged(e3, "value");
+        e3.setValue(v1);
+        scoreDirector.afterVariableChanged(e3, "value");
+        // The listener fails if a variable change arrives after the removal of its entity
+        scoreDirector.triggerVariableListeners();
+        assertThat(e2.isRemoved()).isTrue();
+        assertThat(e1.getFirstShadow()).isEqualTo("v1/e1");
+        assertThat(e2.getFirstShadow()).isEqualTo("v1/e2");
+        assertThat(e3.getFirstShadow()).isEqualTo("v1/e3");
+        // The changes before the removal are delivered as one batch, the change after it as another
+        assertThat(e1.getLastBatchSize()).isEqualTo(2);
+        assertThat(e2.getLastBatchSize()).isEqualTo(2);
+        assertThat(e3.getLastBatchSize()).isEqualTo(1);
+    }
+
 }
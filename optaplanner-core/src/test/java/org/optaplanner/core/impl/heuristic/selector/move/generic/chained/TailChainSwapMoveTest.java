@@ -28,6 +28,8 @@ import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableDemand;
 import org.optaplanner.core.impl.domain.variable.anchor.AnchorVariableSupply;
+import org.optaplanner.core.impl.domain.variable.anchor.ChainIndexDemand;
+import org.optaplanner.core.impl.domain.variable.anchor.ChainIndexSupply;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableDemand;
 import org.optaplanner.core.impl.domain.variable.inverserelation.SingletonInverseVariableSupply;
@@ -217,6 +219,53 @@ public class TailChainSwapMoveTest {
         //        SelectorTestUtils.assertChain(a0, a1, a2, a3, a4, a5, a6, a7);
     }
 
+    @Test
+    public void doMoveInSameChainWithChainIndexSupply() {
+        GenuineVariableDescriptor<TestdataChainedSolution> variableDescriptor = TestdataChainedEntity
+                .buildVariableDescriptorForChainedObject();
+        SolutionDescriptor<TestdataChainedSolution> solutionDescriptor = variableDescriptor.getEntityDescriptor()
+                .getSolutionDescriptor();
+        InnerScoreDirector<TestdataChainedSolution, SimpleScore> scoreDirector =
+                PlannerTestUtils.mockScoreDirector(solutionDescriptor);
+
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        TestdataChainedEntity a3 = new TestdataChainedEntity("a3", a2);
+        TestdataChainedEntity a4 = new TestdataChainedEntity("a4", a3);
+        TestdataChainedEntity a5 = new TestdataChainedEntity("a5", a4);
+
+        TestdataChainedSolution solution = new TestdataChainedSolution("solution");
+        solution.setChainedAnchorList(Arrays.asList(a0));
+        solution.setChainedEntityList(Arrays.asList(a1, a2, a3, a4, a5));
+
+        scoreDirector.setWorkingSolution(solution);
+        SingletonInverseVariableSupply inverseVariableSupply = scoreDirector.getSupplyManager()
+                .demand(new SingletonInverseVariableDemand<>(variableDescriptor));
+        ChainIndexSupply chainIndexSupply = scoreDirector.getSupplyManager()
+                .demand(new ChainIndexDemand<>(variableDescriptor));
+        SelectorTestUtils.assertChain(a0, a1, a2, a3, a4, a5);
+
+        TailChainSwapMove<TestdataChainedSolution> move = new TailChainSwapMove<>(variableDescriptor, inverseVariableSupply,
+                chainIndexSupply, a4, a1);
+        TailChainSwapMove<TestdataChainedSolution> undoMove = move.createUndoMove(scoreDirector);
+        move.doMove(scoreDirector);
+        SelectorTestUtils.assertChain(a0, a1, a4, a3, a2, a5);
+        assertThat(chainIndexSupply.getIndexInChain(a2)).isEqualTo(3);
+        undoMove.doMove(scoreDirector);
+        SelectorTestUtils.assertChain(a0, a1, a2, a3, a4, a5);
+        assertThat(chainIndexSupply.getIndexInChain(a2)).isEqualTo(1);
+
+        move = new TailChainSwapMove<>(variableDescriptor, inverseVariableSupply, chainIndexSupply, a1, a4);
+        undoMove = move.createUndoMove(scoreDirector);
+        move.doMove(scoreDirector);
+        SelectorTestUtils.assertChain(a0, a5, a2, a3, a4, a1);
+        assertThat(chainIndexSupply.getIndexInChain(a1)).isEqualTo(4);
+        undoMove.doMove(scoreDirector);
+        SelectorTestUtils.assertChain(a0, a1, a2, a3, a4, a5);
+        assertThat(chainIndexSupply.getIndexInChain(a1)).isEqualTo(0);
+    }
+
     @Test
     public void rebase() {
         GenuineVariableDescriptor<TestdataChainedSolution> variableDescriptor = TestdataChainedEntity
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.CompositeAcceptor;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
@@ -74,6 +75,20 @@ public class CompositeAcceptorTest {
         assertThat(isCompositeAccepted(false, false, false)).isFalse();
     }
 
+    @Test
+    public void getAcceptanceThreshold() {
+        Acceptor acceptor1 = mock(Acceptor.class);
+        Acceptor acceptor2 = mock(Acceptor.class);
+        Acceptor acceptor3 = mock(Acceptor.class);
+        when(acceptor1.getAcceptanceThreshold(any(LocalSearchStepScope.class))).thenReturn(SimpleScore.of(-10));
+        when(acceptor2.getAcceptanceThreshold(any(LocalSearchStepScope.class))).thenReturn(null);
+        when(acceptor3.getAcceptanceThreshold(any(LocalSearchStepScope.class))).thenReturn(SimpleScore.of(-5));
+        LocalSearchStepScope<TestdataSolution> stepScope = mock(LocalSearchStepScope.class);
+        assertThat(new CompositeAcceptor(acceptor1, acceptor2, acceptor3).getAcceptanceThreshold(stepScope))
+                .isEqualTo(SimpleScore.of(-5));
+        assertThat(new CompositeAcceptor(acceptor2).getAcceptanceThreshold(stepScope)).isNull();
+    }
+
     private boolean isCompositeAccepted(boolean... childAccepts) {
         List<Acceptor> acceptorList = new ArrayList<>(childAccepts.length);
         for (boolean childAccept : childAccepts) {
@@ -44,6 +44,7 @@ public class HillClimbingAcceptorTest extends AbstractAcceptorTest {
         // lastCompletedStepScore = -1000
         LocalSearchStepScope<TestdataSolution> stepScope0 = new LocalSearchStepScope<>(phaseScope);
         LocalSearchMoveScope<TestdataSolution> moveScope0 = buildMoveScope(stepScope0, -500);
+        assertThat(acceptor.getAcceptanceThreshold(stepScope0)).isEqualTo(SimpleScore.of(-1000));
         assertThat(acceptor.isAccepted(buildMoveScope(stepScope0, -900))).isTrue();
         assertThat(acceptor.isAccepted(moveScope0)).isTrue();
         assertThat(acceptor.isAccepted(buildMoveScope(stepScope0, -800))).isTrue();
@@ -60,6 +61,7 @@ public class HillClimbingAcceptorTest extends AbstractAcceptorTest {
         // lastCompletedStepScore = -500
         LocalSearchStepScope<TestdataSolution> stepScope1 = new LocalSearchStepScope<>(phaseScope);
         LocalSearchMoveScope<TestdataSolution> moveScope1 = buildMoveScope(stepScope1, 600);
+        assertThat(acceptor.getAcceptanceThreshold(stepScope1)).isEqualTo(SimpleScore.of(-500));
         assertThat(acceptor.isAccepted(buildMoveScope(stepScope1, -900))).isFalse();
         assertThat(acceptor.isAccepted(buildMoveScope(stepScope1, -2000))).isFalse();
         assertThat(acceptor.isAccepted(buildMoveScope(stepScope1, -700))).isFalse();
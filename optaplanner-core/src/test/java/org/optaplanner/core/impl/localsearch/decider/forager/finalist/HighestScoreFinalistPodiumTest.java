@@ -0,0 +1,90 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.decider.forager.finalist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.extractSingleton;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.buildin.hardsoft.HardSoftScoreDefinition;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+public class HighestScoreFinalistPodiumTest {
+
+    @Test
+    public void partialScoresOnlyCompareHardLevels() {
+        HighestScoreFinalistPodium<TestdataSolution> finalistPodium = new HighestScoreFinalistPodium<>();
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = buildPhaseScope();
+        finalistPodium.phaseStarted(phaseScope);
+
+        LocalSearchStepScope<TestdataSolution> stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        finalistPodium.stepStarted(stepScope0);
+        LocalSearchMoveScope<TestdataSolution> moveScope0 = buildMoveScope(stepScope0, -2, -900, false, true);
+        LocalSearchMoveScope<TestdataSolution> moveScope1 = buildMoveScope(stepScope0, -2, -1, false, true);
+        finalistPodium.addMove(buildMoveScope(stepScope0, -3, 0, false, true));
+        finalistPodium.addMove(moveScope0);
+        finalistPodium.addMove(moveScope1);
+        // The soft levels of a partial score aren't reliable, so both are finalists
+        assertThat(finalistPodium.getFinalistList()).containsExactly(moveScope0, moveScope1);
+        finalistPodium.stepEnded(stepScope0);
+
+        LocalSearchStepScope<TestdataSolution> stepScope1 = new LocalSearchStepScope<>(phaseScope);
+        finalistPodium.stepStarted(stepScope1);
+        LocalSearchMoveScope<TestdataSolution> moveScope2 = buildMoveScope(stepScope1, -1, -5000, false, false);
+        finalistPodium.addMove(buildMoveScope(stepScope1, -2, -1, false, true));
+        finalistPodium.addMove(moveScope2);
+        finalistPodium.addMove(buildMoveScope(stepScope1, -2, 0, false, true));
+        assertThat(extractSingleton(finalistPodium.getFinalistList())).isSameAs(moveScope2);
+        LocalSearchMoveScope<TestdataSolution> moveScope3 = buildMoveScope(stepScope1, -1, -6000, true, false);
+        finalistPodium.addMove(moveScope3);
+        assertThat(extractSingleton(finalistPodium.getFinalistList())).isSameAs(moveScope3);
+        finalistPodium.stepEnded(stepScope1);
+    }
+
+    private static LocalSearchPhaseScope<TestdataSolution> buildPhaseScope() {
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        InnerScoreDirector<TestdataSolution, HardSoftScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getScoreDefinition()).thenReturn(new HardSoftScoreDefinition());
+        solverScope.setScoreDirector(scoreDirector);
+        solverScope.setBestScore(HardSoftScore.of(-1, -1000));
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setScore(solverScope.getBestScore());
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        return phaseScope;
+    }
+
+    private static LocalSearchMoveScope<TestdataSolution> buildMoveScope(LocalSearchStepScope<TestdataSolution> stepScope,
+            int hardScore, int softScore, boolean accepted, boolean scorePartial) {
+        Move<TestdataSolution> move = mock(Move.class);
+        LocalSearchMoveScope<TestdataSolution> moveScope = new LocalSearchMoveScope<>(stepScope, 0, move);
+        moveScope.setScore(HardSoftScore.of(hardScore, softScore));
+        moveScope.setAccepted(accepted);
+        moveScope.setScorePartial(scorePartial);
+        return moveScope;
+    }
+
+}
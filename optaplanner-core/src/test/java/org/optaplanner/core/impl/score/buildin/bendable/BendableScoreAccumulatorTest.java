@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.buildin.bendable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.bendable.BendableScore;
+import org.optaplanner.core.impl.score.ScoreUtils;
+
+public class BendableScoreAccumulatorTest {
+
+    @Test
+    public void addAndUndo() {
+        BendableScoreAccumulator accumulator = new BendableScoreAccumulator(2, 3);
+        accumulator.addHard(1, -5);
+        accumulator.addSoft(2, 7);
+        assertThat(accumulator.extractScore(0))
+                .isEqualTo(BendableScore.of(new int[] { 0, -5 }, new int[] { 0, 0, 7 }));
+
+        int[] hardWeights = { 1, 2 };
+        int[] softWeights = { 3, 0, -4 };
+        accumulator.addMultiplied(hardWeights, softWeights, 10);
+        assertThat(accumulator.extractScore(-1))
+                .isEqualTo(BendableScore.ofUninitialized(-1, new int[] { 10, 15 }, new int[] { 30, 0, -33 }));
+        accumulator.add(hardWeights, softWeights);
+        accumulator.subtract(hardWeights, softWeights);
+        accumulator.addMultiplied(hardWeights, softWeights, -10);
+        accumulator.addHard(1, 5);
+        accumulator.addSoft(2, -7);
+        assertThat(accumulator.extractScore(0)).isEqualTo(BendableScore.zero(2, 3));
+    }
+
+    @Test
+    public void extractScoreIsACopy() {
+        BendableScoreAccumulator accumulator = new BendableScoreAccumulator(1, 1);
+        accumulator.addHard(0, 1);
+        BendableScore score = accumulator.extractScore(0);
+        accumulator.addHard(0, 1);
+        assertThat(score.getHardScore(0)).isEqualTo(1);
+    }
+
+    @Test
+    public void compareHardLevelsWithoutExtractingScore() {
+        BendableScoreAccumulator accumulator = new BendableScoreAccumulator(2, 2);
+        accumulator.addHard(1, -2);
+        accumulator.addSoft(0, 3);
+        BendableScore[] otherScores = {
+                BendableScore.of(new int[] { 0, -2 }, new int[] { 3, 0 }),
+                BendableScore.of(new int[] { 0, -2 }, new int[] { 4, 0 }),
+                BendableScore.of(new int[] { 0, -3 }, new int[] { 9, 9 }),
+                BendableScore.of(new int[] { 1, -9 }, new int[] { 0, 0 }),
+                BendableScore.ofUninitialized(-1, new int[] { 0, -2 }, new int[] { 3, 0 })
+        };
+        for (BendableScore otherScore : otherScores) {
+            BendableScore score = accumulator.extractScore(0);
+            for (int hardLevelsSize = 0; hardLevelsSize <= 2; hardLevelsSize++) {
+                assertThat(Integer.signum(accumulator.compareHardLevelsTo(0, otherScore, hardLevelsSize)))
+                        .isEqualTo(Integer.signum(ScoreUtils.compareHardLevels(score, otherScore, hardLevelsSize)));
+            }
+        }
+    }
+
+}
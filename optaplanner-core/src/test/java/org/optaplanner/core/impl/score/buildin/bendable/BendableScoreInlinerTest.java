@@ -143,6 +143,21 @@ public class BendableScoreInlinerTest
                 .isEqualTo(buildScore(0, 0, 0));
     }
 
+    @Test
+    public void compareHardLevels() {
+        TestConstraint<TestdataBendableScoreSolution, BendableScore> constraint =
+                buildConstraint(buildScore(10, 1, 100));
+        BendableScoreInliner scoreInliner =
+                new BendableScoreInliner(getConstaintToWeightMap(constraint), constraintMatchEnabled, 1, 2);
+
+        WeightedScoreImpacter impacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        impacter.impactScore(-2, EMPTY_JUSTIFICATIONS_SUPPLIER);
+        assertThat(scoreInliner.compareHardLevels(0, buildScore(-20, 0, 0), 1)).isZero();
+        assertThat(scoreInliner.compareHardLevels(0, buildScore(-19, -500, -500), 1)).isNegative();
+        assertThat(scoreInliner.compareHardLevels(0, buildScore(-21, 500, 500), 1)).isPositive();
+        assertThat(scoreInliner.compareHardLevels(-1, buildScore(-30, 0, 0), 1)).isNegative();
+    }
+
     @Override
     protected SolutionDescriptor<TestdataBendableScoreSolution> buildSolutionDescriptor() {
         return TestdataBendableScoreSolution.buildSolutionDescriptor();
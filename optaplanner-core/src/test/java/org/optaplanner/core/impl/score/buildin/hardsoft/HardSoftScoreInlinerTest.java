@@ -18,13 +18,20 @@ package org.optaplanner.core.impl.score.buildin.hardsoft;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.score.buildin.AbstractScoreInlinerTest;
 import org.optaplanner.core.impl.score.inliner.JustificationsSupplier;
+import org.optaplanner.core.impl.score.inliner.ReusableUndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 import org.optaplanner.core.impl.testdata.domain.score.TestdataHardSoftScoreSolution;
@@ -118,6 +125,122 @@ public class HardSoftScoreInlinerTest
                 .isEqualTo(HardSoftScore.of(0, 0));
     }
 
+    @Test
+    public void impactAllWithoutConstraintMatchReusesUndo() {
+        TestConstraint<TestdataHardSoftScoreSolution, HardSoftScore> constraint =
+                buildConstraint(HardSoftScore.of(10, 100));
+        HardSoftScoreInliner scoreInliner = new HardSoftScoreInliner(getConstaintToWeightMap(constraint), false);
+
+        WeightedScoreImpacter impacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        ReusableUndoScoreImpacter reusableUndo = new ReusableUndoScoreImpacter();
+        JustificationsSupplier failingJustificationsSupplier = () -> {
+            throw new IllegalStateException("Justifications are only needed for constraint matches.");
+        };
+        UndoScoreImpacter undo1 = impacter.impactScore(10, failingJustificationsSupplier, reusableUndo);
+        assertThat(undo1).isSameAs(reusableUndo);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(100, 1_000));
+
+        undo1.run();
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(0, 0));
+
+        UndoScoreImpacter undo2 = impacter.impactScore(Integer.MIN_VALUE, failingJustificationsSupplier, reusableUndo);
+        assertThat(undo2).isSameAs(reusableUndo);
+        undo2.run(); // Negating Integer.MIN_VALUE overflows, but the score still returns to zero.
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(0, 0));
+    }
+
+    @Test
+    public void impactAllWithoutConstraintMatchOrReusableUndo() {
+        TestConstraint<TestdataHardSoftScoreSolution, HardSoftScore> constraint =
+                buildConstraint(HardSoftScore.of(10, 100));
+        HardSoftScoreInliner scoreInliner = new HardSoftScoreInliner(getConstaintToWeightMap(constraint), false);
+
+        WeightedScoreImpacter impacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        JustificationsSupplier failingJustificationsSupplier = () -> {
+            throw new IllegalStateException("Justifications are only needed for constraint matches.");
+        };
+        // Without a match that owns a reusable undo (such as in Drools), the undo is a plain lambda
+        UndoScoreImpacter undo1 = impacter.impactScore(10, failingJustificationsSupplier);
+        assertThat(undo1).isNotInstanceOf(ReusableUndoScoreImpacter.class);
+        UndoScoreImpacter undo2 = impacter.impactScore(2, failingJustificationsSupplier);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(120, 1_200));
+
+        undo1.run();
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(20, 200));
+        undo2.run();
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(0, 0));
+    }
+
+    @Test
+    public void impactAllWithConstraintMatchMaterializesLazily() {
+        TestConstraint<TestdataHardSoftScoreSolution, HardSoftScore> constraint =
+                buildConstraint(HardSoftScore.of(10, 100));
+        HardSoftScoreInliner scoreInliner = new HardSoftScoreInliner(getConstaintToWeightMap(constraint), true);
+
+        WeightedScoreImpacter impacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        AtomicInteger justificationsCount = new AtomicInteger();
+        ReusableUndoScoreImpacter reusableUndo1 = new ReusableUndoScoreImpacter();
+        UndoScoreImpacter undo1 = impacter.impactScore(1, () -> {
+            justificationsCount.incrementAndGet();
+            return Arrays.asList("A", "B");
+        }, reusableUndo1);
+        assertThat(undo1).isSameAs(reusableUndo1);
+        UndoScoreImpacter undo2 = impacter.impactScore(2, () -> {
+            justificationsCount.incrementAndGet();
+            return Arrays.asList("B", "B");
+        }, new ReusableUndoScoreImpacter());
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(30, 300));
+
+        ConstraintMatchTotal<HardSoftScore> summary =
+                scoreInliner.getConstraintMatchTotalSummaryMap().get(constraint.getConstraintId());
+        assertThat(summary.getConstraintMatchCount()).isEqualTo(2);
+        assertThat(summary.getScore()).isEqualTo(HardSoftScore.of(30, 300));
+        assertThat(justificationsCount).hasValue(0);
+
+        ConstraintMatchTotal<HardSoftScore> constraintMatchTotal =
+                scoreInliner.getConstraintMatchTotalMap().get(constraint.getConstraintId());
+        assertThat(constraintMatchTotal.getConstraintMatchCount()).isEqualTo(2);
+        assertThat(constraintMatchTotal.getScore()).isEqualTo(HardSoftScore.of(30, 300));
+        assertThat(constraintMatchTotal.getConstraintMatchSet())
+                .extracting(ConstraintMatch::getJustificationList)
+                .containsExactly(Arrays.asList("A", "B"), Arrays.asList("B", "B"));
+        assertThat(justificationsCount).hasValue(2);
+        Map<Object, Indictment<HardSoftScore>> indictmentMap = scoreInliner.getIndictmentMap();
+        assertThat(indictmentMap.get("A").getScore()).isEqualTo(HardSoftScore.of(10, 100));
+        assertThat(indictmentMap.get("B").getScore()).isEqualTo(HardSoftScore.of(30, 300));
+        Map<String, ConstraintMatchTotal<HardSoftScore>> liveConstraintMatchTotalMap =
+                scoreInliner.getConstraintMatchTotalMap();
+        Map<String, ConstraintMatchTotal<HardSoftScore>> constraintMatchTotalSnapshot =
+                scoreInliner.snapshotConstraintMatchTotalMap();
+
+        undo1.run();
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(20, 200));
+        // The live maps reflect the undo, the snapshot doesn't
+        assertThat(liveConstraintMatchTotalMap.get(constraint.getConstraintId()).getScore())
+                .isEqualTo(HardSoftScore.of(20, 200));
+        assertThat(indictmentMap).containsOnlyKeys("B");
+        assertThat(constraintMatchTotalSnapshot.get(constraint.getConstraintId()).getScore())
+                .isEqualTo(HardSoftScore.of(30, 300));
+        assertThat(scoreInliner.getConstraintMatchTotalMap().get(constraint.getConstraintId()).getScore())
+                .isEqualTo(HardSoftScore.of(20, 200));
+        assertThat(scoreInliner.getIndictmentMap()).containsOnlyKeys("B");
+
+        undo2.run();
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(0, 0));
+        assertThat(scoreInliner.getConstraintMatchTotalMap()).isEmpty();
+        assertThat(scoreInliner.getConstraintMatchTotalSummaryMap()).isEmpty();
+        assertThat(scoreInliner.getIndictmentMap()).isEmpty();
+    }
+
     @Override
     protected SolutionDescriptor<TestdataHardSoftScoreSolution> buildSolutionDescriptor() {
         return TestdataHardSoftScoreSolution.buildSolutionDescriptor();
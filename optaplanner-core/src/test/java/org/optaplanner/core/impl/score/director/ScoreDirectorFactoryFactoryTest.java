@@ -164,6 +164,51 @@ class ScoreDirectorFactoryFactoryTest {
                                 " with DROOLS impl type (BAVET), there can be no gizmoKieBaseSupplier ");
     }
 
+    @Test
+    void constraintStreamsParallelBulkRefreshNoBavet_throws() {
+        ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig()
+                .withConstraintProviderClass(TestdataConstraintProvider.class)
+                .withConstraintStreamImplType(ConstraintStreamImplType.DROOLS)
+                .withConstraintStreamParallelBulkRefreshEnabled(true);
+        ScoreDirectorFactoryFactory<TestdataSolution, SimpleScore> factoryFactory = new ScoreDirectorFactoryFactory<>(config);
+        assertThatCode(() -> factoryFactory.buildScoreDirectorFactory(ScoreDirectorFactoryFactoryTest.class.getClassLoader(),
+                EnvironmentMode.FAST_ASSERT,
+                TestdataSolution.buildSolutionDescriptor()))
+                        .hasMessage("If there is no constraintProviderClass "
+                                + "(class org.optaplanner.core.impl.score.director.ScoreDirectorFactoryFactoryTest$TestdataConstraintProvider)"
+                                + " with BAVET impl type (DROOLS), there can be no constraintStreamParallelBulkRefreshEnabled (true) either.");
+    }
+
+    @Test
+    void constraintStreamsTupleRecyclingNoBavet_throws() {
+        ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig()
+                .withConstraintProviderClass(TestdataConstraintProvider.class)
+                .withConstraintStreamImplType(ConstraintStreamImplType.DROOLS)
+                .withConstraintStreamTupleRecyclingEnabled(true);
+        ScoreDirectorFactoryFactory<TestdataSolution, SimpleScore> factoryFactory = new ScoreDirectorFactoryFactory<>(config);
+        assertThatCode(() -> factoryFactory.buildScoreDirectorFactory(ScoreDirectorFactoryFactoryTest.class.getClassLoader(),
+                EnvironmentMode.FAST_ASSERT,
+                TestdataSolution.buildSolutionDescriptor()))
+                        .hasMessage("If there is no constraintProviderClass "
+                                + "(class org.optaplanner.core.impl.score.director.ScoreDirectorFactoryFactoryTest$TestdataConstraintProvider)"
+                                + " with BAVET impl type (DROOLS), there can be no constraintStreamTupleRecyclingEnabled (true) either.");
+    }
+
+    @Test
+    void constraintStreamsDroolsKieBaseSharingNoDrools_throws() {
+        ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig()
+                .withConstraintProviderClass(TestdataConstraintProvider.class)
+                .withConstraintStreamImplType(ConstraintStreamImplType.BAVET)
+                .withDroolsKieBaseSharingEnabled(true);
+        ScoreDirectorFactoryFactory<TestdataSolution, SimpleScore> factoryFactory = new ScoreDirectorFactoryFactory<>(config);
+        assertThatCode(() -> factoryFactory.buildScoreDirectorFactory(ScoreDirectorFactoryFactoryTest.class.getClassLoader(),
+                EnvironmentMode.FAST_ASSERT,
+                TestdataSolution.buildSolutionDescriptor()))
+                        .hasMessage("If there is no constraintProviderClass "
+                                + "(class org.optaplanner.core.impl.score.director.ScoreDirectorFactoryFactoryTest$TestdataConstraintProvider)"
+                                + " with DROOLS impl type (BAVET), there can be no droolsKieBaseSharingEnabled (true) either.");
+    }
+
     @Test
     void constraintStreamsKieBaseSupplierNotKieBaseDescriptor_throws() {
         ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig()
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.easy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.calculator.PartitionedEasyScoreCalculator;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+public class PartitionedEasyScoreDirectorTest {
+
+    @Test
+    public void recalculateOnlyDirtyPartitions() {
+        ValueConflictScoreCalculator scoreCalculator = new ValueConflictScoreCalculator();
+        EasyScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(), scoreCalculator);
+        EasyScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        assertThat(scoreDirector).isInstanceOf(PartitionedEasyScoreDirector.class);
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        TestdataEntity e2 = new TestdataEntity("e2", v1);
+        TestdataEntity e3 = new TestdataEntity("e3", v2);
+        solution.setEntityList(Arrays.asList(e1, e2, e3));
+        scoreDirector.setWorkingSolution(solution);
+
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-1));
+        assertThat(scoreCalculator.calculatedPartitionKeyList).containsExactlyInAnyOrder(v1, v2, v3);
+
+        scoreCalculator.calculatedPartitionKeyList.clear();
+        scoreDirector.beforeVariableChanged(e3, "value");
+        e3.setValue(v1);
+        scoreDirector.afterVariableChanged(e3, "value");
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-3));
+        assertThat(scoreCalculator.calculatedPartitionKeyList).containsExactlyInAnyOrder(v1, v2);
+
+        scoreCalculator.calculatedPartitionKeyList.clear();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-3));
+        assertThat(scoreCalculator.calculatedPartitionKeyList).isEmpty();
+
+        scoreDirector.beforeVariableChanged(e1, "value");
+        e1.setValue(v3);
+        scoreDirector.afterVariableChanged(e1, "value");
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(scoreCalculator.calculateScore(solution));
+
+        scoreCalculator.calculatedPartitionKeyList.clear();
+        scoreDirector.beforeProblemPropertyChanged(v2);
+        scoreDirector.afterProblemPropertyChanged(v2);
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-1));
+        assertThat(scoreCalculator.calculatedPartitionKeyList).containsExactlyInAnyOrder(v1, v2, v3);
+    }
+
+    @Test
+    public void recalculateDirtyPartitionsInParallelOnADedicatedExecutor() {
+        Set<Thread> threadSet = new HashSet<>();
+        ValueConflictScoreCalculator scoreCalculator = new ValueConflictScoreCalculator() {
+            @Override
+            public synchronized SimpleScore calculatePartitionScore(TestdataSolution solution, Object partitionKey) {
+                threadSet.add(Thread.currentThread());
+                return super.calculatePartitionScore(solution, partitionKey);
+            }
+
+            @Override
+            public boolean isParallelPartitionScoreCalculationEnabled() {
+                return true;
+            }
+        };
+        EasyScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(), scoreCalculator);
+        EasyScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        TestdataSolution solution = TestdataSolution.generateSolution(20, 30);
+        scoreDirector.setWorkingSolution(solution);
+
+        assertThat(scoreDirector.calculateScore()).isEqualTo(scoreCalculator.calculateScore(solution));
+        assertThat(scoreCalculator.calculatedPartitionKeyList).hasSize(20);
+        assertThat(threadSet).contains(Thread.currentThread());
+        assertThat(threadSet).noneMatch(thread -> thread instanceof ForkJoinWorkerThread);
+    }
+
+    @Test
+    public void uninitializedPartitionScore() {
+        EasyScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                        new ValueConflictScoreCalculator() {
+                            @Override
+                            public SimpleScore calculatePartitionScore(TestdataSolution solution, Object partitionKey) {
+                                return SimpleScore.ofUninitialized(-1, 0);
+                            }
+                        });
+        EasyScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(TestdataSolution.generateSolution());
+        assertThatIllegalStateException()
+                .isThrownBy(scoreDirector::calculateScore)
+                .withMessageContaining("initScore");
+    }
+
+    /**
+     * Penalizes every pair of entities with the same value, with one partition per value.
+     */
+    private static class ValueConflictScoreCalculator
+            implements PartitionedEasyScoreCalculator<TestdataSolution, SimpleScore> {
+
+        private final List<Object> calculatedPartitionKeyList = new ArrayList<>();
+
+        @Override
+        public SimpleScore calculateScore(TestdataSolution solution) {
+            int score = 0;
+            for (TestdataValue value : solution.getValueList()) {
+                score += countConflicts(solution, value);
+            }
+            return SimpleScore.of(score);
+        }
+
+        @Override
+        public Collection<?> getPartitionKeys(TestdataSolution solution) {
+            return solution.getValueList();
+        }
+
+        @Override
+        public Collection<?> getPartitionKeys(TestdataSolution solution, Object entity) {
+            TestdataValue value = ((TestdataEntity) entity).getValue();
+            return value == null ? Collections.emptyList() : Collections.singletonList(value);
+        }
+
+        @Override
+        public SimpleScore calculatePartitionScore(TestdataSolution solution, Object partitionKey) {
+            calculatedPartitionKeyList.add(partitionKey);
+            return SimpleScore.of(countConflicts(solution, (TestdataValue) partitionKey));
+        }
+
+        private static int countConflicts(TestdataSolution solution, TestdataValue value) {
+            int count = 0;
+            for (TestdataEntity entity : solution.getEntityList()) {
+                if (entity.getValue() == value) {
+                    count++;
+                }
+            }
+            return -(count * (count - 1) / 2);
+        }
+
+    }
+
+}
@@ -0,0 +1,369 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.Joiners;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.multivar.TestdataMultiVarEntity;
+import org.optaplanner.core.impl.testdata.domain.multivar.TestdataMultiVarSolution;
+import org.optaplanner.core.impl.testdata.domain.multivar.TestdataOtherValue;
+import org.optaplanner.core.impl.testdata.domain.score.TestdataHardSoftScoreSolution;
+
+public class BavetConstraintStreamScoreDirectorTest {
+
+    @Test
+    void variableChangedToTheSameValueDoesNotRefresh() {
+        AtomicInteger filterCount = new AtomicInteger(0);
+        BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                        constraintFactory -> new Constraint[] {
+                                constraintFactory.forEach(TestdataEntity.class)
+                                        .filter(entity -> {
+                                            filterCount.incrementAndGet();
+                                            return entity.getValue().getCode().equals("Generated Value 0");
+                                        })
+                                        .penalize("Generated Value 0", SimpleScore.ONE)
+                        });
+        BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 2);
+        TestdataEntity entity = solution.getEntityList().get(0);
+        TestdataValue oldValue = entity.getValue();
+        TestdataValue otherValue = solution.getValueList().stream()
+                .filter(value -> value != oldValue)
+                .findFirst().get();
+        scoreDirector.setWorkingSolution(solution);
+        SimpleScore score = scoreDirector.calculateScore();
+        VariableDescriptor<TestdataSolution> variableDescriptor = scoreDirector.getSolutionDescriptor()
+                .findEntityDescriptorOrFail(TestdataEntity.class).getVariableDescriptor("value");
+
+        filterCount.set(0);
+        scoreDirector.beforeVariableChanged(variableDescriptor, entity);
+        entity.setValue(oldValue);
+        scoreDirector.afterVariableChanged(variableDescriptor, entity);
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(score);
+        assertThat(filterCount.get()).isZero();
+
+        scoreDirector.beforeVariableChanged(variableDescriptor, entity);
+        entity.setValue(otherValue);
+        scoreDirector.afterVariableChanged(variableDescriptor, entity);
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isNotEqualTo(score);
+        assertThat(filterCount.get()).isEqualTo(1);
+
+        scoreDirector.beforeVariableChanged(variableDescriptor, entity);
+        entity.setValue(oldValue);
+        scoreDirector.afterVariableChanged(variableDescriptor, entity);
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(score);
+        assertThat(filterCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void variableChangedToAnEqualValueRefreshes() {
+        BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                        constraintFactory -> new Constraint[] {
+                                constraintFactory.forEach(TestdataEntity.class)
+                                        .filter(entity -> entity.getValue().getCode().equals("Generated Value 0"))
+                                        .penalize("Generated Value 0", SimpleScore.ONE)
+                        });
+        BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 2);
+        // A user defined equals() that considers every value the same
+        TestdataValue oldValue = new EqualToEveryValue("Generated Value 0");
+        TestdataValue equalValue = new EqualToEveryValue("Other value");
+        solution.getValueList().add(oldValue);
+        solution.getValueList().add(equalValue);
+        TestdataEntity entity = solution.getEntityList().get(1);
+        entity.setValue(oldValue);
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-2));
+        VariableDescriptor<TestdataSolution> variableDescriptor = scoreDirector.getSolutionDescriptor()
+                .findEntityDescriptorOrFail(TestdataEntity.class).getVariableDescriptor("value");
+
+        scoreDirector.beforeVariableChanged(variableDescriptor, entity);
+        entity.setValue(equalValue);
+        scoreDirector.afterVariableChanged(variableDescriptor, entity);
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-1));
+    }
+
+    private static final class EqualToEveryValue extends TestdataValue {
+
+        private EqualToEveryValue(String code) {
+            super(code);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TestdataValue;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+
+    }
+
+    @Test
+    void mappedFactChangedInPlaceRefreshes() {
+        BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                        constraintFactory -> new Constraint[] {
+                                constraintFactory.forEach(TestdataEntity.class)
+                                        .map(TestdataEntity::getValue)
+                                        .filter(value -> value.getCode().equals("Changed"))
+                                        .penalize("Mapped", SimpleScore.ONE),
+                                constraintFactory.forEach(TestdataEntity.class)
+                                        .flattenLast(entity -> Collections.singletonList(entity.getValue()))
+                                        .filter(value -> value.getCode().equals("Changed"))
+                                        .penalize("Flattened", SimpleScore.of(10))
+                        });
+        BavetConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 2);
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.ZERO);
+        TestdataEntity entity = solution.getEntityList().get(0);
+
+        // The entity maps to the same value instance, but a field of that value changed
+        entity.getValue().setCode("Changed");
+        scoreDirector.beforeProblemPropertyChanged(entity);
+        scoreDirector.afterProblemPropertyChanged(entity);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-11));
+
+        entity.getValue().setCode("Unchanged");
+        scoreDirector.beforeProblemPropertyChanged(entity);
+        scoreDirector.afterProblemPropertyChanged(entity);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.ZERO);
+    }
+
+    @Test
+    void interleavedVariableChangesOnlyRefreshChangedVariables() {
+        AtomicInteger filterCount = new AtomicInteger(0);
+        BavetConstraintStreamScoreDirectorFactory<TestdataMultiVarSolution, SimpleScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataMultiVarSolution.buildSolutionDescriptor(),
+                        constraintFactory -> new Constraint[] {
+                                constraintFactory.forEach(TestdataMultiVarEntity.class)
+                                        .filter(entity -> {
+                                            filterCount.incrementAndGet();
+                                            return entity.getPrimaryValue() == entity.getSecondaryValue();
+                                        })
+                                        .penalize("Same primary and secondary value", SimpleScore.ONE)
+                        });
+        BavetConstraintStreamScoreDirector<TestdataMultiVarSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        TestdataValue v0 = new TestdataValue("v0");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataOtherValue w0 = new TestdataOtherValue("w0");
+        TestdataMultiVarEntity e0 = new TestdataMultiVarEntity("e0", v0, v0, w0);
+        TestdataMultiVarEntity e1 = new TestdataMultiVarEntity("e1", v1, v0, w0);
+        TestdataMultiVarSolution solution = new TestdataMultiVarSolution("solution");
+        solution.setValueList(Arrays.asList(v0, v1));
+        solution.setOtherValueList(Collections.singletonList(w0));
+        solution.setMultiVarEntityList(Arrays.asList(e0, e1));
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-1));
+        EntityDescriptor<TestdataMultiVarSolution> entityDescriptor = scoreDirector.getSolutionDescriptor()
+                .findEntityDescriptorOrFail(TestdataMultiVarEntity.class);
+        VariableDescriptor<TestdataMultiVarSolution> primaryDescriptor =
+                entityDescriptor.getVariableDescriptor("primaryValue");
+        VariableDescriptor<TestdataMultiVarSolution> secondaryDescriptor =
+                entityDescriptor.getVariableDescriptor("secondaryValue");
+
+        // Every before call precedes every after call, and nothing changes
+        filterCount.set(0);
+        scoreDirector.beforeVariableChanged(primaryDescriptor, e0);
+        scoreDirector.beforeVariableChanged(secondaryDescriptor, e0);
+        scoreDirector.beforeVariableChanged(primaryDescriptor, e1);
+        scoreDirector.afterVariableChanged(primaryDescriptor, e0);
+        scoreDirector.afterVariableChanged(secondaryDescriptor, e0);
+        scoreDirector.afterVariableChanged(primaryDescriptor, e1);
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-1));
+        assertThat(filterCount.get()).isZero();
+
+        // Only the variable of the last before call is left unchanged
+        scoreDirector.beforeVariableChanged(secondaryDescriptor, e0);
+        scoreDirector.beforeVariableChanged(primaryDescriptor, e1);
+        scoreDirector.beforeVariableChanged(primaryDescriptor, e0);
+        e0.setSecondaryValue(v1);
+        scoreDirector.afterVariableChanged(secondaryDescriptor, e0);
+        scoreDirector.afterVariableChanged(primaryDescriptor, e1);
+        scoreDirector.afterVariableChanged(primaryDescriptor, e0);
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.ZERO);
+        assertThat(filterCount.get()).isEqualTo(1);
+
+        // A nested before call keeps the original value, the unmatched after call refreshes to be safe
+        scoreDirector.beforeVariableChanged(primaryDescriptor, e1);
+        e1.setPrimaryValue(v0);
+        scoreDirector.beforeVariableChanged(primaryDescriptor, e1);
+        e1.setPrimaryValue(v1);
+        scoreDirector.afterVariableChanged(primaryDescriptor, e1);
+        scoreDirector.afterVariableChanged(primaryDescriptor, e1);
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.ZERO);
+        assertThat(filterCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void boundedScoreCalculationSkipsSoftConstraintsOfRejectedMoves() {
+        AtomicInteger softFilterCount = new AtomicInteger(0);
+        BavetConstraintStreamScoreDirectorFactory<TestdataHardSoftScoreSolution, HardSoftScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataHardSoftScoreSolution.buildSolutionDescriptor(),
+                        constraintFactory -> new Constraint[] {
+                                constraintFactory.forEach(TestdataEntity.class)
+                                        .filter(entity -> entity.getValue().getCode().equals("Generated Value 0"))
+                                        .penalize("Generated Value 0", HardSoftScore.ONE_HARD),
+                                constraintFactory.forEach(TestdataEntity.class)
+                                        .filter(entity -> {
+                                            softFilterCount.incrementAndGet();
+                                            return true;
+                                        })
+                                        .penalize("Every entity", HardSoftScore.ONE_SOFT)
+                        });
+        BavetConstraintStreamScoreDirector<TestdataHardSoftScoreSolution, HardSoftScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        TestdataHardSoftScoreSolution solution = TestdataHardSoftScoreSolution.generateSolution(2, 2);
+        TestdataValue value0 = solution.getValueList().get(0);
+        TestdataValue value1 = solution.getValueList().get(1);
+        TestdataEntity entity0 = solution.getEntityList().get(0);
+        TestdataEntity entity1 = solution.getEntityList().get(1);
+        scoreDirector.setWorkingSolution(solution);
+        HardSoftScore score = scoreDirector.calculateScore();
+        assertThat(score).isEqualTo(HardSoftScore.of(-1, -2));
+        VariableDescriptor<TestdataHardSoftScoreSolution> variableDescriptor = scoreDirector.getSolutionDescriptor()
+                .findEntityDescriptorOrFail(TestdataEntity.class).getVariableDescriptor("value");
+
+        softFilterCount.set(0);
+        changeValue(scoreDirector, variableDescriptor, entity1, value0);
+        assertThat(scoreDirector.calculateBoundedScore(score).getHardScore()).isEqualTo(-2);
+        assertThat(softFilterCount.get()).isZero();
+        changeValue(scoreDirector, variableDescriptor, entity1, value1);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(score);
+        assertThat(softFilterCount.get()).isEqualTo(1);
+
+        changeValue(scoreDirector, variableDescriptor, entity0, value1);
+        assertThat(scoreDirector.calculateBoundedScore(score)).isEqualTo(HardSoftScore.of(0, -2));
+        assertThat(softFilterCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void boundedScoreCalculationRefreshesHardConstraintsOfSharedStreams() {
+        BavetConstraintStreamScoreDirectorFactory<TestdataHardSoftScoreSolution, HardSoftScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataHardSoftScoreSolution.buildSolutionDescriptor(),
+                        constraintFactory -> {
+                            UniConstraintStream<TestdataEntity> sharedStream =
+                                    constraintFactory.forEach(TestdataEntity.class)
+                                            .filter(entity -> entity.getValue().getCode().equals("Generated Value 0"));
+                            return new Constraint[] {
+                                    sharedStream.penalize("Soft value 0", HardSoftScore.ONE_SOFT),
+                                    sharedStream.penalize("Hard value 0", HardSoftScore.ONE_HARD),
+                                    constraintFactory.forEach(TestdataEntity.class)
+                                            .join(TestdataEntity.class, Joiners.equal(TestdataEntity::getValue))
+                                            .penalize("Same value", HardSoftScore.ONE_SOFT)
+                            };
+                        });
+        BavetConstraintStreamScoreDirector<TestdataHardSoftScoreSolution, HardSoftScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        TestdataHardSoftScoreSolution solution = TestdataHardSoftScoreSolution.generateSolution(2, 2);
+        scoreDirector.setWorkingSolution(solution);
+        HardSoftScore score = scoreDirector.calculateScore();
+        assertThat(score.getHardScore()).isEqualTo(-1);
+        for (BavetScoringNode scoringNode : scoreDirector.getSession().getScoringNodeList()) {
+            boolean hard = scoringNode.getConstraint().getConstraintName().startsWith("Hard");
+            assertThat(scoringNode.getConstraintWeight()).isEqualTo(hard ? HardSoftScore.ONE_HARD : HardSoftScore.ONE_SOFT);
+        }
+
+        VariableDescriptor<TestdataHardSoftScoreSolution> variableDescriptor = scoreDirector.getSolutionDescriptor()
+                .findEntityDescriptorOrFail(TestdataEntity.class).getVariableDescriptor("value");
+        changeValue(scoreDirector, variableDescriptor, solution.getEntityList().get(1), solution.getValueList().get(0));
+        assertThat(scoreDirector.calculateBoundedScore(score).getHardScore()).isEqualTo(-2);
+    }
+
+    @Test
+    void manyRejectedMovesDoNotPileUpDirtyTuples() {
+        BavetConstraintStreamScoreDirectorFactory<TestdataHardSoftScoreSolution, HardSoftScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataHardSoftScoreSolution.buildSolutionDescriptor(),
+                        constraintFactory -> new Constraint[] {
+                                constraintFactory.forEach(TestdataEntity.class)
+                                        .filter(entity -> entity.getValue().getCode().equals("Generated Value 0"))
+                                        .penalize("Generated Value 0", HardSoftScore.ONE_HARD),
+                                constraintFactory.forEach(TestdataEntity.class)
+                                        .join(TestdataEntity.class, Joiners.equal(TestdataEntity::getValue))
+                                        .penalize("Same value", HardSoftScore.ONE_SOFT)
+                        });
+        BavetConstraintStreamScoreDirector<TestdataHardSoftScoreSolution, HardSoftScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        TestdataHardSoftScoreSolution solution = TestdataHardSoftScoreSolution.generateSolution(2, 20);
+        TestdataValue value0 = solution.getValueList().get(0);
+        TestdataValue value1 = solution.getValueList().get(1);
+        scoreDirector.setWorkingSolution(solution);
+        HardSoftScore score = scoreDirector.calculateScore();
+        VariableDescriptor<TestdataHardSoftScoreSolution> variableDescriptor = scoreDirector.getSolutionDescriptor()
+                .findEntityDescriptorOrFail(TestdataEntity.class).getVariableDescriptor("value");
+        BavetConstraintSession<TestdataHardSoftScoreSolution, HardSoftScore> session = scoreDirector.getSession();
+
+        int maxDirtyTupleCount = 0;
+        for (int i = 0; i < 5_000; i++) {
+            TestdataEntity entity = solution.getEntityList().get(1 + 2 * (i % 10));
+            // Every move is worse on the hard level, so it's rejected
+            changeValue(scoreDirector, variableDescriptor, entity, value0);
+            assertThat(scoreDirector.calculateBoundedScore(score).getHardScore()).isLessThan(score.getHardScore());
+            maxDirtyTupleCount = Math.max(maxDirtyTupleCount, session.getDirtyTupleCount());
+            assertThat(session.getDirtyTupleCount())
+                    .isLessThanOrEqualTo(BavetConstraintSession.MAX_POSTPONED_DIRTY_TUPLE_COUNT);
+            changeValue(scoreDirector, variableDescriptor, entity, value1);
+        }
+        assertThat(maxDirtyTupleCount).isPositive();
+
+        scoreDirector.flushBoundedScoreCalculations();
+        assertThat(session.getDirtyTupleCount()).isZero();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(score);
+    }
+
+    private static <Solution_> void changeValue(BavetConstraintStreamScoreDirector<Solution_, ?> scoreDirector,
+            VariableDescriptor<Solution_> variableDescriptor, TestdataEntity entity, TestdataValue value) {
+        scoreDirector.beforeVariableChanged(variableDescriptor, entity);
+        entity.setValue(value);
+        scoreDirector.afterVariableChanged(variableDescriptor, entity);
+        scoreDirector.triggerVariableListeners();
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.optaplanner.core.api.score.stream.Joiners.equal;
+
+import org.junit.jupiter.api.Test;
+import org.kie.api.runtime.KieSession;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.score.director.drools.KieSessionPool;
+import org.optaplanner.core.impl.testdata.domain.TestdataConstraintProvider;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+public class DroolsConstraintStreamScoreDirectorTest {
+
+    @Test
+    void kieSessionIsRecycledAfterClose() {
+        DroolsConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new DroolsConstraintStreamScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                        new TestdataConstraintProvider(), false);
+        KieSessionPool kieSessionPool = scoreDirectorFactory.getKieSessionPool();
+
+        DroolsConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(TestdataSolution.generateSolution(2, 3));
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-3));
+        KieSession kieSession = scoreDirector.getKieSession();
+        scoreDirector.close();
+        assertThat(kieSessionPool.getMissCount()).isEqualTo(1L);
+        assertThat(kieSessionPool.getHitCount()).isZero();
+
+        // The recycled session must not remember the facts nor the score of the previous score director.
+        DroolsConstraintStreamScoreDirector<TestdataSolution, SimpleScore> otherScoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        otherScoreDirector.setWorkingSolution(TestdataSolution.generateSolution(2, 2));
+        assertThat(otherScoreDirector.getKieSession()).isSameAs(kieSession);
+        assertThat(otherScoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-2));
+        otherScoreDirector.setWorkingSolution(TestdataSolution.generateSolution(2, 4));
+        assertThat(otherScoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-4));
+        otherScoreDirector.close();
+        assertThat(kieSessionPool.getMissCount()).isEqualTo(1L);
+        assertThat(kieSessionPool.getHitCount()).isEqualTo(2L);
+        assertThat(kieSessionPool.getHitRate()).isEqualTo(2.0 / 3.0);
+    }
+
+    @Test
+    void recycledKieSessionCalculatesIncrementallyAndUndoes() {
+        DroolsConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new DroolsConstraintStreamScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                        constraintFactory -> new Constraint[] {
+                                constraintFactory.forEachUniquePair(TestdataEntity.class,
+                                        equal(TestdataEntity::getValue))
+                                        .penalize("Same value", SimpleScore.ONE)
+                        }, false);
+        KieSessionPool kieSessionPool = scoreDirectorFactory.getKieSessionPool();
+        DroolsConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(TestdataSolution.generateSolution(2, 4));
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-2));
+        KieSession kieSession = scoreDirector.getKieSession();
+        scoreDirector.close();
+
+        // The recycled session must neither keep the old globals nor call the undo listener twice
+        DroolsConstraintStreamScoreDirector<TestdataSolution, SimpleScore> otherScoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 4);
+        otherScoreDirector.setWorkingSolution(solution);
+        assertThat(otherScoreDirector.getKieSession()).isSameAs(kieSession);
+        assertThat(kieSessionPool.getHitCount()).isEqualTo(1L);
+        assertThat(otherScoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-2));
+        VariableDescriptor<TestdataSolution> variableDescriptor = otherScoreDirector.getSolutionDescriptor()
+                .findEntityDescriptorOrFail(TestdataEntity.class).getVariableDescriptor("value");
+        TestdataEntity entity = solution.getEntityList().get(0);
+        TestdataValue oldValue = entity.getValue();
+        // Values are {v1, v1, v0, v1}, so v1 has 3 pairs
+        changeValue(otherScoreDirector, variableDescriptor, entity, solution.getValueList().get(1));
+        assertThat(otherScoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-3));
+        // Undo, values are {v0, v1, v0, v1} again
+        changeValue(otherScoreDirector, variableDescriptor, entity, oldValue);
+        assertThat(otherScoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-2));
+        otherScoreDirector.close();
+        kieSessionPool.shutdown();
+    }
+
+    private static void changeValue(DroolsConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector,
+            VariableDescriptor<TestdataSolution> variableDescriptor, TestdataEntity entity, TestdataValue value) {
+        scoreDirector.beforeVariableChanged(variableDescriptor, entity);
+        entity.setValue(value);
+        scoreDirector.afterVariableChanged(variableDescriptor, entity);
+        scoreDirector.triggerVariableListeners();
+    }
+
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.count;
+import static org.optaplanner.core.api.score.stream.Joiners.equal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNode;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+public class BavetConstraintSessionTest {
+
+    private static final ConstraintProvider CONSTRAINT_PROVIDER = constraintFactory -> new Constraint[] {
+            constraintFactory.forEach(TestdataEntity.class)
+                    .join(TestdataEntity.class, equal(TestdataEntity::getValue))
+                    .filter((a, b) -> a != b)
+                    .penalize("Same value", SimpleScore.ONE),
+            constraintFactory.forEach(TestdataEntity.class)
+                    .join(TestdataValue.class, equal(TestdataEntity::getValue, Function.identity()))
+                    .reward("Known value", SimpleScore.ONE)
+    };
+    private static final ConstraintProvider INDEPENDENT_CONSTRAINT_PROVIDER = constraintFactory -> new Constraint[] {
+            constraintFactory.forEach(TestdataEntity.class)
+                    .filter(entity -> entity.getCode().endsWith("0"))
+                    .penalize("Round code", SimpleScore.ONE),
+            constraintFactory.forEach(TestdataEntity.class)
+                    .join(TestdataValue.class, equal(TestdataEntity::getValue, Function.identity()))
+                    .reward("Known value", SimpleScore.ONE),
+            constraintFactory.forEach(TestdataEntity.class)
+                    .groupBy(TestdataEntity::getValue, count())
+                    .penalize("Value usage", SimpleScore.ONE, (value, count) -> count * count)
+    };
+
+    @Test
+    void insertAllMatchesInsert() {
+        TestdataSolution solution = TestdataSolution.generateSolution(3, 7);
+        List<Object> facts = new ArrayList<>(solution.getValueList());
+        facts.addAll(solution.getEntityList());
+        BavetConstraintSession<TestdataSolution, SimpleScore> bulkSession = buildSession(CONSTRAINT_PROVIDER, solution);
+        bulkSession.insertAll(facts);
+        BavetConstraintSession<TestdataSolution, SimpleScore> session = buildSession(CONSTRAINT_PROVIDER, solution);
+        for (Object fact : facts) {
+            session.insert(fact);
+        }
+        SimpleScore score = session.calculateScore(0);
+        assertThat(bulkSession.calculateScore(0)).isEqualTo(score);
+
+        TestdataEntity entity = solution.getEntityList().get(0);
+        entity.setValue(solution.getValueList().get(1));
+        bulkSession.update(entity);
+        session.update(entity);
+        assertThat(bulkSession.calculateScore(0)).isEqualTo(session.calculateScore(0));
+        bulkSession.retract(entity);
+        session.retract(entity);
+        assertThat(bulkSession.calculateScore(0)).isEqualTo(session.calculateScore(0));
+    }
+
+    @Test
+    void tupleRecyclingIsOptIn() {
+        TestdataSolution solution = TestdataSolution.generateSolution(3, 7);
+        List<Object> facts = new ArrayList<>(solution.getValueList());
+        facts.addAll(solution.getEntityList());
+        BavetConstraintSession<TestdataSolution, SimpleScore> session = buildSession(CONSTRAINT_PROVIDER, solution);
+        assertThat(session.isTupleRecyclingEnabled()).isFalse();
+        assertThat(session.getNodes())
+                .allMatch(node -> ((BavetAbstractNode) node).getTuplePool() == null);
+        BavetConstraintSession<TestdataSolution, SimpleScore> recyclingSession = buildSession(CONSTRAINT_PROVIDER, solution,
+                nodeList -> new BavetInterpretedNodeNetworkRefresher(), true);
+        assertThat(recyclingSession.isTupleRecyclingEnabled()).isTrue();
+        assertThat(recyclingSession.getNodes())
+                .anyMatch(node -> ((BavetAbstractNode) node).getTuplePool() != null);
+        session.insertAll(facts);
+        recyclingSession.insertAll(facts);
+        assertThat(recyclingSession.calculateScore(0)).isEqualTo(session.calculateScore(0));
+
+        // The tuples that die in one calculation are reused in the next ones
+        for (int i = 0; i < 10; i++) {
+            TestdataEntity entity = solution.getEntityList().get(i % 7);
+            entity.setValue(solution.getValueList().get(i % 3));
+            session.update(entity);
+            recyclingSession.update(entity);
+            assertThat(recyclingSession.calculateScore(0)).isEqualTo(session.calculateScore(0));
+            session.retract(entity);
+            recyclingSession.retract(entity);
+            assertThat(recyclingSession.calculateScore(0)).isEqualTo(session.calculateScore(0));
+            session.insert(entity);
+            recyclingSession.insert(entity);
+            assertThat(recyclingSession.calculateScore(0)).isEqualTo(session.calculateScore(0));
+        }
+    }
+
+    @Test
+    void dirtyTupleCount() {
+        TestdataSolution solution = TestdataSolution.generateSolution(3, 7);
+        List<Object> facts = new ArrayList<>(solution.getValueList());
+        facts.addAll(solution.getEntityList());
+        BavetConstraintSession<TestdataSolution, SimpleScore> session = buildSession(CONSTRAINT_PROVIDER, solution);
+        assertThat(session.getDirtyTupleCount()).isZero();
+        session.insertAll(facts);
+        // Every fact has a single from node
+        assertThat(session.getDirtyTupleCount()).isEqualTo(3 + 7);
+        session.calculateScore(0);
+        assertThat(session.getDirtyTupleCount()).isZero();
+
+        TestdataEntity entity = solution.getEntityList().get(0);
+        session.update(entity);
+        // Updating a dirty tuple again doesn't enqueue it twice
+        session.update(entity);
+        assertThat(session.getDirtyTupleCount()).isEqualTo(1);
+        session.retract(solution.getEntityList().get(1));
+        assertThat(session.getDirtyTupleCount()).isEqualTo(2);
+        session.calculateScore(0);
+        assertThat(session.getDirtyTupleCount()).isZero();
+    }
+
+    @Test
+    void insertAllRejectsDuplicateFact() {
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 2);
+        TestdataEntity entity = solution.getEntityList().get(0);
+        BavetConstraintSession<TestdataSolution, SimpleScore> session = buildSession(CONSTRAINT_PROVIDER, solution);
+        session.insert(entity);
+        assertThatIllegalStateException()
+                .isThrownBy(() -> session.insertAll(new ArrayList<>(solution.getEntityList())))
+                .withMessageContaining("already inserted");
+    }
+
+    @Test
+    void insertAllRefreshesSubnetworksInParallel() {
+        TestdataSolution solution = TestdataSolution.generateSolution(7, 20_000);
+        List<Object> facts = new ArrayList<>(solution.getValueList());
+        facts.addAll(solution.getEntityList());
+        BavetConstraintSession<TestdataSolution, SimpleScore> bulkSession =
+                buildSession(INDEPENDENT_CONSTRAINT_PROVIDER, solution);
+        assertThat(bulkSession.getSubnetworkCount()).isEqualTo(3);
+        AtomicInteger executedCount = new AtomicInteger(0);
+        bulkSession.setBulkRefreshExecutor(runnable -> {
+            executedCount.incrementAndGet();
+            new Thread(runnable).start();
+        });
+        bulkSession.insertAll(facts);
+        BavetConstraintSession<TestdataSolution, SimpleScore> session =
+                buildSession(INDEPENDENT_CONSTRAINT_PROVIDER, solution);
+        for (Object fact : facts) {
+            session.insert(fact);
+        }
+        SimpleScore score = session.calculateScore(0);
+        assertThat(bulkSession.calculateScore(0)).isEqualTo(score);
+        // The calling thread refreshes the last subnetwork itself.
+        assertThat(executedCount).hasValue(2);
+
+        TestdataEntity entity = solution.getEntityList().get(0);
+        entity.setValue(solution.getValueList().get(1));
+        bulkSession.update(entity);
+        session.update(entity);
+        assertThat(bulkSession.calculateScore(0)).isEqualTo(session.calculateScore(0));
+    }
+
+    @Test
+    void insertAllRefreshesSequentiallyByDefault() {
+        TestdataSolution solution = TestdataSolution.generateSolution(7, 20_000);
+        List<Object> facts = new ArrayList<>(solution.getValueList());
+        facts.addAll(solution.getEntityList());
+        Thread callingThread = Thread.currentThread();
+        List<Thread> filterThreadList = new ArrayList<>();
+        ConstraintProvider threadRecordingConstraintProvider = constraintFactory -> new Constraint[] {
+                constraintFactory.forEach(TestdataEntity.class)
+                        .filter(entity -> filterThreadList.add(Thread.currentThread()))
+                        .penalize("Any entity", SimpleScore.ONE),
+                constraintFactory.forEach(TestdataValue.class)
+                        .filter(value -> filterThreadList.add(Thread.currentThread()))
+                        .penalize("Any value", SimpleScore.ONE)
+        };
+        BavetConstraintSession<TestdataSolution, SimpleScore> recordingSession =
+                buildSession(threadRecordingConstraintProvider, solution);
+        assertThat(recordingSession.getSubnetworkCount()).isEqualTo(2);
+        assertThat(recordingSession.getBulkRefreshExecutor()).isNull();
+        recordingSession.insertAll(facts);
+        assertThat(recordingSession.calculateScore(0)).isEqualTo(SimpleScore.of(-(7 + 20_000)));
+        assertThat(filterThreadList)
+                .hasSize(7 + 20_000)
+                .containsOnly(callingThread);
+    }
+
+    @Test
+    void sharedJoinMakesASingleSubnetwork() {
+        ConstraintProvider constraintProvider = constraintFactory -> {
+            BiConstraintStream<TestdataEntity, TestdataValue> joinedStream = constraintFactory.forEach(TestdataEntity.class)
+                    .join(TestdataValue.class, equal(TestdataEntity::getValue, Function.identity()));
+            return new Constraint[] {
+                    joinedStream.reward("Known value", SimpleScore.ONE),
+                    joinedStream.filter((entity, value) -> value.getCode().endsWith("0"))
+                            .penalize("Round value", SimpleScore.ONE)
+            };
+        };
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 2);
+        assertThat(buildSession(constraintProvider, solution).getSubnetworkCount()).isZero();
+    }
+
+    @Test
+    void constraintProfileMap() {
+        TestdataSolution solution = TestdataSolution.generateSolution(3, 7);
+        List<Object> facts = new ArrayList<>(solution.getValueList());
+        facts.addAll(solution.getEntityList());
+        BavetConstraintSession<TestdataSolution, SimpleScore> session = buildSession(INDEPENDENT_CONSTRAINT_PROVIDER,
+                solution, BavetProfilingNodeNetworkRefresher::new);
+        assertThat(session.isProfilingEnabled()).isTrue();
+        session.insertAll(facts);
+        session.calculateScore(0);
+
+        Map<String, BavetConstraintProfile> constraintIdToProfileMap = session.getConstraintProfileMap();
+        assertThat(constraintIdToProfileMap).hasSize(3);
+        BavetConstraintProfile knownValueProfile = constraintIdToProfileMap.values().stream()
+                .filter(profile -> profile.getConstraintName().equals("Known value"))
+                .findFirst().orElseThrow();
+        // From, forEach() filter, join bridge, join and scoring nodes of the entities, from and join bridge of the values
+        assertThat(knownValueProfile.getNodeProfileList()).hasSize(7);
+        assertThat(knownValueProfile.getRefreshCount()).isEqualTo(7 + 7 + 7 + 7 + 7 + 3 + 3);
+        assertThat(knownValueProfile.getLiveTupleCount()).isEqualTo(7 + 7 + 7 + 7 + 7 + 3 + 3);
+        // Each join bridge has a bucket per value
+        assertThat(knownValueProfile.getIndexBucketCount()).isEqualTo(3 + 3);
+
+        TestdataEntity entity = solution.getEntityList().get(0);
+        session.retract(entity);
+        session.calculateScore(0);
+        assertThat(knownValueProfile.getLiveTupleCount()).isEqualTo(6 + 6 + 6 + 6 + 6 + 3 + 3);
+    }
+
+    @Test
+    void profilingIsOptIn() {
+        BavetConstraintSession<TestdataSolution, SimpleScore> session =
+                buildSession(CONSTRAINT_PROVIDER, TestdataSolution.generateSolution(2, 2));
+        assertThat(session.isProfilingEnabled()).isFalse();
+        assertThatIllegalStateException().isThrownBy(session::getConstraintProfileMap);
+    }
+
+    private static BavetConstraintSession<TestdataSolution, SimpleScore> buildSession(
+            ConstraintProvider constraintProvider, TestdataSolution solution) {
+        return buildSession(constraintProvider, solution, nodeList -> new BavetInterpretedNodeNetworkRefresher());
+    }
+
+    private static BavetConstraintSession<TestdataSolution, SimpleScore> buildSession(
+            ConstraintProvider constraintProvider, TestdataSolution solution,
+            Function<List<BavetNode>, BavetNodeNetworkRefresher> nodeNetworkRefresherFactory) {
+        return buildSession(constraintProvider, solution, nodeNetworkRefresherFactory, false);
+    }
+
+    private static BavetConstraintSession<TestdataSolution, SimpleScore> buildSession(
+            ConstraintProvider constraintProvider, TestdataSolution solution,
+            Function<List<BavetNode>, BavetNodeNetworkRefresher> nodeNetworkRefresherFactory,
+            boolean tupleRecyclingEnabled) {
+        SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        Map<BavetConstraint<TestdataSolution>, SimpleScore> constraintToWeightMap =
+                new BavetConstraintFactory<>(solutionDescriptor).buildConstraints(constraintProvider).stream()
+                        .collect(Collectors.toMap(Function.identity(),
+                                constraint -> constraint.<SimpleScore> extractConstraintWeight(solution)));
+        return new BavetConstraintSession<>(false, solutionDescriptor.getScoreDefinition(), constraintToWeightMap,
+                nodeNetworkRefresherFactory, tupleRecyclingEnabled);
+    }
+
+}
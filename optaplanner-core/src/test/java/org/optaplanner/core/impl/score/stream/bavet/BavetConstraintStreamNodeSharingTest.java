@@ -0,0 +1,160 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.optaplanner.core.api.score.stream.Joiners.equal;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.bi.BiJoiner;
+import org.optaplanner.core.impl.score.director.stream.BavetConstraintStreamScoreDirector;
+import org.optaplanner.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
+import org.optaplanner.core.impl.score.stream.bavet.bi.BavetJoinBiNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFilterUniNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetIfExistsUniNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniNode;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishEntity;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishSolution;
+
+public class BavetConstraintStreamNodeSharingTest {
+
+    private static final Predicate<TestdataLavishEntity> PREDICATE = entity -> entity.getIntegerProperty() != null;
+    private static final BiJoiner<TestdataLavishEntity, TestdataLavishEntity> JOINER =
+            equal(TestdataLavishEntity::getEntityGroup);
+
+    @Test
+    void sharedJoin() {
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(
+                factory -> factory.forEach(TestdataLavishEntity.class)
+                        .filter(PREDICATE)
+                        .join(TestdataLavishEntity.class, JOINER)
+                        .penalize("First constraint", SimpleScore.ONE),
+                factory -> factory.forEach(TestdataLavishEntity.class)
+                        .filter(PREDICATE)
+                        .join(TestdataLavishEntity.class, JOINER)
+                        .penalize("Second constraint", SimpleScore.ONE));
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
+        scoreDirector.setWorkingSolution(solution);
+        BavetConstraintSession<TestdataLavishSolution, SimpleScore> session = scoreDirector.getSession();
+
+        assertNodeIndexesAreSequential(session);
+        // The nullity filter of forEach() and the custom filter
+        assertThat(countNodes(session, BavetFilterUniNode.class)).isEqualTo(2);
+        assertThat(countNodes(session, BavetJoinBridgeUniNode.class)).isEqualTo(2);
+        assertThat(countNodes(session, BavetJoinBiNode.class)).isEqualTo(1);
+        assertThat(session.getScoringNodeList()).hasSize(2);
+        // The right side of each join shares the from and nullity filter nodes of its left side (2 * 2).
+        // The second constraint also shares the from, both filter and join nodes of the first one (4)
+        // and discards its 2 join bridges (2).
+        assertThat(session.getSharedNodeCount()).isEqualTo(10);
+
+        SimpleScore singleScore = buildSingleConstraintScore(solution,
+                factory -> factory.forEach(TestdataLavishEntity.class)
+                        .filter(PREDICATE)
+                        .join(TestdataLavishEntity.class, JOINER)
+                        .penalize("First constraint", SimpleScore.ONE));
+        assertThat(singleScore.getScore()).isNegative();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(singleScore.multiply(2));
+    }
+
+    @Test
+    void sharedIfExists() {
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(
+                factory -> factory.forEach(TestdataLavishEntity.class)
+                        .filter(PREDICATE)
+                        .ifExists(TestdataLavishEntity.class, JOINER)
+                        .penalize("First constraint", SimpleScore.ONE),
+                factory -> factory.forEach(TestdataLavishEntity.class)
+                        .filter(PREDICATE)
+                        .ifExists(TestdataLavishEntity.class, JOINER)
+                        .penalize("Second constraint", SimpleScore.ONE));
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
+        scoreDirector.setWorkingSolution(solution);
+        BavetConstraintSession<TestdataLavishSolution, SimpleScore> session = scoreDirector.getSession();
+
+        assertNodeIndexesAreSequential(session);
+        assertThat(countNodes(session, BavetJoinBridgeUniNode.class)).isEqualTo(2);
+        assertThat(countNodes(session, BavetIfExistsUniNode.class)).isEqualTo(1);
+        assertThat(session.getScoringNodeList()).hasSize(2);
+
+        SimpleScore singleScore = buildSingleConstraintScore(solution,
+                factory -> factory.forEach(TestdataLavishEntity.class)
+                        .filter(PREDICATE)
+                        .ifExists(TestdataLavishEntity.class, JOINER)
+                        .penalize("First constraint", SimpleScore.ONE));
+        assertThat(singleScore.getScore()).isNegative();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(singleScore.multiply(2));
+    }
+
+    @Test
+    void differentJoinerInstancesAreNotShared() {
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(
+                factory -> factory.forEach(TestdataLavishEntity.class)
+                        .join(TestdataLavishEntity.class, equal(TestdataLavishEntity::getEntityGroup))
+                        .penalize("First constraint", SimpleScore.ONE),
+                factory -> factory.forEach(TestdataLavishEntity.class)
+                        .join(TestdataLavishEntity.class, equal(TestdataLavishEntity::getValue))
+                        .penalize("Second constraint", SimpleScore.ONE));
+        scoreDirector.setWorkingSolution(TestdataLavishSolution.generateSolution());
+        BavetConstraintSession<TestdataLavishSolution, SimpleScore> session = scoreDirector.getSession();
+
+        assertNodeIndexesAreSequential(session);
+        assertThat(countNodes(session, BavetJoinBridgeUniNode.class)).isEqualTo(4);
+        assertThat(countNodes(session, BavetJoinBiNode.class)).isEqualTo(2);
+    }
+
+    private static void assertNodeIndexesAreSequential(BavetConstraintSession<?, ?> session) {
+        for (int i = 0; i < session.getNodes().size(); i++) {
+            assertThat(session.getNodes().get(i).getNodeIndex()).isEqualTo(i);
+        }
+    }
+
+    private static long countNodes(BavetConstraintSession<?, ?> session, Class<? extends BavetNode> nodeClass) {
+        return session.getNodes().stream()
+                .filter(nodeClass::isInstance)
+                .count();
+    }
+
+    private SimpleScore buildSingleConstraintScore(TestdataLavishSolution solution,
+            Function<ConstraintFactory, Constraint> function) {
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(function);
+        scoreDirector.setWorkingSolution(solution);
+        return scoreDirector.calculateScore();
+    }
+
+    @SafeVarargs
+    private BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> buildScoreDirector(
+            Function<ConstraintFactory, Constraint>... functions) {
+        BavetConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                        constraintFactory -> Arrays.stream(functions)
+                                .map(function -> function.apply(constraintFactory))
+                                .toArray(Constraint[]::new));
+        return scoreDirectorFactory.buildScoreDirector(false, false);
+    }
+
+}
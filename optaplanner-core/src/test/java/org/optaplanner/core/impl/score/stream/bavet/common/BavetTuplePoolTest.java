@@ -0,0 +1,46 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+
+public class BavetTuplePoolTest {
+
+    @Test
+    void deadTupleIsOnlyReusableAfterRelease() {
+        BavetTuplePool<BavetAbstractTuple> tuplePool = new BavetTuplePool<>();
+        assertThat(tuplePool.poll()).isNull();
+        BavetAbstractTuple a = mock(BavetAbstractTuple.class);
+        BavetAbstractTuple b = mock(BavetAbstractTuple.class);
+        tuplePool.add(a);
+        tuplePool.add(b);
+        assertThat(tuplePool.poll()).isNull();
+        tuplePool.release();
+        assertThat(tuplePool.poll()).isSameAs(b);
+        BavetAbstractTuple c = mock(BavetAbstractTuple.class);
+        tuplePool.add(c);
+        assertThat(tuplePool.poll()).isSameAs(a);
+        assertThat(tuplePool.poll()).isNull();
+        tuplePool.release();
+        assertThat(tuplePool.poll()).isSameAs(c);
+        assertThat(tuplePool.poll()).isNull();
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.optaplanner.core.api.score.stream.Joiners.equal;
+import static org.optaplanner.core.api.score.stream.Joiners.greaterThan;
+import static org.optaplanner.core.api.score.stream.Joiners.lessThan;
+import static org.optaplanner.core.api.score.stream.Joiners.lessThanOrEqual;
+import static org.optaplanner.core.api.score.stream.Joiners.overlapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.stream.bi.BiJoiner;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNode;
+import org.optaplanner.core.impl.score.stream.bi.AbstractBiJoiner;
+
+public class BavetEqualsAndComparisonIndexTest {
+
+    @Test
+    public void overlappingInterval() {
+        assertIndexMatchesJoiner(overlapping(Shift::getStart, Shift::getEnd));
+    }
+
+    @Test
+    public void equalAndOverlapping() {
+        assertIndexMatchesJoiner(AbstractBiJoiner.merge(
+                equal(Shift::getGroup),
+                overlapping(Shift::getStart, Shift::getEnd)));
+    }
+
+    @Test
+    public void comparisonBeforeEqual() {
+        assertIndexMatchesJoiner(AbstractBiJoiner.merge(
+                lessThan(Shift::getStart),
+                equal(Shift::getGroup)));
+    }
+
+    @Test
+    public void multipleComparisons() {
+        assertIndexMatchesJoiner(AbstractBiJoiner.merge(
+                greaterThan(Shift::getEnd, Shift::getStart),
+                equal(Shift::getGroup),
+                lessThanOrEqual(Shift::getStart),
+                lessThan(Shift::getGroup, Shift::getEnd)));
+    }
+
+    private void assertIndexMatchesJoiner(BiJoiner<Shift, Shift> joiner) {
+        AbstractBiJoiner<Shift, Shift> castJoiner = (AbstractBiJoiner<Shift, Shift>) joiner;
+        BavetIndexFactory indexFactory = new BavetIndexFactory(castJoiner);
+        BavetIndex<ShiftTuple> leftIndex = indexFactory.buildIndex(true);
+        BavetIndex<ShiftTuple> rightIndex = indexFactory.buildIndex(false);
+        List<ShiftTuple> leftTupleList = new ArrayList<>();
+        List<ShiftTuple> rightTupleList = new ArrayList<>();
+        Random random = new Random(37);
+        for (int i = 0; i < 200; i++) {
+            int start = random.nextInt(50);
+            Shift shift = new Shift(random.nextInt(3), start, start + random.nextInt(10));
+            ShiftTuple leftTuple = new ShiftTuple(shift);
+            leftIndex.put(castJoiner.getLeftCombinedMapping().apply(shift), leftTuple);
+            leftTupleList.add(leftTuple);
+            ShiftTuple rightTuple = new ShiftTuple(shift);
+            rightIndex.put(castJoiner.getRightCombinedMapping().apply(shift), rightTuple);
+            rightTupleList.add(rightTuple);
+        }
+        // Remove some tuples, which also rebalances the interval tree
+        for (int i = 0; i < 50; i++) {
+            leftIndex.remove(leftTupleList.remove(random.nextInt(leftTupleList.size())));
+            rightIndex.remove(rightTupleList.remove(random.nextInt(rightTupleList.size())));
+        }
+        for (ShiftTuple rightTuple : rightTupleList) {
+            Set<Shift> expectedLeftShiftSet = leftTupleList.stream()
+                    .map(ShiftTuple::getShift)
+                    .filter(leftShift -> castJoiner.matches(leftShift, rightTuple.getShift()))
+                    .collect(Collectors.toSet());
+            assertThat(leftIndex.get(rightTuple.getIndexProperties()))
+                    .extracting(ShiftTuple::getShift)
+                    .containsExactlyInAnyOrderElementsOf(expectedLeftShiftSet);
+        }
+        for (ShiftTuple leftTuple : leftTupleList) {
+            Set<Shift> expectedRightShiftSet = rightTupleList.stream()
+                    .map(ShiftTuple::getShift)
+                    .filter(rightShift -> castJoiner.matches(leftTuple.getShift(), rightShift))
+                    .collect(Collectors.toSet());
+            assertThat(rightIndex.get(leftTuple.getIndexProperties()))
+                    .extracting(ShiftTuple::getShift)
+                    .containsExactlyInAnyOrderElementsOf(expectedRightShiftSet);
+        }
+    }
+
+    private static final class Shift {
+
+        private final int group;
+        private final int start;
+        private final int end;
+
+        public Shift(int group, int start, int end) {
+            this.group = group;
+            this.start = start;
+            this.end = end;
+        }
+
+        public Integer getGroup() {
+            return group;
+        }
+
+        public Integer getStart() {
+            return start;
+        }
+
+        public Integer getEnd() {
+            return end;
+        }
+
+        @Override
+        public String toString() {
+            return group + "[" + start + ", " + end + "]";
+        }
+
+    }
+
+    private static final class ShiftTuple implements BavetJoinBridgeTuple {
+
+        private final Shift shift;
+        private Object[] indexProperties;
+
+        public ShiftTuple(Shift shift) {
+            this.shift = shift;
+        }
+
+        public Shift getShift() {
+            return shift;
+        }
+
+        @Override
+        public BavetNode getNode() {
+            return null;
+        }
+
+        @Override
+        public Object[] getFacts() {
+            return new Object[] { shift };
+        }
+
+        @Override
+        public Object[] getIndexProperties() {
+            return indexProperties;
+        }
+
+        @Override
+        public void setIndexProperties(Object[] indexProperties) {
+            this.indexProperties = indexProperties;
+        }
+
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+public class BavetFlattenLastUniNodeTest {
+
+    @Test
+    void onlyAddedItemsReachTheChildNodes() {
+        TestdataSolution solution = TestdataSolution.generateSolution(3, 2);
+        TestdataValue sharedValue = solution.getValueList().get(0);
+        TestdataValue otherValue = solution.getValueList().get(1);
+        AtomicInteger filterCount = new AtomicInteger(0);
+        ConstraintProvider constraintProvider = constraintFactory -> new Constraint[] {
+                constraintFactory.forEach(TestdataEntity.class)
+                        .flattenLast(entity -> Arrays.asList(entity.getValue(), sharedValue))
+                        .filter(value -> {
+                            filterCount.incrementAndGet();
+                            return value == sharedValue;
+                        })
+                        .penalize("Shared value", SimpleScore.ONE)
+        };
+        BavetConstraintSession<TestdataSolution, SimpleScore> session = buildSession(solution, constraintProvider);
+        TestdataEntity entity = solution.getEntityList().get(0);
+        entity.setValue(otherValue);
+        session.insert(entity);
+        assertThat(session.calculateScore(0)).isEqualTo(SimpleScore.of(-1));
+        assertThat(filterCount.get()).isEqualTo(2);
+
+        filterCount.set(0);
+        entity.setValue(sharedValue);
+        session.update(entity);
+        // Only the new item is filtered, the shared value item keeps its child tuples
+        assertThat(session.calculateScore(0)).isEqualTo(SimpleScore.of(-2));
+        assertThat(filterCount.get()).isEqualTo(1);
+
+        filterCount.set(0);
+        session.update(entity);
+        assertThat(session.calculateScore(0)).isEqualTo(SimpleScore.of(-2));
+        assertThat(filterCount.get()).isZero();
+
+        session.retract(entity);
+        assertThat(session.calculateScore(0)).isEqualTo(SimpleScore.ZERO);
+    }
+
+    @Test
+    void unchangedMappedFactDoesNotReachTheChildNodes() {
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 2);
+        AtomicInteger filterCount = new AtomicInteger(0);
+        ConstraintProvider constraintProvider = constraintFactory -> new Constraint[] {
+                constraintFactory.forEach(TestdataEntity.class)
+                        .map(TestdataEntity::getValue)
+                        .filter(value -> {
+                            filterCount.incrementAndGet();
+                            return true;
+                        })
+                        .penalize("Mapped value", SimpleScore.ONE)
+        };
+        BavetConstraintSession<TestdataSolution, SimpleScore> session = buildSession(solution, constraintProvider);
+        TestdataEntity entity = solution.getEntityList().get(0);
+        session.insert(entity);
+        assertThat(session.calculateScore(0)).isEqualTo(SimpleScore.of(-1));
+        assertThat(filterCount.get()).isEqualTo(1);
+
+        filterCount.set(0);
+        session.update(entity);
+        assertThat(session.calculateScore(0)).isEqualTo(SimpleScore.of(-1));
+        assertThat(filterCount.get()).isZero();
+
+        entity.setValue(solution.getValueList().get(1));
+        session.update(entity);
+        assertThat(session.calculateScore(0)).isEqualTo(SimpleScore.of(-1));
+        assertThat(filterCount.get()).isEqualTo(1);
+    }
+
+    private static BavetConstraintSession<TestdataSolution, SimpleScore> buildSession(TestdataSolution solution,
+            ConstraintProvider constraintProvider) {
+        SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        Map<BavetConstraint<TestdataSolution>, SimpleScore> constraintToWeightMap =
+                new BavetConstraintFactory<>(solutionDescriptor).buildConstraints(constraintProvider).stream()
+                        .collect(Collectors.toMap(Function.identity(),
+                                constraint -> constraint.<SimpleScore> extractConstraintWeight(solution)));
+        return new BavetConstraintSession<>(false, solutionDescriptor.getScoreDefinition(), constraintToWeightMap);
+    }
+
+}
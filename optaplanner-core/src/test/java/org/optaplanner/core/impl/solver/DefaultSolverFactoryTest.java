@@ -20,10 +20,54 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 import org.junit.jupiter.api.Test;
+import org.kie.api.KieBase;
+import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
 import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.score.director.stream.DroolsConstraintStreamScoreDirectorFactory;
+import org.optaplanner.core.impl.testdata.domain.TestdataConstraintProvider;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 
 class DefaultSolverFactoryTest {
 
+    @Test
+    void droolsKieBaseSharingAcrossSolverFactories() {
+        SolverConfig solverConfig = buildDroolsConstraintStreamSolverConfig()
+                .withScoreDirectorFactory(new ScoreDirectorFactoryConfig()
+                        .withConstraintProviderClass(TestdataConstraintProvider.class)
+                        .withDroolsKieBaseSharingEnabled(true));
+        KieBase kieBase = extractKieBase(new DefaultSolverFactory<>(solverConfig));
+        assertThat(extractKieBase(new DefaultSolverFactory<>(solverConfig))).isSameAs(kieBase);
+
+        SolverConfig noAlphaNetworkCompilationSolverConfig = buildDroolsConstraintStreamSolverConfig()
+                .withScoreDirectorFactory(new ScoreDirectorFactoryConfig()
+                        .withConstraintProviderClass(TestdataConstraintProvider.class)
+                        .withDroolsKieBaseSharingEnabled(true)
+                        .withDroolsAlphaNetworkCompilationEnabled(false));
+        assertThat(extractKieBase(new DefaultSolverFactory<>(noAlphaNetworkCompilationSolverConfig)))
+                .isNotSameAs(kieBase);
+    }
+
+    @Test
+    void droolsKieBaseNotSharedByDefault() {
+        SolverConfig solverConfig = buildDroolsConstraintStreamSolverConfig()
+                .withScoreDirectorFactory(new ScoreDirectorFactoryConfig()
+                        .withConstraintProviderClass(TestdataConstraintProvider.class));
+        KieBase kieBase = extractKieBase(new DefaultSolverFactory<>(solverConfig));
+        assertThat(extractKieBase(new DefaultSolverFactory<>(solverConfig))).isNotSameAs(kieBase);
+    }
+
+    private static SolverConfig buildDroolsConstraintStreamSolverConfig() {
+        return new SolverConfig()
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class);
+    }
+
+    private static KieBase extractKieBase(DefaultSolverFactory<TestdataSolution> solverFactory) {
+        return ((DroolsConstraintStreamScoreDirectorFactory<TestdataSolution, ?>) solverFactory.getScoreDirectorFactory())
+                .getKieBaseDescriptor().get();
+    }
+
     @Test
     void moveThreadCountAutoIsCorrectlyResolvedWhenCpuCountIsPositive() {
         assertThat(mockMoveThreadCountResolverAuto(1)).isNull();
@@ -37,6 +37,7 @@ import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.api.score.stream.ConstraintFactory;
 import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.api.score.stream.ConstraintStreamImplType;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
@@ -53,6 +54,7 @@ import org.optaplanner.core.config.solver.termination.TerminationConfig;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
 import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
 import org.optaplanner.core.impl.phase.custom.NoChangeCustomPhaseCommand;
+import org.optaplanner.core.impl.testdata.domain.TestdataConstraintProvider;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -345,6 +347,41 @@ public class DefaultSolverTest {
                 .isEqualTo(2);
     }
 
+    @Test
+    public void solveConstraintStreamProfileMetrics() {
+        TestMeterRegistry meterRegistry = new TestMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setScoreDirectorFactoryConfig(new ScoreDirectorFactoryConfig()
+                .withConstraintProviderClass(TestdataConstraintProvider.class)
+                .withConstraintStreamImplType(ConstraintStreamImplType.BAVET));
+        solverConfig.setMonitoringConfig(new MonitoringConfig()
+                .withSolverMetricList(List.of(SolverMetric.CONSTRAINT_STREAM_PROFILE)));
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+
+        Solver<TestdataSolution> solver = solverFactory.buildSolver();
+        ((DefaultSolver<TestdataSolution>) solver).setMonitorTagMap(Map.of("solver.id", "solveMetrics"));
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2")));
+        solution = solver.solve(solution);
+        meterRegistry.publish(solver);
+        assertThat(solution.getScore()).isEqualTo(SimpleScore.of(-2));
+
+        String constraintTags = ":constraint.name=Always penalize,constraint.package="
+                + TestdataSolution.class.getPackage().getName();
+        String meterIdPrefix = SolverMetric.CONSTRAINT_STREAM_PROFILE.getMeterId();
+        assertThat(meterRegistry.getMeasurement(meterIdPrefix + ".refresh.count" + constraintTags, "VALUE"))
+                .isPositive();
+        // The from node, the filter node of forEach() and the scoring node have a tuple per entity
+        assertThat(meterRegistry.getMeasurement(meterIdPrefix + ".tuple.count" + constraintTags, "VALUE").intValue())
+                .isEqualTo(6);
+        assertThat(meterRegistry.getMeasurement(meterIdPrefix + ".index.bucket.count" + constraintTags, "VALUE"))
+                .isZero();
+    }
+
     public static class ErrorThrowingConstraintProvider implements ConstraintProvider {
 
         @Override
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.testdata.domain.shadow.batch;
+
+import java.util.Collection;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.variable.BatchVariableListener;
+import org.optaplanner.core.api.domain.variable.CustomShadowVariable;
+import org.optaplanner.core.api.domain.variable.PlanningVariable;
+import org.optaplanner.core.api.domain.variable.PlanningVariableReference;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.testdata.domain.TestdataObject;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+@PlanningEntity
+public class TestdataBatchShadowedEntity extends TestdataObject {
+
+    public static EntityDescriptor<TestdataBatchShadowedSolution> buildEntityDescriptor() {
+        return TestdataBatchShadowedSolution.buildSolutionDescriptor()
+                .findEntityDescriptorOrFail(TestdataBatchShadowedEntity.class);
+    }
+
+    private TestdataValue value;
+    private String firstShadow;
+
+    private int lastBatchSize = 0;
+    private boolean removed = false;
+
+    public TestdataBatchShadowedEntity() {
+    }
+
+    public TestdataBatchShadowedEntity(String code) {
+        super(code);
+    }
+
+    @PlanningVariable(valueRangeProviderRefs = "valueRange")
+    public TestdataValue getValue() {
+        return value;
+    }
+
+    public void setValue(TestdataValue value) {
+        this.value = value;
+    }
+
+    @CustomShadowVariable(variableListenerClass = FirstShadowUpdatingVariableListener.class,
+            sources = { @PlanningVariableReference(variableName = "value") })
+    public String getFirstShadow() {
+        return firstShadow;
+    }
+
+    public void setFirstShadow(String firstShadow) {
+        this.firstShadow = firstShadow;
+    }
+
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    public boolean isRemoved() {
+        return removed;
+    }
+
+    // ************************************************************************
+    // Static inner classes
+    // ************************************************************************
+
+    public static class FirstShadowUpdatingVariableListener
+            implements BatchVariableListener<TestdataBatchShadowedSolution, TestdataBatchShadowedEntity> {
+
+        @Override
+        public void beforeEntityAdded(ScoreDirector<TestdataBatchShadowedSolution> scoreDirector,
+                TestdataBatchShadowedEntity entity) {
+            // Do nothing
+        }
+
+        @Override
+        public void afterEntityAdded(ScoreDirector<TestdataBatchShadowedSolution> scoreDirector,
+                TestdataBatchShadowedEntity entity) {
+            updateShadow(entity, scoreDirector);
+        }
+
+        @Override
+        public void beforeVariableChanged(ScoreDirector<TestdataBatchShadowedSolution> scoreDirector,
+                TestdataBatchShadowedEntity entity) {
+            // Do nothing
+        }
+
+        @Override
+        public void afterVariablesChanged(ScoreDirector<TestdataBatchShadowedSolution> scoreDirector,
+                Collection<TestdataBatchShadowedEntity> entities) {
+            for (TestdataBatchShadowedEntity entity : entities) {
+                if (entity.removed) {
+                    throw new IllegalStateException("The entity (" + entity
+                            + ") has its variable change delivered after its removal.");
+                }
+                entity.lastBatchSize = entities.size();
+                updateShadow(entity, scoreDirector);
+            }
+        }
+
+        @Override
+        public void beforeEntityRemoved(ScoreDirector<TestdataBatchShadowedSolution> scoreDirector,
+                TestdataBatchShadowedEntity entity) {
+            // Do nothing
+        }
+
+        @Override
+        public void afterEntityRemoved(ScoreDirector<TestdataBatchShadowedSolution> scoreDirector,
+                TestdataBatchShadowedEntity entity) {
+            entity.removed = true;
+        }
+
+        private void updateShadow(TestdataBatchShadowedEntity entity,
+                ScoreDirector<TestdataBatchShadowedSolution> scoreDirector) {
+            TestdataValue value = entity.getValue();
+            scoreDirector.beforeVariableChanged(entity, "firstShadow");
+            entity.setFirstShadow(value == null ? null : value.getCode() + "/" + entity.getCode());
+            scoreDirector.afterVariableChanged(entity, "firstShadow");
+        }
+
+    }
+
+}
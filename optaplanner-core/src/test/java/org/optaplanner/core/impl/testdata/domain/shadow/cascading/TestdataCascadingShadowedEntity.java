@@ -0,0 +1,192 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.testdata.domain.shadow.cascading;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.variable.CustomShadowVariable;
+import org.optaplanner.core.api.domain.variable.PlanningVariable;
+import org.optaplanner.core.api.domain.variable.PlanningVariableReference;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.testdata.domain.DummyVariableListener;
+import org.optaplanner.core.impl.testdata.domain.TestdataObject;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+/**
+ * The value's code prefix is a shadow of the value and the label is a shadow of that prefix,
+ * so changing to a value with the same prefix must not update the label.
+ * The code prefix length is also a shadow of that prefix,
+ * but its listener doesn't skip unchanged sources, so it's updated on every change.
+ */
+@PlanningEntity
+public class TestdataCascadingShadowedEntity extends TestdataObject {
+
+    public static EntityDescriptor<TestdataCascadingShadowedSolution> buildEntityDescriptor() {
+        return TestdataCascadingShadowedSolution.buildSolutionDescriptor()
+                .findEntityDescriptorOrFail(TestdataCascadingShadowedEntity.class);
+    }
+
+    private TestdataValue value;
+    private String codePrefix;
+    private String label;
+    private Integer codePrefixLength;
+
+    private int labelUpdateCount = 0;
+    private int codePrefixLengthUpdateCount = 0;
+
+    public TestdataCascadingShadowedEntity() {
+    }
+
+    public TestdataCascadingShadowedEntity(String code) {
+        super(code);
+    }
+
+    @PlanningVariable(valueRangeProviderRefs = "valueRange")
+    public TestdataValue getValue() {
+        return value;
+    }
+
+    public void setValue(TestdataValue value) {
+        this.value = value;
+    }
+
+    @CustomShadowVariable(variableListenerClass = CodePrefixUpdatingVariableListener.class,
+            sources = { @PlanningVariableReference(variableName = "value") })
+    public String getCodePrefix() {
+        return codePrefix;
+    }
+
+    public void setCodePrefix(String codePrefix) {
+        this.codePrefix = codePrefix;
+    }
+
+    @CustomShadowVariable(variableListenerClass = LabelUpdatingVariableListener.class,
+            sources = { @PlanningVariableReference(variableName = "codePrefix") })
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    @CustomShadowVariable(variableListenerClass = CodePrefixLengthUpdatingVariableListener.class,
+            sources = { @PlanningVariableReference(variableName = "codePrefix") })
+    public Integer getCodePrefixLength() {
+        return codePrefixLength;
+    }
+
+    public void setCodePrefixLength(Integer codePrefixLength) {
+        this.codePrefixLength = codePrefixLength;
+    }
+
+    public int getLabelUpdateCount() {
+        return labelUpdateCount;
+    }
+
+    public int getCodePrefixLengthUpdateCount() {
+        return codePrefixLengthUpdateCount;
+    }
+
+    // ************************************************************************
+    // Static inner classes
+    // ************************************************************************
+
+    public static class CodePrefixUpdatingVariableListener
+            extends DummyVariableListener<TestdataCascadingShadowedSolution, TestdataCascadingShadowedEntity> {
+
+        @Override
+        public void afterEntityAdded(ScoreDirector<TestdataCascadingShadowedSolution> scoreDirector,
+                TestdataCascadingShadowedEntity entity) {
+            updateShadow(entity, scoreDirector);
+        }
+
+        @Override
+        public void afterVariableChanged(ScoreDirector<TestdataCascadingShadowedSolution> scoreDirector,
+                TestdataCascadingShadowedEntity entity) {
+            updateShadow(entity, scoreDirector);
+        }
+
+        private void updateShadow(TestdataCascadingShadowedEntity entity,
+                ScoreDirector<TestdataCascadingShadowedSolution> scoreDirector) {
+            TestdataValue value = entity.getValue();
+            // Always notify the score director, even if the prefix doesn't change
+            scoreDirector.beforeVariableChanged(entity, "codePrefix");
+            entity.setCodePrefix(value == null ? null : value.getCode().substring(0, 1));
+            scoreDirector.afterVariableChanged(entity, "codePrefix");
+        }
+
+    }
+
+    public static class LabelUpdatingVariableListener
+            extends DummyVariableListener<TestdataCascadingShadowedSolution, TestdataCascadingShadowedEntity> {
+
+        @Override
+        public boolean skipsUnchangedShadowSources() {
+            return true;
+        }
+
+        @Override
+        public void afterEntityAdded(ScoreDirector<TestdataCascadingShadowedSolution> scoreDirector,
+                TestdataCascadingShadowedEntity entity) {
+            updateShadow(entity, scoreDirector);
+        }
+
+        @Override
+        public void afterVariableChanged(ScoreDirector<TestdataCascadingShadowedSolution> scoreDirector,
+                TestdataCascadingShadowedEntity entity) {
+            updateShadow(entity, scoreDirector);
+        }
+
+        private void updateShadow(TestdataCascadingShadowedEntity entity,
+                ScoreDirector<TestdataCascadingShadowedSolution> scoreDirector) {
+            String codePrefix = entity.getCodePrefix();
+            scoreDirector.beforeVariableChanged(entity, "label");
+            entity.setLabel(codePrefix == null ? null : codePrefix + "-" + entity.getCode());
+            scoreDirector.afterVariableChanged(entity, "label");
+            entity.labelUpdateCount++;
+        }
+
+    }
+
+    public static class CodePrefixLengthUpdatingVariableListener
+            extends DummyVariableListener<TestdataCascadingShadowedSolution, TestdataCascadingShadowedEntity> {
+
+        @Override
+        public void afterEntityAdded(ScoreDirector<TestdataCascadingShadowedSolution> scoreDirector,
+                TestdataCascadingShadowedEntity entity) {
+            updateShadow(entity, scoreDirector);
+        }
+
+        @Override
+        public void afterVariableChanged(ScoreDirector<TestdataCascadingShadowedSolution> scoreDirector,
+                TestdataCascadingShadowedEntity entity) {
+            updateShadow(entity, scoreDirector);
+        }
+
+        private void updateShadow(TestdataCascadingShadowedEntity entity,
+                ScoreDirector<TestdataCascadingShadowedSolution> scoreDirector) {
+            String codePrefix = entity.getCodePrefix();
+            scoreDirector.beforeVariableChanged(entity, "codePrefixLength");
+            entity.setCodePrefixLength(codePrefix == null ? null : codePrefix.length());
+            scoreDirector.afterVariableChanged(entity, "codePrefixLength");
+            entity.codePrefixLengthUpdateCount++;
+        }
+
+    }
+
+}
@@ -18,6 +18,7 @@ package org.optaplanner.examples.cheaptime.score;
 
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.sum;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.sumLong;
+import static org.optaplanner.core.api.score.stream.ConstraintCollectors.toConsecutiveIntervals;
 import static org.optaplanner.core.api.score.stream.Joiners.equal;
 import static org.optaplanner.core.api.score.stream.Joiners.filtering;
 import static org.optaplanner.core.api.score.stream.Joiners.greaterThan;
@@ -25,7 +26,6 @@ import static org.optaplanner.core.api.score.stream.Joiners.greaterThanOrEqual;
 import static org.optaplanner.core.api.score.stream.Joiners.lessThan;
 import static org.optaplanner.core.api.score.stream.Joiners.lessThanOrEqual;
 import static org.optaplanner.examples.cheaptime.score.CheapTimeCostCalculator.multiplyTwoMicros;
-import static org.optaplanner.examples.common.experimental.ExperimentalConstraintCollectors.consecutiveIntervals;
 
 import java.util.function.Function;
 
@@ -33,11 +33,11 @@ import org.optaplanner.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftL
 import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.api.score.stream.ConstraintFactory;
 import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.api.score.stream.common.ConsecutiveIntervalInfo;
 import org.optaplanner.examples.cheaptime.domain.Machine;
 import org.optaplanner.examples.cheaptime.domain.Period;
 import org.optaplanner.examples.cheaptime.domain.Resource;
 import org.optaplanner.examples.cheaptime.domain.TaskAssignment;
-import org.optaplanner.examples.common.experimental.api.ConsecutiveIntervalInfo;
 
 public class CheapTimeConstraintProvider implements ConstraintProvider {
 
@@ -108,7 +108,8 @@ public class CheapTimeConstraintProvider implements ConstraintProvider {
     protected Constraint idleCosts(ConstraintFactory constraintFactory) {
         return constraintFactory.forEach(TaskAssignment.class)
                 .groupBy(TaskAssignment::getMachine,
-                        consecutiveIntervals(TaskAssignment::getStartPeriod, TaskAssignment::getEndPeriod, (a, b) -> b - a))
+                        toConsecutiveIntervals(TaskAssignment::getStartPeriod, TaskAssignment::getEndPeriod,
+                                (a, b) -> b - a))
                 .flattenLast(ConsecutiveIntervalInfo::getBreaks)
                 .join(Period.class,
                         lessThanOrEqual((machine, brk) -> brk.getPreviousIntervalClusterEnd(), Period::getIndex),
@@ -29,8 +29,7 @@ import org.optaplanner.core.api.score.stream.ConstraintCollectors;
 import org.optaplanner.core.api.score.stream.ConstraintFactory;
 import org.optaplanner.core.api.score.stream.ConstraintProvider;
 import org.optaplanner.core.api.score.stream.Joiners;
-import org.optaplanner.examples.common.experimental.ExperimentalConstraintCollectors;
-import org.optaplanner.examples.common.experimental.api.ConsecutiveInfo;
+import org.optaplanner.core.api.score.stream.common.ConsecutiveInfo;
 import org.optaplanner.examples.common.util.Pair;
 import org.optaplanner.examples.nurserostering.domain.Employee;
 import org.optaplanner.examples.nurserostering.domain.NurseRosterParametrization;
@@ -130,7 +129,7 @@ public class NurseRosteringConstraintProvider implements ConstraintProvider {
                         Joiners.equal(ContractLine::getContract, ShiftAssignment::getContract))
                 .groupBy((contract, shift) -> shift.getEmployee(),
                         (contract, shift) -> contract,
-                        ExperimentalConstraintCollectors.consecutive((contract, shift) -> shift.getShiftDate(),
+                        ConstraintCollectors.toConsecutiveSequences((contract, shift) -> shift.getShiftDate(),
                                 ShiftDate::getDayIndex))
                 .flattenLast(ConsecutiveInfo::getConsecutiveSequences)
                 .filter((employee, contract, shiftList) -> contract.isViolated(shiftList.getLength()))
@@ -148,7 +147,7 @@ public class NurseRosteringConstraintProvider implements ConstraintProvider {
                         Joiners.equal(ContractLine::getContract, ShiftAssignment::getContract))
                 .groupBy((contract, shift) -> shift.getEmployee(),
                         (contract, shift) -> contract,
-                        ExperimentalConstraintCollectors.consecutive((contract, shift) -> shift.getShiftDate(),
+                        ConstraintCollectors.toConsecutiveSequences((contract, shift) -> shift.getShiftDate(),
                                 ShiftDate::getDayIndex))
                 .flattenLast(ConsecutiveInfo::getConsecutiveSequences)
                 .join(NurseRosterParametrization.class)
@@ -220,7 +219,7 @@ public class NurseRosteringConstraintProvider implements ConstraintProvider {
                         Joiners.equal(ContractLine::getContract, ShiftAssignment::getContract))
                 .groupBy((contract, shift) -> shift.getEmployee(),
                         (contract, shift) -> contract,
-                        ExperimentalConstraintCollectors.consecutive((contract, shift) -> shift.getShiftDate(),
+                        ConstraintCollectors.toConsecutiveSequences((contract, shift) -> shift.getShiftDate(),
                                 shiftDate -> shiftDate.getWeekendSundayIndex() / 7))
                 .flattenLast(ConsecutiveInfo::getConsecutiveSequences)
                 .filter((employee, contract, shiftList) -> contract.isViolated(shiftList.getLength()))
@@ -237,7 +236,7 @@ public class NurseRosteringConstraintProvider implements ConstraintProvider {
                         Joiners.equal(ContractLine::getContract, ShiftAssignment::getContract))
                 .groupBy((contract, shift) -> shift.getEmployee(),
                         (contract, shift) -> contract,
-                        ExperimentalConstraintCollectors.consecutive((contract, shift) -> shift.getShiftDate(),
+                        ConstraintCollectors.toConsecutiveSequences((contract, shift) -> shift.getShiftDate(),
                                 ShiftDate::getDayIndex))
                 .flattenLast(ConsecutiveInfo::getConsecutiveSequences)
                 .filter((employee, contract, shiftList) -> isWeekendAndNotFirstDayOfWeekend(employee,
@@ -257,7 +256,7 @@ public class NurseRosteringConstraintProvider implements ConstraintProvider {
                         Joiners.equal(ContractLine::getContract, ShiftAssignment::getContract))
                 .groupBy((contract, shift) -> shift.getEmployee(),
                         (contract, shift) -> contract,
-                        ExperimentalConstraintCollectors.consecutive((contract, shift) -> shift.getShiftDate(),
+                        ConstraintCollectors.toConsecutiveSequences((contract, shift) -> shift.getShiftDate(),
                                 ShiftDate::getDayIndex))
                 .flattenLast(ConsecutiveInfo::getConsecutiveSequences)
                 .filter((employee, contract, shiftList) -> isWeekendAndNotLastDayOfWeekend(employee,